@@ -0,0 +1,155 @@
+package com.github.armedis.redis.info;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.common.base.CaseFormat;
+
+/**
+ * INFO parsing of split and reflection based parser and {@link RedisInfoParser}.<br/>
+ * <code>gradle jmh</code>, run with <code>-prof gc</code> to compare allocation rate.
+ * @author krisjey
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisInfoParserBenchmark {
+    private String info;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("# Server\r\n");
+        builder.append("redis_version:7.0.15\r\nredis_git_sha1:00000000\r\nredis_git_dirty:0\r\n");
+        builder.append("redis_build_id:a712fce3205cb7ee\r\nredis_mode:cluster\r\n");
+        builder.append("os:Linux 5.15.0 x86_64\r\narch_bits:64\r\nmultiplexing_api:epoll\r\n");
+        builder.append("gcc_version:11.4.0\r\nprocess_id:11876\r\nprocess_supervised:no\r\n");
+        builder.append("run_id:e8505ab372759c6c433f8b366eb9d923087d44c9\r\ntcp_port:7001\r\n");
+        builder.append("uptime_in_seconds:2104800\r\nuptime_in_days:24\r\nhz:10\r\nconfigured_hz:10\r\n");
+        builder.append("lru_clock:11754821\r\nconfig_file:/data/redis/redis.conf\r\nio_threads_active:0\r\n\r\n");
+        builder.append("# Clients\r\n");
+        builder.append("connected_clients:120\r\ncluster_connections:118\r\nmaxclients:10000\r\n");
+        builder.append("client_recent_max_input_buffer:32\r\nclient_recent_max_output_buffer:0\r\n");
+        builder.append("blocked_clients:0\r\ntracking_clients:0\r\nclients_in_timeout_table:0\r\n\r\n");
+        builder.append("# Memory\r\n");
+        builder.append("used_memory:2406744000\r\nused_memory_human:2.24G\r\nused_memory_rss:2894208000\r\n");
+        builder.append("used_memory_peak:2572664000\r\nused_memory_peak_perc:93.55%\r\n");
+        builder.append("used_memory_overhead:2294896\r\nused_memory_startup:1205192\r\n");
+        builder.append("total_system_memory:33388077568\r\ntotal_system_memory_human:31.09G\r\n");
+        builder.append("used_memory_lua:30720\r\nmaxmemory:4294967296\r\nmaxmemory_policy:allkeys-lru\r\n");
+        builder.append("mem_fragmentation_ratio:1.20\r\nmem_allocator:jemalloc-5.2.1\r\n\r\n");
+        builder.append("# Persistence\r\n");
+        builder.append("loading:0\r\nrdb_changes_since_last_save:120\r\nrdb_bgsave_in_progress:0\r\n");
+        builder.append("rdb_last_save_time:1706253637\r\nrdb_last_bgsave_status:ok\r\naof_enabled:0\r\n\r\n");
+        builder.append("# Stats\r\n");
+        builder.append("total_connections_received:12000\r\ntotal_commands_processed:1200000000\r\n");
+        builder.append("instantaneous_ops_per_sec:85000\r\ntotal_net_input_bytes:30000000000\r\n");
+        builder.append("total_net_output_bytes:90000000000\r\ninstantaneous_input_kbps:1200.25\r\n");
+        builder.append("instantaneous_output_kbps:3600.75\r\nrejected_connections:0\r\nsync_full:2\r\n");
+        builder.append("expired_keys:100000\r\nevicted_keys:0\r\nkeyspace_hits:900000000\r\n");
+        builder.append("keyspace_misses:1000000\r\ntotal_forks:12\r\ntotal_error_replies:3700\r\n\r\n");
+        builder.append("# Replication\r\n");
+        builder.append("role:master\r\nconnected_slaves:1\r\nmaster_repl_offset:123456789\r\n\r\n");
+        builder.append("# CPU\r\n");
+        builder.append("used_cpu_sys:1234.567890\r\nused_cpu_user:2345.678901\r\n");
+        builder.append("used_cpu_sys_children:0.000000\r\nused_cpu_user_children:0.000000\r\n\r\n");
+        builder.append("# Modules\r\n\r\n");
+        builder.append("# Errorstats\r\n");
+        builder.append("errorstat_CLUSTERDOWN:count=8\r\nerrorstat_ERR:count=3602\r\nerrorstat_MOVED:count=90\r\n\r\n");
+        builder.append("# Cluster\r\ncluster_enabled:1\r\n\r\n");
+        builder.append("# Keyspace\r\ndb0:keys=1121000,expires=4000,avg_ttl=4143\r\n");
+
+        info = builder.toString();
+    }
+
+    @Benchmark
+    public void legacyParser(Blackhole blackhole) throws Exception {
+        blackhole.consume(legacyParse(info));
+    }
+
+    @Benchmark
+    public void singlePassAllSections(Blackhole blackhole) {
+        RedisInfoVo redisInfo = RedisInfoParser.parse(info, false);
+
+        blackhole.consume(redisInfo.getServer());
+        blackhole.consume(redisInfo.getClients());
+        blackhole.consume(redisInfo.getMemory());
+        blackhole.consume(redisInfo.getPersistence());
+        blackhole.consume(redisInfo.getStats());
+        blackhole.consume(redisInfo.getReplication());
+        blackhole.consume(redisInfo.getCpu());
+        blackhole.consume(redisInfo.getModules());
+        blackhole.consume(redisInfo.getErrorstats());
+        blackhole.consume(redisInfo.getCluster());
+        blackhole.consume(redisInfo.getKeyspace());
+    }
+
+    @Benchmark
+    public void singlePassServerSection(Blackhole blackhole) {
+        // RedisServerDetector
+        blackhole.consume(RedisInfoParser.parse(info, false).getServer());
+    }
+
+    /**
+     * Previous RedisInfoVo.from and StatsBaseVo.fromString.
+     */
+    private static RedisInfoVo legacyParse(String infoResult) throws Exception {
+        RedisInfoVo redisInfoVO = new RedisInfoVo();
+
+        for (String section : infoResult.split("# ")) {
+            if (section.isEmpty()) {
+                continue;
+            }
+
+            String[] lines = section.split("\r\n");
+            String sectionName = lines[0].trim();
+            String content = section.substring(section.indexOf("\r\n") + 2).trim();
+
+            switch (sectionName) {
+                case "Server" -> redisInfoVO.setServer(legacyFromString(Server.class, content));
+                case "Clients" -> redisInfoVO.setClients(legacyFromString(Clients.class, content));
+                case "Memory" -> redisInfoVO.setMemory(legacyFromString(Memory.class, content));
+                case "Persistence" -> redisInfoVO.setPersistence(legacyFromString(Persistence.class, content));
+                case "Stats" -> redisInfoVO.setStats(legacyFromString(Stats.class, content));
+                case "Replication" -> redisInfoVO.setReplication(legacyFromString(Replication.class, content));
+                case "CPU" -> redisInfoVO.setCpu(legacyFromString(CPU.class, content));
+                case "Modules" -> redisInfoVO.setModules(legacyFromString(Modules.class, content));
+                // Errorstats keys are not matched by legacy parser and only logged, so it is excluded.
+                case "Cluster" -> redisInfoVO.setCluster(legacyFromString(Cluster.class, content));
+                default -> {
+                }
+            }
+        }
+
+        return redisInfoVO;
+    }
+
+    private static <T> T legacyFromString(Class<T> clazz, String content) throws Exception {
+        T instance = clazz.getDeclaredConstructor().newInstance();
+
+        for (String line : content.split("\r\n")) {
+            String[] parts = line.split(":");
+            if (parts.length == 2) {
+                String key = CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, parts[0].trim());
+                ReflectionManipulator.setFieldValue(instance, key, parts[1].trim());
+            }
+        }
+
+        return instance;
+    }
+}
@@ -16,7 +16,7 @@ import org.springframework.context.annotation.Configuration;
 import com.github.armedis.config.ArmedisConfiguration;
 import com.github.armedis.config.ConstantNames;
 import com.github.armedis.config.DefaultInstanceInfo;
-import com.github.armedis.grpc.service.string.RedisStringGrpcService;
+import com.github.armedis.grpc.service.ArmeriaGrpcService;
 import com.github.armedis.http.service.ArmeriaAnnotatedHttpService;
 import com.github.armedis.utils.LogStringBuilder;
 import com.linecorp.armeria.common.ServerCacheControl;
@@ -37,6 +37,10 @@ import com.linecorp.armeria.spring.ArmeriaServerConfigurator;
 import com.linecorp.armeria.spring.ArmeriaSettings;
 import com.linecorp.armeria.spring.ArmeriaSettings.Port;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
 /**
  * An example of a configuration which provides beans for customizing the server
  * and client.
@@ -52,10 +56,14 @@ public class ArmedisServerConfiguration {
 
     private ArmedisConfiguration armedisConfiguration;
 
+    private MeterRegistry meterRegistry;
+
     @Autowired
-    public ArmedisServerConfiguration(ArmeriaSettings settings, ArmedisConfiguration armedisConfiguration) {
+    public ArmedisServerConfiguration(ArmeriaSettings settings, ArmedisConfiguration armedisConfiguration,
+            MeterRegistry meterRegistry) {
         this.settings = settings;
         this.armedisConfiguration = armedisConfiguration;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -66,7 +74,8 @@ public class ArmedisServerConfiguration {
      * 
      */
     @Bean
-    public ArmeriaServerConfigurator armeriaServerConfigurator(ArmeriaAnnotatedHttpService... services) {
+    public ArmeriaServerConfigurator armeriaServerConfigurator(ArmeriaAnnotatedHttpService[] services,
+            ArmeriaGrpcService[] grpcServices) {
         int listenPort = initializeServicePort();
 
         setArmeriaListenPort(listenPort);
@@ -112,7 +121,12 @@ public class ArmedisServerConfiguration {
             // Can not split RedisStringService by redis command.
             // services.put(service.getServiceDescriptor().getName(), service);
             GrpcServiceBuilder grpcServiceBuilder = GrpcService.builder();
-            grpcServiceBuilder.addService(new RedisStringGrpcService());
+            for (ArmeriaGrpcService grpcService : grpcServices) {
+                grpcServiceBuilder.addService(grpcService);
+            }
+
+            // gRPC services use sync redis commands, so do not block event loop.
+            grpcServiceBuilder.useBlockingTaskExecutor(true);
             builder.service(grpcServiceBuilder.build());
 
             // Add static file serving
@@ -162,9 +176,13 @@ public class ArmedisServerConfiguration {
         // if set keepAliveTimeMillis value then auto enable.
         BlockingTaskExecutorBuilder blockingTaskExecutorBuilder = BlockingTaskExecutor.builder();
         blockingTaskExecutorBuilder.numThreads(500);
-        blockingTaskExecutorBuilder.build();
+        BlockingTaskExecutor blockingTaskExecutor = blockingTaskExecutorBuilder.build();
+
+        // queued, active and completed tasks of blocking executor. ex) executor.queued{name="blockingTaskExecutor"}
+        new ExecutorServiceMetrics(blockingTaskExecutor.unwrap(), "blockingTaskExecutor", "armedis", Tags.empty())
+                .bindTo(meterRegistry);
 
-        serverBuilder.blockingTaskExecutor(blockingTaskExecutorBuilder.build(), true);
+        serverBuilder.blockingTaskExecutor(blockingTaskExecutor, true);
 
         return serverBuilder;
     }
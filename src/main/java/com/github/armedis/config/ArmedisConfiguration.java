@@ -32,6 +32,105 @@ public class ArmedisConfiguration {
     @Value("${server.config.stat.logging.enableed}")
     private boolean loggingEnabled;
 
+    @Value("${server.config.stat.poll.timeoutMillis:500}")
+    private long statPollTimeoutMillis;
+
+    @Value("${server.config.stat.series.metrics:stats.instantaneousOpsPerSec}")
+    private String statSeriesMetrics;
+
+    @Value("${server.config.stat.series.directory:}")
+    private String statSeriesDirectory;
+
+    @Value("${server.config.slowlog.enabled:1}")
+    private boolean slowlogEnabled;
+
+    @Value("${server.config.slowlog.maxShapes:1000}")
+    private int slowlogMaxShapes;
+
+    @Value("${server.config.hotkey.enabled:1}")
+    private boolean hotKeyEnabled;
+
+    @Value("${server.config.hotkey.sampleRate:0.01}")
+    private double hotKeySampleRate;
+
+    @Value("${server.config.hotkey.windowSeconds:10}")
+    private int hotKeyWindowSeconds;
+
+    @Value("${server.config.hotkey.topK:32}")
+    private int hotKeyTopK;
+
+    @Value("${server.config.bigkey.enabled:0}")
+    private boolean bigKeyEnabled;
+
+    @Value("${server.config.bigkey.opsPerSecond:100}")
+    private int bigKeyOpsPerSecond;
+
+    @Value("${server.config.bigkey.topN:20}")
+    private int bigKeyTopN;
+
+    @Value("${server.config.bigkey.scanCount:100}")
+    private int bigKeyScanCount;
+
+    @Value("${server.config.bigkey.parallelism:4}")
+    private int bigKeyParallelism;
+
+    @Value("${server.config.topology.refreshMillis:5000}")
+    private int topologyRefreshMillis;
+
+    @Value("${server.config.stat.history.directory:}")
+    private String statHistoryDirectory;
+
+    @Value("${server.config.stat.history.segmentBytes:8388608}")
+    private int statHistorySegmentBytes;
+
+    @Value("${server.config.stat.history.restoreSeconds:3600}")
+    private int statHistoryRestoreSeconds;
+
+    @Value("${server.config.stat.history.retentionSeconds:86400}")
+    private int statHistoryRetentionSeconds;
+
+    @Value("${server.config.stat.history.compactStepSeconds:60}")
+    private int statHistoryCompactStepSeconds;
+
+    @Value("${server.config.namespace.enabled:0}")
+    private boolean namespaceEnabled;
+
+    @Value("${server.config.namespace.samples:10000}")
+    private int namespaceSamples;
+
+    @Value("${server.config.namespace.opsPerSecond:200}")
+    private int namespaceOpsPerSecond;
+
+    @Value("${server.config.namespace.parallelism:4}")
+    private int namespaceParallelism;
+
+    @Value("${server.config.latency.enabled:1}")
+    private boolean latencyEnabled;
+
+    @Value("${server.config.latency.monitorThresholdMillis:100}")
+    private int latencyMonitorThresholdMillis;
+
+    @Value("${server.config.admission.enabled:1}")
+    private boolean admissionEnabled;
+
+    @Value("${server.config.admission.initialLimit:20}")
+    private int admissionInitialLimit;
+
+    @Value("${server.config.admission.minLimit:4}")
+    private int admissionMinLimit;
+
+    @Value("${server.config.admission.maxLimit:100}")
+    private int admissionMaxLimit;
+
+    @Value("${server.config.admission.latencyThresholdMillis:50}")
+    private int admissionLatencyThresholdMillis;
+
+    @Value("${server.config.admission.poolUtilizationThreshold:0.9}")
+    private double admissionPoolUtilizationThreshold;
+
+    @Value("${server.config.node.command.timeoutMillis:2000}")
+    private long nodeCommandTimeoutMillis;
+
     public String getRedisSeedAddress() {
         return redisSeedAddress;
     }
@@ -98,4 +197,467 @@ public class ArmedisConfiguration {
     public void setLoggingEnabled(boolean loggingEnabled) {
         this.loggingEnabled = loggingEnabled;
     }
+
+    /**
+     * @return the statPollTimeoutMillis, INFO of node which is not responded in this time is marked stale.
+     */
+    public long getStatPollTimeoutMillis() {
+        return statPollTimeoutMillis;
+    }
+
+    /**
+     * @param statPollTimeoutMillis the statPollTimeoutMillis to set
+     */
+    public void setStatPollTimeoutMillis(long statPollTimeoutMillis) {
+        this.statPollTimeoutMillis = statPollTimeoutMillis;
+    }
+
+    /**
+     * @return the statSeriesMetrics, comma separated section.field list which is kept as time series
+     */
+    public String getStatSeriesMetrics() {
+        return statSeriesMetrics;
+    }
+
+    /**
+     * @param statSeriesMetrics the statSeriesMetrics to set
+     */
+    public void setStatSeriesMetrics(String statSeriesMetrics) {
+        this.statSeriesMetrics = statSeriesMetrics;
+    }
+
+    /**
+     * @return the statSeriesDirectory, memory mapped file directory of time series, heap is used when empty
+     */
+    public String getStatSeriesDirectory() {
+        return statSeriesDirectory;
+    }
+
+    /**
+     * @param statSeriesDirectory the statSeriesDirectory to set
+     */
+    public void setStatSeriesDirectory(String statSeriesDirectory) {
+        this.statSeriesDirectory = statSeriesDirectory;
+    }
+
+    /**
+     * @return the slowlogEnabled, harvest slowlog of every node
+     */
+    public boolean isSlowlogEnabled() {
+        return slowlogEnabled;
+    }
+
+    /**
+     * @param slowlogEnabled the slowlogEnabled to set
+     */
+    public void setSlowlogEnabled(boolean slowlogEnabled) {
+        this.slowlogEnabled = slowlogEnabled;
+    }
+
+    /**
+     * @return the slowlogMaxShapes, max count of aggregated command shapes
+     */
+    public int getSlowlogMaxShapes() {
+        return slowlogMaxShapes;
+    }
+
+    /**
+     * @param slowlogMaxShapes the slowlogMaxShapes to set
+     */
+    public void setSlowlogMaxShapes(int slowlogMaxShapes) {
+        this.slowlogMaxShapes = slowlogMaxShapes;
+    }
+
+    /**
+     * @return the hotKeyEnabled, sample keys of requests for hot key
+     */
+    public boolean isHotKeyEnabled() {
+        return hotKeyEnabled;
+    }
+
+    /**
+     * @param hotKeyEnabled the hotKeyEnabled to set
+     */
+    public void setHotKeyEnabled(boolean hotKeyEnabled) {
+        this.hotKeyEnabled = hotKeyEnabled;
+    }
+
+    /**
+     * @return the hotKeySampleRate, ratio of sampled requests
+     */
+    public double getHotKeySampleRate() {
+        return hotKeySampleRate;
+    }
+
+    /**
+     * @param hotKeySampleRate the hotKeySampleRate to set
+     */
+    public void setHotKeySampleRate(double hotKeySampleRate) {
+        this.hotKeySampleRate = hotKeySampleRate;
+    }
+
+    /**
+     * @return the hotKeyWindowSeconds
+     */
+    public int getHotKeyWindowSeconds() {
+        return hotKeyWindowSeconds;
+    }
+
+    /**
+     * @param hotKeyWindowSeconds the hotKeyWindowSeconds to set
+     */
+    public void setHotKeyWindowSeconds(int hotKeyWindowSeconds) {
+        this.hotKeyWindowSeconds = hotKeyWindowSeconds;
+    }
+
+    /**
+     * @return the hotKeyTopK, count of hot keys per command and window
+     */
+    public int getHotKeyTopK() {
+        return hotKeyTopK;
+    }
+
+    /**
+     * @param hotKeyTopK the hotKeyTopK to set
+     */
+    public void setHotKeyTopK(int hotKeyTopK) {
+        this.hotKeyTopK = hotKeyTopK;
+    }
+
+    /**
+     * @return the bigKeyEnabled, scan big keys of every master periodically
+     */
+    public boolean isBigKeyEnabled() {
+        return bigKeyEnabled;
+    }
+
+    /**
+     * @param bigKeyEnabled the bigKeyEnabled to set
+     */
+    public void setBigKeyEnabled(boolean bigKeyEnabled) {
+        this.bigKeyEnabled = bigKeyEnabled;
+    }
+
+    /**
+     * @return the bigKeyOpsPerSecond, command budget of scan per node
+     */
+    public int getBigKeyOpsPerSecond() {
+        return bigKeyOpsPerSecond;
+    }
+
+    /**
+     * @param bigKeyOpsPerSecond the bigKeyOpsPerSecond to set
+     */
+    public void setBigKeyOpsPerSecond(int bigKeyOpsPerSecond) {
+        this.bigKeyOpsPerSecond = bigKeyOpsPerSecond;
+    }
+
+    /**
+     * @return the bigKeyTopN, biggest keys kept per type and node
+     */
+    public int getBigKeyTopN() {
+        return bigKeyTopN;
+    }
+
+    /**
+     * @param bigKeyTopN the bigKeyTopN to set
+     */
+    public void setBigKeyTopN(int bigKeyTopN) {
+        this.bigKeyTopN = bigKeyTopN;
+    }
+
+    /**
+     * @return the bigKeyScanCount, COUNT of SCAN
+     */
+    public int getBigKeyScanCount() {
+        return bigKeyScanCount;
+    }
+
+    /**
+     * @param bigKeyScanCount the bigKeyScanCount to set
+     */
+    public void setBigKeyScanCount(int bigKeyScanCount) {
+        this.bigKeyScanCount = bigKeyScanCount;
+    }
+
+    /**
+     * @return the bigKeyParallelism, count of nodes scanned at the same time
+     */
+    public int getBigKeyParallelism() {
+        return bigKeyParallelism;
+    }
+
+    /**
+     * @param bigKeyParallelism the bigKeyParallelism to set
+     */
+    public void setBigKeyParallelism(int bigKeyParallelism) {
+        this.bigKeyParallelism = bigKeyParallelism;
+    }
+
+    /**
+     * @return the topologyRefreshMillis, topology refresh interval of every deployment type
+     */
+    public int getTopologyRefreshMillis() {
+        return topologyRefreshMillis;
+    }
+
+    /**
+     * @param topologyRefreshMillis the topologyRefreshMillis to set
+     */
+    public void setTopologyRefreshMillis(int topologyRefreshMillis) {
+        this.topologyRefreshMillis = topologyRefreshMillis;
+    }
+
+    /**
+     * @return the statHistoryDirectory, segment file directory of stats history, history is not kept when empty
+     */
+    public String getStatHistoryDirectory() {
+        return statHistoryDirectory;
+    }
+
+    /**
+     * @param statHistoryDirectory the statHistoryDirectory to set
+     */
+    public void setStatHistoryDirectory(String statHistoryDirectory) {
+        this.statHistoryDirectory = statHistoryDirectory;
+    }
+
+    /**
+     * @return the statHistorySegmentBytes, size of one history segment file
+     */
+    public int getStatHistorySegmentBytes() {
+        return statHistorySegmentBytes;
+    }
+
+    /**
+     * @param statHistorySegmentBytes the statHistorySegmentBytes to set
+     */
+    public void setStatHistorySegmentBytes(int statHistorySegmentBytes) {
+        this.statHistorySegmentBytes = statHistorySegmentBytes;
+    }
+
+    /**
+     * @return the statHistoryRestoreSeconds, recent window restored at startup, older history is compacted
+     */
+    public int getStatHistoryRestoreSeconds() {
+        return statHistoryRestoreSeconds;
+    }
+
+    /**
+     * @param statHistoryRestoreSeconds the statHistoryRestoreSeconds to set
+     */
+    public void setStatHistoryRestoreSeconds(int statHistoryRestoreSeconds) {
+        this.statHistoryRestoreSeconds = statHistoryRestoreSeconds;
+    }
+
+    /**
+     * @return the statHistoryRetentionSeconds, history older than retention is deleted
+     */
+    public int getStatHistoryRetentionSeconds() {
+        return statHistoryRetentionSeconds;
+    }
+
+    /**
+     * @param statHistoryRetentionSeconds the statHistoryRetentionSeconds to set
+     */
+    public void setStatHistoryRetentionSeconds(int statHistoryRetentionSeconds) {
+        this.statHistoryRetentionSeconds = statHistoryRetentionSeconds;
+    }
+
+    /**
+     * @return the statHistoryCompactStepSeconds, one tick is kept per step in compacted history
+     */
+    public int getStatHistoryCompactStepSeconds() {
+        return statHistoryCompactStepSeconds;
+    }
+
+    /**
+     * @param statHistoryCompactStepSeconds the statHistoryCompactStepSeconds to set
+     */
+    public void setStatHistoryCompactStepSeconds(int statHistoryCompactStepSeconds) {
+        this.statHistoryCompactStepSeconds = statHistoryCompactStepSeconds;
+    }
+
+    /**
+     * @return the namespaceEnabled, sample keys of every master by namespace periodically
+     */
+    public boolean isNamespaceEnabled() {
+        return namespaceEnabled;
+    }
+
+    /**
+     * @param namespaceEnabled the namespaceEnabled to set
+     */
+    public void setNamespaceEnabled(boolean namespaceEnabled) {
+        this.namespaceEnabled = namespaceEnabled;
+    }
+
+    /**
+     * @return the namespaceSamples, sampled keys per node
+     */
+    public int getNamespaceSamples() {
+        return namespaceSamples;
+    }
+
+    /**
+     * @param namespaceSamples the namespaceSamples to set
+     */
+    public void setNamespaceSamples(int namespaceSamples) {
+        this.namespaceSamples = namespaceSamples;
+    }
+
+    /**
+     * @return the namespaceOpsPerSecond, command budget of sampling per node
+     */
+    public int getNamespaceOpsPerSecond() {
+        return namespaceOpsPerSecond;
+    }
+
+    /**
+     * @param namespaceOpsPerSecond the namespaceOpsPerSecond to set
+     */
+    public void setNamespaceOpsPerSecond(int namespaceOpsPerSecond) {
+        this.namespaceOpsPerSecond = namespaceOpsPerSecond;
+    }
+
+    /**
+     * @return the namespaceParallelism, count of nodes sampled at the same time
+     */
+    public int getNamespaceParallelism() {
+        return namespaceParallelism;
+    }
+
+    /**
+     * @param namespaceParallelism the namespaceParallelism to set
+     */
+    public void setNamespaceParallelism(int namespaceParallelism) {
+        this.namespaceParallelism = namespaceParallelism;
+    }
+
+    /**
+     * @return the latencyEnabled, poll latency monitor of every node
+     */
+    public boolean isLatencyEnabled() {
+        return latencyEnabled;
+    }
+
+    /**
+     * @param latencyEnabled the latencyEnabled to set
+     */
+    public void setLatencyEnabled(boolean latencyEnabled) {
+        this.latencyEnabled = latencyEnabled;
+    }
+
+    /**
+     * @return the latencyMonitorThresholdMillis, latency-monitor-threshold set to node of which monitor is disabled, not changed when 0
+     */
+    public int getLatencyMonitorThresholdMillis() {
+        return latencyMonitorThresholdMillis;
+    }
+
+    /**
+     * @param latencyMonitorThresholdMillis the latencyMonitorThresholdMillis to set
+     */
+    public void setLatencyMonitorThresholdMillis(int latencyMonitorThresholdMillis) {
+        this.latencyMonitorThresholdMillis = latencyMonitorThresholdMillis;
+    }
+
+    /**
+     * @return the admissionEnabled, reject excess redis commands by adaptive concurrency limit
+     */
+    public boolean isAdmissionEnabled() {
+        return admissionEnabled;
+    }
+
+    /**
+     * @param admissionEnabled the admissionEnabled to set
+     */
+    public void setAdmissionEnabled(boolean admissionEnabled) {
+        this.admissionEnabled = admissionEnabled;
+    }
+
+    /**
+     * @return the admissionInitialLimit, initial concurrency limit of each command class
+     */
+    public int getAdmissionInitialLimit() {
+        return admissionInitialLimit;
+    }
+
+    /**
+     * @param admissionInitialLimit the admissionInitialLimit to set
+     */
+    public void setAdmissionInitialLimit(int admissionInitialLimit) {
+        this.admissionInitialLimit = admissionInitialLimit;
+    }
+
+    /**
+     * @return the admissionMinLimit
+     */
+    public int getAdmissionMinLimit() {
+        return admissionMinLimit;
+    }
+
+    /**
+     * @param admissionMinLimit the admissionMinLimit to set
+     */
+    public void setAdmissionMinLimit(int admissionMinLimit) {
+        this.admissionMinLimit = admissionMinLimit;
+    }
+
+    /**
+     * @return the admissionMaxLimit
+     */
+    public int getAdmissionMaxLimit() {
+        return admissionMaxLimit;
+    }
+
+    /**
+     * @param admissionMaxLimit the admissionMaxLimit to set
+     */
+    public void setAdmissionMaxLimit(int admissionMaxLimit) {
+        this.admissionMaxLimit = admissionMaxLimit;
+    }
+
+    /**
+     * @return the admissionLatencyThresholdMillis, latency over threshold decreases limit
+     */
+    public int getAdmissionLatencyThresholdMillis() {
+        return admissionLatencyThresholdMillis;
+    }
+
+    /**
+     * @param admissionLatencyThresholdMillis the admissionLatencyThresholdMillis to set
+     */
+    public void setAdmissionLatencyThresholdMillis(int admissionLatencyThresholdMillis) {
+        this.admissionLatencyThresholdMillis = admissionLatencyThresholdMillis;
+    }
+
+    /**
+     * @return the admissionPoolUtilizationThreshold, pool utilization over threshold decreases limit, low priority is rejected from 80% of threshold
+     */
+    public double getAdmissionPoolUtilizationThreshold() {
+        return admissionPoolUtilizationThreshold;
+    }
+
+    /**
+     * @param admissionPoolUtilizationThreshold the admissionPoolUtilizationThreshold to set
+     */
+    public void setAdmissionPoolUtilizationThreshold(double admissionPoolUtilizationThreshold) {
+        this.admissionPoolUtilizationThreshold = admissionPoolUtilizationThreshold;
+    }
+
+    /**
+     * @return the nodeCommandTimeoutMillis, timeout of management command sent to each node.
+     *         ex) CONFIG SET of every node, node lookup at startup
+     */
+    public long getNodeCommandTimeoutMillis() {
+        return nodeCommandTimeoutMillis;
+    }
+
+    /**
+     * @param nodeCommandTimeoutMillis the nodeCommandTimeoutMillis to set
+     */
+    public void setNodeCommandTimeoutMillis(long nodeCommandTimeoutMillis) {
+        this.nodeCommandTimeoutMillis = nodeCommandTimeoutMillis;
+    }
 }
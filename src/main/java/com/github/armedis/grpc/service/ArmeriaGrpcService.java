@@ -0,0 +1,12 @@
+package com.github.armedis.grpc.service;
+
+import io.grpc.BindableService;
+
+/**
+ * Marker of gRPC service bean which is registered to armeria GrpcService.
+ * @author krisjey
+ *
+ */
+public interface ArmeriaGrpcService extends BindableService {
+
+}
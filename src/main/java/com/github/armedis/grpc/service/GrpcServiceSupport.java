@@ -0,0 +1,84 @@
+package com.github.armedis.grpc.service;
+
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.armedis.redis.admission.AdmissionRejectedException;
+import com.google.protobuf.ByteString;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.lettuce.core.RedisCommandExecutionException;
+
+/**
+ * Common response handling of gRPC services.
+ * @author krisjey
+ *
+ */
+public final class GrpcServiceSupport {
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServiceSupport.class);
+
+    public static final String RESULT_CODE_OK = "200";
+
+    private GrpcServiceSupport() {
+    }
+
+    /**
+     * Execute unary call and complete observer with result or mapped error status.
+     * <pre>
+     * IllegalArgumentException        -> INVALID_ARGUMENT
+     * RedisCommandExecutionException  -> FAILED_PRECONDITION (ex WRONGTYPE)
+     * AdmissionRejectedException      -> RESOURCE_EXHAUSTED
+     * others                          -> INTERNAL
+     * </pre>
+     * @param <T>
+     * @param responseObserver
+     * @param call
+     */
+    public static <T> void unary(StreamObserver<T> responseObserver, Callable<T> call) {
+        T response = null;
+        try {
+            response = call.call();
+        }
+        catch (Exception e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+            return;
+        }
+
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    public static Status toStatus(Throwable e) {
+        if (e instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+        }
+
+        if (e instanceof RedisCommandExecutionException) {
+            return Status.FAILED_PRECONDITION.withDescription(e.getMessage());
+        }
+
+        if (e instanceof AdmissionRejectedException) {
+            return Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage());
+        }
+
+        logger.error("Can not execute redis command ", e);
+        return Status.INTERNAL.withDescription(e.getMessage()).withCause(e);
+    }
+
+    /**
+     * Check request key is not empty. Key bytes are passed to redis codec without copy.
+     * @param key
+     * @return key
+     * @throws IllegalArgumentException when key is empty.
+     */
+    public static ByteString requireKey(ByteString key) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("Redis key is empty");
+        }
+
+        return key;
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.armedis.grpc.service;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Server streaming sender which fetch next page only when client is ready to receive.<br/>
+ * Large collection(ex 1M fields of hash) is sent page by page, so whole collection is never held in memory
+ * even if client is slow.
+ * @author krisjey
+ *
+ * @param <T> response message type
+ */
+public abstract class PagedResponseStreamer<T> implements Runnable {
+    private final ServerCallStreamObserver<T> responseObserver;
+
+    private volatile boolean cancelled = false;
+
+    private boolean completed = false;
+
+    protected PagedResponseStreamer(StreamObserver<T> responseObserver) {
+        this.responseObserver = (ServerCallStreamObserver<T>) responseObserver;
+    }
+
+    /**
+     * Register handlers and send pages as many as client can receive now.
+     * Remaining pages are sent by on ready handler.
+     */
+    public void start() {
+        this.responseObserver.setOnCancelHandler(() -> this.cancelled = true);
+        this.responseObserver.setOnReadyHandler(this);
+
+        run();
+    }
+
+    @Override
+    public synchronized void run() {
+        try {
+            while (!completed && !cancelled && responseObserver.isReady()) {
+                T page = nextPage();
+                if (page != null) {
+                    responseObserver.onNext(page);
+                }
+
+                if (!hasNextPage()) {
+                    completed = true;
+                    responseObserver.onCompleted();
+                }
+            }
+        }
+        catch (Exception e) {
+            completed = true;
+            responseObserver.onError(GrpcServiceSupport.toStatus(e).asRuntimeException());
+        }
+    }
+
+    /**
+     * Fetch next page from redis.
+     * @return response message, null when fetched page is empty.
+     * @throws Exception
+     */
+    protected abstract T nextPage() throws Exception;
+
+    /**
+     * @return false after last page was fetched.
+     */
+    protected abstract boolean hasNextPage();
+}
@@ -0,0 +1,90 @@
+package com.github.armedis.grpc.service;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Index pages of rank range. ex) LRANGE, ZRANGE by rank<br/>
+ * Negative index is resolved by length of key before first page, so length is not read when both indexes are not
+ * negative. Short page means end of key.
+ * @author krisjey
+ *
+ */
+public class RankRangePager {
+    private final long start;
+
+    private final long stop;
+
+    private final int pageSize;
+
+    // null until negative index is resolved.
+    private Long nextIndex;
+
+    private Long lastIndex;
+
+    private boolean finished = false;
+
+    /**
+     * @param start first index, negative index is from the end.
+     * @param stop last index inclusive, negative index is from the end.
+     * @param pageSize
+     */
+    public RankRangePager(long start, long stop, int pageSize) {
+        this.start = start;
+        this.stop = stop;
+        this.pageSize = pageSize;
+
+        if (start >= 0 && stop >= 0) {
+            this.nextIndex = start;
+            this.lastIndex = stop;
+        }
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * @param length reads length of key, called once only when index is negative.
+     * @return index range of next page, null if range is finished.
+     * @throws Exception exception of length
+     */
+    public Page nextPage(Callable<Long> length) throws Exception {
+        if (nextIndex == null) {
+            Long read = length.call();
+            long size = read == null ? 0 : read;
+
+            nextIndex = start < 0 ? Math.max(0, size + start) : start;
+            lastIndex = stop < 0 ? size + stop : stop;
+        }
+
+        if (nextIndex > lastIndex) {
+            finished = true;
+            return null;
+        }
+
+        return new Page(nextIndex, Math.min(lastIndex, nextIndex + pageSize - 1));
+    }
+
+    /**
+     * Move to page after given page.
+     * @param page page of {@link #nextPage(Callable)}
+     * @param fetched count of values of page
+     */
+    public void advance(Page page, int fetched) {
+        nextIndex = page.stop() + 1;
+
+        if (nextIndex > lastIndex || fetched < page.size()) {
+            finished = true;
+        }
+    }
+
+    /**
+     * @param start first index
+     * @param stop last index inclusive
+     */
+    public record Page(long start, long stop) {
+        public long size() {
+            return stop - start + 1;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.github.armedis.grpc.service.hash;
+
+import static com.github.armedis.grpc.service.GrpcServiceSupport.RESULT_CODE_OK;
+import static com.github.armedis.grpc.service.GrpcServiceSupport.requireKey;
+import static com.github.armedis.grpc.service.GrpcServiceSupport.toStatus;
+import static com.github.armedis.grpc.service.GrpcServiceSupport.unary;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.github.armedis.grpc.service.ArmeriaGrpcService;
+import com.github.armedis.grpc.service.PagedResponseStreamer;
+import com.github.armedis.grpc.service.hash.RedisHashServiceGrpc.RedisHashServiceImplBase;
+import com.github.armedis.redis.command.RedisBinaryCommandExecutor;
+import com.google.protobuf.ByteString;
+
+import io.grpc.stub.StreamObserver;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.MapScanCursor;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+
+/**
+ * Redis hash gRPC endpoint service.<br/>
+ * Field and value are bytes, so binary field is stored as it is.
+ * @author krisjey
+ *
+ */
+@Service
+public class RedisHashGrpcService extends RedisHashServiceImplBase implements ArmeriaGrpcService {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+
+    private RedisBinaryCommandExecutor executor;
+
+    @Autowired
+    public RedisHashGrpcService(RedisBinaryCommandExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void hGet(HGetRequest request, StreamObserver<HGetResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+            ByteString value = executor.execute("hget", key, commands -> commands.hget(key, request.getField()));
+
+            HGetResponse.Builder response = HGetResponse.newBuilder().setCode(RESULT_CODE_OK);
+            if (value != null) {
+                response.setExists(true).setValue(value);
+            }
+
+            return response.build();
+        });
+    }
+
+    @Override
+    public void hSet(HSetRequest request, StreamObserver<HSetResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+            if (request.getFieldsCount() == 0) {
+                throw new IllegalArgumentException("Hash fields are empty");
+            }
+
+            Map<ByteString, ByteString> fields = new LinkedHashMap<>(request.getFieldsCount() * 2);
+            for (HashField field : request.getFieldsList()) {
+                fields.put(field.getField(), field.getValue());
+            }
+
+            // redis 4.0 and later, HSET returns number of added fields.
+            Long added = executor.execute("hset", key, commands -> commands.hset(key, fields));
+
+            return HSetResponse.newBuilder().setCode(RESULT_CODE_OK).setAdded(added == null ? 0 : added).build();
+        });
+    }
+
+    @Override
+    public void hMGet(HMGetRequest request, StreamObserver<HMGetResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+            if (request.getFieldsCount() == 0) {
+                throw new IllegalArgumentException("Hash fields are empty");
+            }
+
+            ByteString[] fields = request.getFieldsList().toArray(new ByteString[request.getFieldsCount()]);
+
+            List<KeyValue<ByteString, ByteString>> values = executor.execute("hmget", key,
+                    commands -> commands.hmget(key, fields));
+
+            HMGetResponse.Builder response = HMGetResponse.newBuilder().setCode(RESULT_CODE_OK);
+            for (KeyValue<ByteString, ByteString> value : values) {
+                HashValue.Builder hashValue = HashValue.newBuilder();
+                if (value.hasValue()) {
+                    hashValue.setExists(true).setValue(value.getValue());
+                }
+
+                response.addValues(hashValue);
+            }
+
+            return response.build();
+        });
+    }
+
+    @Override
+    public void hDel(HDelRequest request, StreamObserver<HDelResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+            if (request.getFieldsCount() == 0) {
+                throw new IllegalArgumentException("Hash fields are empty");
+            }
+
+            ByteString[] fields = request.getFieldsList().toArray(new ByteString[request.getFieldsCount()]);
+
+            Long deleted = executor.execute("hdel", key, commands -> commands.hdel(key, fields));
+
+            return HDelResponse.newBuilder().setCode(RESULT_CODE_OK).setDeleted(deleted).build();
+        });
+    }
+
+    @Override
+    public void hIncrBy(HIncrByRequest request, StreamObserver<HIncrByResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+
+            Long value = executor.execute("hincrby", key,
+                    commands -> commands.hincrby(key, request.getField(), request.getAmount()));
+
+            return HIncrByResponse.newBuilder().setCode(RESULT_CODE_OK).setValue(value).build();
+        });
+    }
+
+    /**
+     * Send all fields of hash page by page with HSCAN.<br/>
+     * HSCAN may return same field more than once when hash is rehashing, client have to handle duplicate fields.
+     */
+    @Override
+    public void hGetAll(HGetAllRequest request, StreamObserver<HGetAllResponse> responseObserver) {
+        ByteString key = null;
+        try {
+            key = requireKey(request.getKey());
+        }
+        catch (IllegalArgumentException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+            return;
+        }
+
+        int pageSize = request.getPageSize() > 0 ? request.getPageSize() : DEFAULT_PAGE_SIZE;
+        ScanArgs scanArgs = ScanArgs.Builder.limit(pageSize);
+        if (StringUtils.isNotEmpty(request.getMatch())) {
+            scanArgs.match(request.getMatch());
+        }
+
+        logger.debug("Stream hgetall " + request.getKey().toStringUtf8() + " page size " + pageSize);
+
+        new HashScanStreamer(key, scanArgs, responseObserver).start();
+    }
+
+    private class HashScanStreamer extends PagedResponseStreamer<HGetAllResponse> {
+        private final ByteString key;
+
+        private final ScanArgs scanArgs;
+
+        private ScanCursor cursor = ScanCursor.INITIAL;
+
+        HashScanStreamer(ByteString key, ScanArgs scanArgs, StreamObserver<HGetAllResponse> responseObserver) {
+            super(responseObserver);
+            this.key = key;
+            this.scanArgs = scanArgs;
+        }
+
+        @Override
+        protected HGetAllResponse nextPage() throws Exception {
+            ScanCursor current = this.cursor;
+            MapScanCursor<ByteString, ByteString> page = executor.execute("hscan", key,
+                    commands -> commands.hscan(key, current, scanArgs));
+            this.cursor = page;
+
+            if (page.getMap().isEmpty()) {
+                return null;
+            }
+
+            HGetAllResponse.Builder response = HGetAllResponse.newBuilder().setCode(RESULT_CODE_OK);
+            for (Map.Entry<ByteString, ByteString> entry : page.getMap().entrySet()) {
+                response.addFields(HashField.newBuilder().setField(entry.getKey()).setValue(entry.getValue()));
+            }
+
+            return response.build();
+        }
+
+        @Override
+        protected boolean hasNextPage() {
+            return !this.cursor.isFinished();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.github.armedis.grpc.service.list;
+
+import static com.github.armedis.grpc.service.GrpcServiceSupport.RESULT_CODE_OK;
+import static com.github.armedis.grpc.service.GrpcServiceSupport.requireKey;
+import static com.github.armedis.grpc.service.GrpcServiceSupport.toStatus;
+import static com.github.armedis.grpc.service.GrpcServiceSupport.unary;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.github.armedis.grpc.service.ArmeriaGrpcService;
+import com.github.armedis.grpc.service.PagedResponseStreamer;
+import com.github.armedis.grpc.service.RankRangePager;
+import com.github.armedis.grpc.service.RankRangePager.Page;
+import com.github.armedis.grpc.service.list.RedisListServiceGrpc.RedisListServiceImplBase;
+import com.github.armedis.redis.command.RedisBinaryCommandExecutor;
+import com.google.protobuf.ByteString;
+
+import io.grpc.stub.StreamObserver;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+
+/**
+ * Redis list gRPC endpoint service.<br/>
+ * Pushed values are sent by one variadic command, and LRANGE is streamed page by page.
+ * @author krisjey
+ *
+ */
+@Service
+public class RedisListGrpcService extends RedisListServiceImplBase implements ArmeriaGrpcService {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+
+    private static final int MAX_PAGE_SIZE = 10000;
+
+    private RedisBinaryCommandExecutor executor;
+
+    @Autowired
+    public RedisListGrpcService(RedisBinaryCommandExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void lPush(PushRequest request, StreamObserver<PushResponse> responseObserver) {
+        unary(responseObserver, () -> push(request, true));
+    }
+
+    @Override
+    public void rPush(PushRequest request, StreamObserver<PushResponse> responseObserver) {
+        unary(responseObserver, () -> push(request, false));
+    }
+
+    /**
+     * Push values and trim by same connection. Push and trim is not atomic.
+     */
+    private PushResponse push(PushRequest request, boolean left) throws Exception {
+        ByteString key = requireKey(request.getKey());
+        if (request.getValuesCount() == 0) {
+            throw new IllegalArgumentException("List values are empty");
+        }
+
+        long maxLength = request.getMaxLength();
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("max_length must not be negative");
+        }
+
+        ByteString[] values = request.getValuesList().toArray(new ByteString[request.getValuesCount()]);
+        boolean onlyIfExists = request.getOnlyIfExists();
+
+        Long length = executor.execute(left ? "lpush" : "rpush", key, commands -> {
+            Long pushed = pushValues(commands, key, values, left, onlyIfExists);
+
+            if (maxLength > 0 && pushed != null && pushed > maxLength) {
+                // keep pushed side.
+                if (left) {
+                    commands.ltrim(key, 0, maxLength - 1);
+                }
+                else {
+                    commands.ltrim(key, -maxLength, -1);
+                }
+            }
+
+            return pushed;
+        });
+
+        return PushResponse.newBuilder().setCode(RESULT_CODE_OK).setLength(length == null ? 0 : length).build();
+    }
+
+    private Long pushValues(RedisClusterCommands<ByteString, ByteString> commands, ByteString key,
+            ByteString[] values, boolean left, boolean onlyIfExists) {
+        if (left) {
+            return onlyIfExists ? commands.lpushx(key, values) : commands.lpush(key, values);
+        }
+
+        return onlyIfExists ? commands.rpushx(key, values) : commands.rpush(key, values);
+    }
+
+    @Override
+    public void lPop(PopRequest request, StreamObserver<PopResponse> responseObserver) {
+        unary(responseObserver, () -> pop(request, true));
+    }
+
+    @Override
+    public void rPop(PopRequest request, StreamObserver<PopResponse> responseObserver) {
+        unary(responseObserver, () -> pop(request, false));
+    }
+
+    private PopResponse pop(PopRequest request, boolean left) throws Exception {
+        ByteString key = requireKey(request.getKey());
+        long count = request.getCount();
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+
+        PopResponse.Builder response = PopResponse.newBuilder().setCode(RESULT_CODE_OK);
+
+        // without count for redis server before 6.2
+        if (count <= 1) {
+            ByteString value = executor.execute(left ? "lpop" : "rpop", key,
+                    commands -> left ? commands.lpop(key) : commands.rpop(key));
+            if (value != null) {
+                response.addValues(value);
+            }
+
+            return response.build();
+        }
+
+        List<ByteString> values = executor.execute(left ? "lpop" : "rpop", key,
+                commands -> left ? commands.lpop(key, count) : commands.rpop(key, count));
+        if (values != null) {
+            response.addAllValues(values);
+        }
+
+        return response.build();
+    }
+
+    @Override
+    public void lTrim(LTrimRequest request, StreamObserver<LTrimResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+
+            String result = executor.execute("ltrim", key,
+                    commands -> commands.ltrim(key, request.getStart(), request.getStop()));
+
+            return LTrimResponse.newBuilder().setCode(RESULT_CODE_OK).setResult(result == null ? "" : result).build();
+        });
+    }
+
+    @Override
+    public void lLen(LLenRequest request, StreamObserver<LLenResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+
+            Long length = executor.execute("llen", key, commands -> commands.llen(key));
+
+            return LLenResponse.newBuilder().setCode(RESULT_CODE_OK).setLength(length == null ? 0 : length).build();
+        });
+    }
+
+    /**
+     * Send range page by page. List may be changed between pages, so values can be skipped or duplicated
+     * when list is pushed or popped while streaming.
+     */
+    @Override
+    public void lRange(LRangeRequest request, StreamObserver<LRangeResponse> responseObserver) {
+        ByteString key = null;
+        try {
+            key = requireKey(request.getKey());
+        }
+        catch (IllegalArgumentException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+            return;
+        }
+
+        int pageSize = request.getPageSize() <= 0 ? DEFAULT_PAGE_SIZE
+                : Math.min(request.getPageSize(), MAX_PAGE_SIZE);
+
+        logger.debug("Stream lrange " + key.toStringUtf8() + " page size " + pageSize);
+
+        new ListRangeStreamer(key, request.getStart(), request.getStop(), pageSize, responseObserver).start();
+    }
+
+    private class ListRangeStreamer extends PagedResponseStreamer<LRangeResponse> {
+        private final ByteString key;
+
+        private final RankRangePager pager;
+
+        ListRangeStreamer(ByteString key, long start, long stop, int pageSize,
+                StreamObserver<LRangeResponse> responseObserver) {
+            super(responseObserver);
+            this.key = key;
+            this.pager = new RankRangePager(start, stop, pageSize);
+        }
+
+        @Override
+        protected LRangeResponse nextPage() throws Exception {
+            Page page = pager.nextPage(() -> executor.execute("llen", key, commands -> commands.llen(key)));
+            if (page == null) {
+                return null;
+            }
+
+            List<ByteString> values = executor.execute("lrange", key,
+                    commands -> commands.lrange(key, page.start(), page.stop()));
+            pager.advance(page, values.size());
+
+            if (values.isEmpty()) {
+                return null;
+            }
+
+            return LRangeResponse.newBuilder().setCode(RESULT_CODE_OK).addAllValues(values).build();
+        }
+
+        @Override
+        protected boolean hasNextPage() {
+            return !pager.isFinished();
+        }
+    }
+}
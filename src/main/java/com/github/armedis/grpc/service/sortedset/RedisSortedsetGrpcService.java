@@ -0,0 +1,213 @@
+package com.github.armedis.grpc.service.sortedset;
+
+import static com.github.armedis.grpc.service.GrpcServiceSupport.RESULT_CODE_OK;
+import static com.github.armedis.grpc.service.GrpcServiceSupport.requireKey;
+import static com.github.armedis.grpc.service.GrpcServiceSupport.toStatus;
+import static com.github.armedis.grpc.service.GrpcServiceSupport.unary;
+
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.github.armedis.grpc.service.ArmeriaGrpcService;
+import com.github.armedis.grpc.service.PagedResponseStreamer;
+import com.github.armedis.grpc.service.sortedset.RedisSortedsetServiceGrpc.RedisSortedsetServiceImplBase;
+import com.github.armedis.redis.command.RedisBinaryCommandExecutor;
+import com.google.protobuf.ByteString;
+
+import io.grpc.stub.StreamObserver;
+import io.lettuce.core.ZAddArgs;
+
+/**
+ * Redis sorted set gRPC endpoint service.<br/>
+ * Range result is sent as packed members and scores, not as member/score object list.
+ * @author krisjey
+ *
+ */
+@Service
+public class RedisSortedsetGrpcService extends RedisSortedsetServiceImplBase implements ArmeriaGrpcService {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    // too large ZADD blocks redis server, so split members.
+    private static final int ZADD_BATCH_SIZE = 1000;
+
+    private RedisBinaryCommandExecutor executor;
+
+    @Autowired
+    public RedisSortedsetGrpcService(RedisBinaryCommandExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Add members with one connection. Members over {@value #ZADD_BATCH_SIZE} are added by multiple ZADD commands,
+     * so whole request is not atomic.
+     */
+    @Override
+    public void zAdd(ZAddRequest request, StreamObserver<ZAddResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+            int size = request.getMembersCount();
+            if (size == 0) {
+                throw new IllegalArgumentException("Sorted set members are empty");
+            }
+
+            if (size != request.getScoresCount()) {
+                throw new IllegalArgumentException(
+                        "Count of members[" + size + "] and scores[" + request.getScoresCount() + "] are different");
+            }
+
+            // score and member pairs, so no generic array of ScoredValue is created.
+            Object[] scoresAndValues = new Object[size * 2];
+            for (int i = 0; i < size; i++) {
+                scoresAndValues[i * 2] = request.getScores(i);
+                scoresAndValues[i * 2 + 1] = request.getMembers(i);
+            }
+
+            ZAddArgs zAddArgs = buildZAddArgs(request);
+
+            Long count = executor.execute("zadd", key, commands -> {
+                long total = 0;
+                for (int from = 0; from < size; from += ZADD_BATCH_SIZE) {
+                    Object[] batch = Arrays.copyOfRange(scoresAndValues, from * 2,
+                            Math.min(size, from + ZADD_BATCH_SIZE) * 2);
+                    Long result = zAddArgs == null ? commands.zadd(key, batch) : commands.zadd(key, zAddArgs, batch);
+                    total += result == null ? 0 : result;
+                }
+
+                return total;
+            });
+
+            return ZAddResponse.newBuilder().setCode(RESULT_CODE_OK).setCount(count).build();
+        });
+    }
+
+    private ZAddArgs buildZAddArgs(ZAddRequest request) {
+        if (!request.getNx() && !request.getXx() && !request.getGt() && !request.getLt() && !request.getCh()) {
+            return null;
+        }
+
+        ZAddArgs zAddArgs = new ZAddArgs();
+        if (request.getNx()) {
+            zAddArgs.nx();
+        }
+
+        if (request.getXx()) {
+            zAddArgs.xx();
+        }
+
+        if (request.getGt()) {
+            zAddArgs.gt();
+        }
+
+        if (request.getLt()) {
+            zAddArgs.lt();
+        }
+
+        if (request.getCh()) {
+            zAddArgs.ch();
+        }
+
+        return zAddArgs;
+    }
+
+    @Override
+    public void zIncrBy(ZIncrByRequest request, StreamObserver<ZIncrByResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+
+            Double score = executor.execute("zincrby", key,
+                    commands -> commands.zincrby(key, request.getAmount(), request.getMember()));
+
+            return ZIncrByResponse.newBuilder().setCode(RESULT_CODE_OK).setScore(score).build();
+        });
+    }
+
+    @Override
+    public void zRank(ZRankRequest request, StreamObserver<ZRankResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+
+            Long rank = executor.execute("zrank", key, commands -> request.getReverse()
+                    ? commands.zrevrank(key, request.getMember())
+                    : commands.zrank(key, request.getMember()));
+
+            ZRankResponse.Builder response = ZRankResponse.newBuilder().setCode(RESULT_CODE_OK);
+            if (rank != null) {
+                response.setExists(true).setRank(rank);
+            }
+
+            return response.build();
+        });
+    }
+
+    @Override
+    public void zScore(ZScoreRequest request, StreamObserver<ZScoreResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+
+            Double score = executor.execute("zscore", key, commands -> commands.zscore(key, request.getMember()));
+
+            ZScoreResponse.Builder response = ZScoreResponse.newBuilder().setCode(RESULT_CODE_OK);
+            if (score != null) {
+                response.setExists(true).setScore(score);
+            }
+
+            return response.build();
+        });
+    }
+
+    /**
+     * Return first page of range. page size is limited to {@value SortedSetRangeReader#MAX_PAGE_SIZE}.
+     */
+    @Override
+    public void zRange(ZRangeRequest request, StreamObserver<ZRangeResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+
+            ZRangeResponse response = new SortedSetRangeReader(executor, key, request).nextPage();
+            if (response == null) {
+                return ZRangeResponse.newBuilder().setCode(RESULT_CODE_OK).build();
+            }
+
+            return response;
+        });
+    }
+
+    @Override
+    public void zRangeStream(ZRangeRequest request, StreamObserver<ZRangeResponse> responseObserver) {
+        SortedSetRangeReader reader = null;
+        try {
+            reader = new SortedSetRangeReader(executor, requireKey(request.getKey()), request);
+        }
+        catch (IllegalArgumentException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+            return;
+        }
+
+        logger.debug("Stream zrange " + request.getKey().toStringUtf8() + " by " + request.getBy());
+
+        new RangeStreamer(reader, responseObserver).start();
+    }
+
+    private static class RangeStreamer extends PagedResponseStreamer<ZRangeResponse> {
+        private final SortedSetRangeReader reader;
+
+        RangeStreamer(SortedSetRangeReader reader, StreamObserver<ZRangeResponse> responseObserver) {
+            super(responseObserver);
+            this.reader = reader;
+        }
+
+        @Override
+        protected ZRangeResponse nextPage() throws Exception {
+            return reader.nextPage();
+        }
+
+        @Override
+        protected boolean hasNextPage() {
+            return !reader.isFinished();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.github.armedis.grpc.service.sortedset;
+
+import static com.github.armedis.grpc.service.GrpcServiceSupport.RESULT_CODE_OK;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.armedis.grpc.service.RankRangePager;
+import com.github.armedis.grpc.service.RankRangePager.Page;
+import com.github.armedis.redis.command.RedisBinaryCommandExecutor;
+import com.google.protobuf.ByteString;
+
+import io.lettuce.core.Limit;
+import io.lettuce.core.Range;
+import io.lettuce.core.Range.Boundary;
+import io.lettuce.core.ScoredValue;
+
+/**
+ * Read sorted set range page by page.<br/>
+ * RANK range is paged by index. SCORE and LEX range is paged by last returned bound, so every page is read from
+ * the bound instead of scanning from start of range by LIMIT offset. Next LEX page starts after last member, next
+ * SCORE page starts at last score and skips members of that score already returned.
+ * @author krisjey
+ *
+ */
+class SortedSetRangeReader {
+    static final int DEFAULT_PAGE_SIZE = 1000;
+
+    static final int MAX_PAGE_SIZE = 10000;
+
+    private final RedisBinaryCommandExecutor executor;
+
+    private final ByteString key;
+
+    private final ZRangeRequest request;
+
+    private final int pageSize;
+
+    // SCORE, LEX. bound is moved to last returned score or member after every page.
+    private Range<Double> scoreRange;
+
+    private Range<ByteString> lexRange;
+
+    // RANK
+    private final RankRangePager rankPager;
+
+    // SCORE, LEX. offset of request at first page, then members of last score already returned.
+    private long offset;
+
+    private long remaining;
+
+    // SCORE, LEX. RANK range is finished by rank pager.
+    private boolean finished = false;
+
+    SortedSetRangeReader(RedisBinaryCommandExecutor executor, ByteString key, ZRangeRequest request) {
+        this.executor = executor;
+        this.key = key;
+        this.request = request;
+        this.pageSize = pageSize(request.getPageSize());
+
+        if (request.getBy() == RangeBy.LEX && request.getWithScores()) {
+            throw new IllegalArgumentException("with_scores is not supported with LEX range");
+        }
+
+        if (request.getOffset() < 0 || request.getCount() < 0) {
+            throw new IllegalArgumentException("offset and count must not be negative");
+        }
+
+        this.scoreRange = toScoreRange(request);
+        this.lexRange = toLexRange(request);
+        this.offset = request.getOffset();
+        this.remaining = request.getCount() == 0 ? Long.MAX_VALUE : request.getCount();
+
+        this.rankPager = new RankRangePager(request.getStart(), request.getStop(), pageSize);
+    }
+
+    boolean isFinished() {
+        return request.getBy() == RangeBy.RANK ? rankPager.isFinished() : finished;
+    }
+
+    ZRangeResponse nextPage() throws Exception {
+        switch (request.getBy()) {
+            case RANK:
+                return nextRankPage();
+
+            case SCORE:
+                return nextScorePage();
+
+            case LEX:
+                return nextLexPage();
+
+            default:
+                throw new IllegalArgumentException("Unknown range type " + request.getBy());
+        }
+    }
+
+    private ZRangeResponse nextRankPage() throws Exception {
+        Page page = rankPager.nextPage(() -> executor.execute("zcard", key, commands -> commands.zcard(key)));
+        if (page == null) {
+            return null;
+        }
+
+        long start = page.start();
+        long stop = page.stop();
+        boolean reverse = request.getReverse();
+
+        ZRangeResponse response = null;
+        int fetched = 0;
+        if (request.getWithScores()) {
+            List<ScoredValue<ByteString>> values = executor.execute("zrange", key, commands -> reverse
+                    ? commands.zrevrangeWithScores(key, start, stop)
+                    : commands.zrangeWithScores(key, start, stop));
+            fetched = values.size();
+            response = toScoredResponse(values);
+        }
+        else {
+            List<ByteString> values = executor.execute("zrange", key, commands -> reverse
+                    ? commands.zrevrange(key, start, stop)
+                    : commands.zrange(key, start, stop));
+            fetched = values.size();
+            response = toResponse(values);
+        }
+
+        rankPager.advance(page, fetched);
+
+        return response;
+    }
+
+    private ZRangeResponse nextScorePage() throws Exception {
+        Limit limit = nextLimit();
+        Range<Double> range = scoreRange;
+        boolean reverse = request.getReverse();
+
+        // score of last member is the bound of next page, so scores are read even if not requested.
+        List<ScoredValue<ByteString>> values = executor.execute("zrangebyscore", key, commands -> reverse
+                ? commands.zrevrangebyscoreWithScores(key, range, limit)
+                : commands.zrangebyscoreWithScores(key, range, limit));
+        advanceScore(values);
+        advance(limit, values.size());
+
+        if (request.getWithScores()) {
+            return toScoredResponse(values);
+        }
+
+        List<ByteString> members = new ArrayList<>(values.size());
+        for (ScoredValue<ByteString> value : values) {
+            members.add(value.getValue());
+        }
+
+        return toResponse(members);
+    }
+
+    private ZRangeResponse nextLexPage() throws Exception {
+        Limit limit = nextLimit();
+        Range<ByteString> range = lexRange;
+        boolean reverse = request.getReverse();
+
+        List<ByteString> values = executor.execute("zrangebylex", key, commands -> reverse
+                ? commands.zrevrangebylex(key, range, limit)
+                : commands.zrangebylex(key, range, limit));
+        advanceLex(values);
+        advance(limit, values.size());
+        return toResponse(values);
+    }
+
+    private Limit nextLimit() {
+        return Limit.create(offset, Math.min(pageSize, remaining));
+    }
+
+    /**
+     * Move score bound to score of last member. Members of that score are consecutive, so when page has other
+     * score before them, they are every member of that score in range and next page skips only them.
+     * @param values
+     */
+    private void advanceScore(List<ScoredValue<ByteString>> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        double lastScore = values.get(values.size() - 1).getScore();
+        int ties = 0;
+        for (int i = values.size() - 1; i >= 0 && values.get(i).getScore() == lastScore; i--) {
+            ties++;
+        }
+
+        if (ties == values.size()) {
+            // whole page is one score, bound is kept and same score members are skipped by offset.
+            offset += ties;
+            return;
+        }
+
+        Boundary<Double> bound = Boundary.including(lastScore);
+        scoreRange = request.getReverse() ? Range.from(scoreRange.getLower(), bound)
+                : Range.from(bound, scoreRange.getUpper());
+        offset = ties;
+    }
+
+    private void advanceLex(List<ByteString> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        // member is unique, next page starts after last member.
+        Boundary<ByteString> bound = Boundary.excluding(values.get(values.size() - 1));
+        lexRange = request.getReverse() ? Range.from(lexRange.getLower(), bound)
+                : Range.from(bound, lexRange.getUpper());
+        offset = 0;
+    }
+
+    private void advance(Limit limit, int fetched) {
+        remaining -= fetched;
+
+        if (fetched < limit.getCount() || remaining <= 0) {
+            finished = true;
+        }
+    }
+
+    private ZRangeResponse toResponse(List<ByteString> values) {
+        if (values.isEmpty()) {
+            return null;
+        }
+
+        return ZRangeResponse.newBuilder().setCode(RESULT_CODE_OK).addAllMembers(values).build();
+    }
+
+    private ZRangeResponse toScoredResponse(List<ScoredValue<ByteString>> values) {
+        if (values.isEmpty()) {
+            return null;
+        }
+
+        ZRangeResponse.Builder response = ZRangeResponse.newBuilder().setCode(RESULT_CODE_OK);
+        for (ScoredValue<ByteString> value : values) {
+            response.addMembers(value.getValue());
+            response.addScores(value.getScore());
+        }
+
+        return response.build();
+    }
+
+    static int pageSize(int requestPageSize) {
+        if (requestPageSize <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+
+        return Math.min(requestPageSize, MAX_PAGE_SIZE);
+    }
+
+    static Range<Double> toScoreRange(ZRangeRequest request) {
+        Boundary<Double> lower = request.hasScoreMin() ? toBoundary(request.getScoreMin()) : Boundary.unbounded();
+        Boundary<Double> upper = request.hasScoreMax() ? toBoundary(request.getScoreMax()) : Boundary.unbounded();
+
+        return Range.from(lower, upper);
+    }
+
+    static Range<ByteString> toLexRange(ZRangeRequest request) {
+        Boundary<ByteString> lower = request.hasLexMin() ? toBoundary(request.getLexMin()) : Boundary.unbounded();
+        Boundary<ByteString> upper = request.hasLexMax() ? toBoundary(request.getLexMax()) : Boundary.unbounded();
+
+        return Range.from(lower, upper);
+    }
+
+    private static Boundary<Double> toBoundary(ScoreBound bound) {
+        return bound.getExclusive() ? Boundary.excluding(bound.getValue()) : Boundary.including(bound.getValue());
+    }
+
+    private static Boundary<ByteString> toBoundary(LexBound bound) {
+        return bound.getExclusive() ? Boundary.excluding(bound.getValue()) : Boundary.including(bound.getValue());
+    }
+}
@@ -1,82 +1,119 @@
-
 package com.github.armedis.grpc.service.string;
 
+import java.util.Optional;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.github.armedis.grpc.service.ArmeriaGrpcService;
+import com.github.armedis.grpc.service.GrpcServiceSupport;
 import com.github.armedis.grpc.service.string.RedisStringServiceGrpc.RedisStringServiceImplBase;
-
+import com.github.armedis.redis.command.RedisCommandExecuteResult;
+import com.github.armedis.redis.command.RedisGetRequest;
+import com.github.armedis.redis.command.RedisRequest;
+import com.github.armedis.redis.command.RedisSetRequest;
+import com.github.armedis.redis.pipeline.RedisCommandPipeline;
+import com.github.armedis.redis.pipeline.RedisCommandTransport;
+import com.github.armedis.redis.pipeline.RedisResponseEncoder;
+
+import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 
 /**
- * Redis get http request endpoint service.
+ * Redis string gRPC endpoint service.<br/>
+ * Executed by same command pipeline and command runner with http services.
  * @author krisjey
  *
  */
 @Service
-public class RedisStringGrpcService extends RedisStringServiceImplBase {
+public class RedisStringGrpcService extends RedisStringServiceImplBase implements ArmeriaGrpcService {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    private static final String REQUEST_METHOD = "GRPC";
+
+    private static final RedisResponseEncoder<GetResponse> getResponseEncoder = new ResultEncoder<GetResponse>() {
+        @Override
+        GetResponse build(String code, String result) {
+            return GetResponse.newBuilder().setCode(code).setResult(result).build();
+        }
+    };
+
+    private static final RedisResponseEncoder<SetResponse> setResponseEncoder = new ResultEncoder<SetResponse>() {
+        @Override
+        SetResponse build(String code, String result) {
+            return SetResponse.newBuilder().setCode(code).setResult(result).build();
+        }
+    };
+
+    private RedisCommandPipeline pipeline;
+
+    @Autowired
+    public RedisStringGrpcService(RedisCommandPipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
     @Override
     public void set(SetRequest setRequest, StreamObserver<SetResponse> responseObserver) {
-    	logger.info("Unary message get " + setRequest.getKey());
-        SetResponse response = SetResponse.newBuilder()
-                .setCode("200")
-                .setResult("hello world " + setRequest.getKey())
-                .build();
+        SetResponse response = pipeline.execute(RedisCommandTransport.GRPC, setRequest, request -> {
+            RedisSetRequest redisRequest = new RedisSetRequest();
+            redisRequest.setRequestMethod(REQUEST_METHOD);
+            redisRequest.setKey(Optional.of(request.getKey()));
+            redisRequest.setValue(request.getValue());
+            return redisRequest;
+        }, setResponseEncoder);
 
-        // Server Streaming이면 responseObserver.onNext()를 두 번 이상 호출할 수 있다.
         responseObserver.onNext(response);
-
-        // 응답 완료
         responseObserver.onCompleted();
     }
 
     @Override
     public void get(GetRequest getRequest, StreamObserver<GetResponse> responseObserver) {
+        GetResponse response = pipeline.execute(RedisCommandTransport.GRPC, getRequest, request -> {
+            RedisGetRequest redisRequest = new RedisGetRequest();
+            redisRequest.setRequestMethod(REQUEST_METHOD);
+            redisRequest.setKey(Optional.of(request.getKey()));
+            return redisRequest;
+        }, getResponseEncoder);
 
-        // client 어떻게 생성하나?
-
-        // 실행부..
-        // converter 필요.
-//        // execute redis command by http request params.
-//        RedisCommandExecuteResult result = null;
-//        try {
-//            result = executeCommand(redisRequest);
-//        }
-//        catch (Exception e) {
-//            logger.error("Can not execute redis command ", e);
-//            return buildResponse(ResponseCode.UNKNOWN_ERROR, redisRequest);
-//        }
-
-//        Redisgrpc
-        logger.info("Unary message get " + getRequest.getKey());
-        GetResponse response = GetResponse.newBuilder()
-                .setCode("200")
-                .setResult("hello world " + getRequest.getKey())
-                .build();
-
-        // Server Streaming이면 responseObserver.onNext()를 두 번 이상 호출할 수 있다.
         responseObserver.onNext(response);
-
-        // 응답 완료
         responseObserver.onCompleted();
     }
 
+    /**
+     * GetRequest of v1 has no value field, so GETSET can not be executed. Use GetSet of v2 service.
+     */
     @Override
     public void getSet(GetRequest getRequest, StreamObserver<GetResponse> responseObserver) {
-//      Redisgrpc
-        logger.info("Unary message getSet " + getRequest.getKey());
-        GetResponse response = GetResponse.newBuilder()
-                .setCode("200")
-                .setResult("hello world " + getRequest.getKey())
-                .build();
-
-        // Server Streaming이면 responseObserver.onNext()를 두 번 이상 호출할 수 있다.
-        responseObserver.onNext(response);
+        logger.info("Unsupported v1 message getSet " + getRequest.getKey());
+        responseObserver.onError(Status.UNIMPLEMENTED
+                .withDescription("GetSet of v1 has no value, use armedis.v2.RedisStringService/GetSet")
+                .asRuntimeException());
+    }
 
-        // 응답 완료
-        responseObserver.onCompleted();
+    /**
+     * v1 response has code and result string only.
+     */
+    private abstract static class ResultEncoder<O> implements RedisResponseEncoder<O> {
+        @Override
+        public O encode(RedisRequest redisRequest, RedisCommandExecuteResult result) {
+            String responseString = result == null ? null : result.toResponseString();
+            return build(GrpcServiceSupport.RESULT_CODE_OK, responseString == null ? "" : responseString);
+        }
+
+        @Override
+        public O encodeError(RedisRequest redisRequest, Throwable cause) {
+            Status status = GrpcServiceSupport.toStatus(cause);
+            String code = switch (status.getCode()) {
+                case INVALID_ARGUMENT -> "400";
+                case RESOURCE_EXHAUSTED -> "503";
+                default -> "500";
+            };
+
+            return build(code, status.getDescription() == null ? "" : status.getDescription());
+        }
+
+        abstract O build(String code, String result);
     }
 }
@@ -0,0 +1,81 @@
+package com.github.armedis.grpc.service.string.v2;
+
+import static com.github.armedis.grpc.service.GrpcServiceSupport.RESULT_CODE_OK;
+import static com.github.armedis.grpc.service.GrpcServiceSupport.requireKey;
+import static com.github.armedis.grpc.service.GrpcServiceSupport.unary;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.github.armedis.grpc.service.ArmeriaGrpcService;
+import com.github.armedis.grpc.service.string.v2.RedisStringServiceGrpc.RedisStringServiceImplBase;
+import com.github.armedis.redis.command.RedisBinaryCommandExecutor;
+import com.google.protobuf.ByteString;
+
+import io.grpc.stub.StreamObserver;
+import io.lettuce.core.SetArgs;
+
+/**
+ * Redis string gRPC endpoint service of bytes key and value.<br/>
+ * Served with v1 {@link com.github.armedis.grpc.service.string.RedisStringGrpcService} side by side,
+ * request ByteString is passed to redis codec without utf-8 conversion.
+ * @author krisjey
+ *
+ */
+@Service
+public class RedisStringV2GrpcService extends RedisStringServiceImplBase implements ArmeriaGrpcService {
+    private RedisBinaryCommandExecutor executor;
+
+    @Autowired
+    public RedisStringV2GrpcService(RedisBinaryCommandExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void get(GetRequest request, StreamObserver<GetResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+
+            ByteString value = executor.execute("get", key, commands -> commands.get(key));
+
+            return toGetResponse(value);
+        });
+    }
+
+    @Override
+    public void set(SetRequest request, StreamObserver<SetResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+            long expireMillis = request.getExpireMillis();
+            if (expireMillis < 0) {
+                throw new IllegalArgumentException("expire_millis must not be negative");
+            }
+
+            String result = executor.execute("set", key, commands -> expireMillis == 0
+                    ? commands.set(key, request.getValue())
+                    : commands.set(key, request.getValue(), SetArgs.Builder.px(expireMillis)));
+
+            return SetResponse.newBuilder().setCode(RESULT_CODE_OK).setResult(result == null ? "" : result).build();
+        });
+    }
+
+    @Override
+    public void getSet(GetSetRequest request, StreamObserver<GetResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            ByteString key = requireKey(request.getKey());
+
+            ByteString value = executor.execute("getset", key, commands -> commands.getset(key, request.getValue()));
+
+            return toGetResponse(value);
+        });
+    }
+
+    private GetResponse toGetResponse(ByteString value) {
+        GetResponse.Builder response = GetResponse.newBuilder().setCode(RESULT_CODE_OK);
+        if (value != null) {
+            response.setExists(true).setValue(value);
+        }
+
+        return response.build();
+    }
+}
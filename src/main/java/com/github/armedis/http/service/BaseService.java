@@ -8,18 +8,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.github.armedis.http.service.request.RedisRequest;
 import com.github.armedis.http.service.request.RedisRequestBuilder;
 import com.github.armedis.http.service.request.RedisRequestBuilderFactory;
+import com.github.armedis.metrics.ResponseCodeMetrics;
 import com.github.armedis.redis.command.RedisCommandExecuteResult;
-import com.github.armedis.redis.command.RedisCommandExecutor;
+import com.github.armedis.redis.command.RedisRequest;
+import com.github.armedis.redis.pipeline.RedisCommandPipeline;
+import com.github.armedis.redis.pipeline.RedisCommandTransport;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
+import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.server.ServiceRequestContext;
 
 public class BaseService implements ArmeriaAnnotatedHttpService {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
@@ -28,13 +31,26 @@ public class BaseService implements ArmeriaAnnotatedHttpService {
 
     private static final ObjectNode emptyResult = mapper.createObjectNode();
 
+    private final RedisHttpResponseEncoder responseEncoder = new RedisHttpResponseEncoder(this::countResponse);
+
     @Autowired
-    private RedisCommandExecutor executor;
+    private RedisCommandPipeline pipeline;
+
+    @Autowired(required = false)
+    private ResponseCodeMetrics responseCodeMetrics;
 
     protected HttpResponse buildStatResponse(ResponseCode responseCode, String stats) {
+        countResponse(responseCode);
+
         return HttpResponse.of(responseCode.getStatusCode(), MediaType.JSON_UTF_8, stats);
     }
 
+    protected HttpResponse buildStatResponse(ResponseCode responseCode, MediaType mediaType, byte[] stats) {
+        countResponse(responseCode);
+
+        return HttpResponse.of(responseCode.getStatusCode(), mediaType, HttpData.wrap(stats));
+    }
+
     protected HttpResponse buildResponse(ResponseCode responseCode, RedisRequest redisRequest) {
         return buildResponse(responseCode, redisRequest, null);
     }
@@ -48,7 +64,7 @@ public class BaseService implements ArmeriaAnnotatedHttpService {
      * Final message builder<br/>
      * Build {@link HttpResponse} object using {@code redisCommandExecuteResult}
      * parameter.<br/>
-     * Actual response writer
+     * Actual response writer is {@link RedisHttpResponseEncoder}
      * 
      * @param code
      * @param redisCommandExecuteResult
@@ -56,43 +72,14 @@ public class BaseService implements ArmeriaAnnotatedHttpService {
      */
     protected final HttpResponse buildResponse(ResponseCode code, RedisRequest redisRequest,
             RedisCommandExecuteResult redisCommandExecuteResult) {
-        // 응답 type에 따른 구분 처리.
-        switch (redisRequest.getResponseDataType()) {
-            case JSON:
-                return buildJsonResponse(code, redisCommandExecuteResult.toObjectNode());
-
-            case PLAIN_TEXT:
-                return buildPlainTextResponse(code, redisCommandExecuteResult);
-
-            default:
-                // default response type is json
-                String resultMessage = "Can not detect response data type";
-                logger.error(resultMessage);
-                return buildJsonResponse(code, redisCommandExecuteResult.toObjectNode());
-        }
-    }
-
-    private HttpResponse buildPlainTextResponse(ResponseCode code,
-            RedisCommandExecuteResult redisCommandExecuteResult) {
-        String responseData = redisCommandExecuteResult.toResponseString();
-        return HttpResponse.of(code.getStatusCode(), MediaType.PLAIN_TEXT_UTF_8, responseData);
+        return responseEncoder.encode(code, redisRequest, redisCommandExecuteResult);
     }
 
-    private HttpResponse buildJsonResponse(ResponseCode code, ObjectNode objectNode) {
-        String responseData = null;
-        try {
-            responseData = mapper.writeValueAsString(objectNode);
+    private void countResponse(ResponseCode responseCode) {
+        // null when service is created without spring context.
+        if (responseCodeMetrics != null) {
+            responseCodeMetrics.count(responseCode);
         }
-        catch (JsonProcessingException e) {
-            logger.error("Can not convert string to JsonNode" + objectNode);
-        }
-
-        // TODO if response value is null then should be error response?
-        if (responseData == null) {
-            responseData = "{}";
-        }
-
-        return HttpResponse.of(code.getStatusCode(), MediaType.JSON_UTF_8, responseData);
     }
 
     protected final RedisRequest buildRedisRequest(String redisCommand, String key, AggregatedHttpRequest httpRequest,
@@ -115,18 +102,26 @@ public class BaseService implements ArmeriaAnnotatedHttpService {
         return redisRequest;
     }
 
-    protected RedisCommandExecuteResult executeCommand(RedisRequest redisRequest) {
-        RedisCommandExecuteResult redisCommandExecuteResult = null;
+    /**
+     * Execute request by transport neutral command pipeline. Result and error are encoded by
+     * {@link RedisHttpResponseEncoder}, same as gRPC front end.
+     * @param redisRequest
+     * @return response of result, or error response. ex) 503 when request is rejected by admission control.
+     */
+    protected final HttpResponse executeCommand(RedisRequest redisRequest) {
+        return pipeline.execute(RedisCommandTransport.HTTP, redisRequest, this::decode, responseEncoder);
+    }
 
-        // 명령에 해당하는 CommandExecutor 가져오기.
-        try {
-            redisCommandExecuteResult = executor.execute(redisRequest);
-        }
-        catch (Exception e) {
-            logger.info("Can not execute redis command " + redisRequest.toString(), e);
+    private RedisRequest decode(RedisRequest redisRequest) {
+        // request bean of annotated service is created by armeria, so set request method here.
+        if (redisRequest != null && redisRequest.getRequestMethod() == null) {
+            ServiceRequestContext context = ServiceRequestContext.currentOrNull();
+            if (context != null) {
+                redisRequest.setRequestMethod(context.method().toString());
+            }
         }
 
-        return redisCommandExecuteResult;
+        return redisRequest;
     }
 
     protected final JsonNode getAsJsonBody(AggregatedHttpRequest httpRequest) {
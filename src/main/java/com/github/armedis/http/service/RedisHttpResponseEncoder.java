@@ -0,0 +1,124 @@
+package com.github.armedis.http.service;
+
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.armedis.redis.admission.AdmissionRejectedException;
+import com.github.armedis.redis.command.RedisCommandExecuteResult;
+import com.github.armedis.redis.command.RedisRequest;
+import com.github.armedis.redis.command.ResponseDataType;
+import com.github.armedis.redis.pipeline.RedisResponseEncoder;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.MediaType;
+
+/**
+ * Http front end encoder of command pipeline. Response data type is decided by Accept header of request.<br/>
+ * Every http response of command is written by this encoder, so error mapping is same as gRPC encoder.
+ * @author krisjey
+ *
+ */
+public class RedisHttpResponseEncoder implements RedisResponseEncoder<HttpResponse> {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final RedisCommandExecuteResult EMPTY_RESULT = RedisCommandExecuteResult.getEmptyResult("");
+
+    private static final String EMPTY_JSON = "{}";
+
+    private final Consumer<ResponseCode> responseListener;
+
+    public RedisHttpResponseEncoder() {
+        this(code -> {
+        });
+    }
+
+    /**
+     * @param responseListener called with response code of every encoded response. ex) response code metrics
+     */
+    public RedisHttpResponseEncoder(Consumer<ResponseCode> responseListener) {
+        this.responseListener = responseListener;
+    }
+
+    @Override
+    public HttpResponse encode(RedisRequest redisRequest, RedisCommandExecuteResult result) {
+        return encode(ResponseCode.SUCCESS, redisRequest, result);
+    }
+
+    @Override
+    public HttpResponse encodeError(RedisRequest redisRequest, Throwable cause) {
+        if (cause instanceof IllegalArgumentException) {
+            logger.info("Invalid redis request " + cause.getMessage());
+            return encode(ResponseCode.REQUEST_FIELD_ERROR, redisRequest, null);
+        }
+
+        if (cause instanceof AdmissionRejectedException) {
+            logger.debug(cause.getMessage());
+            return encode(ResponseCode.SERVICE_UNAVAILABLE, redisRequest, null);
+        }
+
+        logger.error("Can not execute redis command ", cause);
+        return encode(ResponseCode.UNKNOWN_ERROR, redisRequest, null);
+    }
+
+    /**
+     * Final message builder<br/>
+     * Build {@link HttpResponse} object using {@code redisCommandExecuteResult}
+     * parameter.<br/>
+     * Actual response writer
+     * 
+     * @param code
+     * @param redisRequest null then json response.
+     * @param redisCommandExecuteResult null then empty result.
+     * @return Object of {@link HttpResponse}
+     */
+    public HttpResponse encode(ResponseCode code, RedisRequest redisRequest,
+            RedisCommandExecuteResult redisCommandExecuteResult) {
+        RedisCommandExecuteResult result = redisCommandExecuteResult == null ? EMPTY_RESULT
+                : redisCommandExecuteResult;
+        ResponseDataType responseDataType = redisRequest == null ? ResponseDataType.JSON
+                : redisRequest.getResponseDataType();
+
+        // 응답 type에 따른 구분 처리.
+        switch (responseDataType) {
+            case JSON:
+                return buildJsonResponse(code, result.toObjectNode());
+
+            case PLAIN_TEXT:
+                return buildPlainTextResponse(code, result);
+
+            default:
+                // default response type is json
+                String resultMessage = "Can not detect response data type";
+                logger.error(resultMessage);
+                return buildJsonResponse(code, result.toObjectNode());
+        }
+    }
+
+    private HttpResponse buildPlainTextResponse(ResponseCode code,
+            RedisCommandExecuteResult redisCommandExecuteResult) {
+        String responseData = redisCommandExecuteResult.toResponseString();
+        return respond(code, MediaType.PLAIN_TEXT_UTF_8, responseData);
+    }
+
+    private HttpResponse buildJsonResponse(ResponseCode code, ObjectNode objectNode) {
+        try {
+            return respond(code, MediaType.JSON_UTF_8, mapper.writeValueAsString(objectNode));
+        }
+        catch (JsonProcessingException e) {
+            logger.error("Can not convert JsonNode to string " + objectNode, e);
+            return respond(ResponseCode.RESPONSE_ENCODE_ERROR, MediaType.JSON_UTF_8, EMPTY_JSON);
+        }
+    }
+
+    private HttpResponse respond(ResponseCode code, MediaType mediaType, String responseData) {
+        responseListener.accept(code);
+
+        return HttpResponse.of(code.getStatusCode(), mediaType, responseData);
+    }
+}
@@ -32,6 +32,16 @@ public enum ResponseCode {
      */
     UNSUPPORTED_OPERATION(200, -501, "Unsupported operation!"),
 
+    /**
+     * Rejected by admission control, retry later.
+     */
+    SERVICE_UNAVAILABLE(503, -503, "Service unavailable, too many requests!"),
+
+    /**
+     * Result can not be written to response body.
+     */
+    RESPONSE_ENCODE_ERROR(500, -500, "Can not encode response!"),
+
     /**
      * Unknown Server error.
      */
@@ -23,6 +23,36 @@ public final class ServiceUrl {
      */
     public static final String REDIS_STATS = "/v1/redis/stats";
 
+    /**
+     * Redis status history of metric
+     */
+    public static final String REDIS_STATS_SERIES = "/v1/redis/stats/series";
+
+    /**
+     * Redis status server sent event stream
+     */
+    public static final String REDIS_STATS_STREAM = "/v1/redis/stats/stream";
+
+    /**
+     * Top commands of commandstats
+     */
+    public static final String REDIS_STATS_COMMANDS = "/v1/redis/stats/commands";
+
+    /**
+     * Hot keys of sampled requests
+     */
+    public static final String REDIS_STATS_HOTKEYS = "/v1/redis/stats/hotkeys";
+
+    /**
+     * Latency monitor events of every node
+     */
+    public static final String REDIS_STATS_LATENCY = "/v1/redis/stats/latency";
+
+    /**
+     * Redis metrics of prometheus text format
+     */
+    public static final String REDIS_METRICS = "/v1/redis/metrics";
+
     /**
      * Current memory status
      */
@@ -7,10 +7,8 @@ import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.armedis.http.service.BaseService;
-import com.github.armedis.http.service.ResponseCode;
-import com.github.armedis.http.service.request.RedisRequest;
-import com.github.armedis.redis.command.RedisCommandExecuteResult;
 import com.github.armedis.redis.command.RedisGetRequest;
+import com.github.armedis.redis.command.RedisRequest;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.server.annotation.Consumes;
@@ -52,15 +50,7 @@ public class RedisHsetService extends BaseService {
 		logger.info("Text request " + REDIS_COMMAND + " command without key at URL " + redisRequest.toString());
 
 		// execute redis command by http request params.
-		RedisCommandExecuteResult result = null;
-		try {
-			result = executeCommand(redisRequest);
-		} catch (Exception e) {
-			logger.error("Can not execute redis command ", e);
-			return buildResponse(ResponseCode.UNKNOWN_ERROR, redisRequest);
-		}
-
-		return buildResponse(redisRequest, result);
+		return executeCommand(redisRequest);
 	}
 
 	/**
@@ -78,15 +68,7 @@ public class RedisHsetService extends BaseService {
 		logger.info("Text request " + REDIS_COMMAND + " command without key at URL " + redisRequest.toString());
 
 		// execute redis command by http request params.
-		RedisCommandExecuteResult result = null;
-		try {
-			result = executeCommand(redisRequest);
-		} catch (Exception e) {
-			logger.error("Can not execute redis command ", e);
-			return buildResponse(ResponseCode.UNKNOWN_ERROR, redisRequest);
-		}
-
-		return buildResponse(redisRequest, result);
+		return executeCommand(redisRequest);
 	}
 
 	/**
@@ -112,15 +94,7 @@ public class RedisHsetService extends BaseService {
 
 		logger.info("Json request " + REDIS_COMMAND + " command without key at URL " + redisRequest.toString());
 
-		RedisCommandExecuteResult result = null;
-		try {
-			result = executeCommand(redisRequest);
-		} catch (Exception e) {
-			logger.error("Can not execute redis command ", e);
-			return buildResponse(ResponseCode.UNKNOWN_ERROR, redisRequest);
-		}
-
-		return buildResponse(redisRequest, result);
+		return executeCommand(redisRequest);
 	}
 
 	/**
@@ -147,14 +121,6 @@ public class RedisHsetService extends BaseService {
 
 		logger.info("Json request " + REDIS_COMMAND + " command with key at URL " + redisRequest.toString());
 
-		RedisCommandExecuteResult result = null;
-		try {
-			result = executeCommand(redisRequest);
-		} catch (Exception e) {
-			logger.error("Can not execute redis command ", e);
-			return buildResponse(ResponseCode.UNKNOWN_ERROR, redisRequest);
-		}
-
-		return buildResponse(redisRequest, result);
+		return executeCommand(redisRequest);
 	}
 }
@@ -0,0 +1,97 @@
+
+package com.github.armedis.http.service.management;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.armedis.http.service.BaseService;
+import com.github.armedis.http.service.ResponseCode;
+import com.github.armedis.redis.bigkey.BigKey;
+import com.github.armedis.redis.bigkey.BigKeyReport;
+import com.github.armedis.redis.bigkey.BigKeyScanner;
+import com.github.armedis.redis.command.RedisRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.server.annotation.Default;
+import com.linecorp.armeria.server.annotation.Get;
+import com.linecorp.armeria.server.annotation.Param;
+import com.linecorp.armeria.server.annotation.Path;
+import com.linecorp.armeria.server.annotation.Post;
+
+/**
+ * Big keys of every master node.
+ * 
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisBigKeyService extends BaseService {
+	private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+	private static final String COMMAND_URL = "/v1/management/bigkeys";
+
+	@Autowired
+	private BigKeyScanner bigKeyScanner;
+
+	private ObjectMapper mapper = new ObjectMapper();
+
+	/**
+	 * @param node host:port, every node if empty
+	 * @param type string, hash, list, set, zset, stream. every type if empty
+	 * @param top  count of keys
+	 * @return json of scan status of each node and biggest keys
+	 */
+	@Get
+	@Path(COMMAND_URL)
+	public HttpResponse bigKeys(@Param("node") @Default("") String node, @Param("type") @Default("") String type,
+			@Param("top") @Default("20") int top) {
+		try {
+			List<BigKey> bigKeys = bigKeyScanner.top(node, type, top);
+			List<BigKeyReport> reports = bigKeyScanner.getReports();
+
+			Map<String, Object> result = new LinkedHashMap<>();
+			result.put("running", bigKeyScanner.isRunning());
+			result.put("scans", reports.stream().map(RedisBigKeyService::scanStatus).toList());
+			result.put("keys", bigKeys);
+
+			return buildStatResponse(ResponseCode.SUCCESS, mapper.writeValueAsString(result));
+		} catch (Exception e) {
+			logger.error("Can not read big keys ", e);
+			return buildResponse(ResponseCode.UNKNOWN_ERROR, (RedisRequest) null);
+		}
+	}
+
+	/**
+	 * Start scan now, ignored when scan is running.
+	 * @return json of started
+	 */
+	@Post
+	@Path(COMMAND_URL)
+	public HttpResponse scan() {
+		try {
+			boolean started = bigKeyScanner.scan();
+
+			return buildStatResponse(ResponseCode.SUCCESS, mapper.writeValueAsString(Map.of("started", started)));
+		} catch (Exception e) {
+			logger.error("Can not start big key scan ", e);
+			return buildResponse(ResponseCode.UNKNOWN_ERROR, (RedisRequest) null);
+		}
+	}
+
+	private static Map<String, Object> scanStatus(BigKeyReport report) {
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("node", report.getNode());
+		status.put("status", report.getStatus());
+		status.put("scannedKeys", report.getScannedKeys());
+		status.put("startedAt", report.getStartedAt());
+		status.put("finishedAt", report.getFinishedAt());
+
+		return status;
+	}
+}
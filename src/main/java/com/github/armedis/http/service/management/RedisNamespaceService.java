@@ -0,0 +1,96 @@
+
+package com.github.armedis.http.service.management;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.armedis.http.service.BaseService;
+import com.github.armedis.http.service.ResponseCode;
+import com.github.armedis.redis.command.RedisRequest;
+import com.github.armedis.redis.namespace.NamespaceEstimate;
+import com.github.armedis.redis.namespace.NamespaceReport;
+import com.github.armedis.redis.namespace.NamespaceSampler;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.server.annotation.Default;
+import com.linecorp.armeria.server.annotation.Get;
+import com.linecorp.armeria.server.annotation.Param;
+import com.linecorp.armeria.server.annotation.Path;
+import com.linecorp.armeria.server.annotation.Post;
+
+/**
+ * Estimated memory of key namespaces of every master node.
+ * 
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisNamespaceService extends BaseService {
+	private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+	private static final String COMMAND_URL = "/v1/management/namespaces";
+
+	@Autowired
+	private NamespaceSampler namespaceSampler;
+
+	private ObjectMapper mapper = new ObjectMapper();
+
+	/**
+	 * @param node host:port, sum of every node if empty
+	 * @param top  count of namespaces
+	 * @return json of sampling status of each node and namespaces by descending memory
+	 */
+	@Get
+	@Path(COMMAND_URL)
+	public HttpResponse namespaces(@Param("node") @Default("") String node, @Param("top") @Default("50") int top) {
+		try {
+			List<NamespaceEstimate> estimates = namespaceSampler.estimates(node, top);
+			List<NamespaceReport> reports = namespaceSampler.getReports();
+
+			Map<String, Object> result = new LinkedHashMap<>();
+			result.put("running", namespaceSampler.isRunning());
+			result.put("samplings", reports.stream().map(RedisNamespaceService::samplingStatus).toList());
+			result.put("namespaces", estimates);
+
+			return buildStatResponse(ResponseCode.SUCCESS, mapper.writeValueAsString(result));
+		} catch (Exception e) {
+			logger.error("Can not read namespace estimates ", e);
+			return buildResponse(ResponseCode.UNKNOWN_ERROR, (RedisRequest) null);
+		}
+	}
+
+	/**
+	 * Start sampling now, ignored when sampling is running.
+	 * @return json of started
+	 */
+	@Post
+	@Path(COMMAND_URL)
+	public HttpResponse sample() {
+		try {
+			boolean started = namespaceSampler.sample();
+
+			return buildStatResponse(ResponseCode.SUCCESS, mapper.writeValueAsString(Map.of("started", started)));
+		} catch (Exception e) {
+			logger.error("Can not start namespace sampling ", e);
+			return buildResponse(ResponseCode.UNKNOWN_ERROR, (RedisRequest) null);
+		}
+	}
+
+	private static Map<String, Object> samplingStatus(NamespaceReport report) {
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("node", report.getNode());
+		status.put("status", report.getStatus());
+		status.put("dbSize", report.getDbSize());
+		status.put("samples", report.getSamples());
+		status.put("startedAt", report.getStartedAt());
+		status.put("finishedAt", report.getFinishedAt());
+
+		return status;
+	}
+}
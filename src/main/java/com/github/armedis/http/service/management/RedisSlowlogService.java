@@ -0,0 +1,60 @@
+
+package com.github.armedis.http.service.management;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.armedis.http.service.BaseService;
+import com.github.armedis.http.service.ResponseCode;
+import com.github.armedis.redis.command.RedisRequest;
+import com.github.armedis.redis.slowlog.SlowlogHarvester;
+import com.github.armedis.redis.slowlog.SlowlogShapeStats;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.server.annotation.Default;
+import com.linecorp.armeria.server.annotation.Get;
+import com.linecorp.armeria.server.annotation.Param;
+import com.linecorp.armeria.server.annotation.Path;
+
+/**
+ * Slow command shapes of every node.
+ * 
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisSlowlogService extends BaseService {
+	private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+	private static final String COMMAND_URL = "/v1/management/slowlog";
+
+	@Autowired
+	private SlowlogHarvester slowlogHarvester;
+
+	private ObjectMapper mapper = new ObjectMapper();
+
+	/**
+	 * @param sort count, total(duration), max, p99
+	 * @param top  count of shapes
+	 * @return json array of command shapes
+	 */
+	@Get
+	@Path(COMMAND_URL)
+	public HttpResponse slowlog(@Param("sort") @Default("total") String sort, @Param("top") @Default("20") int top) {
+		try {
+			List<SlowlogShapeStats> shapes = slowlogHarvester.top(sort, top);
+
+			return buildStatResponse(ResponseCode.SUCCESS, mapper.writeValueAsString(shapes));
+		} catch (IllegalArgumentException e) {
+			logger.warn("Invalid slowlog request " + e.getMessage());
+			return buildResponse(ResponseCode.REQUEST_FIELD_ERROR, (RedisRequest) null);
+		} catch (Exception e) {
+			logger.error("Can not read slowlog ", e);
+			return buildResponse(ResponseCode.UNKNOWN_ERROR, (RedisRequest) null);
+		}
+	}
+}
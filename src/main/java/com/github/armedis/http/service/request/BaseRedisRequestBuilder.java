@@ -2,6 +2,8 @@
 package com.github.armedis.http.service.request;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.armedis.redis.command.RedisRequest;
+import com.linecorp.armeria.common.AggregatedHttpRequest;
 
 public abstract class BaseRedisRequestBuilder implements RedisRequestBuilder {
     private String command;
@@ -23,4 +25,15 @@ public abstract class BaseRedisRequestBuilder implements RedisRequestBuilder {
         return node.asText();
     }
 
+    /**
+     * Http request is used only for request method, built {@link RedisRequest} does not keep it.
+     * @param redisRequest
+     * @param httpRequest
+     */
+    protected void setRequestMethod(RedisRequest redisRequest, AggregatedHttpRequest httpRequest) {
+        if (httpRequest != null) {
+            redisRequest.setRequestMethod(httpRequest.method().toString());
+        }
+    }
+
 }
@@ -2,6 +2,7 @@
 package com.github.armedis.http.service.request;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.armedis.redis.command.RedisRequest;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 
 public interface RedisRequestBuilder {
@@ -5,8 +5,8 @@ import java.util.Optional;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.armedis.http.service.request.BaseRedisRequestBuilder;
-import com.github.armedis.http.service.request.RedisRequest;
 import com.github.armedis.redis.command.RedisGetRequest;
+import com.github.armedis.redis.command.RedisRequest;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 
 /**
@@ -27,7 +27,8 @@ public class RedisGetRequestBuilder extends BaseRedisRequestBuilder {
 
     @Override
     public RedisRequest build(AggregatedHttpRequest httpRequest, JsonNode jsonBody, String key) {
-        RedisGetRequest redisRequest = new RedisGetRequest(httpRequest);
+        RedisGetRequest redisRequest = new RedisGetRequest();
+        setRequestMethod(redisRequest, httpRequest);
         redisRequest.setKey(Optional.of(key));
 
         return redisRequest;
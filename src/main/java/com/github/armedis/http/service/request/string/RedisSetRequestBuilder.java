@@ -5,7 +5,7 @@ import java.util.Optional;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.armedis.http.service.request.BaseRedisRequestBuilder;
-import com.github.armedis.http.service.request.RedisRequest;
+import com.github.armedis.redis.command.RedisRequest;
 import com.github.armedis.redis.command.RedisSetRequest;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 
@@ -27,7 +27,8 @@ public class RedisSetRequestBuilder extends BaseRedisRequestBuilder {
 
     @Override
     public RedisRequest build(AggregatedHttpRequest httpRequest, JsonNode jsonBody, String key) {
-        RedisSetRequest redisRequest = new RedisSetRequest(httpRequest);
+        RedisSetRequest redisRequest = new RedisSetRequest();
+        setRequestMethod(redisRequest, httpRequest);
         redisRequest.setKey(Optional.of(key));
 
         JsonNode node = jsonBody.get("value");
@@ -7,7 +7,7 @@ import org.springframework.stereotype.Component;
 
 import com.github.armedis.http.service.BaseService;
 import com.github.armedis.http.service.ServiceUrl;
-import com.github.armedis.http.service.request.RedisRequest;
+import com.github.armedis.redis.command.RedisRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.server.annotation.Get;
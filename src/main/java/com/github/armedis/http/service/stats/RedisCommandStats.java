@@ -0,0 +1,87 @@
+package com.github.armedis.http.service.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.redis.info.CommandStat;
+import com.github.armedis.redis.info.LatencyStat;
+import com.github.armedis.redis.info.RedisInfoVo;
+
+/**
+ * Top commands of last polling tick from commandstats and latencystats.<br/>
+ * Values are cumulative since node start, latency percentiles are null before redis 7.
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisCommandStats {
+    private volatile RedisStatsInfo lastStatsInfo;
+
+    /**
+     * @param redisStatsInfo stats of polling tick
+     */
+    public void update(RedisStatsInfo redisStatsInfo) {
+        this.lastStatsInfo = redisStatsInfo;
+    }
+
+    /**
+     * @param node node id or sum
+     * @param sort usec, calls, usecPerCall, failedCalls, rejectedCalls or p99
+     * @param limit max count of commands
+     * @return commands by descending order of sort, empty if node is unknown.
+     */
+    public List<CommandRank> top(String node, String sort, int limit) {
+        Comparator<CommandRank> comparator = comparator(sort);
+        if (comparator == null) {
+            throw new IllegalArgumentException("Unknown sort " + sort);
+        }
+
+        RedisStatsInfo redisStatsInfo = lastStatsInfo;
+        RedisInfoVo redisInfo = redisStatsInfo == null ? null : redisStatsInfo.getRedisInfoList().get(node);
+        if (redisInfo == null || redisInfo.getCommandstats() == null) {
+            return new ArrayList<>();
+        }
+
+        Map<String, LatencyStat> latencystats = redisInfo.getLatencystats();
+
+        List<CommandRank> ranks = new ArrayList<>();
+        for (Entry<String, CommandStat> item : redisInfo.getCommandstats().entrySet()) {
+            LatencyStat latency = latencystats == null ? null : latencystats.get(item.getKey());
+            ranks.add(CommandRank.of(item.getKey(), item.getValue(), latency));
+        }
+
+        ranks.sort(comparator.reversed());
+
+        return ranks.subList(0, Math.min(Math.max(limit, 0), ranks.size()));
+    }
+
+    private static Comparator<CommandRank> comparator(String sort) {
+        return switch (sort) {
+            case "usec" -> Comparator.comparingLong(CommandRank::usec);
+            case "calls" -> Comparator.comparingLong(CommandRank::calls);
+            case "usecPerCall" -> Comparator.comparingDouble(CommandRank::usecPerCall);
+            case "failedCalls" -> Comparator.comparingLong(CommandRank::failedCalls);
+            case "rejectedCalls" -> Comparator.comparingLong(CommandRank::rejectedCalls);
+            case "p99" -> Comparator.comparingDouble(rank -> rank.p99() == null ? -1 : rank.p99());
+            default -> null;
+        };
+    }
+
+    /**
+     * One command of ranking.
+     */
+    public record CommandRank(String command, long calls, long usec, double usecPerCall, long rejectedCalls,
+            long failedCalls, Double p50, Double p99, Double p999) {
+        static CommandRank of(String command, CommandStat commandStat, LatencyStat latency) {
+            return new CommandRank(command, commandStat.getCalls(), commandStat.getUsec(),
+                    commandStat.getUsecPerCall(), commandStat.getRejectedCalls(), commandStat.getFailedCalls(),
+                    latency == null ? null : latency.getP50(), latency == null ? null : latency.getP99(),
+                    latency == null ? null : latency.getP999());
+        }
+    }
+}
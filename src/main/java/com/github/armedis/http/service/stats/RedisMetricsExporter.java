@@ -0,0 +1,211 @@
+package com.github.armedis.http.service.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.redis.info.RedisInfoVo;
+import com.github.armedis.redis.info.StatsBaseVo;
+import com.github.armedis.redis.info.StatsFields;
+import com.google.common.base.CaseFormat;
+
+/**
+ * Prometheus text exposition(0.0.4) of redis INFO metrics.<br/>
+ * Text is rendered once per polling tick, every scrape returns the same rendered text.
+ * <pre>
+ * redis_stats_instantaneous_ops_per_sec{node="10.0.0.1:7001",role="master",shard="e8505ab3..."} 85000
+ * </pre>
+ * Sum row is not exported, and stale node is exported only by armedis_stats_node_stale.
+ * Derived rates are exported as redis_rate_* per node and redis_cluster_rate_* for cluster.
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisMetricsExporter {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final String[] SECTIONS = { "server", "clients", "memory", "persistence", "stats", "replication",
+            "cpu", "errorstats" };
+
+    // metric families of sections, created once.
+    private final List<MetricFamily> families = new ArrayList<>();
+
+    private volatile String rendered = "";
+
+    public RedisMetricsExporter() {
+        for (String section : SECTIONS) {
+            StatsFields fields = StatsFields.of(RedisInfoVo.sectionType(section));
+
+            for (String field : fields.names()) {
+                families.add(new MetricFamily(section, field,
+                        "redis_" + section + "_" + CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, field)));
+            }
+        }
+    }
+
+    /**
+     * @return rendered text of last tick
+     */
+    public String getRendered() {
+        return rendered;
+    }
+
+    /**
+     * Render metrics of tick.
+     * @param redisStatsInfo
+     * @param pollNanos elapsed time of polling
+     */
+    public void render(RedisStatsInfo redisStatsInfo, long pollNanos) {
+        List<ExportNode> nodes = new ArrayList<>();
+        for (Entry<String, RedisInfoVo> item : redisStatsInfo.getRedisInfoList().entrySet()) {
+            String node = item.getKey();
+            if (node.equals("sum") || redisStatsInfo.getStaleNodes().contains(node)) {
+                continue;
+            }
+
+            nodes.add(new ExportNode(node, item.getValue(), labels(node, item.getValue(), redisStatsInfo.getShard(node))));
+        }
+
+        nodes.sort((left, right) -> left.labels().compareTo(right.labels()));
+
+        StringBuilder builder = new StringBuilder(64 * 1024);
+
+        for (MetricFamily family : families) {
+            family.writeHeader(builder);
+
+            for (ExportNode node : nodes) {
+                StatsBaseVo section = node.redisInfo().section(family.section());
+                if (section == null) {
+                    continue;
+                }
+
+                double value = StatsFields.of(section.getClass()).get(section, family.field());
+                writeSample(builder, family.name(), node.labels(), value);
+            }
+        }
+
+        writeKeyspace(builder, nodes);
+        writeRates(builder, redisStatsInfo, nodes);
+        writeInternals(builder, redisStatsInfo, pollNanos);
+
+        rendered = builder.toString();
+    }
+
+    private void writeKeyspace(StringBuilder builder, List<ExportNode> nodes) {
+        String[] names = { "keys", "expires", "avg_ttl" };
+        for (int i = 0; i < names.length; i++) {
+            String name = "redis_keyspace_" + names[i];
+            builder.append("# TYPE ").append(name).append(" gauge\n");
+
+            for (ExportNode node : nodes) {
+                Map<Integer, ? extends StatsBaseVo> keyspace = node.redisInfo().getKeyspace();
+                if (keyspace == null) {
+                    continue;
+                }
+
+                for (Entry<Integer, ? extends StatsBaseVo> db : keyspace.entrySet()) {
+                    StatsBaseVo keyspaceVo = db.getValue();
+                    double value = StatsFields.of(keyspaceVo.getClass()).get(keyspaceVo,
+                            CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, names[i]));
+
+                    writeSample(builder, name, node.labels() + ",db=\"" + db.getKey() + "\"", value);
+                }
+            }
+        }
+    }
+
+    private void writeRates(StringBuilder builder, RedisStatsInfo redisStatsInfo, List<ExportNode> nodes) {
+        Map<String, RedisRates> rateList = redisStatsInfo.getRateList();
+        if (rateList.isEmpty()) {
+            return;
+        }
+
+        for (String rateName : RedisRates.names()) {
+            String name = "redis_rate_" + CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, rateName);
+            builder.append("# TYPE ").append(name).append(" gauge\n");
+
+            for (ExportNode node : nodes) {
+                RedisRates rates = rateList.get(node.node());
+                if (rates != null) {
+                    writeSample(builder, name, node.labels(), rates.getValues().get(rateName));
+                }
+            }
+        }
+
+        RedisRates clusterRates = rateList.get("sum");
+        if (clusterRates != null) {
+            for (Entry<String, Double> rate : clusterRates.getValues().entrySet()) {
+                String name = "redis_cluster_rate_"
+                        + CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, rate.getKey());
+                builder.append("# TYPE ").append(name).append(" gauge\n");
+                writeSample(builder, name, null, rate.getValue());
+            }
+        }
+    }
+
+    private void writeInternals(StringBuilder builder, RedisStatsInfo redisStatsInfo, long pollNanos) {
+        builder.append("# TYPE armedis_stats_poll_duration_seconds gauge\n");
+        writeSample(builder, "armedis_stats_poll_duration_seconds", null,
+                pollNanos / (double) TimeUnit.SECONDS.toNanos(1));
+
+        builder.append("# TYPE armedis_stats_poll_timestamp_seconds gauge\n");
+        writeSample(builder, "armedis_stats_poll_timestamp_seconds", null, redisStatsInfo.getEpochTime());
+
+        builder.append("# TYPE armedis_stats_node_stale gauge\n");
+        for (String node : redisStatsInfo.getRedisInfoList().keySet()) {
+            if (!node.equals("sum")) {
+                writeSample(builder, "armedis_stats_node_stale", "node=\"" + escape(node) + "\"",
+                        redisStatsInfo.getStaleNodes().contains(node) ? 1 : 0);
+            }
+        }
+    }
+
+    private static String labels(String node, RedisInfoVo redisInfo, String shard) {
+        String role = redisInfo.getReplication() == null ? null : redisInfo.getReplication().getRole();
+
+        return "node=\"" + escape(node) + "\",role=\"" + escape(role == null ? "unknown" : role) + "\",shard=\""
+                + escape(shard == null ? "" : shard) + "\"";
+    }
+
+    private static void writeSample(StringBuilder builder, String name, String labels, double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+
+        builder.append(name);
+        if (labels != null) {
+            builder.append('{').append(labels).append('}');
+        }
+
+        builder.append(' ');
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+            builder.append((long) value);
+        }
+        else {
+            builder.append(value);
+        }
+
+        builder.append('\n');
+    }
+
+    static String escape(String value) {
+        if (value.indexOf('\\') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private record MetricFamily(String section, String field, String name) {
+        void writeHeader(StringBuilder builder) {
+            builder.append("# TYPE ").append(name).append(" untyped\n");
+        }
+    }
+
+    private record ExportNode(String node, RedisInfoVo redisInfo, String labels) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.armedis.http.service.stats;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.redis.info.CPU;
+import com.github.armedis.redis.info.RedisInfoVo;
+import com.github.armedis.redis.info.Server;
+import com.github.armedis.redis.info.Stats;
+
+/**
+ * Derive per second rates of cumulative counters from consecutive polling ticks of each node.<br/>
+ * Counter reset(restarted node) is detected by changed run id, decreased uptime or decreased counter. Rates of
+ * reset interval are calculated from counters since restart.
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisRateDeriver {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    // previous counters of each node.
+    private final Map<String, Snapshot> snapshots = new HashMap<>();
+
+    /**
+     * Put rates of every polled node and cluster("sum") to stats. Stale node and first polled node has no rates.
+     * @param redisStatsInfo
+     */
+    public synchronized void derive(RedisStatsInfo redisStatsInfo) {
+        List<RedisRates> nodeRatesList = new ArrayList<>();
+
+        for (Entry<String, RedisInfoVo> item : redisStatsInfo.getRedisInfoList().entrySet()) {
+            String node = item.getKey();
+            if (node.equals("sum") || redisStatsInfo.getStaleNodes().contains(node)) {
+                continue;
+            }
+
+            Snapshot current = Snapshot.of(item.getValue(), redisStatsInfo.getEpochTime());
+            if (current == null) {
+                continue;
+            }
+
+            Snapshot previous = snapshots.put(node, current);
+            if (previous == null) {
+                continue;
+            }
+
+            RedisRates nodeRates = derive(previous, current);
+            if (nodeRates != null) {
+                if (nodeRates.isReset()) {
+                    logger.info("Counter of " + node + " is reset, rates are calculated from restart.");
+                }
+
+                redisStatsInfo.putRates(node, nodeRates);
+                nodeRatesList.add(nodeRates);
+            }
+        }
+
+        snapshots.keySet().retainAll(redisStatsInfo.getRedisInfoList().keySet());
+
+        if (!nodeRatesList.isEmpty()) {
+            redisStatsInfo.putRates("sum", RedisRates.sum(nodeRatesList));
+        }
+    }
+
+    /**
+     * Restore counters of last tick before restart, so rates of first tick are calculated from restored counters.
+     * @param restored counters of each node
+     */
+    synchronized void restore(Map<String, Snapshot> restored) {
+        for (Entry<String, Snapshot> item : restored.entrySet()) {
+            snapshots.putIfAbsent(item.getKey(), item.getValue());
+        }
+    }
+
+    /**
+     * @param previous
+     * @param current
+     * @return rates of interval, null if interval is not positive.
+     */
+    static RedisRates derive(Snapshot previous, Snapshot current) {
+        boolean reset = !Objects.equals(previous.runId(), current.runId())
+                || current.uptimeSeconds() < previous.uptimeSeconds() || current.cpuSeconds() < previous.cpuSeconds();
+        for (int i = 0; i < current.counters().length && !reset; i++) {
+            reset = current.counters()[i] < previous.counters()[i];
+        }
+
+        double intervalSeconds = (current.timeMicros() - previous.timeMicros()) / (double) MICROS_PER_SECOND;
+        if (reset && current.uptimeSeconds() > 0) {
+            // counters are started from 0 at restart.
+            intervalSeconds = Math.min(intervalSeconds, current.uptimeSeconds());
+        }
+
+        if (intervalSeconds <= 0) {
+            return null;
+        }
+
+        double[] counterRates = new double[current.counters().length];
+        for (int i = 0; i < counterRates.length; i++) {
+            long delta = reset ? current.counters()[i] : current.counters()[i] - previous.counters()[i];
+            counterRates[i] = delta / intervalSeconds;
+        }
+
+        double cpuDelta = reset ? current.cpuSeconds() : current.cpuSeconds() - previous.cpuSeconds();
+
+        return new RedisRates(counterRates, cpuDelta / intervalSeconds, intervalSeconds, reset);
+    }
+
+    /**
+     * Counters of one node at polling tick. Time is server time of INFO, or polling time for old redis.
+     */
+    record Snapshot(String runId, long uptimeSeconds, long timeMicros, long[] counters, double cpuSeconds) {
+        static Snapshot of(RedisInfoVo redisInfo, long epochSecond) {
+            Server server = redisInfo.getServer();
+            Stats stats = redisInfo.getStats();
+            if (server == null || stats == null) {
+                return null;
+            }
+
+            long timeMicros = server.getServerTimeUsec() > 0 ? server.getServerTimeUsec()
+                    : epochSecond * MICROS_PER_SECOND;
+
+            long[] counters = { stats.getTotalCommandsProcessed(), stats.getTotalConnectionsReceived(),
+                    stats.getTotalNetInputBytes(), stats.getTotalNetOutputBytes(), stats.getExpiredKeys(),
+                    stats.getEvictedKeys(), stats.getKeyspaceHits(), stats.getKeyspaceMisses(),
+                    stats.getTotalErrorReplies() };
+
+            CPU cpu = redisInfo.getCpu();
+            double cpuSeconds = cpu == null ? 0 : cpu.getUsedCpuSys() + cpu.getUsedCpuUser();
+
+            return new Snapshot(server.getRunId(), server.getUptimeInSeconds(), timeMicros, counters, cpuSeconds);
+        }
+    }
+}
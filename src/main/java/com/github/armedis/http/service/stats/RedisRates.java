@@ -0,0 +1,163 @@
+package com.github.armedis.http.service.stats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Per second rates of cumulative INFO counters between two polling ticks.<br/>
+ * Cpu utilization is used cpu seconds(sys + user) per second, 1.0 is one core fully used.
+ * Hit ratio is null when there is no keyspace hit and miss in the interval.
+ * @author krisjey
+ *
+ */
+public class RedisRates {
+    // counter rates, same order as RedisRateDeriver counters.
+    static final String[] COUNTER_NAMES = { "commandsPerSec", "connectionsPerSec", "netInputBytesPerSec",
+            "netOutputBytesPerSec", "expiredKeysPerSec", "evictedKeysPerSec", "keyspaceHitsPerSec",
+            "keyspaceMissesPerSec", "errorRepliesPerSec" };
+
+    static final int HITS = 6;
+
+    static final int MISSES = 7;
+
+    private static final List<String> NAMES = names(COUNTER_NAMES, "hitRatio", "cpuUtilization");
+
+    private final double[] counterRates;
+
+    private final double cpuUtilization;
+
+    private final double intervalSeconds;
+
+    private final boolean reset;
+
+    RedisRates(double[] counterRates, double cpuUtilization, double intervalSeconds, boolean reset) {
+        this.counterRates = counterRates;
+        this.cpuUtilization = cpuUtilization;
+        this.intervalSeconds = intervalSeconds;
+        this.reset = reset;
+    }
+
+    private static List<String> names(String[] counterNames, String... names) {
+        List<String> allNames = new ArrayList<>(Arrays.asList(counterNames));
+        allNames.addAll(Arrays.asList(names));
+
+        return Collections.unmodifiableList(allNames);
+    }
+
+    /**
+     * @return names of {@link #getValues()}
+     */
+    static List<String> names() {
+        return NAMES;
+    }
+
+    /**
+     * Sum of node rates. Hit ratio of sum is calculated from summed hits and misses.
+     * @param rates
+     * @return cluster rates
+     */
+    static RedisRates sum(Iterable<RedisRates> rates) {
+        double[] counterRates = new double[COUNTER_NAMES.length];
+        double cpuUtilization = 0;
+        double intervalSeconds = 0;
+        boolean reset = false;
+
+        for (RedisRates nodeRates : rates) {
+            for (int i = 0; i < counterRates.length; i++) {
+                counterRates[i] += nodeRates.counterRates[i];
+            }
+
+            cpuUtilization += nodeRates.cpuUtilization;
+            intervalSeconds = Math.max(intervalSeconds, nodeRates.intervalSeconds);
+            reset |= nodeRates.reset;
+        }
+
+        return new RedisRates(counterRates, cpuUtilization, intervalSeconds, reset);
+    }
+
+    public double getCommandsPerSec() {
+        return counterRates[0];
+    }
+
+    public double getConnectionsPerSec() {
+        return counterRates[1];
+    }
+
+    public double getNetInputBytesPerSec() {
+        return counterRates[2];
+    }
+
+    public double getNetOutputBytesPerSec() {
+        return counterRates[3];
+    }
+
+    public double getExpiredKeysPerSec() {
+        return counterRates[4];
+    }
+
+    public double getEvictedKeysPerSec() {
+        return counterRates[5];
+    }
+
+    public double getKeyspaceHitsPerSec() {
+        return counterRates[HITS];
+    }
+
+    public double getKeyspaceMissesPerSec() {
+        return counterRates[MISSES];
+    }
+
+    public double getErrorRepliesPerSec() {
+        return counterRates[8];
+    }
+
+    /**
+     * @return hits / (hits + misses) of interval, null if no lookup.
+     */
+    public Double getHitRatio() {
+        double lookups = counterRates[HITS] + counterRates[MISSES];
+        if (lookups <= 0) {
+            return null;
+        }
+
+        return counterRates[HITS] / lookups;
+    }
+
+    public double getCpuUtilization() {
+        return cpuUtilization;
+    }
+
+    public double getIntervalSeconds() {
+        return intervalSeconds;
+    }
+
+    /**
+     * @return true if counter is reset(restarted node) in interval.
+     */
+    public boolean isReset() {
+        return reset;
+    }
+
+    /**
+     * @return every rate by name, absent hit ratio is NaN.
+     */
+    @JsonIgnore
+    public Map<String, Double> getValues() {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (int i = 0; i < COUNTER_NAMES.length; i++) {
+            values.put(COUNTER_NAMES[i], counterRates[i]);
+        }
+
+        Double hitRatio = getHitRatio();
+        values.put("hitRatio", hitRatio == null ? Double.NaN : hitRatio);
+        values.put("cpuUtilization", cpuUtilization);
+
+        return values;
+    }
+}
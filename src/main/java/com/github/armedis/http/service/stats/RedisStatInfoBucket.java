@@ -1,16 +1,15 @@
 package com.github.armedis.http.service.stats;
 
-import java.io.IOException;
-import java.io.StringReader;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.collections4.queue.CircularFifoQueue;
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,17 +20,16 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.annotation.JsonInclude.Include;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import com.github.armedis.config.ArmedisConfiguration;
-import com.github.armedis.redis.connection.pool.RedisConnectionPool;
+import com.github.armedis.http.service.stats.series.MetricSeriesStore;
+import com.github.armedis.redis.RedisNode;
+import com.github.armedis.redis.connection.RedisNodeConnectionRegistry;
+import com.github.armedis.redis.info.CommandStat;
+import com.github.armedis.redis.info.LatencyStat;
 import com.github.armedis.redis.info.RedisInfoVo;
-import com.github.armedis.redis.info.ReflectionManipulator;
-import com.github.armedis.redis.info.StatsBaseVo;
-
-import io.lettuce.core.api.StatefulRedisConnection;
-import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import com.github.armedis.redis.info.StatsAccumulator;
+import com.github.armedis.redis.topology.RedisTopologyService;
+import com.github.armedis.redis.topology.TopologyNode;
 
 /**
  * Redis cluster node status info command result --> redis status
@@ -42,41 +40,42 @@ import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 public class RedisStatInfoBucket {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    private CircularFifoQueue<RedisStatsInfo> redisStatsInfoList = new CircularFifoQueue<>(10);
+    @Autowired
+    private ArmedisConfiguration armedisConfiguration;
 
-    private List<RedisClusterNodeInfo> redisNodeInfoList;
+    @Autowired
+    private RedisStatsStream redisStatsStream;
 
+    // stats connections, not data connection pool.
     @Autowired
-    private ArmedisConfiguration armedisConfiguration;
+    private RedisNodeConnectionRegistry connectionRegistry;
 
-    private ObjectMapper mapper = configMapper();
+    @Autowired
+    private RedisTopologyService redisTopologyService;
 
     @Autowired
-    private RedisConnectionPool<String, String> redisConnectionPool;
+    private MetricSeriesStore metricSeriesStore;
 
-    public String getStats() {
-        String stats = null;
-        try {
-            stats = mapper.writeValueAsString(redisStatsInfoList);
-        }
-        catch (Exception e) {
-            e.printStackTrace();
-        }
+    @Autowired
+    private RedisMetricsExporter redisMetricsExporter;
 
-        return stats;
-    }
+    @Autowired
+    private RedisRateDeriver redisRateDeriver;
+
+    @Autowired
+    private RedisStatsHistory redisStatsHistory;
+
+    @Autowired
+    private RedisCommandStats redisCommandStats;
+
+    // last successful INFO of each node, used when node is stale.
+    private Map<String, RedisInfoVo> lastRedisInfoList = new HashMap<>();
 
     /**
-     * @return
+     * @return json array of recent stats
      */
-    private ObjectMapper configMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        // This option increases the response data size.
-        mapper.configure(SerializationFeature.INDENT_OUTPUT, true);
-        mapper.setSerializationInclusion(Include.ALWAYS);
-        mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
-
-        return mapper;
+    public String getStats() {
+        return redisStatsStream.getStats(0);
     }
 
     @Bean
@@ -104,325 +103,158 @@ public class RedisStatInfoBucket {
          * per sec, every node RedisInfoVo 3.
          */
         ZonedDateTime currentTime = ZonedDateTime.now(ZoneId.systemDefault());
+        long pollStartNanos = System.nanoTime();
 
-        String clusterNodes = getClusterNodesCommandResult(redisConnectionPool);
-        redisNodeInfoList = convertNodeInfoList(clusterNodes);
+        // topology snapshot is refreshed by topology service, not by CLUSTER NODES of every tick.
+        List<TopologyNode> topologyNodes = redisTopologyService.getSnapshot().getNodes();
+        if (topologyNodes.isEmpty()) {
+            logger.warn("Can not find redis nodes, skip stat polling.");
+            return;
+        }
+
+        // send info command to every node at once, each node is bounded by timeout.
+        long timeoutMillis = armedisConfiguration.getStatPollTimeoutMillis();
+        Map<TopologyNode, CompletableFuture<String>> infoFutures = new LinkedHashMap<>();
+        for (TopologyNode topologyNode : topologyNodes) {
+            RedisNode redisNode = new RedisNode(topologyNode.host(), topologyNode.port());
+            infoFutures.put(topologyNode, requestInfo(redisNode, timeoutMillis));
+        }
+
+        // never blocked over timeout, every future is completed by orTimeout.
+        CompletableFuture.allOf(infoFutures.values().toArray(new CompletableFuture<?>[0]))
+                .handle((result, e) -> null)
+                .join();
 
         RedisStatsInfo redisStatsInfo = new RedisStatsInfo(currentTime);
 
         String info = null;
         String dummyNodeIp = null;
+        String dummyNodeId = null;
 
         // statsInfo
-        for (RedisClusterNodeInfo redisNodeInfo : redisNodeInfoList) {
-            try {
-                StatefulRedisClusterConnection<String, String> connection = redisConnectionPool.getClusterConnection();
-                StatefulRedisConnection<String, String> nodeConnection = connection.getConnection(redisNodeInfo.id());
+        for (Entry<TopologyNode, CompletableFuture<String>> infoFuture : infoFutures.entrySet()) {
+            TopologyNode topologyNode = infoFuture.getKey();
+            String redisInfoId = topologyNode.name();
+            redisStatsInfo.putShard(redisInfoId, topologyNode.shard());
 
-                dummyNodeIp = redisNodeInfo.ip();
-                // send info command
-                info = nodeConnection.sync().info();
-                redisConnectionPool.returnObject(connection);
+            try {
+                String nodeInfo = infoFuture.getValue().join();
 
                 // update stat info
-                RedisInfoVo redisInfo = RedisInfoVo.from(info, armedisConfiguration.isAddContentSection());
+                RedisInfoVo redisInfo = RedisInfoVo.from(nodeInfo, armedisConfiguration.isAddContentSection());
 
-                redisInfo.getServer().setHost(dummyNodeIp);
-                redisInfo.getServer().setTcpPort(redisNodeInfo.listenPort());
+                redisInfo.getServer().setHost(topologyNode.host());
+                redisInfo.getServer().setTcpPort(topologyNode.port());
 
-                printStatPollingLog(redisStatsInfo, redisNodeInfo, redisInfo);
+                printStatPollingLog(redisStatsInfo, topologyNode, redisInfo);
 
-                String redisInfoId = redisInfo.getServer().getHost() + ":" + redisInfo.getServer().getTcpPort();
                 redisStatsInfo.put(redisInfoId, redisInfo);
+                lastRedisInfoList.put(redisInfoId, redisInfo);
+
+                info = nodeInfo;
+                dummyNodeIp = topologyNode.host();
+                dummyNodeId = redisInfoId;
                 // 현재 시간기준(초단위)
             }
             catch (Exception e) {
-                logger.error("Error when parsing info command! ", e);
+                // late or failed node keeps last value and marked stale.
+                RedisInfoVo lastRedisInfo = lastRedisInfoList.get(redisInfoId);
+                if (lastRedisInfo != null) {
+                    redisStatsInfo.put(redisInfoId, lastRedisInfo);
+                }
+
+                redisStatsInfo.addStaleNode(redisInfoId);
+                logger.warn("Stat of " + redisInfoId + " is stale. " + e.getMessage());
             }
         }
 
-        // calculate sum.
-        // Create dummy info object from last data. info object can not create
-        RedisInfoVo sumRedisInfoVo = RedisInfoVo.from(info, armedisConfiguration.isAddContentSection());
-        sumRedisInfoVo.getServer().setHost(dummyNodeIp);
-
-        for (Entry<String, RedisInfoVo> item : redisStatsInfo.getRedisInfoList().entrySet()) {
-            RedisInfoVo redisInfoVo = item.getValue();
+        lastRedisInfoList.keySet().retainAll(redisStatsInfo.getRedisInfoList().keySet());
 
-            accumulateStatValue(sumRedisInfoVo, redisInfoVo);
+        if (info == null) {
+            logger.warn("Every redis node is stale, skip sum of stat.");
         }
+        else {
+            // calculate sum.
+            // Create dummy info object from last data. info object can not create
+            RedisInfoVo sumRedisInfoVo = RedisInfoVo.from(info, armedisConfiguration.isAddContentSection());
+            sumRedisInfoVo.getServer().setHost(dummyNodeIp);
+
+            for (Entry<String, RedisInfoVo> item : redisStatsInfo.getRedisInfoList().entrySet()) {
+                // dummy info already has value of the node.
+                if (item.getKey().equals(dummyNodeId)) {
+                    continue;
+                }
 
-        redisStatsInfo.put("sum", sumRedisInfoVo);
-        logger.info("TOTAL OPS " + sumRedisInfoVo.getStats().getInstantaneousOpsPerSec());
-        if (redisStatsInfoList.isAtFullCapacity()) {
-            redisStatsInfoList.remove();
-        }
+                RedisInfoVo redisInfoVo = item.getValue();
 
-        redisStatsInfoList.add(redisStatsInfo);
-    }
+                accumulateStatValue(sumRedisInfoVo, redisInfoVo);
+            }
 
-    /**
-     * Compare, Sum every Sub VO and then set value to sumVo
-     * @param sumRedisInfoVo
-     * @param redisInfoVo
-     */
-    private void accumulateStatValue(RedisInfoVo sumRedisInfoVo, RedisInfoVo redisInfoVo) {
+            if (sumRedisInfoVo.getCommandstats() != null) {
+                sumRedisInfoVo.getCommandstats().values().forEach(CommandStat::updateUsecPerCall);
+            }
 
-        accumulateStatSubVo(sumRedisInfoVo.getServer(), redisInfoVo.getServer());
-        accumulateStatSubVo(sumRedisInfoVo.getClients(), redisInfoVo.getClients());
-        accumulateStatSubVo(sumRedisInfoVo.getMemory(), redisInfoVo.getMemory());
-        accumulateStatSubVo(sumRedisInfoVo.getPersistence(), redisInfoVo.getPersistence());
-        accumulateStatSubVo(sumRedisInfoVo.getStats(), redisInfoVo.getStats());
-        accumulateStatSubVo(sumRedisInfoVo.getReplication(), redisInfoVo.getReplication());
-        accumulateStatSubVo(sumRedisInfoVo.getCpu(), redisInfoVo.getCpu());
-        accumulateStatSubVo(sumRedisInfoVo.getModules(), redisInfoVo.getModules());
-        accumulateStatSubVo(sumRedisInfoVo.getErrorstats(), redisInfoVo.getErrorstats());
-        accumulateStatSubVo(sumRedisInfoVo.getCluster(), redisInfoVo.getCluster());
-
-//        System.out.println(sumRedisInfoVo.getStats().getInstantaneousInputKbps() + "-" + redisInfoVo.getStats().getInstantaneousInputKbps());
-        // cluster이면 0만 사용.
+            redisStatsInfo.put("sum", sumRedisInfoVo);
+            logger.info("TOTAL OPS " + sumRedisInfoVo.getStats().getInstantaneousOpsPerSec());
+        }
 
-//        keyList = redisInfoVo.getKeyspace().operationKeyList();
-    }
+        redisRateDeriver.derive(redisStatsInfo);
 
-    /**
-     * @param sumRedisInfoVo 
-     * @param baseVo 
-     * 
-     */
-    private void accumulateStatSubVo(StatsBaseVo sumBaseVo, StatsBaseVo baseVo) {
-        Map<String, String> keyList = baseVo.operationKeyList();
-
-        for (Entry<String, String> item : keyList.entrySet()) {
-            String fieldName = item.getKey();
-            String operation = item.getValue();
-
-//            String operation = null;
-//            String dataType = null;
-//            String[] temp = StringUtils.split(operationAndType, '-');
-//            operation = temp[0];
-//            if (temp.length == 2) {
-//                dataType = temp[1];
-//            }
-
-            // 필드명으로 두 클래스의 값 가져와서 비교 후 할당.
-            Object sumValue = ReflectionManipulator.getMethodInvokeResult(sumBaseVo, fieldName);
-            Object targetValue = ReflectionManipulator.getMethodInvokeResult(baseVo, fieldName);
-
-            if (sumValue == null || targetValue == null) {
-                logger.info("[{}] [{}] [{}]", fieldName, sumValue, targetValue);
-            }
+        metricSeriesStore.record(redisStatsInfo);
 
-            switch (operation) {
-                case StatsBaseVo.SUM:
-                    String resultSumValue = calculateSumValue(sumValue, targetValue);
-                    ReflectionManipulator.setFieldValue(sumBaseVo, fieldName, resultSumValue);
-                    break;
-                case StatsBaseVo.CONCAT:
-                    ReflectionManipulator.setFieldValue(sumBaseVo, fieldName, sumValue + "," + targetValue);
-                    break;
-                case StatsBaseVo.DIFF:
-                    String compareValue = diffValue(sumValue, targetValue, fieldName);
-                    ReflectionManipulator.setFieldValue(sumBaseVo, fieldName, compareValue);
-                    break;
-                case StatsBaseVo.EMPTY:
-                    ReflectionManipulator.setFieldValue(sumBaseVo, fieldName, "-");
-                    break;
-                case StatsBaseVo.MAX:
-                    String maxValue = maxValue(sumValue, targetValue);
-                    ReflectionManipulator.setFieldValue(sumBaseVo, fieldName, maxValue);
-                    break;
-                case StatsBaseVo.MIN:
-                    String minValue = minValue(sumValue, targetValue);
-                    ReflectionManipulator.setFieldValue(sumBaseVo, fieldName, minValue);
-                    break;
-
-                default:
-                    break;
-            }
-        }
-    }
+        redisStatsHistory.append(redisStatsInfo);
 
-    /**
-     * @param sumValue
-     * @param targetValue
-     * @return
-     */
-    private String maxValue(Object sumValue, Object targetValue) {
-        String resultSumValue = null;
-        try {
-            if (sumValue instanceof Number && sumValue.getClass().getSimpleName().equals(targetValue.getClass().getSimpleName())) {
-                Number sumValueNumber = (Number) sumValue;
-                Number targetValueNumber = (Number) targetValue;
-
-                Double maxValue = Double.max(sumValueNumber.doubleValue(), targetValueNumber.doubleValue());
-                resultSumValue = maxValue.toString();
-            }
-        }
-        catch (Exception e) {
-            logger.error("Cannot create class {}", sumValue.getClass().getSimpleName(), e);
-        }
+        redisStatsStream.publish(redisStatsInfo);
 
-        return resultSumValue;
-    }
+        redisCommandStats.update(redisStatsInfo);
 
-    /**
-     * @param sumValue
-     * @param targetValue
-     * @return
-     */
-    private String minValue(Object sumValue, Object targetValue) {
-        String resultSumValue = null;
-        try {
-            if (sumValue instanceof Number && sumValue.getClass().getSimpleName().equals(targetValue.getClass().getSimpleName())) {
-                Number sumValueNumber = (Number) sumValue;
-                Number targetValueNumber = (Number) targetValue;
-
-                Double minValue = Double.min(sumValueNumber.doubleValue(), targetValueNumber.doubleValue());
-                resultSumValue = minValue.toString();
-            }
-        }
-        catch (Exception e) {
-            logger.error("Cannot create class {}", sumValue.getClass().getSimpleName(), e);
-        }
+        redisMetricsExporter.render(redisStatsInfo, System.nanoTime() - pollStartNanos);
+    }
 
-        return resultSumValue;
+    // "all" includes commandstats and latencystats which are not in default sections.
+    private CompletableFuture<String> requestInfo(RedisNode redisNode, long timeoutMillis) {
+        return connectionRegistry.getConnectionAsync(redisNode)
+                .thenCompose(connection -> connection.async().info("all"))
+                .toCompletableFuture()
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
     }
 
     /**
-     * If the values are different, add (*) at the end if it is a string, and convert it to a negative number if it is a number.
-     * diffString(*), -123
-     * @param sumValue
-     * @param targetValue
-     * @param fieldName 
-     * @return
+     * Compare, Sum every Sub VO and then set value to sumVo
+     * @param sumRedisInfoVo
+     * @param redisInfoVo
      */
-    private String diffValue(Object sumValue, Object targetValue, String fieldName) {
-        String resultSumValue = null;
-        try {
-            if (sumValue instanceof Number && sumValue.getClass().getSimpleName().equals(targetValue.getClass().getSimpleName())) {
-                Number sumValueNumber = (Number) sumValue;
-                Number targetValueNumber = (Number) targetValue;
-
-                resultSumValue = String.valueOf(targetValue);
-
-                // double, float, int, long, and short
-                switch (sumValue.getClass().getSimpleName()) {
-                    case "Short", "Integer" -> {
-                        if (sumValueNumber.intValue() != targetValueNumber.intValue()) {
-                            resultSumValue = String.valueOf(-targetValueNumber.intValue());
-                        }
-                    }
-                    case "Float" -> {
-                        if (sumValueNumber.floatValue() != targetValueNumber.floatValue())
-                            resultSumValue = String.valueOf(-targetValueNumber.floatValue());
-                    }
-                    case "Double" -> {
-                        if (sumValueNumber.doubleValue() != targetValueNumber.doubleValue()) {
-                            resultSumValue = String.valueOf(-targetValueNumber.doubleValue());
-                        }
-                    }
-                    case "Long" -> {
-                        if (sumValueNumber.longValue() != targetValueNumber.longValue()) {
-                            resultSumValue = String.valueOf(targetValueNumber.longValue());
-                        }
-                    }
-                    default -> resultSumValue = String.format("%d, %d", sumValueNumber, targetValueNumber);
-                }
-            }
-            else {
-                if (sumValue.equals(targetValue)) {
-                    resultSumValue = String.valueOf(targetValue);
-                }
-                else {
-                    resultSumValue = String.valueOf(targetValue) + "(*)";
-                }
-            }
-        }
-        catch (Exception e) {
-            logger.error("Cannot create field [{}], value[{}]", fieldName, sumValue, e);
-        }
+    private void accumulateStatValue(RedisInfoVo sumRedisInfoVo, RedisInfoVo redisInfoVo) {
 
-        return resultSumValue;
-    }
+        StatsAccumulator.accumulate(sumRedisInfoVo.getServer(), redisInfoVo.getServer());
+        StatsAccumulator.accumulate(sumRedisInfoVo.getClients(), redisInfoVo.getClients());
+        StatsAccumulator.accumulate(sumRedisInfoVo.getMemory(), redisInfoVo.getMemory());
+        StatsAccumulator.accumulate(sumRedisInfoVo.getPersistence(), redisInfoVo.getPersistence());
+        StatsAccumulator.accumulate(sumRedisInfoVo.getStats(), redisInfoVo.getStats());
+        StatsAccumulator.accumulate(sumRedisInfoVo.getReplication(), redisInfoVo.getReplication());
+        StatsAccumulator.accumulate(sumRedisInfoVo.getCpu(), redisInfoVo.getCpu());
+        StatsAccumulator.accumulate(sumRedisInfoVo.getModules(), redisInfoVo.getModules());
+        StatsAccumulator.accumulate(sumRedisInfoVo.getErrorstats(), redisInfoVo.getErrorstats());
+        StatsAccumulator.accumulate(sumRedisInfoVo.getCluster(), redisInfoVo.getCluster());
+        StatsAccumulator.accumulateRows(sumRedisInfoVo.getCommandstats(), redisInfoVo.getCommandstats(),
+                CommandStat::new);
+        StatsAccumulator.accumulateRows(sumRedisInfoVo.getLatencystats(), redisInfoVo.getLatencystats(),
+                LatencyStat::new);
 
-    private String calculateSumValue(Object sumValue, Object targetValue) {
-        String resultSumValue = null;
-        try {
-            if (sumValue instanceof Number && sumValue.getClass().getSimpleName().equals(targetValue.getClass().getSimpleName())) {
-                Number sumValueNumber = (Number) sumValue;
-                Number targetValueNumber = (Number) targetValue;
-
-                // double, float, int, long, and short
-                switch (sumValue.getClass().getSimpleName()) {
-                    case "Short", "Integer" -> {
-                        resultSumValue = String.valueOf(sumValueNumber.intValue() + targetValueNumber.intValue());
-                    }
-                    case "Float" -> {
-                        resultSumValue = String.valueOf(sumValueNumber.floatValue() + targetValueNumber.floatValue());
-                    }
-                    case "Double" -> {
-                        resultSumValue = String.valueOf(sumValueNumber.doubleValue() + targetValueNumber.doubleValue());
-                    }
-                    case "Long" -> {
-                        resultSumValue = String.valueOf(sumValueNumber.longValue() + targetValueNumber.longValue());
-                    }
-                    // this is string.
-                    default -> resultSumValue = String.format("%d, %d", sumValueNumber, targetValueNumber);
-                }
-            }
-            else {
-                logger.error("Can not sum {}, {}", sumValue, targetValue);
-            }
-        }
-        catch (Exception e) {
-            logger.error("Cannot create class {}", sumValue.getClass().getSimpleName(), e);
-        }
+        // cluster이면 0만 사용.
 
-        return resultSumValue;
+//        keyList = redisInfoVo.getKeyspace().operationKeyList();
     }
 
     /**
      * 
      * @param redisStatsInfo
-     * @param redisNodeInfo
+     * @param topologyNode
      * @param redisInfo
      */
-    private void printStatPollingLog(RedisStatsInfo redisStatsInfo, RedisClusterNodeInfo redisNodeInfo, RedisInfoVo redisInfo) {
+    private void printStatPollingLog(RedisStatsInfo redisStatsInfo, TopologyNode topologyNode, RedisInfoVo redisInfo) {
         if (armedisConfiguration.isLoggingEnabled()) {
-            logger.info("{}:{} {} {}", redisInfo.getServer().getHost(), redisInfo.getServer().getTcpPort(), redisNodeInfo.id(), redisInfo.toJsonString());
-        }
-    }
-
-    private String getClusterNodesCommandResult(RedisConnectionPool<String, String> redisConnectionPool) {
-        String nodes = null;
-        try {
-            StatefulRedisClusterConnection<String, String> connection = redisConnectionPool.getClusterConnection();
-            nodes = connection.sync().clusterNodes();
-            redisConnectionPool.returnObject(connection);
-        }
-        catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        return nodes;
-    }
-
-    private List<RedisClusterNodeInfo> convertNodeInfoList(String clusterNodes) {
-        List<RedisClusterNodeInfo> redisNodeInfo = new ArrayList<RedisClusterNodeInfo>();
-        try {
-            List<String> nodeInfoStrings = IOUtils.readLines(new StringReader(clusterNodes));
-
-            for (String nodeInfoString : nodeInfoStrings) {
-                RedisClusterNodeInfo nodeInfo = RedisClusterNodeInfoConverter.convert(nodeInfoString);
-
-                redisNodeInfo.add(nodeInfo);
-            }
-        }
-        catch (IOException e) {
-            e.printStackTrace();
+            logger.info("{}:{} {} {}", redisInfo.getServer().getHost(), redisInfo.getServer().getTcpPort(), topologyNode.id(), redisInfo.toJsonString());
         }
-
-        return redisNodeInfo;
     }
 }
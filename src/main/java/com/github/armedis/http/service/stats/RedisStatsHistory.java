@@ -0,0 +1,266 @@
+package com.github.armedis.http.service.stats;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.http.service.stats.RedisRateDeriver.Snapshot;
+import com.github.armedis.http.service.stats.series.MetricSeriesStore;
+import com.github.armedis.http.service.stats.series.SegmentLog;
+import com.github.armedis.http.service.stats.series.SegmentLog.LogRecord;
+import com.github.armedis.redis.info.RedisInfoVo;
+
+/**
+ * Stats history of every tick in append only segment log, restored at startup.<br/>
+ * Tick is kept in binary layout, metric values of series and counters of rates per node.
+ * <pre>
+ *  tick : [metrics hash(int)] [metric count(short)] [node count(short)] [node] [node] ...
+ *  node : [name] [metric values(double)] [has counters(byte)] [run id] [uptime(long)] [time micros(long)]
+ *         [cpu seconds(double)] [counter count(byte)] [counters(long)]
+ * </pre>
+ * Recent window is replayed to time series and rate deriver at startup, so history and rates continue after
+ * restart. Ticks which are already kept in memory mapped series are not replayed to series again.
+ * Older segments are downsampled and deleted after retention.
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisStatsHistory implements DisposableBean {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ArmedisConfiguration armedisConfiguration;
+
+    private final MetricSeriesStore metricSeriesStore;
+
+    private final RedisRateDeriver redisRateDeriver;
+
+    // null when history is disabled.
+    private SegmentLog segmentLog;
+
+    @Autowired
+    public RedisStatsHistory(ArmedisConfiguration armedisConfiguration, MetricSeriesStore metricSeriesStore,
+            RedisRateDeriver redisRateDeriver) {
+        this.armedisConfiguration = armedisConfiguration;
+        this.metricSeriesStore = metricSeriesStore;
+        this.redisRateDeriver = redisRateDeriver;
+
+        String directory = armedisConfiguration.getStatHistoryDirectory();
+        if (StringUtils.isBlank(directory)) {
+            logger.info("Stats history is not kept.");
+            return;
+        }
+
+        try {
+            this.segmentLog = new SegmentLog(Paths.get(directory.trim()),
+                    armedisConfiguration.getStatHistorySegmentBytes());
+            restore(System.currentTimeMillis() / 1000 - armedisConfiguration.getStatHistoryRestoreSeconds());
+        }
+        catch (IOException e) {
+            logger.error("Can not open stats history " + directory + ", history is not kept.", e);
+            this.segmentLog = null;
+        }
+    }
+
+    /**
+     * Replay ticks since from to time series, and counters of last tick to rate deriver.
+     * @param fromEpochSecond
+     */
+    private void restore(long fromEpochSecond) {
+        List<LogRecord> records = segmentLog.read(fromEpochSecond);
+        int metricsHash = metricSeriesStore.getMetrics().hashCode();
+
+        Map<String, Snapshot> lastSnapshots = new HashMap<>();
+        Map<String, Long> seriesEpochSeconds = new HashMap<>();
+        for (LogRecord record : records) {
+            decode(record, metricsHash, lastSnapshots, seriesEpochSeconds);
+        }
+
+        redisRateDeriver.restore(lastSnapshots);
+
+        logger.info("Stats history restored, ticks " + records.size() + ", segments " + segmentLog.getSegmentCount());
+    }
+
+    private void decode(LogRecord record, int metricsHash, Map<String, Snapshot> lastSnapshots,
+            Map<String, Long> seriesEpochSeconds) {
+        ByteBuffer payload = record.payload().duplicate();
+
+        // metric values of other metric config are not replayed.
+        boolean sameMetrics = payload.getInt() == metricsHash;
+        int metricCount = payload.getShort();
+        int nodeCount = payload.getShort();
+
+        for (int i = 0; i < nodeCount; i++) {
+            String node = getString(payload);
+
+            double[] values = new double[metricCount];
+            for (int j = 0; j < metricCount; j++) {
+                values[j] = payload.getDouble();
+            }
+
+            // mapped series already has older tick, replay overwrites average of coarse bucket by partial window.
+            if (sameMetrics && record.epochSecond() > seriesEpochSeconds.computeIfAbsent(node,
+                    metricSeriesStore::getLastEpochSecond)) {
+                metricSeriesStore.record(node, record.epochSecond(), values);
+            }
+
+            if (payload.get() == 1) {
+                String runId = getString(payload);
+                long uptimeSeconds = payload.getLong();
+                long timeMicros = payload.getLong();
+                double cpuSeconds = payload.getDouble();
+
+                long[] counters = new long[payload.get()];
+                for (int j = 0; j < counters.length; j++) {
+                    counters[j] = payload.getLong();
+                }
+
+                lastSnapshots.put(node, new Snapshot(runId, uptimeSeconds, timeMicros, counters, cpuSeconds));
+            }
+        }
+    }
+
+    /**
+     * Append tick. Stale node is not appended.
+     * @param redisStatsInfo
+     */
+    public void append(RedisStatsInfo redisStatsInfo) {
+        if (segmentLog == null) {
+            return;
+        }
+
+        try {
+            segmentLog.append(redisStatsInfo.getEpochTime(), encode(redisStatsInfo));
+        }
+        catch (Exception e) {
+            logger.error("Can not append stats history.", e);
+        }
+    }
+
+    byte[] encode(RedisStatsInfo redisStatsInfo) {
+        List<String> metrics = metricSeriesStore.getMetrics();
+
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        buffer.putInt(metrics.hashCode());
+        buffer.putShort((short) metrics.size());
+
+        int nodeCountPosition = buffer.position();
+        buffer.putShort((short) 0);
+
+        short nodeCount = 0;
+        for (Entry<String, RedisInfoVo> item : redisStatsInfo.getRedisInfoList().entrySet()) {
+            String node = item.getKey();
+            if (redisStatsInfo.getStaleNodes().contains(node)) {
+                continue;
+            }
+
+            Snapshot snapshot = node.equals("sum") ? null
+                    : Snapshot.of(item.getValue(), redisStatsInfo.getEpochTime());
+
+            byte[] name = node.getBytes(StandardCharsets.UTF_8);
+            byte[] runId = snapshot == null || snapshot.runId() == null ? null
+                    : snapshot.runId().getBytes(StandardCharsets.UTF_8);
+            int nodeBytes = 2 + name.length + metrics.size() * Double.BYTES + 1 + 2 + (runId == null ? 0 : runId.length)
+                    + 2 * Long.BYTES + Double.BYTES + 1 + (snapshot == null ? 0 : snapshot.counters().length)
+                            * Long.BYTES;
+            buffer = ensure(buffer, nodeBytes);
+
+            putBytes(buffer, name);
+            for (double value : metricSeriesStore.values(item.getValue())) {
+                buffer.putDouble(value);
+            }
+
+            if (snapshot == null) {
+                buffer.put((byte) 0);
+            }
+            else {
+                buffer.put((byte) 1);
+                putBytes(buffer, runId);
+                buffer.putLong(snapshot.uptimeSeconds());
+                buffer.putLong(snapshot.timeMicros());
+                buffer.putDouble(snapshot.cpuSeconds());
+                buffer.put((byte) snapshot.counters().length);
+                for (long counter : snapshot.counters()) {
+                    buffer.putLong(counter);
+                }
+            }
+
+            nodeCount++;
+        }
+
+        buffer.putShort(nodeCountPosition, nodeCount);
+
+        byte[] payload = new byte[buffer.position()];
+        buffer.flip().get(payload);
+
+        return payload;
+    }
+
+    private static ByteBuffer ensure(ByteBuffer buffer, int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return buffer;
+        }
+
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+        return larger.put(buffer.flip());
+    }
+
+    // null is length -1.
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putShort((short) -1);
+        }
+        else {
+            buffer.putShort((short) bytes.length).put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Scheduled(fixedDelayString = "${server.config.stat.history.compactMillis:60000}")
+    public void compact() {
+        if (segmentLog == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis() / 1000;
+        try {
+            segmentLog.compact(now - armedisConfiguration.getStatHistoryRestoreSeconds(),
+                    armedisConfiguration.getStatHistoryCompactStepSeconds(),
+                    now - armedisConfiguration.getStatHistoryRetentionSeconds());
+        }
+        catch (IOException e) {
+            logger.error("Can not compact stats history.", e);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (segmentLog != null) {
+            segmentLog.close();
+        }
+    }
+}
@@ -7,7 +7,10 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.github.armedis.redis.info.RedisInfoVo;
 
 /**
@@ -17,6 +20,13 @@ public class RedisStatsInfo {
 	private Long epochTime;
 	private String formatedEpochTime;
 	private Map<String, RedisInfoVo> redisInfoList = new HashMap<>();
+	// node id which is not responded in time, value of the node is last polled value.
+	private Set<String> staleNodes = new TreeSet<>();
+	// node id to shard(master node id) of cluster.
+	@JsonIgnore
+	private Map<String, String> shardList = new HashMap<>();
+	// per second rates of node id and cluster(sum), absent until node is polled twice.
+	private Map<String, RedisRates> rateList = new HashMap<>();
 
 	public RedisStatsInfo(ZonedDateTime currentTime) {
 		epochTime = currentTime.toEpochSecond();
@@ -63,5 +73,51 @@ public class RedisStatsInfo {
 		return redisInfoList;
 	}
 
+	/**
+	 * @param redisInfoId
+	 */
+	public void addStaleNode(String redisInfoId) {
+		staleNodes.add(redisInfoId);
+	}
+
+	/**
+	 * @return the staleNodes
+	 */
+	public Set<String> getStaleNodes() {
+		return staleNodes;
+	}
+
+	/**
+	 * @param redisInfoId
+	 * @param shard master node id of cluster
+	 */
+	public void putShard(String redisInfoId, String shard) {
+		shardList.put(redisInfoId, shard);
+	}
+
+	/**
+	 * @param redisInfoId
+	 * @return master node id of node, null if unknown.
+	 */
+	@JsonIgnore
+	public String getShard(String redisInfoId) {
+		return shardList.get(redisInfoId);
+	}
+
+	/**
+	 * @param redisInfoId node id or sum
+	 * @param rates
+	 */
+	public void putRates(String redisInfoId, RedisRates rates) {
+		rateList.put(redisInfoId, rates);
+	}
+
+	/**
+	 * @return the rateList
+	 */
+	public Map<String, RedisRates> getRateList() {
+		return rateList;
+	}
+
 //	private String
 }
@@ -1,17 +1,35 @@
 
 package com.github.armedis.http.service.stats;
 
+import java.time.Instant;
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.armedis.config.ArmedisConfiguration;
 import com.github.armedis.http.service.BaseService;
 import com.github.armedis.http.service.ResponseCode;
 import com.github.armedis.http.service.ServiceUrl;
+import com.github.armedis.http.service.stats.series.MetricSeriesStore;
+import com.github.armedis.http.service.stats.series.SeriesPoints;
+import com.github.armedis.http.service.stats.series.SeriesResolution;
+import com.github.armedis.redis.command.RedisRequest;
+import com.github.armedis.redis.hotkey.HotKey;
+import com.github.armedis.redis.hotkey.HotKeySampler;
+import com.github.armedis.redis.latency.LatencyEvent;
+import com.github.armedis.redis.latency.LatencyMonitorCollector;
 import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.annotation.Default;
 import com.linecorp.armeria.server.annotation.Get;
+import com.linecorp.armeria.server.annotation.Header;
+import com.linecorp.armeria.server.annotation.Param;
 import com.linecorp.armeria.server.annotation.Path;
 
 /**
@@ -25,22 +43,192 @@ public class RedisStatsService extends BaseService {
 	private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
 	@Autowired
-	private RedisStatInfoBucket redisStatInfoBucket;
+	private RedisStatsStream redisStatsStream;
 
 	@Autowired
 	private ArmedisConfiguration armedisConfiguration;
 
+	@Autowired
+	private MetricSeriesStore metricSeriesStore;
+
+	@Autowired
+	private RedisMetricsExporter redisMetricsExporter;
+
+	@Autowired
+	private RedisCommandStats redisCommandStats;
+
+	@Autowired
+	private HotKeySampler hotKeySampler;
+
+	@Autowired
+	private LatencyMonitorCollector latencyMonitorCollector;
+
+	private static final MediaType METRICS_MEDIA_TYPE = MediaType.parse(RedisMetricsExporter.CONTENT_TYPE);
+
+	private ObjectMapper mapper = new ObjectMapper();
+
 	/**
-	 * Are you ok service for server instance.
+	 * Recent stats of every polling tick.<br/>
+	 * Encoding is json, smile(application/x-jackson-smile) or cbor(application/cbor) by Accept header.
 	 * 
-	 * @param redisRequest
-	 * @return
+	 * @param since  epoch second, only stats after since are returned. every recent stats when 0.
+	 * @param fields section.field or section of every node. ex) stats.instantaneousOpsPerSec,memory.usedMemory
+	 * @return array of stats
 	 */
 	@Get
 	@Path(ServiceUrl.REDIS_STATS)
-	public HttpResponse redisStats() {
-		logger.info("Armedis - redis stats GET");
+	public HttpResponse redisStats(@Param("since") @Default("0") long since,
+			@Param("fields") @Default("") String fields) {
+		logger.debug("Armedis - redis stats GET since " + since);
+
+		StatsEncoding encoding = StatsEncoding.negotiate(ServiceRequestContext.current().request().headers().accept());
+		try {
+			StatsProjection projection = StatsProjection.parse(fields);
+			if (encoding == StatsEncoding.JSON && projection.isAll()) {
+				return buildStatResponse(ResponseCode.SUCCESS, redisStatsStream.getStats(since));
+			}
+
+			return buildStatResponse(ResponseCode.SUCCESS, encoding.getMediaType(),
+					redisStatsStream.getStats(since, encoding, projection));
+		} catch (IllegalArgumentException e) {
+			logger.warn("Invalid stats request " + e.getMessage());
+			return buildResponse(ResponseCode.REQUEST_FIELD_ERROR, (RedisRequest) null);
+		} catch (Exception e) {
+			logger.error("Can not encode stats ", e);
+			return buildResponse(ResponseCode.UNKNOWN_ERROR, (RedisRequest) null);
+		}
+	}
+
+	/**
+	 * Server sent event of every polling tick. Stats of each tick is pushed once.
+	 * 
+	 * @param lastEventId epoch second of last received stats when reconnected.
+	 * @return event stream
+	 */
+	@Get
+	@Path(ServiceUrl.REDIS_STATS_STREAM)
+	public HttpResponse redisStatsStream(@Header("Last-Event-ID") @Default("0") long lastEventId) {
+		// event stream is not finished by request timeout.
+		ServiceRequestContext.current().clearRequestTimeout();
+
+		return redisStatsStream.subscribe(lastEventId);
+	}
+
+	/**
+	 * Top commands of node or cluster by commandstats.
+	 * 
+	 * @param node node id or sum
+	 * @param sort usec(total time), calls, usecPerCall, failedCalls, rejectedCalls, p99
+	 * @param top  count of commands
+	 * @return json array of commands
+	 */
+	@Get
+	@Path(ServiceUrl.REDIS_STATS_COMMANDS)
+	public HttpResponse redisStatsCommands(@Param("node") @Default("sum") String node,
+			@Param("sort") @Default("usec") String sort, @Param("top") @Default("10") int top) {
+		try {
+			List<RedisCommandStats.CommandRank> ranks = redisCommandStats.top(node, sort, top);
+
+			return buildStatResponse(ResponseCode.SUCCESS, mapper.writeValueAsString(ranks));
+		} catch (IllegalArgumentException e) {
+			logger.warn("Invalid command stats request " + e.getMessage());
+			return buildResponse(ResponseCode.REQUEST_FIELD_ERROR, (RedisRequest) null);
+		} catch (Exception e) {
+			logger.error("Can not read command stats ", e);
+			return buildResponse(ResponseCode.UNKNOWN_ERROR, (RedisRequest) null);
+		}
+	}
+
+	/**
+	 * Hot keys of requests through armedis.
+	 * 
+	 * @param command   command name, every command if empty.
+	 * @param completed true for last completed window, false for current window.
+	 * @param top       count of keys
+	 * @return json array of hot keys
+	 */
+	@Get
+	@Path(ServiceUrl.REDIS_STATS_HOTKEYS)
+	public HttpResponse redisStatsHotKeys(@Param("command") @Default("") String command,
+			@Param("completed") @Default("true") boolean completed, @Param("top") @Default("20") int top) {
+		try {
+			List<HotKey> hotKeys = hotKeySampler.top(command, completed, top);
+
+			return buildStatResponse(ResponseCode.SUCCESS, mapper.writeValueAsString(hotKeys));
+		} catch (Exception e) {
+			logger.error("Can not read hot keys ", e);
+			return buildResponse(ResponseCode.UNKNOWN_ERROR, (RedisRequest) null);
+		}
+	}
+
+	/**
+	 * Latency spikes of every node with mean latency of armedis commands at the time.
+	 * 
+	 * @param since epoch second, only spikes after since are returned.
+	 * @return json array of latency events
+	 */
+	@Get
+	@Path(ServiceUrl.REDIS_STATS_LATENCY)
+	public HttpResponse redisStatsLatency(@Param("since") @Default("0") long since) {
+		try {
+			List<LatencyEvent> events = latencyMonitorCollector.events(since);
+
+			return buildStatResponse(ResponseCode.SUCCESS, mapper.writeValueAsString(events));
+		} catch (Exception e) {
+			logger.error("Can not read latency events ", e);
+			return buildResponse(ResponseCode.UNKNOWN_ERROR, (RedisRequest) null);
+		}
+	}
+
+	/**
+	 * Prometheus scrape target. Text is rendered by polling tick, not by scrape.
+	 * 
+	 * @return metrics of last polling tick
+	 */
+	@Get
+	@Path(ServiceUrl.REDIS_METRICS)
+	public HttpResponse redisMetrics() {
+		return HttpResponse.of(HttpStatus.OK, METRICS_MEDIA_TYPE, redisMetricsExporter.getRendered());
+	}
+
+	/**
+	 * Time series history of metric.
+	 * 
+	 * @param metric     section.field ex) stats.instantaneousOpsPerSec
+	 * @param node       node id or sum, every node if empty.
+	 * @param from       epoch second, default is 1 hour before to.
+	 * @param to         epoch second, default is now.
+	 * @param resolution 1s, 10s, 1m. finest resolution of range if empty.
+	 * @return series of each node
+	 */
+	@Get
+	@Path(ServiceUrl.REDIS_STATS_SERIES)
+	public HttpResponse redisStatsSeries(@Param("metric") String metric, @Param("node") @Default("") String node,
+			@Param("from") @Default("0") long from, @Param("to") @Default("0") long to,
+			@Param("resolution") @Default("") String resolution) {
+		long toEpochSecond = to > 0 ? to : Instant.now().getEpochSecond();
+		long fromEpochSecond = from > 0 ? from : toEpochSecond - 3600;
+
+		SeriesResolution seriesResolution = null;
+		if (!resolution.isEmpty()) {
+			seriesResolution = SeriesResolution.of(resolution);
+			if (seriesResolution == null) {
+				logger.warn("Unknown series resolution " + resolution);
+				return buildResponse(ResponseCode.REQUEST_FIELD_ERROR, (RedisRequest) null);
+			}
+		}
+
+		try {
+			List<SeriesPoints> series = metricSeriesStore.read(metric, node, fromEpochSecond, toEpochSecond,
+					seriesResolution);
 
-		return buildStatResponse(ResponseCode.SUCCESS, redisStatInfoBucket.getStats());
+			return buildStatResponse(ResponseCode.SUCCESS, mapper.writeValueAsString(series));
+		} catch (IllegalArgumentException e) {
+			logger.warn("Invalid series request " + e.getMessage());
+			return buildResponse(ResponseCode.REQUEST_FIELD_ERROR, (RedisRequest) null);
+		} catch (Exception e) {
+			logger.error("Can not read stat series ", e);
+			return buildResponse(ResponseCode.UNKNOWN_ERROR, (RedisRequest) null);
+		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,254 @@
+package com.github.armedis.http.service.stats;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.sse.ServerSentEvent;
+import com.linecorp.armeria.common.stream.StreamMessage;
+import com.linecorp.armeria.common.stream.StreamWriter;
+import com.linecorp.armeria.server.streaming.ServerSentEvents;
+
+/**
+ * Encoded stats of recent polling ticks and server sent event subscribers.<br/>
+ * Each tick is encoded to json only once, and the same json is used for every stats request and pushed to every
+ * subscriber. Binary encoding and projection are made from json tree of tick, which is parsed at first use.<br/>
+ * Events of subscriber are buffered until client reads them, and slow subscriber over
+ * {@link #MAX_PENDING_EVENTS} is closed. Client reconnects with Last-Event-ID and receives missed recent stats.
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisStatsStream {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final int RECENT_SIZE = 10;
+
+    static final int MAX_PENDING_EVENTS = RECENT_SIZE * 3;
+
+    private final ObjectMapper mapper = configMapper();
+
+    // immutable, replaced every tick.
+    private volatile List<EncodedStats> recentStats = Collections.emptyList();
+
+    private final Set<StatsSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // held while recent stats are replaced and pushed, and while new subscriber replays them.
+    private final Object publishLock = new Object();
+
+    private ObjectMapper configMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setSerializationInclusion(Include.ALWAYS);
+        mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+        return mapper;
+    }
+
+    /**
+     * Encode stats of tick and push to subscribers.
+     * @param redisStatsInfo
+     */
+    public void publish(RedisStatsInfo redisStatsInfo) {
+        String json = null;
+        try {
+            json = mapper.writeValueAsString(redisStatsInfo);
+        }
+        catch (JsonProcessingException e) {
+            logger.error("Can not encode redis stats ", e);
+            return;
+        }
+
+        EncodedStats encodedStats = new EncodedStats(redisStatsInfo.getEpochTime(), json);
+
+        synchronized (publishLock) {
+            push(encodedStats);
+        }
+    }
+
+    private void push(EncodedStats encodedStats) {
+        List<EncodedStats> stats = new ArrayList<>(RECENT_SIZE);
+        List<EncodedStats> current = recentStats;
+        stats.addAll(current.subList(Math.max(0, current.size() - RECENT_SIZE + 1), current.size()));
+        stats.add(encodedStats);
+        recentStats = Collections.unmodifiableList(stats);
+
+        ServerSentEvent event = encodedStats.event();
+        for (StatsSubscriber subscriber : subscribers) {
+            if (subscriber.pending() >= MAX_PENDING_EVENTS) {
+                // buffered events are dropped, not delivered.
+                logger.warn("Slow stats subscriber is closed, pending events " + subscriber.pending());
+                subscribers.remove(subscriber);
+                subscriber.abort();
+            }
+            else if (!subscriber.write(event)) {
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    /**
+     * @param since epoch second, every recent stats when 0.
+     * @return json array of stats which is polled after since.
+     */
+    public String getStats(long since) {
+        StringBuilder builder = new StringBuilder(1024);
+        builder.append('[');
+
+        for (EncodedStats encodedStats : recentStats) {
+            if (encodedStats.epochTime() > since) {
+                if (builder.length() > 1) {
+                    builder.append(',');
+                }
+
+                builder.append(encodedStats.json());
+            }
+        }
+
+        return builder.append(']').toString();
+    }
+
+    /**
+     * @param since epoch second, every recent stats when 0.
+     * @param encoding
+     * @param projection fields of every node
+     * @return encoded array of stats which is polled after since.
+     * @throws IOException
+     */
+    public byte[] getStats(long since, StatsEncoding encoding, StatsProjection projection) throws IOException {
+        ArrayNode stats = mapper.createArrayNode();
+        for (EncodedStats encodedStats : recentStats) {
+            if (encodedStats.epochTime() > since) {
+                // nulls are kept in json as same as full stats.
+                stats.add(projection.apply(encodedStats.tree(mapper), encoding != StatsEncoding.JSON));
+            }
+        }
+
+        return encoding.getMapper().writeValueAsBytes(stats);
+    }
+
+    /**
+     * Subscribe stats of every tick. Event id is epoch second of stats, so reconnected client receives missed stats
+     * by Last-Event-ID.
+     * @param lastEventId epoch second of last received stats, 0 is latest stats only.
+     * @return server sent event response
+     */
+    public HttpResponse subscribe(long lastEventId) {
+        StreamWriter<ServerSentEvent> writer = StreamMessage.streaming();
+        StatsSubscriber subscriber = new StatsSubscriber(writer);
+
+        // no tick is pushed between replay and registration, so client receives every tick once.
+        synchronized (publishLock) {
+            List<EncodedStats> current = recentStats;
+            for (EncodedStats encodedStats : current) {
+                boolean latest = encodedStats == current.get(current.size() - 1);
+                if ((lastEventId > 0 && encodedStats.epochTime() > lastEventId) || (lastEventId <= 0 && latest)) {
+                    subscriber.write(encodedStats.event());
+                }
+            }
+
+            subscribers.add(subscriber);
+        }
+        writer.whenComplete().handle((result, e) -> subscribers.remove(subscriber));
+
+        logger.info("Stats subscriber added, subscribers " + subscribers.size());
+
+        return ServerSentEvents.fromPublisher(writer);
+    }
+
+    /**
+     * @return count of subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Writer of subscriber and count of events which are written but not read by client yet.
+     */
+    private static final class StatsSubscriber {
+        private final StreamWriter<ServerSentEvent> writer;
+
+        private final AtomicLong written = new AtomicLong();
+
+        private final AtomicLong consumed = new AtomicLong();
+
+        StatsSubscriber(StreamWriter<ServerSentEvent> writer) {
+            this.writer = writer;
+        }
+
+        boolean write(ServerSentEvent event) {
+            if (!writer.tryWrite(event)) {
+                return false;
+            }
+
+            // completed when every event written so far is read.
+            long count = written.incrementAndGet();
+            writer.whenConsumed().thenRun(() -> consumed.accumulateAndGet(count, Math::max));
+
+            return true;
+        }
+
+        long pending() {
+            return written.get() - consumed.get();
+        }
+
+        void abort() {
+            writer.abort();
+        }
+    }
+
+    private static final class EncodedStats {
+        private final long epochTime;
+
+        private final String json;
+
+        private final ServerSentEvent event;
+
+        // read only after parsed.
+        private volatile ObjectNode tree;
+
+        EncodedStats(long epochTime, String json) {
+            this.epochTime = epochTime;
+            this.json = json;
+            this.event = ServerSentEvent.builder().id(String.valueOf(epochTime)).data(json).build();
+        }
+
+        long epochTime() {
+            return epochTime;
+        }
+
+        String json() {
+            return json;
+        }
+
+        ServerSentEvent event() {
+            return event;
+        }
+
+        ObjectNode tree(ObjectMapper mapper) throws IOException {
+            ObjectNode parsed = tree;
+            if (parsed == null) {
+                // parsed twice at worst, same tree.
+                parsed = (ObjectNode) mapper.readTree(json);
+                tree = parsed;
+            }
+
+            return parsed;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.armedis.http.service.stats;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.linecorp.armeria.common.MediaType;
+
+/**
+ * Encodings of stats api, selected by Accept header.<br/>
+ * Smile and CBOR are binary json of same tree, so field names and values are same with json.
+ * @author krisjey
+ *
+ */
+public enum StatsEncoding {
+    JSON(MediaType.JSON_UTF_8, new ObjectMapper()),
+    SMILE(MediaType.create("application", "x-jackson-smile"), new ObjectMapper(new SmileFactory())),
+    CBOR(MediaType.create("application", "cbor"), new ObjectMapper(new CBORFactory())),
+    ;
+
+    private final MediaType mediaType;
+
+    private final ObjectMapper mapper;
+
+    private StatsEncoding(MediaType mediaType, ObjectMapper mapper) {
+        this.mediaType = mediaType;
+        this.mapper = mapper;
+
+        mapper.setSerializationInclusion(Include.ALWAYS);
+        mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    /**
+     * @param accept media types of Accept header, ordered by preference.
+     * @return first acceptable encoding, json is preferred for wildcard and json if nothing matched.
+     */
+    public static StatsEncoding negotiate(List<MediaType> accept) {
+        for (MediaType mediaType : accept) {
+            for (StatsEncoding encoding : values()) {
+                if (encoding.mediaType.is(mediaType.withoutParameters())) {
+                    return encoding;
+                }
+            }
+        }
+
+        return JSON;
+    }
+}
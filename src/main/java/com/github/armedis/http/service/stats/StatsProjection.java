@@ -0,0 +1,126 @@
+package com.github.armedis.http.service.stats;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.armedis.redis.info.RedisInfoVo;
+
+/**
+ * Field projection of stats. Only given fields of every node are kept, other members of stats are not changed.
+ * <pre>
+ *  fields=stats.instantaneousOpsPerSec,memory.usedMemory
+ *  fields=stats,keyspace           whole section
+ * </pre>
+ * @author krisjey
+ *
+ */
+public final class StatsProjection {
+    public static final StatsProjection ALL = new StatsProjection(Map.of());
+
+    // section -> fields, empty fields is whole section.
+    private final Map<String, Set<String>> sections;
+
+    private StatsProjection(Map<String, Set<String>> sections) {
+        this.sections = sections;
+    }
+
+    /**
+     * @param fields comma separated section.field or section. every field when empty.
+     * @return projection
+     * @throws IllegalArgumentException when section is unknown.
+     */
+    public static StatsProjection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Map<String, Set<String>> sections = new LinkedHashMap<>();
+        for (String field : fields.split(",")) {
+            field = field.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+
+            int dot = field.indexOf('.');
+            String section = (dot < 0 ? field : field.substring(0, dot)).toLowerCase();
+            if (!section.equals("keyspace") && RedisInfoVo.sectionType(section) == null) {
+                throw new IllegalArgumentException("Unknown stats section " + field);
+            }
+
+            Set<String> sectionFields = sections.computeIfAbsent(section, key -> new LinkedHashSet<>());
+            if (dot < 0) {
+                // whole section
+                sectionFields.clear();
+                sectionFields.add("*");
+            }
+            else if (!sectionFields.contains("*")) {
+                sectionFields.add(field.substring(dot + 1));
+            }
+        }
+
+        return sections.isEmpty() ? ALL : new StatsProjection(sections);
+    }
+
+    public boolean isAll() {
+        return sections.isEmpty();
+    }
+
+    /**
+     * @param stats json tree of {@link RedisStatsInfo}, not changed.
+     * @param dropNulls remove null fields of sections. json keeps nulls for compatibility.
+     * @return projected copy of stats, stats itself when nothing is changed.
+     */
+    public ObjectNode apply(ObjectNode stats, boolean dropNulls) {
+        if (isAll() && !dropNulls) {
+            return stats;
+        }
+
+        ObjectNode projected = stats.deepCopy();
+        JsonNode redisInfoList = projected.get("redisInfoList");
+        if (redisInfoList instanceof ObjectNode) {
+            for (JsonNode redisInfo : redisInfoList) {
+                if (redisInfo instanceof ObjectNode) {
+                    project((ObjectNode) redisInfo, dropNulls);
+                }
+            }
+        }
+
+        return projected;
+    }
+
+    private void project(ObjectNode redisInfo, boolean dropNulls) {
+        Iterator<Entry<String, JsonNode>> sectionIterator = redisInfo.fields();
+        while (sectionIterator.hasNext()) {
+            Entry<String, JsonNode> section = sectionIterator.next();
+            Set<String> fields = isAll() ? Set.of("*") : sections.get(section.getKey().toLowerCase());
+            if (fields == null || (dropNulls && section.getValue().isNull())) {
+                sectionIterator.remove();
+                continue;
+            }
+
+            if (!(section.getValue() instanceof ObjectNode)) {
+                continue;
+            }
+
+            ObjectNode sectionNode = (ObjectNode) section.getValue();
+            if (!fields.contains("*")) {
+                sectionNode.retain(fields);
+            }
+
+            if (dropNulls) {
+                Iterator<JsonNode> fieldIterator = sectionNode.elements();
+                while (fieldIterator.hasNext()) {
+                    if (fieldIterator.next().isNull()) {
+                        fieldIterator.remove();
+                    }
+                }
+            }
+        }
+    }
+}
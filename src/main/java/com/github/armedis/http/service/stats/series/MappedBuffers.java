@@ -0,0 +1,61 @@
+package com.github.armedis.http.service.stats.series;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Release of memory mapped buffer.<br/>
+ * Mapping is released only by GC of buffer, so file of mapping which is replaced or deleted stays mapped until GC.
+ * Released buffer and every view of it must not be accessed, access of released mapping crashes JVM.
+ * @author krisjey
+ *
+ */
+final class MappedBuffers {
+    private static final Logger logger = LoggerFactory.getLogger(MappedBuffers.class);
+
+    // Unsafe.invokeCleaner(ByteBuffer), null if not accessible.
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private MappedBuffers() {
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeType = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeType.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeType, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            logger.warn("Mapped buffer is released by GC only. " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Release mapping of buffer now, buffer is left to GC if release is not supported.
+     * @param buffer
+     */
+    static void release(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+        }
+        catch (Throwable e) {
+            logger.warn("Can not release mapped buffer, buffer is released by GC. " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.github.armedis.http.service.stats.series;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One metric series of one node.<br/>
+ * Every resolution is a fixed size ring of double values in one buffer, so memory of a series never grows.
+ * Buffer is heap buffer or memory mapped file.
+ * <pre>
+ *  [last bucket of each resolution(long)] [ring of SECOND] [ring of TEN_SECONDS] [ring of MINUTE]
+ * </pre>
+ * Slot is indexed by <code>bucket % capacity</code>, bucket is <code>epoch second / step</code>.
+ * Skipped buckets are filled by NaN. Value of current bucket is average of recorded values in the bucket.
+ * @author krisjey
+ *
+ */
+class MetricSeries {
+    private static final SeriesResolution[] RESOLUTIONS = SeriesResolution.values();
+
+    private static final int HEADER_BYTES = RESOLUTIONS.length * Long.BYTES;
+
+    static final int SIZE_BYTES = sizeBytes();
+
+    private final ByteBuffer buffer;
+
+    private final int[] offsets = new int[RESOLUTIONS.length];
+
+    // running average of current bucket, not persisted.
+    private final long[] pendingBucket = new long[RESOLUTIONS.length];
+
+    private final double[] pendingSum = new double[RESOLUTIONS.length];
+
+    private final int[] pendingCount = new int[RESOLUTIONS.length];
+
+    private MetricSeries(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        int offset = HEADER_BYTES;
+        for (int i = 0; i < RESOLUTIONS.length; i++) {
+            offsets[i] = offset;
+            offset += RESOLUTIONS[i].getCapacity() * Double.BYTES;
+            pendingBucket[i] = Long.MIN_VALUE;
+        }
+    }
+
+    private static int sizeBytes() {
+        int size = HEADER_BYTES;
+        for (SeriesResolution resolution : RESOLUTIONS) {
+            size += resolution.getCapacity() * Double.BYTES;
+        }
+
+        return size;
+    }
+
+    static MetricSeries onHeap() {
+        return new MetricSeries(ByteBuffer.allocate(SIZE_BYTES));
+    }
+
+    /**
+     * Map series file. Existing file of same layout keeps history, file of other layout is cleared.
+     * @param file
+     * @return series backed by file
+     * @throws IOException
+     */
+    static MetricSeries mapped(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            if (channel.size() != SIZE_BYTES) {
+                channel.truncate(0);
+            }
+
+            // mapping is valid after channel is closed.
+            MappedByteBuffer mapped = channel.map(MapMode.READ_WRITE, 0, SIZE_BYTES);
+            return new MetricSeries(mapped);
+        }
+    }
+
+    /**
+     * Record value to every resolution.
+     * @param epochSecond
+     * @param value NaN is ignored.
+     */
+    synchronized void record(long epochSecond, double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+
+        for (int i = 0; i < RESOLUTIONS.length; i++) {
+            long bucket = Math.floorDiv(epochSecond, RESOLUTIONS[i].getStepSeconds());
+
+            if (bucket != pendingBucket[i]) {
+                pendingBucket[i] = bucket;
+                pendingSum[i] = 0;
+                pendingCount[i] = 0;
+            }
+
+            pendingSum[i] += value;
+            pendingCount[i]++;
+
+            write(i, bucket, pendingSum[i] / pendingCount[i]);
+        }
+    }
+
+    private void write(int resolutionIndex, long bucket, double value) {
+        int capacity = RESOLUTIONS[resolutionIndex].getCapacity();
+        long lastBucket = lastBucket(resolutionIndex);
+
+        if (bucket > lastBucket) {
+            // clear skipped slots, whole ring at most.
+            long gap = Math.min(bucket - lastBucket - 1, capacity);
+            for (long skipped = bucket - gap; skipped < bucket; skipped++) {
+                put(resolutionIndex, skipped, Double.NaN);
+            }
+
+            buffer.putLong(resolutionIndex * Long.BYTES, bucket);
+        }
+        else if (bucket <= lastBucket - capacity) {
+            // older than ring
+            return;
+        }
+
+        put(resolutionIndex, bucket, value);
+    }
+
+    /**
+     * @return epoch second of last recorded value, 0 if nothing is recorded.
+     */
+    synchronized long lastEpochSecond() {
+        return lastBucket(0) * RESOLUTIONS[0].getStepSeconds();
+    }
+
+    private long lastBucket(int resolutionIndex) {
+        return buffer.getLong(resolutionIndex * Long.BYTES);
+    }
+
+    private void put(int resolutionIndex, long bucket, double value) {
+        int capacity = RESOLUTIONS[resolutionIndex].getCapacity();
+        buffer.putDouble(offsets[resolutionIndex] + (int) Math.floorMod(bucket, (long) capacity) * Double.BYTES,
+                value);
+    }
+
+    /**
+     * Read values of bucket range.
+     * @param resolution
+     * @param fromBucket inclusive
+     * @param toBucket inclusive
+     * @return values of each bucket, NaN is absent value.
+     */
+    synchronized double[] read(SeriesResolution resolution, long fromBucket, long toBucket) {
+        int index = resolution.ordinal();
+        int capacity = resolution.getCapacity();
+        long lastBucket = lastBucket(index);
+
+        int size = (int) Math.max(0, toBucket - fromBucket + 1);
+        double[] values = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            long bucket = fromBucket + i;
+            if (bucket > lastBucket || bucket <= lastBucket - capacity) {
+                values[i] = Double.NaN;
+            }
+            else {
+                values[i] = buffer.getDouble(
+                        offsets[index] + (int) Math.floorMod(bucket, (long) capacity) * Double.BYTES);
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Flush memory mapped buffer to file.
+     */
+    synchronized void force() {
+        if (buffer instanceof MappedByteBuffer) {
+            ((MappedByteBuffer) buffer).force();
+        }
+    }
+}
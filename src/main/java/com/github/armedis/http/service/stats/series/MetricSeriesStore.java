@@ -0,0 +1,370 @@
+package com.github.armedis.http.service.stats.series;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.http.service.stats.RedisStatsInfo;
+import com.github.armedis.redis.info.RedisInfoVo;
+import com.github.armedis.redis.info.StatsBaseVo;
+import com.github.armedis.redis.info.StatsFields;
+import com.github.armedis.redis.topology.RedisTopologyService;
+import com.github.armedis.redis.topology.TopologyNode;
+import com.github.armedis.redis.topology.TopologySnapshot;
+
+/**
+ * Time series history of configured metrics per node.<br/>
+ * Metric is <code>section.field</code> of INFO ex) stats.instantaneousOpsPerSec, and node is node id or "sum".
+ * Latency event metric <code>latency.event</code> ex) latency.fork is recorded only when event is occurred.
+ * Series of node which is removed from topology are dropped.<br/>
+ * Every resolution of series is allocated at first record, about 443KB per metric per node on heap or in mapped
+ * file. Mapped series files of previous run are loaded at startup, file is named by url encoded
+ * <code>node@metric</code>.
+ * @author krisjey
+ *
+ */
+@Component
+public class MetricSeriesStore implements DisposableBean {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Prefix of latency event metrics.
+     */
+    public static final String LATENCY_PREFIX = "latency.";
+
+    private static final char SEPARATOR = '@';
+
+    private static final String SUFFIX = ".series";
+
+    private final List<String> metrics = new ArrayList<>();
+
+    private final Path directory;
+
+    // node -> metric -> series
+    private final Map<String, Map<String, MetricSeries>> seriesList = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MetricSeriesStore(ArmedisConfiguration armedisConfiguration, RedisTopologyService redisTopologyService) {
+        this(armedisConfiguration);
+
+        // loaded series of node which is removed while not running.
+        Set<String> currentNodes = nodeNames(redisTopologyService.getSnapshot());
+        for (String node : getNodes()) {
+            if (!node.equals(StatsBaseVo.SUM) && !currentNodes.contains(node)) {
+                remove(node);
+            }
+        }
+
+        redisTopologyService.addListener(this::removeNodes);
+    }
+
+    public MetricSeriesStore(ArmedisConfiguration armedisConfiguration) {
+        for (String metric : StringUtils.split(armedisConfiguration.getStatSeriesMetrics(), ", ")) {
+            if (isValidMetric(metric)) {
+                metrics.add(metric);
+            }
+            else {
+                logger.warn("Unknown numeric stat metric " + metric + ", metric is not kept.");
+            }
+        }
+
+        String seriesDirectory = armedisConfiguration.getStatSeriesDirectory();
+        this.directory = StringUtils.isBlank(seriesDirectory) ? null : Paths.get(seriesDirectory.trim());
+
+        logger.info("Stat series metrics " + metrics + ", " + (directory == null ? "heap" : directory.toString())
+                + ", " + (MetricSeries.SIZE_BYTES / 1024) + "KB per series");
+
+        load();
+    }
+
+    /**
+     * Map series files of previous run, so history is read before nodes are polled again. Series of metric which is
+     * not kept any more is not loaded.
+     */
+    private void load() {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                int separator = name.indexOf(SEPARATOR);
+                if (separator < 0) {
+                    logger.warn("Unknown series file " + file + " is not loaded.");
+                    continue;
+                }
+
+                String node = URLDecoder.decode(name.substring(0, separator), StandardCharsets.UTF_8);
+                String metric = URLDecoder.decode(name.substring(separator + 1, name.length() - SUFFIX.length()),
+                        StandardCharsets.UTF_8);
+                if (metrics.contains(metric) || metric.startsWith(LATENCY_PREFIX)) {
+                    getSeries(node, metric);
+                }
+            }
+        }
+        catch (IOException | IllegalArgumentException e) {
+            logger.error("Can not load series files of " + directory, e);
+        }
+
+        logger.info("Stat series of nodes " + getNodes() + " are loaded.");
+    }
+
+    private static boolean isValidMetric(String metric) {
+        String[] sectionAndField = StringUtils.split(metric, '.');
+        if (sectionAndField.length != 2) {
+            return false;
+        }
+
+        Class<? extends StatsBaseVo> sectionType = RedisInfoVo.sectionType(sectionAndField[0]);
+        return sectionType != null && StatsFields.of(sectionType).contains(sectionAndField[1]);
+    }
+
+    /**
+     * @return kept metrics
+     */
+    public List<String> getMetrics() {
+        return Collections.unmodifiableList(metrics);
+    }
+
+    /**
+     * @return nodes which have series.
+     */
+    public Set<String> getNodes() {
+        return new TreeSet<>(seriesList.keySet());
+    }
+
+    /**
+     * Record every metric of polled nodes. Stale node is not recorded, so it remains as absent value.
+     * @param redisStatsInfo
+     */
+    public void record(RedisStatsInfo redisStatsInfo) {
+        long epochSecond = redisStatsInfo.getEpochTime();
+
+        for (Entry<String, RedisInfoVo> item : redisStatsInfo.getRedisInfoList().entrySet()) {
+            String node = item.getKey();
+            if (redisStatsInfo.getStaleNodes().contains(node)) {
+                continue;
+            }
+
+            record(node, epochSecond, values(item.getValue()));
+        }
+    }
+
+    /**
+     * @param redisInfo
+     * @return value of each kept metric, NaN if section is absent.
+     */
+    public double[] values(RedisInfoVo redisInfo) {
+        double[] values = new double[metrics.size()];
+        for (int i = 0; i < values.length; i++) {
+            String metric = metrics.get(i);
+            int dot = metric.indexOf('.');
+            StatsBaseVo section = redisInfo.section(metric.substring(0, dot));
+
+            values[i] = section == null ? Double.NaN
+                    : StatsFields.of(section.getClass()).get(section, metric.substring(dot + 1));
+        }
+
+        return values;
+    }
+
+    /**
+     * Record values of kept metrics. ex) restored history
+     * @param node
+     * @param epochSecond
+     * @param values value of each kept metric, same order as {@link #getMetrics()}
+     */
+    public void record(String node, long epochSecond, double[] values) {
+        for (int i = 0; i < values.length && i < metrics.size(); i++) {
+            if (Double.isNaN(values[i])) {
+                continue;
+            }
+
+            MetricSeries series = getSeries(node, metrics.get(i));
+            if (series != null) {
+                series.record(epochSecond, values[i]);
+            }
+        }
+    }
+
+    /**
+     * Last recorded time of node. Mapped series keeps values of previous run, heap series is empty at startup.
+     * @param node
+     * @return epoch second of last value of kept metrics, 0 if nothing is recorded or series are on heap.
+     */
+    public long getLastEpochSecond(String node) {
+        Map<String, MetricSeries> nodeSeries = seriesList.get(node);
+        if (directory == null || nodeSeries == null) {
+            return 0;
+        }
+
+        long lastEpochSecond = 0;
+        for (String metric : metrics) {
+            MetricSeries series = nodeSeries.get(metric);
+            if (series != null) {
+                lastEpochSecond = Math.max(lastEpochSecond, series.lastEpochSecond());
+            }
+        }
+
+        return lastEpochSecond;
+    }
+
+    /**
+     * Record value of latency event. ex) latency.fork, latency.eviction-cycle
+     * @param node
+     * @param metric latency.event
+     * @param epochSecond time of event
+     * @param value
+     */
+    public void recordEvent(String node, String metric, long epochSecond, double value) {
+        if (!metric.startsWith(LATENCY_PREFIX)) {
+            throw new IllegalArgumentException("Event metric " + metric + " is not " + LATENCY_PREFIX + "*");
+        }
+
+        MetricSeries series = getSeries(node, metric);
+        if (series != null) {
+            series.record(epochSecond, value);
+        }
+    }
+
+    private static Set<String> nodeNames(TopologySnapshot snapshot) {
+        return snapshot.getNodes().stream().map(TopologyNode::name).collect(Collectors.toSet());
+    }
+
+    private void removeNodes(TopologySnapshot previous, TopologySnapshot current) {
+        Set<String> currentNodes = nodeNames(current);
+
+        for (TopologyNode node : previous.getNodes()) {
+            if (!currentNodes.contains(node.name())) {
+                remove(node.name());
+            }
+        }
+    }
+
+    /**
+     * Drop every series of node, file of mapped series is deleted.
+     * @param node
+     */
+    public void remove(String node) {
+        Map<String, MetricSeries> nodeSeries = seriesList.remove(node);
+        if (nodeSeries == null) {
+            return;
+        }
+
+        logger.info("Series of removed node " + node + " are dropped, metrics " + nodeSeries.keySet());
+
+        if (directory == null) {
+            return;
+        }
+
+        for (String metric : nodeSeries.keySet()) {
+            try {
+                Files.deleteIfExists(seriesFile(node, metric));
+            }
+            catch (IOException e) {
+                logger.warn("Can not delete series file of " + node + " " + metric + ". " + e.getMessage());
+            }
+        }
+    }
+
+    private Path seriesFile(String node, String metric) {
+        return directory.resolve(URLEncoder.encode(node, StandardCharsets.UTF_8) + SEPARATOR
+                + URLEncoder.encode(metric, StandardCharsets.UTF_8) + SUFFIX);
+    }
+
+    private MetricSeries getSeries(String node, String metric) {
+        Map<String, MetricSeries> nodeSeries = seriesList.computeIfAbsent(node, key -> new ConcurrentHashMap<>());
+
+        return nodeSeries.computeIfAbsent(metric, key -> {
+            if (directory == null) {
+                return MetricSeries.onHeap();
+            }
+
+            try {
+                Files.createDirectories(directory);
+                return MetricSeries.mapped(seriesFile(node, metric));
+            }
+            catch (IOException e) {
+                logger.error("Can not map series file of " + node + " " + metric + ", use heap.", e);
+                return MetricSeries.onHeap();
+            }
+        });
+    }
+
+    /**
+     * Read series of time range.
+     * @param metric section.field
+     * @param node node id or sum, every node if empty.
+     * @param fromEpochSecond inclusive
+     * @param toEpochSecond inclusive
+     * @param resolution finest resolution of range if null.
+     * @return series of each node
+     */
+    public List<SeriesPoints> read(String metric, String node, long fromEpochSecond, long toEpochSecond,
+            SeriesResolution resolution) {
+        if (!metrics.contains(metric) && !metric.startsWith(LATENCY_PREFIX)) {
+            throw new IllegalArgumentException("Metric " + metric + " is not kept, kept metrics " + metrics);
+        }
+
+        if (fromEpochSecond > toEpochSecond) {
+            throw new IllegalArgumentException("from is after to");
+        }
+
+        if (resolution == null) {
+            resolution = SeriesResolution.forRange(toEpochSecond - fromEpochSecond);
+        }
+
+        int step = resolution.getStepSeconds();
+        long toBucket = Math.floorDiv(toEpochSecond, step);
+        long fromBucket = Math.max(Math.floorDiv(fromEpochSecond, step), toBucket - resolution.getCapacity() + 1);
+
+        List<SeriesPoints> pointsList = new ArrayList<>();
+        for (Entry<String, Map<String, MetricSeries>> nodeSeries : seriesList.entrySet()) {
+            if (StringUtils.isNotEmpty(node) && !node.equals(nodeSeries.getKey())) {
+                continue;
+            }
+
+            MetricSeries series = nodeSeries.getValue().get(metric);
+            if (series != null) {
+                pointsList.add(new SeriesPoints(nodeSeries.getKey(), metric, resolution, fromBucket * step,
+                        series.read(resolution, fromBucket, toBucket)));
+            }
+        }
+
+        pointsList.sort((left, right) -> left.getNode().compareTo(right.getNode()));
+
+        return pointsList;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Map<String, MetricSeries> nodeSeries : seriesList.values()) {
+            for (MetricSeries series : nodeSeries.values()) {
+                series.force();
+            }
+        }
+    }
+}
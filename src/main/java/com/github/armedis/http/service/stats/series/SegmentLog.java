@@ -0,0 +1,383 @@
+package com.github.armedis.http.service.stats.series;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append only log of tick records in memory mapped segment files.<br/>
+ * <pre>
+ *  segment : [magic(int)] [flags(int)] [record] [record] ... [0(int)]
+ *  record  : [payload length(int)] [epoch second(long)] [payload]
+ * </pre>
+ * Segment is named by epoch second of first record, so segments are ordered by name. Length of record is written
+ * last, so torn record of crash is not visible. Payload of read record is a copy, so it is valid after compaction
+ * replaces or deletes the segment. Mapping of replaced, deleted or closed segment is released at once.
+ * @author krisjey
+ *
+ */
+public class SegmentLog implements Closeable {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final int MAGIC = 0x41524d53;
+
+    // segment is downsampled by compaction.
+    static final int COMPACTED = 1;
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES + Long.BYTES;
+
+    private static final String SUFFIX = ".seg";
+
+    private final Path directory;
+
+    private final int segmentBytes;
+
+    // first epoch second -> segment
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+
+    private boolean closed;
+
+    /**
+     * Open segments of directory. Broken segment is deleted.
+     * @param directory
+     * @param segmentBytes size of new segment
+     * @throws IOException
+     */
+    public SegmentLog(Path directory, int segmentBytes) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                Segment segment = Segment.open(file);
+                if (segment == null) {
+                    logger.warn("Broken stats segment " + file + " is deleted.");
+                    Files.deleteIfExists(file);
+                }
+                else {
+                    segments.put(segment.firstEpochSecond, segment);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param epochSecond epoch second of record, not less than last record.
+     * @param payload
+     * @throws IOException
+     */
+    public synchronized void append(long epochSecond, byte[] payload) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Segment log " + directory + " is closed");
+        }
+
+        int recordBytes = RECORD_HEADER_BYTES + payload.length;
+        if (HEADER_BYTES + recordBytes + Integer.BYTES > segmentBytes) {
+            throw new IllegalArgumentException("Record " + recordBytes + " bytes is larger than segment");
+        }
+
+        Entry<Long, Segment> last = segments.lastEntry();
+        Segment active = last == null ? null : last.getValue();
+        if (active == null || active.isCompacted() || active.remaining() < recordBytes + Integer.BYTES) {
+            if (active != null) {
+                active.force();
+            }
+
+            // name of segment is unique even if clock is moved back.
+            long firstEpochSecond = last == null ? epochSecond : Math.max(epochSecond, last.getKey() + 1);
+            active = Segment.create(fileOf(firstEpochSecond), segmentBytes, 0);
+            segments.put(firstEpochSecond, active);
+        }
+
+        active.append(epochSecond, payload);
+    }
+
+    private Path fileOf(long firstEpochSecond) {
+        return directory.resolve(String.format("stats-%012d", firstEpochSecond) + SUFFIX);
+    }
+
+    /**
+     * @param fromEpochSecond inclusive
+     * @return records since from, ordered by time.
+     */
+    public synchronized List<LogRecord> read(long fromEpochSecond) {
+        List<LogRecord> records = new ArrayList<>();
+        for (Segment segment : segments.values()) {
+            if (segment.lastEpochSecond >= fromEpochSecond) {
+                segment.read(fromEpochSecond, records);
+            }
+        }
+
+        return records;
+    }
+
+    /**
+     * Delete segments older than retention, and downsample segments older than keepAllAfter to one record per step.
+     * Segment being appended is not compacted.
+     * @param keepAllAfter epoch second, every record after this is kept.
+     * @param stepSeconds one record is kept per step for older records.
+     * @param deleteBefore epoch second, segment of which last record is before this is deleted.
+     * @return count of deleted and compacted segments
+     * @throws IOException
+     */
+    public synchronized int compact(long keepAllAfter, long stepSeconds, long deleteBefore) throws IOException {
+        int compacted = 0;
+        Long activeKey = segments.isEmpty() ? null : segments.lastKey();
+
+        Iterator<Entry<Long, Segment>> iterator = segments.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<Long, Segment> entry = iterator.next();
+            Segment segment = entry.getValue();
+
+            if (segment.lastEpochSecond < deleteBefore) {
+                iterator.remove();
+                segment.release();
+                Files.deleteIfExists(segment.file);
+                compacted++;
+            }
+            else if (!entry.getKey().equals(activeKey) && !segment.isCompacted()
+                    && segment.lastEpochSecond < keepAllAfter) {
+                try {
+                    entry.setValue(downsample(segment, stepSeconds));
+                }
+                catch (IOException e) {
+                    // file is kept, but mapping of segment may be released already.
+                    iterator.remove();
+                    throw e;
+                }
+                compacted++;
+            }
+        }
+
+        return compacted;
+    }
+
+    private Segment downsample(Segment segment, long stepSeconds) throws IOException {
+        List<LogRecord> records = new ArrayList<>();
+        segment.read(Long.MIN_VALUE, records);
+
+        List<LogRecord> sampled = new ArrayList<>();
+        int bytes = HEADER_BYTES + Integer.BYTES;
+        long lastStep = Long.MIN_VALUE;
+        for (LogRecord record : records) {
+            long step = Math.floorDiv(record.epochSecond(), Math.max(1, stepSeconds));
+            if (step != lastStep) {
+                sampled.add(record);
+                bytes += RECORD_HEADER_BYTES + record.payload().remaining();
+                lastStep = step;
+            }
+        }
+
+        Path temporary = segment.file.resolveSibling(segment.file.getFileName() + ".tmp");
+        Segment compacted = Segment.create(temporary, bytes, COMPACTED);
+        for (LogRecord record : sampled) {
+            byte[] payload = new byte[record.payload().remaining()];
+            record.payload().duplicate().get(payload);
+            compacted.append(record.epochSecond(), payload);
+        }
+
+        compacted.force();
+        compacted.release();
+
+        // file is not replaced under live mapping.
+        segment.release();
+        try {
+            Files.move(temporary, segment.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            logger.info("Stats segment " + segment.file.getFileName() + " is compacted " + records.size() + " -> "
+                    + sampled.size());
+        }
+        catch (IOException e) {
+            logger.error("Can not replace stats segment " + segment.file.getFileName() + ", segment is not compacted.",
+                    e);
+            Files.deleteIfExists(temporary);
+        }
+
+        Segment reopened = Segment.open(segment.file);
+        if (reopened == null) {
+            throw new IOException("Stats segment " + segment.file + " is broken after compaction");
+        }
+
+        return reopened;
+    }
+
+    /**
+     * @return count of segments
+     */
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    public synchronized void force() {
+        segments.values().forEach(Segment::force);
+    }
+
+    /**
+     * Flush and release every segment, log is not appended after close.
+     */
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments.values()) {
+            segment.force();
+            segment.release();
+        }
+
+        segments.clear();
+        closed = true;
+    }
+
+    /**
+     * @param epochSecond
+     * @param payload read only copy of record.
+     */
+    public record LogRecord(long epochSecond, ByteBuffer payload) {
+    }
+
+    private static final class Segment {
+        private final Path file;
+
+        private final MappedByteBuffer buffer;
+
+        private final long firstEpochSecond;
+
+        private long lastEpochSecond;
+
+        // offset of terminator
+        private int end;
+
+        private Segment(Path file, MappedByteBuffer buffer, long firstEpochSecond, long lastEpochSecond, int end) {
+            this.file = file;
+            this.buffer = buffer;
+            this.firstEpochSecond = firstEpochSecond;
+            this.lastEpochSecond = lastEpochSecond;
+            this.end = end;
+        }
+
+        static Segment create(Path file, int bytes, int flags) throws IOException {
+            MappedByteBuffer buffer = map(file, bytes);
+            buffer.putInt(Integer.BYTES, flags);
+            buffer.putInt(HEADER_BYTES, 0);
+            buffer.putInt(0, MAGIC);
+
+            String name = file.getFileName().toString();
+            long firstEpochSecond = Long.parseLong(name.substring(name.indexOf('-') + 1, name.indexOf('.')));
+
+            return new Segment(file, buffer, firstEpochSecond, Long.MIN_VALUE, HEADER_BYTES);
+        }
+
+        private static MappedByteBuffer map(Path file, long bytes) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                // mapping is valid after channel is closed.
+                return channel.map(MapMode.READ_WRITE, 0, bytes);
+            }
+        }
+
+        /**
+         * @return segment, null if file is not a segment.
+         */
+        static Segment open(Path file) throws IOException {
+            String name = file.getFileName().toString();
+            long size = Files.size(file);
+            if (size < HEADER_BYTES + Integer.BYTES || size > Integer.MAX_VALUE || name.indexOf('-') < 0) {
+                return null;
+            }
+
+            MappedByteBuffer buffer = map(file, size);
+            if (buffer.getInt(0) != MAGIC) {
+                MappedBuffers.release(buffer);
+                return null;
+            }
+
+            long firstEpochSecond;
+            try {
+                firstEpochSecond = Long.parseLong(name.substring(name.indexOf('-') + 1, name.indexOf('.')));
+            }
+            catch (NumberFormatException e) {
+                MappedBuffers.release(buffer);
+                return null;
+            }
+
+            // walk records to find end of segment.
+            int offset = HEADER_BYTES;
+            long lastEpochSecond = Long.MIN_VALUE;
+            while (offset + Integer.BYTES <= buffer.capacity()) {
+                int length = buffer.getInt(offset);
+                if (length <= 0 || offset + RECORD_HEADER_BYTES + length + Integer.BYTES > buffer.capacity()) {
+                    break;
+                }
+
+                lastEpochSecond = buffer.getLong(offset + Integer.BYTES);
+                offset += RECORD_HEADER_BYTES + length;
+            }
+
+            return new Segment(file, buffer, firstEpochSecond, lastEpochSecond, offset);
+        }
+
+        boolean isCompacted() {
+            return (buffer.getInt(Integer.BYTES) & COMPACTED) != 0;
+        }
+
+        int remaining() {
+            return buffer.capacity() - end;
+        }
+
+        void append(long epochSecond, byte[] payload) {
+            int next = end + RECORD_HEADER_BYTES + payload.length;
+
+            // terminator and payload first, length last.
+            buffer.putInt(next, 0);
+            buffer.put(end + RECORD_HEADER_BYTES, payload);
+            buffer.putLong(end + Integer.BYTES, epochSecond);
+            buffer.putInt(end, payload.length);
+
+            end = next;
+            lastEpochSecond = epochSecond;
+        }
+
+        void read(long fromEpochSecond, List<LogRecord> records) {
+            int offset = HEADER_BYTES;
+            while (offset < end) {
+                int length = buffer.getInt(offset);
+                long epochSecond = buffer.getLong(offset + Integer.BYTES);
+                if (epochSecond >= fromEpochSecond) {
+                    byte[] payload = new byte[length];
+                    buffer.get(offset + RECORD_HEADER_BYTES, payload);
+                    records.add(new LogRecord(epochSecond, ByteBuffer.wrap(payload).asReadOnlyBuffer()));
+                }
+
+                offset += RECORD_HEADER_BYTES + length;
+            }
+        }
+
+        void force() {
+            buffer.force();
+        }
+
+        /**
+         * Segment is not accessed after release.
+         */
+        void release() {
+            MappedBuffers.release(buffer);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.armedis.http.service.stats.series;
+
+/**
+ * Values of one series for time range. values[i] is the value of <code>from + i * step</code> epoch second.
+ * @author krisjey
+ *
+ */
+public class SeriesPoints {
+    private final String node;
+
+    private final String metric;
+
+    private final SeriesResolution resolution;
+
+    private final long from;
+
+    private final double[] values;
+
+    public SeriesPoints(String node, String metric, SeriesResolution resolution, long from, double[] values) {
+        this.node = node;
+        this.metric = metric;
+        this.resolution = resolution;
+        this.from = from;
+        this.values = values;
+    }
+
+    public String getNode() {
+        return node;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public String getResolution() {
+        return resolution.getLabel();
+    }
+
+    public int getStep() {
+        return resolution.getStepSeconds();
+    }
+
+    public long getFrom() {
+        return from;
+    }
+
+    /**
+     * @return values, null is not polled time.
+     */
+    public Double[] getValues() {
+        Double[] points = new Double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            points[i] = Double.isNaN(values[i]) ? null : values[i];
+        }
+
+        return points;
+    }
+
+    double[] rawValues() {
+        return values;
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.armedis.http.service.stats.series;
+
+/**
+ * Rollup tiers of stats series. Each tier keeps average value of step.
+ * <pre>
+ *  - 1s for 1 hour
+ *  - 10s for 24 hours
+ *  - 1m for 30 days
+ * </pre>
+ * @author krisjey
+ *
+ */
+public enum SeriesResolution {
+    SECOND("1s", 1, 3600),
+    TEN_SECONDS("10s", 10, 8640),
+    MINUTE("1m", 60, 43200);
+
+    private final String label;
+
+    private final int stepSeconds;
+
+    private final int capacity;
+
+    SeriesResolution(String label, int stepSeconds, int capacity) {
+        this.label = label;
+        this.stepSeconds = stepSeconds;
+        this.capacity = capacity;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getStepSeconds() {
+        return stepSeconds;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return seconds which is kept by this resolution.
+     */
+    public long getRetentionSeconds() {
+        return (long) stepSeconds * capacity;
+    }
+
+    /**
+     * @param label 1s, 10s, 1m
+     * @return resolution of label, null if label is unknown.
+     */
+    public static SeriesResolution of(String label) {
+        for (SeriesResolution resolution : values()) {
+            if (resolution.label.equalsIgnoreCase(label) || resolution.name().equalsIgnoreCase(label)) {
+                return resolution;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @param rangeSeconds
+     * @return finest resolution which keeps whole range.
+     */
+    public static SeriesResolution forRange(long rangeSeconds) {
+        for (SeriesResolution resolution : values()) {
+            if (rangeSeconds <= resolution.getRetentionSeconds()) {
+                return resolution;
+            }
+        }
+
+        return MINUTE;
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.armedis.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.redis.pipeline.RedisCommandContext;
+import com.github.armedis.redis.pipeline.RedisCommandInterceptor;
+import com.github.armedis.redis.pipeline.RedisCommandInvocation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Count, latency and in-flight of redis commands of every front end.<br/>
+ * First interceptor of chain, so time of every other interceptor is included.
+ * <pre>
+ *  armedis.redis.command{transport, command, outcome}  timer, outcome is success or error
+ *  armedis.redis.command.inflight                      gauge
+ * </pre>
+ * @author krisjey
+ *
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CommandMetricsInterceptor implements RedisCommandInterceptor {
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    // transport:command:outcome -> timer, commands are bounded by redis commands.
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CommandMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("armedis.redis.command.inflight", inflight, AtomicInteger::get)
+                .description("Redis commands in execution")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> T intercept(RedisCommandContext context, RedisCommandInvocation<T> invocation) throws Exception {
+        inflight.incrementAndGet();
+        boolean success = false;
+        try {
+            T result = invocation.proceed();
+            success = true;
+
+            return result;
+        }
+        finally {
+            inflight.decrementAndGet();
+            timer(context, success).record(System.nanoTime() - context.getStartNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(RedisCommandContext context, boolean success) {
+        String transport = context.getTransport().name().toLowerCase();
+        String outcome = success ? "success" : "error";
+
+        return timers.computeIfAbsent(transport + ":" + context.getCommand() + ":" + outcome,
+                key -> Timer.builder("armedis.redis.command")
+                        .description("Redis command execution by front end")
+                        .tag("transport", transport)
+                        .tag("command", context.getCommand())
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+    }
+
+    /**
+     * @return count of commands in execution
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+}
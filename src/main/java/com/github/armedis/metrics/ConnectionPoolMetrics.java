@@ -0,0 +1,128 @@
+package com.github.armedis.metrics;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Metrics of redis connection pools.<br/>
+ * Pools does not block when exhausted, so exhausted borrow is counted instead of wait queue.
+ * <pre>
+ *  armedis.pool.connections{pool, state}  gauge, state is active or idle
+ *  armedis.pool.waiters{pool}             gauge
+ *  armedis.pool.borrow.wait.mean{pool}    gauge, milliseconds
+ *  armedis.pool.borrow.wait.max{pool}     gauge, milliseconds
+ *  armedis.pool.borrowed{pool}            counter
+ *  armedis.pool.created{pool}             counter
+ *  armedis.pool.exhausted{pool}           counter
+ * </pre>
+ * @author krisjey
+ *
+ */
+@Component
+public class ConnectionPoolMetrics {
+    private final MeterRegistry meterRegistry;
+
+    private final List<GenericObjectPool<?>> pools = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public ConnectionPoolMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Register meters of pool.
+     * @param pool
+     * @param name name of pool. ex) cluster-string, standalone-bytestring
+     * @return borrower of pool which counts exhausted borrow.
+     */
+    public <T> PoolBorrower<T> bind(GenericObjectPool<T> pool, String name) {
+        pools.add(pool);
+
+        Tags tags = Tags.of("pool", name);
+
+        Gauge.builder("armedis.pool.connections", pool, GenericObjectPool::getNumActive)
+                .tags(tags).tag("state", "active")
+                .register(meterRegistry);
+        Gauge.builder("armedis.pool.connections", pool, GenericObjectPool::getNumIdle)
+                .tags(tags).tag("state", "idle")
+                .register(meterRegistry);
+        Gauge.builder("armedis.pool.waiters", pool, GenericObjectPool::getNumWaiters)
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("armedis.pool.borrow.wait.mean", pool, item -> item.getMeanBorrowWaitDuration().toMillis())
+                .tags(tags).baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("armedis.pool.borrow.wait.max", pool, item -> item.getMaxBorrowWaitDuration().toMillis())
+                .tags(tags).baseUnit("milliseconds")
+                .register(meterRegistry);
+        FunctionCounter.builder("armedis.pool.borrowed", pool, GenericObjectPool::getBorrowedCount)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("armedis.pool.created", pool, GenericObjectPool::getCreatedCount)
+                .tags(tags)
+                .register(meterRegistry);
+
+        Counter exhausted = Counter.builder("armedis.pool.exhausted")
+                .description("Borrow failures of exhausted pool")
+                .tags(tags)
+                .register(meterRegistry);
+
+        return new PoolBorrower<>(pool, exhausted);
+    }
+
+    /**
+     * @return highest ratio of active connections to max total of bound pools, 0 when no pool is bound.
+     */
+    public double getUtilization() {
+        double utilization = 0;
+        for (GenericObjectPool<?> pool : pools) {
+            if (pool.getMaxTotal() > 0) {
+                utilization = Math.max(utilization, (double) pool.getNumActive() / pool.getMaxTotal());
+            }
+        }
+
+        return utilization;
+    }
+
+    /**
+     * Borrow object of pool, and count exhausted failure.
+     * @author krisjey
+     *
+     * @param <T>
+     */
+    public static final class PoolBorrower<T> {
+        private final GenericObjectPool<T> pool;
+
+        private final Counter exhausted;
+
+        private PoolBorrower(GenericObjectPool<T> pool, Counter exhausted) {
+            this.pool = pool;
+            this.exhausted = exhausted;
+        }
+
+        public T borrow() throws Exception {
+            try {
+                return pool.borrowObject();
+            }
+            catch (NoSuchElementException e) {
+                // also thrown when new connection is not valid.
+                if (pool.getNumActive() >= pool.getMaxTotal()) {
+                    exhausted.increment();
+                }
+
+                throw e;
+            }
+        }
+    }
+}
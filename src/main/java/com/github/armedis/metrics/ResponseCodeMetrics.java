@@ -0,0 +1,40 @@
+package com.github.armedis.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.http.service.ResponseCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Count of http responses by {@link ResponseCode}.
+ * <pre>
+ *  armedis.http.responses{code, status}  counter
+ * </pre>
+ * @author krisjey
+ *
+ */
+@Component
+public class ResponseCodeMetrics {
+    private final Map<ResponseCode, Counter> counters = new EnumMap<>(ResponseCode.class);
+
+    @Autowired
+    public ResponseCodeMetrics(MeterRegistry meterRegistry) {
+        for (ResponseCode responseCode : ResponseCode.values()) {
+            counters.put(responseCode, Counter.builder("armedis.http.responses")
+                    .description("Http responses by response code")
+                    .tag("code", responseCode.name().toLowerCase())
+                    .tag("status", String.valueOf(responseCode.getStatusCode().code()))
+                    .register(meterRegistry));
+        }
+    }
+
+    public void count(ResponseCode responseCode) {
+        counters.get(responseCode).increment();
+    }
+}
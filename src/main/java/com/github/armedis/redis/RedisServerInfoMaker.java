@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.redis.connection.RedisNodeConnectionRegistry;
 import com.github.armedis.redis.connection.RedisServerDetector;
 import com.github.armedis.redis.connection.RedisServerInfo;
 
@@ -18,16 +19,22 @@ public class RedisServerInfoMaker {
     
     private ArmedisConfiguration armedisConfiguration;
     
+    private RedisNodeConnectionRegistry connectionRegistry;
+    
     private RedisServerInfo redisServerInfo;
     
     @Autowired
-    public RedisServerInfoMaker(ArmedisConfiguration armedisConfiguration) {
+    public RedisServerInfoMaker(ArmedisConfiguration armedisConfiguration,
+            RedisNodeConnectionRegistry connectionRegistry) {
         this.armedisConfiguration = armedisConfiguration;
+        this.connectionRegistry = connectionRegistry;
     }
     
     public RedisServerInfo getRedisServerInfo() {
         if (this.redisServerInfo == null) {
-            RedisServerDetector redisServerDetector = new RedisServerDetector(armedisConfiguration.getRedisSeedAddress());
+            RedisServerDetector redisServerDetector = new RedisServerDetector(
+                    armedisConfiguration.getRedisSeedAddress(), connectionRegistry,
+                    armedisConfiguration.getNodeCommandTimeoutMillis());
             
             Set<RedisNode> redisNodes = null;
             try {
@@ -0,0 +1,127 @@
+package com.github.armedis.redis.admission;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.metrics.ConnectionPoolMetrics;
+import com.github.armedis.redis.pipeline.RedisCommandContext;
+import com.github.armedis.redis.pipeline.RedisCommandInterceptor;
+import com.github.armedis.redis.pipeline.RedisCommandInvocation;
+
+import io.lettuce.core.RedisCommandExecutionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Adaptive admission control of redis commands.<br/>
+ * Each {@link CommandClass} has its own {@link AimdLimiter} which is decreased by slow or failed response and
+ * saturated connection pool. Low priority class is rejected first while pool utilization is over threshold.
+ * Rejected request fails fast with {@link AdmissionRejectedException}, so latency of admitted requests is bounded.
+ * <pre>
+ *  armedis.admission.limit{class}     gauge
+ *  armedis.admission.rejected{class}  counter
+ * </pre>
+ * @author krisjey
+ *
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 50)
+public class AdmissionControlInterceptor implements RedisCommandInterceptor {
+    // low priority is rejected from this ratio of pool utilization threshold.
+    private static final double LOW_PRIORITY_RATIO = 0.8;
+
+    private final ArmedisConfiguration armedisConfiguration;
+
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+
+    private final Map<CommandClass, AimdLimiter> limiters = new EnumMap<>(CommandClass.class);
+
+    private final Map<CommandClass, Counter> rejected = new EnumMap<>(CommandClass.class);
+
+    @Autowired
+    public AdmissionControlInterceptor(ArmedisConfiguration armedisConfiguration,
+            ConnectionPoolMetrics connectionPoolMetrics, MeterRegistry meterRegistry) {
+        this.armedisConfiguration = armedisConfiguration;
+        this.connectionPoolMetrics = connectionPoolMetrics;
+
+        long latencyThresholdNanos = TimeUnit.MILLISECONDS
+                .toNanos(armedisConfiguration.getAdmissionLatencyThresholdMillis());
+        for (CommandClass commandClass : CommandClass.values()) {
+            AimdLimiter limiter = new AimdLimiter(armedisConfiguration.getAdmissionInitialLimit(),
+                    armedisConfiguration.getAdmissionMinLimit(), armedisConfiguration.getAdmissionMaxLimit(),
+                    latencyThresholdNanos);
+            limiters.put(commandClass, limiter);
+
+            String name = commandClass.name().toLowerCase();
+            Gauge.builder("armedis.admission.limit", limiter, AimdLimiter::getLimit)
+                    .tag("class", name)
+                    .register(meterRegistry);
+            rejected.put(commandClass, Counter.builder("armedis.admission.rejected")
+                    .description("Requests rejected by admission control")
+                    .tag("class", name)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public <T> T intercept(RedisCommandContext context, RedisCommandInvocation<T> invocation) throws Exception {
+        if (!armedisConfiguration.isAdmissionEnabled()) {
+            return invocation.proceed();
+        }
+
+        CommandClass commandClass = CommandClass.of(context.getCommand());
+        double utilizationThreshold = armedisConfiguration.getAdmissionPoolUtilizationThreshold();
+        if (commandClass.getPriority() == CommandClass.Priority.LOW
+                && connectionPoolMetrics.getUtilization() >= utilizationThreshold * LOW_PRIORITY_RATIO) {
+            throw reject(commandClass, "connection pool is saturated");
+        }
+
+        AimdLimiter limiter = limiters.get(commandClass);
+        long epoch = limiter.tryAcquire();
+        if (epoch == AimdLimiter.REJECTED) {
+            throw reject(commandClass, "concurrency limit " + limiter.getLimit() + " is exceeded");
+        }
+
+        long startNanos = System.nanoTime();
+        boolean dropped = false;
+        try {
+            return invocation.proceed();
+        }
+        catch (IllegalArgumentException | RedisCommandExecutionException e) {
+            // error of request, not overload.
+            throw e;
+        }
+        catch (Exception e) {
+            dropped = true;
+            throw e;
+        }
+        finally {
+            // saturated pool is a congestion signal of the epoch, not of every release.
+            dropped |= connectionPoolMetrics.getUtilization() >= utilizationThreshold;
+            limiter.release(epoch, System.nanoTime() - startNanos, dropped);
+        }
+    }
+
+    private AdmissionRejectedException reject(CommandClass commandClass, String reason) {
+        rejected.get(commandClass).increment();
+
+        return new AdmissionRejectedException(commandClass,
+                commandClass.name().toLowerCase() + " command is rejected, " + reason);
+    }
+
+    /**
+     * @param commandClass
+     * @return current limit of command class
+     */
+    public int getLimit(CommandClass commandClass) {
+        return limiters.get(commandClass).getLimit();
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.armedis.redis.admission;
+
+/**
+ * Request is rejected by admission control. Mapped to 503 of http and RESOURCE_EXHAUSTED of gRPC.
+ * @author krisjey
+ *
+ */
+public class AdmissionRejectedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final CommandClass commandClass;
+
+    public AdmissionRejectedException(CommandClass commandClass, String message) {
+        super(message);
+        this.commandClass = commandClass;
+    }
+
+    public CommandClass getCommandClass() {
+        return commandClass;
+    }
+}
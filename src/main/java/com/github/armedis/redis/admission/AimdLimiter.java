@@ -0,0 +1,81 @@
+package com.github.armedis.redis.admission;
+
+/**
+ * Additive increase, multiplicative decrease concurrency limit.<br/>
+ * Limit grows by one per limit of fast responses while the limit is used more than half, and is multiplied by
+ * backoff ratio on slow or failed response. Excess request is rejected immediately instead of waiting.<br/>
+ * Limit is decreased at most once per round trip. Every decrease starts new epoch, and only request admitted in
+ * current epoch can decrease limit, so burst of slow responses admitted together is one congestion signal.
+ * @author krisjey
+ *
+ */
+public class AimdLimiter {
+    /**
+     * Result of {@link #tryAcquire()} when request is not admitted.
+     */
+    public static final long REJECTED = -1;
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long latencyThresholdNanos;
+
+    // guarded by this.
+    private double limit;
+
+    private int inflight;
+
+    private long epoch;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    /**
+     * @return epoch of admitted request, {@link #REJECTED} if not admitted. {@link #release(long, long, boolean)}
+     *         should be called with returned epoch after response.
+     */
+    public synchronized long tryAcquire() {
+        if (inflight >= (int) limit) {
+            return REJECTED;
+        }
+
+        inflight++;
+        return epoch;
+    }
+
+    /**
+     * Release admitted request and adjust limit.
+     * @param acquiredEpoch epoch returned by {@link #tryAcquire()}
+     * @param latencyNanos latency of request
+     * @param dropped true if request is failed or pool is saturated.
+     */
+    public synchronized void release(long acquiredEpoch, long latencyNanos, boolean dropped) {
+        inflight--;
+
+        if (dropped || latencyNanos > latencyThresholdNanos) {
+            // request admitted before last decrease already saw the congestion of that decrease.
+            if (acquiredEpoch == epoch) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                epoch++;
+            }
+        }
+        else if (inflight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInflight() {
+        return inflight;
+    }
+}
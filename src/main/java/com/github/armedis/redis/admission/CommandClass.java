@@ -0,0 +1,56 @@
+package com.github.armedis.redis.admission;
+
+import java.util.Set;
+
+/**
+ * Command class of admission control. Each class has its own limit.<br/>
+ * Bulk commands are low priority, so they are shed first when connection pool is saturated.
+ * @author krisjey
+ *
+ */
+public enum CommandClass {
+    READ(Priority.HIGH),
+    WRITE(Priority.HIGH),
+    BULK(Priority.LOW),
+    ;
+
+    /**
+     * Priority of command class.
+     */
+    public enum Priority {
+        HIGH,
+        LOW
+    }
+
+    // multi key or O(N) commands
+    private static final Set<String> BULK_COMMANDS = Set.of("mget", "mset", "msetnx", "hgetall", "hkeys", "hvals",
+            "hmget", "hmset", "lrange", "smembers", "sunion", "sinter", "sdiff", "sunionstore", "sinterstore",
+            "sdiffstore", "zrange", "zrangebyscore", "zrevrange", "zrevrangebyscore", "zunionstore", "zinterstore",
+            "keys", "scan", "sort", "bitop", "del", "unlink");
+
+    private static final Set<String> READ_COMMANDS = Set.of("get", "getbit", "getrange", "strlen", "bitcount",
+            "bitpos", "exists", "ttl", "pttl", "type", "hget", "hexists", "hlen", "hstrlen", "llen", "lindex", "scard",
+            "sismember", "srandmember", "zcard", "zcount", "zrank", "zrevrank", "zscore", "xlen", "pfcount");
+
+    private final Priority priority;
+
+    private CommandClass(Priority priority) {
+        this.priority = priority;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    /**
+     * @param command lower case command name
+     * @return command class, write when command is not read or bulk.
+     */
+    public static CommandClass of(String command) {
+        if (BULK_COMMANDS.contains(command)) {
+            return BULK;
+        }
+
+        return READ_COMMANDS.contains(command) ? READ : WRITE;
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.armedis.redis.bigkey;
+
+/**
+ * Sampled key size.
+ * @param node host:port
+ * @param type redis type of key. ex) string, hash
+ * @param key
+ * @param size bytes of MEMORY USAGE, or element count(string length) when MEMORY USAGE is not available.
+ * @param unit bytes or elements
+ * @author krisjey
+ *
+ */
+public record BigKey(String node, String type, String key, long size, String unit) {
+}
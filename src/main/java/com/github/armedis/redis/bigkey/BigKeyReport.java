@@ -0,0 +1,99 @@
+package com.github.armedis.redis.bigkey;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Top N biggest keys per type of one node scan.
+ * @author krisjey
+ *
+ */
+public class BigKeyReport {
+    private static final Comparator<BigKey> BY_SIZE = Comparator.comparingLong(BigKey::size);
+
+    private final String node;
+
+    private final int topN;
+
+    private final long startedAt;
+
+    private volatile long finishedAt;
+
+    private volatile long scannedKeys;
+
+    private volatile String status = "running";
+
+    // min heap per type, guarded by this.
+    private final Map<String, PriorityQueue<BigKey>> topKeys = new HashMap<>();
+
+    BigKeyReport(String node, int topN, long startedAt) {
+        this.node = node;
+        this.topN = Math.max(1, topN);
+        this.startedAt = startedAt;
+    }
+
+    synchronized void offer(BigKey bigKey) {
+        scannedKeys++;
+
+        PriorityQueue<BigKey> heap = topKeys.computeIfAbsent(bigKey.type(), type -> new PriorityQueue<>(BY_SIZE));
+        if (heap.size() < topN) {
+            heap.add(bigKey);
+        }
+        else if (heap.peek().size() < bigKey.size()) {
+            heap.poll();
+            heap.add(bigKey);
+        }
+    }
+
+    void finish(String status, long finishedAt) {
+        this.status = status;
+        this.finishedAt = finishedAt;
+    }
+
+    public String getNode() {
+        return node;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * @return epoch milli, 0 while running.
+     */
+    public long getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getScannedKeys() {
+        return scannedKeys;
+    }
+
+    /**
+     * @return running, finished, stopped or error message
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * @param type type of key, every type if empty.
+     * @return biggest keys by descending size
+     */
+    public synchronized List<BigKey> top(String type) {
+        List<BigKey> bigKeys = new ArrayList<>();
+        for (Map.Entry<String, PriorityQueue<BigKey>> heap : topKeys.entrySet()) {
+            if (type == null || type.isEmpty() || type.equalsIgnoreCase(heap.getKey())) {
+                bigKeys.addAll(heap.getValue());
+            }
+        }
+
+        bigKeys.sort(BY_SIZE.reversed());
+
+        return bigKeys;
+    }
+}
@@ -0,0 +1,233 @@
+package com.github.armedis.redis.bigkey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.redis.RedisNode;
+import com.github.armedis.redis.connection.RedisNodeConnectionRegistry;
+import com.github.armedis.redis.connection.codec.ByteStringCodec;
+import com.github.armedis.redis.topology.RedisTopologyService;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.protobuf.ByteString;
+
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.api.sync.RedisCommands;
+
+/**
+ * Background big key scanner of every master node.<br/>
+ * Each master is scanned by its own worker with SCAN, TYPE and MEMORY USAGE. Commands of each node are limited
+ * by ops per second budget, so scanning does not affect latency of production traffic.
+ * When MEMORY USAGE is not allowed, element count(STRLEN, HLEN, LLEN, SCARD, ZCARD, XLEN) is used as size.
+ * @author krisjey
+ *
+ */
+@Component
+public class BigKeyScanner implements DisposableBean {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ArmedisConfiguration armedisConfiguration;
+
+    private final RedisNodeConnectionRegistry connectionRegistry;
+
+    private final RedisTopologyService redisTopologyService;
+
+    private final ExecutorService executor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile boolean stopped;
+
+    // last or running scan report of each node.
+    private final Map<String, BigKeyReport> reports = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BigKeyScanner(ArmedisConfiguration armedisConfiguration,
+            RedisNodeConnectionRegistry connectionRegistry, RedisTopologyService redisTopologyService) {
+        this.armedisConfiguration = armedisConfiguration;
+        this.connectionRegistry = connectionRegistry;
+        this.redisTopologyService = redisTopologyService;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, armedisConfiguration.getBigKeyParallelism()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bigkey-scanner-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Scheduled(initialDelay = 60000, fixedDelayString = "${server.config.bigkey.intervalMillis:21600000}")
+    public void scheduledScan() {
+        if (armedisConfiguration.isBigKeyEnabled()) {
+            scan();
+        }
+    }
+
+    /**
+     * Start scan of every master node when previous scan is finished.
+     * @return true if scan is started
+     */
+    public boolean scan() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Big key scan is already running.");
+            return false;
+        }
+
+        List<String> nodes = new ArrayList<>();
+        List<CompletableFuture<Void>> scans = new ArrayList<>();
+        for (RedisNode redisNode : redisTopologyService.getSnapshot().getMasterRedisNodes()) {
+            String node = redisNode.getHost() + ":" + redisNode.getPort();
+            BigKeyReport report = new BigKeyReport(node, armedisConfiguration.getBigKeyTopN(),
+                    System.currentTimeMillis());
+            reports.put(node, report);
+            nodes.add(node);
+
+            scans.add(CompletableFuture.runAsync(() -> scanNode(redisNode, report), executor));
+        }
+
+        // removed masters(failover, resharding)
+        reports.keySet().retainAll(nodes);
+
+        CompletableFuture.allOf(scans.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((result, e) -> running.set(false));
+
+        logger.info("Big key scan started, nodes " + scans.size());
+
+        return true;
+    }
+
+    private void scanNode(RedisNode redisNode, BigKeyReport report) {
+        RateLimiter budget = RateLimiter.create(Math.max(1, armedisConfiguration.getBigKeyOpsPerSecond()));
+        int scanCount = Math.max(1, armedisConfiguration.getBigKeyScanCount());
+
+        try {
+            // binary keys are scanned as bytes, so TYPE and MEMORY USAGE are sent to the same key.
+            RedisCommands<ByteString, ByteString> commands = connectionRegistry.getBinaryConnectionAsync(redisNode)
+                    .get(armedisConfiguration.getStatPollTimeoutMillis(), TimeUnit.MILLISECONDS)
+                    .sync();
+
+            boolean memoryUsage = true;
+            ScanCursor cursor = ScanCursor.INITIAL;
+            ScanArgs scanArgs = ScanArgs.Builder.limit(scanCount);
+
+            do {
+                if (stopped) {
+                    report.finish("stopped", System.currentTimeMillis());
+                    return;
+                }
+
+                budget.acquire();
+                KeyScanCursor<ByteString> keyCursor = commands.scan(cursor, scanArgs);
+
+                for (ByteString key : keyCursor.getKeys()) {
+                    budget.acquire(2);
+
+                    String type = commands.type(key);
+                    if (memoryUsage) {
+                        try {
+                            Long bytes = commands.memoryUsage(key);
+                            if (bytes != null) {
+                                report.offer(new BigKey(report.getNode(), type, ByteStringCodec.display(key), bytes,
+                                        "bytes"));
+                            }
+
+                            continue;
+                        }
+                        catch (RedisCommandExecutionException e) {
+                            logger.warn("MEMORY USAGE is not available on " + report.getNode()
+                                    + ", use element count. " + e.getMessage());
+                            memoryUsage = false;
+                        }
+                    }
+
+                    long length = length(commands, type, key);
+                    if (length >= 0) {
+                        report.offer(new BigKey(report.getNode(), type, ByteStringCodec.display(key), length,
+                                "elements"));
+                    }
+                }
+
+                cursor = keyCursor;
+            } while (!cursor.isFinished());
+
+            report.finish("finished", System.currentTimeMillis());
+            logger.info("Big key scan of " + report.getNode() + " finished, keys " + report.getScannedKeys());
+        }
+        catch (Exception e) {
+            logger.error("Big key scan of " + report.getNode() + " is failed.", e);
+            report.finish("error " + e.getMessage(), System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * @return element count of key, string length of string. -1 if type is not supported or key is removed.
+     */
+    private static long length(RedisCommands<ByteString, ByteString> commands, String type, ByteString key) {
+        Long length = switch (type) {
+            case "string" -> commands.strlen(key);
+            case "hash" -> commands.hlen(key);
+            case "list" -> commands.llen(key);
+            case "set" -> commands.scard(key);
+            case "zset" -> commands.zcard(key);
+            case "stream" -> commands.xlen(key);
+            default -> null;
+        };
+
+        return length == null ? -1 : length;
+    }
+
+    /**
+     * @param node host:port, every node if empty.
+     * @param type type of key, every type if empty.
+     * @param limit
+     * @return biggest keys by descending size
+     */
+    public List<BigKey> top(String node, String type, int limit) {
+        List<BigKey> bigKeys = new ArrayList<>();
+        for (BigKeyReport report : reports.values()) {
+            if (node == null || node.isEmpty() || node.equals(report.getNode())) {
+                bigKeys.addAll(report.top(type));
+            }
+        }
+
+        bigKeys.sort((left, right) -> Long.compare(right.size(), left.size()));
+
+        return new ArrayList<>(bigKeys.subList(0, Math.min(Math.max(limit, 0), bigKeys.size())));
+    }
+
+    /**
+     * @return scan reports of each node
+     */
+    public List<BigKeyReport> getReports() {
+        return new ArrayList<>(reports.values());
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        stopped = true;
+        executor.shutdownNow();
+    }
+}
@@ -1,5 +1,5 @@
 
-package com.github.armedis.http.service.request;
+package com.github.armedis.redis.command;
 
 import java.util.Optional;
 
@@ -9,14 +9,14 @@ import com.linecorp.armeria.server.annotation.Param;
 
 public class AbstractRedisParam {
     @Param("key")
-    protected Optional<String> key;
+    protected Optional<String> key = Optional.empty();
 
     @Header("Accept")
     @Default("json")
     protected String responseDataType;
 
     /**
-     * set value at constructor 
+     * set value by front end decoder. ex) GET, POST, GRPC
      */
     protected String requestMethod;
 
@@ -27,6 +27,13 @@ public class AbstractRedisParam {
         return key.get();
     }
 
+    /**
+     * @return true when key is not empty
+     */
+    public boolean hasKey() {
+        return key != null && key.isPresent() && !key.get().isEmpty();
+    }
+
     /**
      * @param key the key to set
      */
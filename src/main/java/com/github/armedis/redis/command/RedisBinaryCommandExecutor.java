@@ -0,0 +1,97 @@
+package com.github.armedis.redis.command;
+
+import java.util.function.Function;
+
+import org.apache.commons.lang3.NotImplementedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.redis.RedisInstanceType;
+import com.github.armedis.redis.RedisServerInfoMaker;
+import com.github.armedis.redis.connection.pool.RedisConnectionPool;
+import com.github.armedis.redis.pipeline.RedisCommandContext;
+import com.github.armedis.redis.pipeline.RedisCommandInterceptorChain;
+import com.github.armedis.redis.pipeline.RedisCommandTransport;
+import com.google.protobuf.ByteString;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+
+/**
+ * Execute redis command with {@link ByteString} codec connection.<br/>
+ * gRPC services do not need command runner bean lookup, so command is given as function of
+ * {@link RedisClusterCommands} which is common interface of standalone and cluster commands.<br/>
+ * Command is executed through same {@link RedisCommandInterceptorChain} with command pipeline.
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisBinaryCommandExecutor {
+    private RedisConnectionPool<ByteString, ByteString> redisConnectionPool;
+
+    private RedisInstanceType redisServerInfo;
+
+    private RedisCommandInterceptorChain interceptorChain;
+
+    @Autowired
+    public RedisBinaryCommandExecutor(RedisConnectionPool<ByteString, ByteString> redisConnectionPool,
+            RedisServerInfoMaker redisServerInfoMaker, RedisCommandInterceptorChain interceptorChain) {
+        this.redisConnectionPool = redisConnectionPool;
+        this.redisServerInfo = redisServerInfoMaker.getRedisServerInfo().getRedisInstanceType();
+        this.interceptorChain = interceptorChain;
+    }
+
+    /**
+     * Execute command through same interceptors with command pipeline.
+     * @param <T>
+     * @param commandName redis command name for interceptors. ex) hmget
+     * @param key key of command
+     * @param command
+     * @return result of command
+     * @throws Exception
+     */
+    public <T> T execute(String commandName, ByteString key,
+            Function<RedisClusterCommands<ByteString, ByteString>, T> command) throws Exception {
+        RedisCommandContext context = RedisCommandContext.of(RedisCommandTransport.GRPC, commandName, key);
+
+        return interceptorChain.invoke(context, () -> execute(command));
+    }
+
+    private <T> T execute(Function<RedisClusterCommands<ByteString, ByteString>, T> command) throws Exception {
+        switch (this.redisServerInfo) {
+            case STANDALONE:
+                return executeNonClusterCommand(command);
+
+            case CLUSTER:
+                return executeClusterCommand(command);
+
+            default:
+                throw new NotImplementedException("Connection pool not implemented yet " + redisServerInfo.toString());
+        }
+    }
+
+    private <T> T executeNonClusterCommand(Function<RedisClusterCommands<ByteString, ByteString>, T> command)
+            throws Exception {
+        StatefulRedisConnection<ByteString, ByteString> connection = this.redisConnectionPool
+                .getNonClusterConnection();
+        try {
+            return command.apply(connection.sync());
+        }
+        finally {
+            this.redisConnectionPool.returnObject(connection);
+        }
+    }
+
+    private <T> T executeClusterCommand(Function<RedisClusterCommands<ByteString, ByteString>, T> command)
+            throws Exception {
+        StatefulRedisClusterConnection<ByteString, ByteString> connection = this.redisConnectionPool
+                .getClusterConnection();
+        try {
+            return command.apply(connection.sync());
+        }
+        finally {
+            this.redisConnectionPool.returnObject(connection);
+        }
+    }
+}
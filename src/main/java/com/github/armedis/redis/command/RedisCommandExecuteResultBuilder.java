@@ -22,6 +22,7 @@ public class RedisCommandExecuteResultBuilder {
     }
 
     public RedisCommandExecuteResultBuilder setResult(int intResult) {
+        this.intResult = intResult;
         return this;
     }
 
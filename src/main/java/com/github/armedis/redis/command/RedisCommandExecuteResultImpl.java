@@ -26,8 +26,23 @@ public class RedisCommandExecuteResultImpl implements RedisCommandExecuteResult
 
     @Override
     public String toResponseString() {
-        ObjectNode result = createObjectNode();
-        return result.textValue();
+        // ObjectNode.textValue() is always null, so convert result value directly.
+        switch (resultType) {
+            case INTEGER:
+                return String.valueOf(intResult);
+
+            case LONG:
+                return String.valueOf(longResult);
+
+            case FLOAT:
+                return String.valueOf(floatResult);
+
+            case DOUBLE:
+                return String.valueOf(doubleResult);
+
+            default:
+                return stringResult;
+        }
     }
 
     @Override
@@ -8,7 +8,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 
-import com.github.armedis.http.service.request.RedisRequest;
 import com.github.armedis.redis.RedisInstanceType;
 import com.github.armedis.redis.RedisServerInfoMaker;
 import com.github.armedis.redis.connection.pool.RedisConnectionPool;
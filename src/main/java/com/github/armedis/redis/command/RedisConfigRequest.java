@@ -4,8 +4,6 @@ package com.github.armedis.redis.command;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.github.armedis.http.service.request.RedisRequest;
-import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.server.annotation.Param;
 
 public class RedisConfigRequest extends RedisRequest {
@@ -14,8 +12,7 @@ public class RedisConfigRequest extends RedisRequest {
     @Param("value")
     protected String value;
 
-    public RedisConfigRequest(AggregatedHttpRequest httpRequest) {
-        super(httpRequest);
+    public RedisConfigRequest() {
         this.setCommand("Config");
     }
 
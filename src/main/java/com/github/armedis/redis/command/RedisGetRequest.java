@@ -1,12 +1,8 @@
 
 package com.github.armedis.redis.command;
 
-import com.github.armedis.http.service.request.RedisRequest;
-import com.linecorp.armeria.common.AggregatedHttpRequest;
-
 public class RedisGetRequest extends RedisRequest {
-    public RedisGetRequest(AggregatedHttpRequest httpRequest) {
-        super(httpRequest);
+    public RedisGetRequest() {
 //        // created object by every http request
 //        logger.info("Created request " + RedisGetRequest.class.getName());
         this.setCommand("Get");
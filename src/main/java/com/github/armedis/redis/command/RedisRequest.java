@@ -1,9 +1,5 @@
 
-package com.github.armedis.http.service.request;
-
-import java.util.Optional;
-
-import com.linecorp.armeria.common.AggregatedHttpRequest;
+package com.github.armedis.redis.command;
 
 /**
  * Created object by every http request<br />
@@ -32,8 +28,10 @@ import com.linecorp.armeria.common.AggregatedHttpRequest;
 public class RedisRequest extends AbstractRedisParam implements ResponseDataTypes {
     private String command;
 
-    public RedisRequest(AggregatedHttpRequest httpRequest) {
-        setRequestMethod(httpRequest.method().toString());
+    /**
+     * Transport type is not depended, request method is set by front end decoder.
+     */
+    public RedisRequest() {
     }
 
     public String getCommand() {
@@ -50,7 +48,7 @@ public class RedisRequest extends AbstractRedisParam implements ResponseDataType
 
     @Override
     public String toString() {
-        return "RedisRequest [key=" + key.get() + ", command=" + this.command + "], method=" + this.requestMethod + "]";
+        return "RedisRequest [key=" + key.orElse(null) + ", command=" + this.command + "], method=" + this.requestMethod + "]";
     }
 
     @Override
@@ -1,13 +1,22 @@
 
 package com.github.armedis.redis.command.management;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
+import com.github.armedis.config.ArmedisConfiguration;
 import com.github.armedis.redis.RedisNode;
 import com.github.armedis.redis.command.AbstractRedisCommandRunner;
 import com.github.armedis.redis.command.RedisClusterWideCommand;
@@ -16,10 +25,11 @@ import com.github.armedis.redis.command.RedisCommandExecuteResult;
 import com.github.armedis.redis.command.RedisCommandExecuteResultFactory;
 import com.github.armedis.redis.command.RedisConfigRequest;
 import com.github.armedis.redis.command.RequestRedisCommandName;
-import com.github.armedis.redis.connection.RedisConnector;
-import com.github.armedis.redis.connection.RedisServerDetector;
+import com.github.armedis.redis.connection.RedisNodeConnectionRegistry;
+import com.github.armedis.redis.topology.RedisTopologyService;
+import com.github.armedis.redis.topology.TopologySnapshot;
 
-import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.RedisCommandExecutionException;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
 
@@ -34,6 +44,15 @@ public class RedisConfigCommandRunner extends AbstractRedisCommandRunner {
 
 	private RedisConfigRequest redisRequest;
 
+	@Autowired
+	private RedisTopologyService redisTopologyService;
+
+	@Autowired
+	private RedisNodeConnectionRegistry connectionRegistry;
+
+	@Autowired
+	private ArmedisConfiguration armedisConfiguration;
+
 	public RedisConfigCommandRunner(RedisConfigRequest redisRequest) {
 		this.redisRequest = redisRequest;
 	}
@@ -59,21 +78,22 @@ public class RedisConfigCommandRunner extends AbstractRedisCommandRunner {
 
 		String result = null;
 
-		Set<RedisNode> nodes = null;
+		Set<RedisNode> nodes = Set.of();
+		TopologySnapshot topology = redisTopologyService.getSnapshot();
 
 		RedisClusterWideCommand mode = getRedisClusterWideCommandMode(key);
 		switch (mode) {
 		case MASTER:
-			nodes = RedisServerDetector.getMasterNodes();
+			nodes = topology.getMasterRedisNodes();
 
 			break;
 
 		case SLAVE:
-			nodes = RedisServerDetector.getReplicaNodes();
+			nodes = topology.getReplicaRedisNodes();
 			break;
 
 		case ALL:
-			nodes = RedisServerDetector.getAllNodes();
+			nodes = topology.getAllRedisNodes();
 
 			break;
 
@@ -81,24 +101,39 @@ public class RedisConfigCommandRunner extends AbstractRedisCommandRunner {
 			logger.error("Can not execute command for cluster mode");
 		}
 
-		// execute command to each nodes.
+		// execute command to each nodes at once by cached node connection.
+		long timeoutMillis = armedisConfiguration.getNodeCommandTimeoutMillis();
+		Map<RedisNode, CompletableFuture<String>> futures = new LinkedHashMap<>();
 		for (RedisNode node : nodes) {
-			// TODO FIXME do not create connection for every execute.
-			RedisConnector connector = new RedisConnector(node);
-			try (StatefulRedisConnection<String, String> connection = connector.connect();) {
-//				set get 분기처리.
-				result = connection.sync().configSet(key, value);
+//			set get 분기처리.
+			futures.put(node, connectionRegistry.getConnectionAsync(node)
+					.thenCompose(connection -> connection.async().configSet(key, value))
+					.toCompletableFuture()
+					.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS));
+		}
+
+		CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+				.handle((ignore, e) -> null)
+				.join();
+
+		List<String> failures = new ArrayList<>();
+		for (Entry<RedisNode, CompletableFuture<String>> future : futures.entrySet()) {
+			try {
+				result = future.getValue().join();
 			} catch (Exception e) {
-				logger.error("Error command " + this.redisRequest.toString(), e);
-			} finally {
-				try {
-					connector.close();
-				} catch (Exception e) {
-					e.printStackTrace();
-				}
+				Throwable cause = e.getCause() == null ? e : e.getCause();
+				logger.error("Error command " + this.redisRequest.toString() + " of " + future.getKey(), cause);
+				failures.add(future.getKey().getHost() + ":" + future.getKey().getPort() + " "
+						+ (cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage()));
 			}
 		}
 
+		// success of other nodes is not a success of cluster wide config.
+		if (!failures.isEmpty()) {
+			throw new RedisCommandExecutionException("CONFIG SET " + key + " is failed on " + failures.size() + " of "
+					+ futures.size() + " nodes " + failures);
+		}
+
 		return RedisCommandExecuteResultFactory.buildRedisCommandExecuteResult(result);
 	}
 
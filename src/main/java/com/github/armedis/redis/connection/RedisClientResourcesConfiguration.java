@@ -0,0 +1,25 @@
+package com.github.armedis.redis.connection;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+
+/**
+ * Lettuce client resources(event loop, timer, event bus) shared by every redis client of armedis.<br/>
+ * Data connection pool, node connection registry and topology source do not create event loop per client.
+ * @author krisjey
+ *
+ */
+@Configuration
+public class RedisClientResourcesConfiguration {
+    /**
+     * Shutdown after every client is shutdown, client does not shutdown shared resources.
+     * @return shared client resources
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources redisClientResources() {
+        return DefaultClientResources.create();
+    }
+}
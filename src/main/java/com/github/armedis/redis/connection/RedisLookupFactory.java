@@ -5,7 +5,8 @@ import com.github.armedis.redis.RedisInstanceType;
 
 public class RedisLookupFactory {
     
-    public static RedisNodeLookup create(RedisInstanceType type, String seedAddresses) throws UnsupportedOperationException {
+    public static RedisNodeLookup create(RedisInstanceType type, String seedAddresses,
+            RedisNodeConnectionRegistry connectionRegistry, long timeoutMillis) throws UnsupportedOperationException {
         RedisNodeLookup lookup = null;
         
         switch (type) {
@@ -14,11 +15,11 @@ public class RedisLookupFactory {
                 break;
             
             case STANDALONE:
-                lookup = new RedisNoneClusterNodeLookup(seedAddresses);
+                lookup = new RedisNoneClusterNodeLookup(seedAddresses, connectionRegistry, timeoutMillis);
                 break;
             
             case SENTINEL:
-                lookup = new RedisSentinelNodeLookup();
+                lookup = new RedisSentinelNodeLookup(seedAddresses, connectionRegistry.getClientResources());
                 break;
             
             case NOT_DETECTED:
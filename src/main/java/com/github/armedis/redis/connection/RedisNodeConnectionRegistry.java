@@ -0,0 +1,160 @@
+package com.github.armedis.redis.connection;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.redis.RedisNode;
+import com.github.armedis.redis.connection.codec.ByteStringCodec;
+import com.google.protobuf.ByteString;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Dedicated connection per redis node for management and stats commands.<br/>
+ * Every connection is created by one {@link RedisClient} of shared {@link ClientResources}, so node connections do
+ * not use data connection pool and do not create client(event loop) per node. Connection is created at first use,
+ * failed connection is reconnected at next use, and connection of node removed from topology is closed.<br/>
+ * Binary connection is for commands of keys which can not be decoded as utf-8. ex) SCAN, RANDOMKEY<br/>
+ * Node lookup at startup uses same connections, seed connection is closed when seed is not in topology.
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisNodeConnectionRegistry implements DisposableBean {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final RedisClient client;
+
+    private final Map<RedisNode, CompletableFuture<StatefulRedisConnection<String, String>>> connections
+            = new ConcurrentHashMap<>();
+
+    private final Map<RedisNode, CompletableFuture<StatefulRedisConnection<ByteString, ByteString>>> binaryConnections
+            = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RedisNodeConnectionRegistry(ClientResources clientResources) {
+        this.client = RedisClient.create(clientResources);
+    }
+
+    /**
+     * Get connection of node, connect asynchronously when connection is absent or last connect was failed.
+     * @param redisNode
+     * @return future of connection
+     */
+    public CompletableFuture<StatefulRedisConnection<String, String>> getConnectionAsync(RedisNode redisNode) {
+        return getConnectionAsync(connections, redisNode, StringCodec.UTF8);
+    }
+
+    /**
+     * Get connection of node and wait until connected. ex) node lookup at startup
+     * @param redisNode
+     * @param timeoutMillis
+     * @return connection, shared by callers and must not be closed.
+     * @throws RedisConnectionException when node is not connected in timeout.
+     */
+    public StatefulRedisConnection<String, String> getConnection(RedisNode redisNode, long timeoutMillis) {
+        try {
+            return getConnectionAsync(redisNode).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisConnectionException("Interrupted while connecting " + redisNode, e);
+        }
+        catch (ExecutionException | TimeoutException e) {
+            throw new RedisConnectionException("Can not connect " + redisNode, e);
+        }
+    }
+
+    /**
+     * @return resources shared by every redis client of armedis.
+     */
+    public ClientResources getClientResources() {
+        return client.getResources();
+    }
+
+    /**
+     * Get connection of {@link ByteString} keys and values, keys are not decoded as utf-8.
+     * @param redisNode
+     * @return future of connection
+     */
+    public CompletableFuture<StatefulRedisConnection<ByteString, ByteString>> getBinaryConnectionAsync(
+            RedisNode redisNode) {
+        return getConnectionAsync(binaryConnections, redisNode, ByteStringCodec.INSTANCE);
+    }
+
+    private <V> CompletableFuture<StatefulRedisConnection<V, V>> getConnectionAsync(
+            Map<RedisNode, CompletableFuture<StatefulRedisConnection<V, V>>> connections, RedisNode redisNode,
+            RedisCodec<V, V> codec) {
+        CompletableFuture<StatefulRedisConnection<V, V>> connection = connections.computeIfAbsent(redisNode,
+                node -> connect(node, codec));
+
+        if (connection.isCompletedExceptionally()) {
+            // reconnect at next request, failed future is replaced only once by concurrent callers.
+            if (connections.remove(redisNode, connection)) {
+                logger.info("Reconnect to " + redisNode);
+            }
+
+            connection = connections.computeIfAbsent(redisNode, node -> connect(node, codec));
+        }
+
+        return connection;
+    }
+
+    private <V> CompletableFuture<StatefulRedisConnection<V, V>> connect(RedisNode redisNode, RedisCodec<V, V> codec) {
+        return client.connectAsync(codec, redisNode.getUri()).toCompletableFuture();
+    }
+
+    /**
+     * Close connections of nodes which are not in given nodes. ex) removed from cluster
+     * @param liveNodes
+     */
+    public void retain(Collection<RedisNode> liveNodes) {
+        Set<RedisNode> live = new HashSet<>(liveNodes);
+
+        for (RedisNode redisNode : connections.keySet()) {
+            if (!live.contains(redisNode)) {
+                close(connections, redisNode);
+            }
+        }
+
+        for (RedisNode redisNode : binaryConnections.keySet()) {
+            if (!live.contains(redisNode)) {
+                close(binaryConnections, redisNode);
+            }
+        }
+    }
+
+    private <V> void close(Map<RedisNode, CompletableFuture<StatefulRedisConnection<V, V>>> connections,
+            RedisNode redisNode) {
+        CompletableFuture<StatefulRedisConnection<V, V>> connection = connections.remove(redisNode);
+        if (connection != null) {
+            logger.info("Close node connection " + redisNode);
+            connection.thenAccept(StatefulRedisConnection::closeAsync);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        retain(Set.of());
+
+        client.shutdown();
+    }
+}
@@ -12,20 +12,26 @@ import org.slf4j.LoggerFactory;
 import com.github.armedis.redis.RedisNode;
 import com.github.armedis.redis.RedisNodeType;
 
-import io.lettuce.core.RedisClient;
-import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.sync.RedisCommands;
 
 /**
- * Redis Master-slave nodes
+ * Redis Master-slave nodes<br/>
+ * Master and replicas are connected by node connection registry, connections are not closed after lookup.
  */
 public class RedisNoneClusterNodeLookup implements RedisNodeLookup {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private String seedAddresses;
 
-    public RedisNoneClusterNodeLookup(String seedAddresses) {
+    private RedisNodeConnectionRegistry connectionRegistry;
+
+    private long timeoutMillis;
+
+    public RedisNoneClusterNodeLookup(String seedAddresses, RedisNodeConnectionRegistry connectionRegistry,
+            long timeoutMillis) {
         this.seedAddresses = seedAddresses;
+        this.connectionRegistry = connectionRegistry;
+        this.timeoutMillis = timeoutMillis;
     }
 
     /**
@@ -61,11 +67,12 @@ public class RedisNoneClusterNodeLookup implements RedisNodeLookup {
     }
 
     private List<RedisNode> findSlaves(RedisNode masterNode) {
-        RedisClient client = RedisClient.create(RedisURI.create(masterNode.getHost(), masterNode.getPort()));
-        try (StatefulRedisConnection<String, String> connection = client.connect();) {
-            String replicationInfo = connection.sync().info("Replication");
-            return retreveSlaveNodes(replicationInfo);
-        }
+        String replicationInfo = sync(masterNode.getHost(), masterNode.getPort()).info("Replication");
+        return retreveSlaveNodes(replicationInfo);
+    }
+
+    private RedisCommands<String, String> sync(String host, int port) {
+        return connectionRegistry.getConnection(new RedisNode(host, port), timeoutMillis).sync();
     }
 
     private List<RedisNode> retreveSlaveNodes(String replicationInfo) {
@@ -133,10 +140,7 @@ public class RedisNoneClusterNodeLookup implements RedisNodeLookup {
         }
 
         if (isSlave) {
-            RedisClient client = RedisClient.create(RedisURI.create(masterHost, masterPort));
-            try (StatefulRedisConnection<String, String> connection = client.connect();) {
-                return findMasterNode(connection.sync(), seedAddresses);
-            }
+            return findMasterNode(sync(masterHost, masterPort), seedAddresses);
         }
 
         return new RedisNode(masterHost, masterPort, RedisNodeType.MASTER);
@@ -161,11 +165,7 @@ public class RedisNoneClusterNodeLookup implements RedisNodeLookup {
             }
         }
 
-        String masterAddress = null;
-        RedisClient client = RedisClient.create(RedisURI.create(slaveHost, Integer.parseInt(slavePort)));
-        try (StatefulRedisConnection<String, String> connection = client.connect();) {
-            masterAddress = connection.sync().configGet("slaveof").get("slaveof");
-        }
+        String masterAddress = sync(slaveHost, Integer.parseInt(slavePort)).configGet("slaveof").get("slaveof");
 
         return masterAddress.split(" ")[0];
     }
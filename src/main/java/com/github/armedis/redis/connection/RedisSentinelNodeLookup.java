@@ -1,19 +1,45 @@
 
 package com.github.armedis.redis.connection;
 
+import java.util.HashSet;
 import java.util.Set;
 
-import org.apache.commons.lang3.NotImplementedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import com.github.armedis.redis.RedisInstanceType;
 import com.github.armedis.redis.RedisNode;
+import com.github.armedis.redis.topology.SentinelTopologySource;
+import com.github.armedis.redis.topology.TopologyNode;
 
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.resource.ClientResources;
 
+/**
+ * Masters monitored by sentinel and their replicas.
+ */
 public class RedisSentinelNodeLookup implements RedisNodeLookup {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private String seedAddresses;
+
+    private ClientResources clientResources;
+
+    public RedisSentinelNodeLookup(String seedAddresses, ClientResources clientResources) {
+        this.seedAddresses = seedAddresses;
+        this.clientResources = clientResources;
+    }
 
     @Override
     public Set<RedisNode> lookup(StatefulRedisConnection<String, String> redisSeedConnection) {
-        throw new NotImplementedException("Currently not implemented yet.");
-    }
+        Set<RedisNode> actualServers = new HashSet<>();
+
+        for (TopologyNode node : SentinelTopologySource.lookup(clientResources, seedAddresses)) {
+            actualServers.add(node.toRedisNode(RedisInstanceType.SENTINEL));
+        }
 
+        logger.info("Nodes of sentinel " + actualServers);
+
+        return actualServers;
+    }
 }
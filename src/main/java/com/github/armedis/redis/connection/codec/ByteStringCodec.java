@@ -0,0 +1,84 @@
+package com.github.armedis.redis.connection.codec;
+
+import java.nio.ByteBuffer;
+
+import com.google.protobuf.ByteString;
+
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * Redis codec for protobuf {@link ByteString} keys and values.<br/>
+ * gRPC request bytes are written to redis without utf-8 conversion and redis replies are handed back as
+ * {@link ByteString} that can be set to the response message directly.
+ * @author krisjey
+ *
+ */
+public class ByteStringCodec implements RedisCodec<ByteString, ByteString> {
+    public static final ByteStringCodec INSTANCE = new ByteStringCodec();
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    @Override
+    public ByteString decodeKey(ByteBuffer bytes) {
+        return decode(bytes);
+    }
+
+    @Override
+    public ByteString decodeValue(ByteBuffer bytes) {
+        return decode(bytes);
+    }
+
+    @Override
+    public ByteBuffer encodeKey(ByteString key) {
+        return encode(key);
+    }
+
+    @Override
+    public ByteBuffer encodeValue(ByteString value) {
+        return encode(value);
+    }
+
+    /**
+     * Display form of binary key. ex) user:1, bin:\xff\x00
+     * @param bytes
+     * @return utf-8 string, or bytes escaped like redis-cli when bytes are not valid utf-8 or not printable.
+     */
+    public static String display(ByteString bytes) {
+        if (bytes.isValidUtf8()) {
+            String value = bytes.toStringUtf8();
+            if (value.chars().noneMatch(Character::isISOControl)) {
+                return value;
+            }
+        }
+
+        StringBuilder builder = new StringBuilder(bytes.size() * 2);
+        for (int i = 0; i < bytes.size(); i++) {
+            int ch = bytes.byteAt(i) & 0xff;
+            if (ch == '\\' || ch == '"') {
+                builder.append('\\').append((char) ch);
+            }
+            else if (ch >= 0x20 && ch <= 0x7e) {
+                builder.append((char) ch);
+            }
+            else {
+                builder.append(String.format("\\x%02x", ch));
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private ByteString decode(ByteBuffer bytes) {
+        // lettuce reuses the response buffer, so copy once into immutable ByteString.
+        return ByteString.copyFrom(bytes);
+    }
+
+    private ByteBuffer encode(ByteString bytes) {
+        if (bytes == null) {
+            return EMPTY.duplicate();
+        }
+
+        // read only view of ByteString, no copy.
+        return bytes.asReadOnlyByteBuffer();
+    }
+}
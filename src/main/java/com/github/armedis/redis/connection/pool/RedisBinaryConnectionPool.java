@@ -0,0 +1,79 @@
+package com.github.armedis.redis.connection.pool;
+
+import org.apache.commons.lang3.NotImplementedException;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.metrics.ConnectionPoolMetrics;
+import com.github.armedis.metrics.ConnectionPoolMetrics.PoolBorrower;
+import com.github.armedis.redis.RedisInstanceType;
+import com.github.armedis.redis.RedisServerInfoMaker;
+import com.github.armedis.redis.connection.codec.ByteStringCodec;
+import com.google.protobuf.ByteString;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+
+/**
+ * Connection pool of {@link ByteString} codec for gRPC services.<br/>
+ * Uses same redis client with {@link RedisConnectionPoolFactory}, only the codec is different.
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisBinaryConnectionPool implements RedisConnectionPool<ByteString, ByteString> {
+    // single connection pool
+    private GenericObjectPool<StatefulRedisConnection<ByteString, ByteString>> singleConnectionPool;
+
+    // cluster connection pool
+    private GenericObjectPool<StatefulRedisClusterConnection<ByteString, ByteString>> clusterConnectionPool;
+
+    private PoolBorrower<StatefulRedisConnection<ByteString, ByteString>> singleConnectionBorrower;
+
+    private PoolBorrower<StatefulRedisClusterConnection<ByteString, ByteString>> clusterConnectionBorrower;
+
+    @Autowired
+    public RedisBinaryConnectionPool(RedisConnectionPoolFactory redisConnectionPoolFactory,
+            RedisServerInfoMaker redisServerInfoMaker, ConnectionPoolMetrics connectionPoolMetrics) {
+        RedisInstanceType redisServerInfo = redisServerInfoMaker.getRedisServerInfo().getRedisInstanceType();
+        switch (redisServerInfo) {
+            case STANDALONE:
+                this.singleConnectionPool = redisConnectionPoolFactory
+                        .createNonClusterConnectionPool(ByteStringCodec.INSTANCE);
+                this.singleConnectionBorrower = connectionPoolMetrics.bind(singleConnectionPool,
+                        "standalone-bytestring");
+                break;
+
+            case CLUSTER:
+                this.clusterConnectionPool = redisConnectionPoolFactory
+                        .createClusterConnectionPool(ByteStringCodec.INSTANCE);
+                this.clusterConnectionBorrower = connectionPoolMetrics.bind(clusterConnectionPool,
+                        "cluster-bytestring");
+                break;
+
+            default:
+                throw new NotImplementedException("Connection pool not implemented " + redisServerInfo.toString());
+        }
+    }
+
+    @Override
+    public StatefulRedisClusterConnection<ByteString, ByteString> getClusterConnection() throws Exception {
+        return clusterConnectionBorrower.borrow();
+    }
+
+    @Override
+    public StatefulRedisConnection<ByteString, ByteString> getNonClusterConnection() throws Exception {
+        return singleConnectionBorrower.borrow();
+    }
+
+    @Override
+    public void returnObject(StatefulRedisClusterConnection<ByteString, ByteString> connection) throws Exception {
+        clusterConnectionPool.returnObject(connection);
+    }
+
+    @Override
+    public void returnObject(StatefulRedisConnection<ByteString, ByteString> connection) throws Exception {
+        singleConnectionPool.returnObject(connection);
+    }
+}
@@ -14,6 +14,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.github.armedis.metrics.ConnectionPoolMetrics;
+import com.github.armedis.metrics.ConnectionPoolMetrics.PoolBorrower;
 import com.github.armedis.redis.RedisInstanceType;
 import com.github.armedis.redis.RedisNode;
 import com.github.armedis.redis.RedisServerInfoMaker;
@@ -25,7 +27,10 @@ import io.lettuce.core.cluster.ClusterClientOptions;
 import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
 import io.lettuce.core.cluster.RedisClusterClient;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.masterreplica.StatefulRedisMasterReplicaConnection;
+import io.lettuce.core.resource.ClientResources;
 import io.lettuce.core.support.ConnectionPoolSupport;
 
 @Component
@@ -42,9 +47,25 @@ public class RedisConnectionPoolFactory implements RedisConnectionPool<String, S
     // cluster connection pool
     private GenericObjectPool<StatefulRedisClusterConnection<String, String>> clusterConnectionPool;
 
+    private PoolBorrower<StatefulRedisConnection<String, String>> singleConnectionBorrower;
+
+    private PoolBorrower<StatefulRedisClusterConnection<String, String>> clusterConnectionBorrower;
+
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+
+    private final ClientResources clientResources;
+
+    // shared by every codec specific pool.
+    private RedisClient redisClient;
+
+    private RedisClusterClient clusterClient;
+
     @Autowired
-    public RedisConnectionPoolFactory(RedisServerInfoMaker redisServerInfoMaker) {
+    public RedisConnectionPoolFactory(RedisServerInfoMaker redisServerInfoMaker,
+            ConnectionPoolMetrics connectionPoolMetrics, ClientResources clientResources) {
         this.redisServerInfoMaker = redisServerInfoMaker;
+        this.connectionPoolMetrics = connectionPoolMetrics;
+        this.clientResources = clientResources;
 
         buildConnectonPool();
     }
@@ -54,6 +75,7 @@ public class RedisConnectionPoolFactory implements RedisConnectionPool<String, S
         switch (redisServerInfo) {
             case STANDALONE:
                 this.singleConnectionPool = buildStandaloneConnectionPool();
+                this.singleConnectionBorrower = connectionPoolMetrics.bind(singleConnectionPool, "standalone-string");
                 break;
 
             case SENTINEL:
@@ -66,6 +88,7 @@ public class RedisConnectionPoolFactory implements RedisConnectionPool<String, S
 
             case CLUSTER:
                 this.clusterConnectionPool = buildClusterConnectionPool();
+                this.clusterConnectionBorrower = connectionPoolMetrics.bind(clusterConnectionPool, "cluster-string");
                 break;
 
             case NOT_DETECTED:
@@ -104,50 +127,83 @@ public class RedisConnectionPoolFactory implements RedisConnectionPool<String, S
 //    }
 
     private GenericObjectPool<StatefulRedisConnection<String, String>> buildStandaloneConnectionPool() {
+        return createNonClusterConnectionPool(StringCodec.UTF8);
+    }
+
+    private GenericObjectPool<StatefulRedisClusterConnection<String, String>> buildClusterConnectionPool() {
+        return createClusterConnectionPool(StringCodec.UTF8);
+    }
+
+    /**
+     * Build standalone connection pool with given codec. Redis client is shared with string connection pool.
+     * @param <K>
+     * @param <V>
+     * @param codec
+     * @return connection pool
+     */
+    public synchronized <K, V> GenericObjectPool<StatefulRedisConnection<K, V>> createNonClusterConnectionPool(
+            RedisCodec<K, V> codec) {
         requireNonNull(redisServerInfoMaker, "redis server info is null");
 
-        Set<RedisNode> nodes = redisServerInfoMaker.getRedisServerInfo().getRedisNodes();
+        if (this.redisClient == null) {
+            Set<RedisNode> nodes = redisServerInfoMaker.getRedisServerInfo().getRedisNodes();
 
-//        MasterSlaveTopologyProvider masterSlaveTopologyProvider = new MasterSlaveTopologyProvider(connection, redisURI);
+//            MasterSlaveTopologyProvider masterSlaveTopologyProvider = new MasterSlaveTopologyProvider(connection, redisURI);
 
-        // cluster node
-        RedisURI redisNode = null;
-        for (RedisNode item : nodes) {
-            redisNode = RedisURI.create(item.getHost(), item.getPort());
+            // cluster node
+            RedisURI redisNode = null;
+            for (RedisNode item : nodes) {
+                redisNode = RedisURI.create(item.getHost(), item.getPort());
+            }
+
+            this.redisClient = RedisClient.create(clientResources, redisNode);
         }
 
-        RedisClient redisClient = RedisClient.create(redisNode);
+        RedisClient client = this.redisClient;
 
-        GenericObjectPool<StatefulRedisConnection<String, String>> pool = ConnectionPoolSupport
-                .createGenericObjectPool(redisClient::connect, buildBasicConnectionPoolConfig());
+        GenericObjectPool<StatefulRedisConnection<K, V>> pool = ConnectionPoolSupport
+                .createGenericObjectPool(() -> client.connect(codec), buildBasicConnectionPoolConfig());
 
         return pool;
     }
 
-    private GenericObjectPool<StatefulRedisClusterConnection<String, String>> buildClusterConnectionPool() {
+    /**
+     * Build cluster connection pool with given codec. Redis cluster client is shared with string connection pool.
+     * @param <K>
+     * @param <V>
+     * @param codec
+     * @return connection pool
+     */
+    public synchronized <K, V> GenericObjectPool<StatefulRedisClusterConnection<K, V>> createClusterConnectionPool(
+            RedisCodec<K, V> codec) {
         requireNonNull(redisServerInfoMaker, "redis server info is null");
-        ClusterTopologyRefreshOptions topologyRefreshOptions = ClusterTopologyRefreshOptions.builder()
-                .enablePeriodicRefresh(true)
-                .refreshPeriod(Duration.ofSeconds(5))
-                .enableAllAdaptiveRefreshTriggers()
-                .build();
-
-        Set<RedisNode> nodes = redisServerInfoMaker.getRedisServerInfo().getRedisNodes();
-
-        // cluster node
-        RedisURI clusterNode = null;
-        for (RedisNode item : nodes) {
-            clusterNode = RedisURI.create(item.getHost(), item.getPort());
+
+        if (this.clusterClient == null) {
+            ClusterTopologyRefreshOptions topologyRefreshOptions = ClusterTopologyRefreshOptions.builder()
+                    .enablePeriodicRefresh(true)
+                    .refreshPeriod(Duration.ofSeconds(5))
+                    .enableAllAdaptiveRefreshTriggers()
+                    .build();
+
+            Set<RedisNode> nodes = redisServerInfoMaker.getRedisServerInfo().getRedisNodes();
+
+            // cluster node
+            RedisURI clusterNode = null;
+            for (RedisNode item : nodes) {
+                clusterNode = RedisURI.create(item.getHost(), item.getPort());
+            }
+
+            this.clusterClient = RedisClusterClient.create(clientResources, clusterNode);
+            this.clusterClient.setOptions(ClusterClientOptions.builder()
+                    .topologyRefreshOptions(topologyRefreshOptions)
+                    .autoReconnect(true)
+                    .build());
         }
 
-        RedisClusterClient clusterClient = RedisClusterClient.create(clusterNode);
-        clusterClient.setOptions(ClusterClientOptions.builder()
-                .topologyRefreshOptions(topologyRefreshOptions)
-                .autoReconnect(true)
-                .build());
+        RedisClusterClient client = this.clusterClient;
 
-        GenericObjectPool<StatefulRedisClusterConnection<String, String>> pool = ConnectionPoolSupport
-                .createGenericObjectPool(clusterClient::connect, buildBasicConnectionPoolConfig());
+        GenericObjectPool<StatefulRedisClusterConnection<K, V>> pool = ConnectionPoolSupport
+                .createGenericObjectPool(() -> client.connect(codec), buildBasicConnectionPoolConfig());
 
         return pool;
     }
@@ -156,7 +212,7 @@ public class RedisConnectionPoolFactory implements RedisConnectionPool<String, S
     public StatefulRedisClusterConnection<String, String> getClusterConnection() throws Exception {
         StatefulRedisClusterConnection<String, String> connection = null;
 
-        connection = clusterConnectionPool.borrowObject();
+        connection = clusterConnectionBorrower.borrow();
 
         return connection;
     }
@@ -177,7 +233,7 @@ public class RedisConnectionPoolFactory implements RedisConnectionPool<String, S
     public StatefulRedisConnection<String, String> getNonClusterConnection() throws Exception {
         StatefulRedisConnection<String, String> connection = null;
 
-        connection = singleConnectionPool.borrowObject();
+        connection = singleConnectionBorrower.borrow();
 
         return connection;
     }
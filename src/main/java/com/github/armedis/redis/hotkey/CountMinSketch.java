@@ -0,0 +1,77 @@
+package com.github.armedis.redis.hotkey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free count-min sketch of fixed size.<br/>
+ * Estimated count is never less than real count, over estimation is bounded by width.
+ * @author krisjey
+ *
+ */
+final class CountMinSketch {
+    private final int depth;
+
+    private final int mask;
+
+    private final AtomicLongArray counts;
+
+    /**
+     * @param depth count of hash rows
+     * @param width counters of row, rounded up to power of 2.
+     */
+    CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        int size = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.mask = size - 1;
+        this.counts = new AtomicLongArray(depth * size);
+    }
+
+    /**
+     * Increment count of hash.
+     * @param hash
+     * @return estimated count after increment
+     */
+    long add(int hash) {
+        int second = mix(hash);
+        long estimate = Long.MAX_VALUE;
+
+        for (int row = 0; row < depth; row++) {
+            long count = counts.incrementAndGet(index(row, hash, second));
+            estimate = Math.min(estimate, count);
+        }
+
+        return estimate;
+    }
+
+    /**
+     * @param hash
+     * @return estimated count
+     */
+    long estimate(int hash) {
+        int second = mix(hash);
+        long estimate = Long.MAX_VALUE;
+
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts.get(index(row, hash, second)));
+        }
+
+        return estimate;
+    }
+
+    // double hashing, row i uses hash + i * second.
+    private int index(int row, int hash, int second) {
+        return row * (mask + 1) + ((hash + row * second) & mask);
+    }
+
+    private static int mix(int hash) {
+        // murmur3 finalizer, forced to odd.
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+
+        return h | 1;
+    }
+}
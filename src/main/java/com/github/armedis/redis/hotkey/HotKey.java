@@ -0,0 +1,13 @@
+package com.github.armedis.redis.hotkey;
+
+/**
+ * Hot key of one window.
+ * @param command lower case command name
+ * @param key utf8 key, or base64 with "base64:" prefix when key is binary.
+ * @param count estimated request count of window, scaled by sample rate.
+ * @param error max over estimation of count
+ * @author krisjey
+ *
+ */
+public record HotKey(String command, String key, long count, long error) {
+}
@@ -0,0 +1,218 @@
+package com.github.armedis.redis.hotkey;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.redis.hotkey.SpaceSaving.Monitored;
+import com.google.protobuf.ByteString;
+
+/**
+ * Sample keys of requests and find hot keys per time window and per command.<br/>
+ * Sampled key is counted by {@link CountMinSketch} and top keys are kept by {@link SpaceSaving}. Sketch is kept
+ * only for current window, completed window keeps its top keys only.
+ * @author krisjey
+ *
+ */
+@Component
+public class HotKeySampler {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final int SKETCH_DEPTH = 4;
+
+    private static final int SKETCH_WIDTH = 1024;
+
+    private final boolean enabled;
+
+    private final double sampleRate;
+
+    private final long windowMillis;
+
+    private final int topK;
+
+    private final int keepWindows;
+
+    private final AtomicReference<Window> current = new AtomicReference<>();
+
+    // completed windows, latest first.
+    private final LinkedList<CompletedWindow> completedWindows = new LinkedList<>();
+
+    @Autowired
+    public HotKeySampler(ArmedisConfiguration armedisConfiguration) {
+        this(armedisConfiguration.isHotKeyEnabled(), armedisConfiguration.getHotKeySampleRate(),
+                armedisConfiguration.getHotKeyWindowSeconds(), armedisConfiguration.getHotKeyTopK(), 6);
+    }
+
+    HotKeySampler(boolean enabled, double sampleRate, int windowSeconds, int topK, int keepWindows) {
+        this.enabled = enabled && sampleRate > 0;
+        this.sampleRate = Math.min(1.0, sampleRate);
+        this.windowMillis = Math.max(1, windowSeconds) * 1000L;
+        this.topK = topK;
+        this.keepWindows = keepWindows;
+
+        logger.info("Hot key sampler " + (this.enabled ? "enabled" : "disabled") + ", sample rate " + this.sampleRate
+                + ", window " + windowSeconds + "s, top " + topK);
+    }
+
+    /**
+     * Sample key of request. Only sampled request is counted, so overhead of other requests is a random number.
+     * @param command lower case command name
+     * @param key
+     */
+    public void sample(String command, ByteString key) {
+        sample(command, key, System.currentTimeMillis());
+    }
+
+    void sample(String command, ByteString key, long nowMillis) {
+        if (!enabled || key.isEmpty()) {
+            return;
+        }
+
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        currentWindow(nowMillis).record(command, key);
+    }
+
+    private Window currentWindow(long nowMillis) {
+        long windowId = nowMillis / windowMillis;
+
+        Window window = current.get();
+        while (window == null || window.id != windowId) {
+            Window next = new Window(windowId);
+            if (current.compareAndSet(window, next)) {
+                if (window != null) {
+                    complete(window);
+                }
+
+                return next;
+            }
+
+            window = current.get();
+        }
+
+        return window;
+    }
+
+    private synchronized void complete(Window window) {
+        completedWindows.addFirst(window.complete());
+        while (completedWindows.size() > keepWindows) {
+            completedWindows.removeLast();
+        }
+    }
+
+    /**
+     * @param command command name, every command when empty.
+     * @param completed true for last completed window, false for current window.
+     * @param limit
+     * @return hot keys by descending count
+     */
+    public List<HotKey> top(String command, boolean completed, int limit) {
+        return top(command, completed, limit, System.currentTimeMillis());
+    }
+
+    List<HotKey> top(String command, boolean completed, int limit, long nowMillis) {
+        Map<String, List<Monitored>> monitored;
+        if (completed) {
+            currentWindow(nowMillis);
+
+            // window is rolled by next sample, window completed before quiet period is not the last window.
+            long lastWindowId = nowMillis / windowMillis - 1;
+            synchronized (this) {
+                CompletedWindow last = completedWindows.peekFirst();
+                monitored = last == null || last.id() != lastWindowId ? Collections.emptyMap() : last.top();
+            }
+        }
+        else {
+            monitored = currentWindow(nowMillis).snapshot();
+        }
+
+        List<HotKey> hotKeys = new ArrayList<>();
+        for (Entry<String, List<Monitored>> item : monitored.entrySet()) {
+            if (command == null || command.isEmpty() || command.equalsIgnoreCase(item.getKey())) {
+                for (Monitored key : item.getValue()) {
+                    hotKeys.add(new HotKey(item.getKey(), display(key.key()), scale(key.count()),
+                            scale(key.error())));
+                }
+            }
+        }
+
+        hotKeys.sort((left, right) -> Long.compare(right.count(), left.count()));
+
+        return new ArrayList<>(hotKeys.subList(0, Math.min(Math.max(limit, 0), hotKeys.size())));
+    }
+
+    /**
+     * @return window length in seconds
+     */
+    public long getWindowSeconds() {
+        return windowMillis / 1000;
+    }
+
+    private long scale(long sampledCount) {
+        return Math.round(sampledCount / sampleRate);
+    }
+
+    private static String display(ByteString key) {
+        if (key.isValidUtf8()) {
+            return key.toStringUtf8();
+        }
+
+        return "base64:" + Base64.getEncoder().encodeToString(key.toByteArray());
+    }
+
+    /**
+     * Sketch and top keys of each command in one window.
+     */
+    private final class Window {
+        private final long id;
+
+        private final Map<String, CommandSketch> sketches = new ConcurrentHashMap<>();
+
+        private Window(long id) {
+            this.id = id;
+        }
+
+        private void record(String command, ByteString key) {
+            CommandSketch sketch = sketches.computeIfAbsent(command, name -> new CommandSketch(topK));
+            sketch.topKeys.offer(key, sketch.countMin.add(key.hashCode()));
+        }
+
+        private Map<String, List<Monitored>> snapshot() {
+            Map<String, List<Monitored>> top = new HashMap<>();
+            for (Entry<String, CommandSketch> item : sketches.entrySet()) {
+                top.put(item.getKey(), item.getValue().topKeys.snapshot());
+            }
+
+            return top;
+        }
+
+        private CompletedWindow complete() {
+            return new CompletedWindow(id, snapshot());
+        }
+    }
+
+    private record CommandSketch(CountMinSketch countMin, SpaceSaving topKeys) {
+        CommandSketch(int topK) {
+            this(new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH), new SpaceSaving(topK));
+        }
+    }
+
+    private record CompletedWindow(long id, Map<String, List<Monitored>> top) {
+    }
+}
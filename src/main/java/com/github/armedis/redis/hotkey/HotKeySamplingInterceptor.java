@@ -0,0 +1,33 @@
+package com.github.armedis.redis.hotkey;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.redis.pipeline.RedisCommandContext;
+import com.github.armedis.redis.pipeline.RedisCommandInterceptor;
+import com.github.armedis.redis.pipeline.RedisCommandInvocation;
+
+/**
+ * Sample key of every command of every front end for hot key detection.
+ * @author krisjey
+ *
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class HotKeySamplingInterceptor implements RedisCommandInterceptor {
+    private final HotKeySampler hotKeySampler;
+
+    @Autowired
+    public HotKeySamplingInterceptor(HotKeySampler hotKeySampler) {
+        this.hotKeySampler = hotKeySampler;
+    }
+
+    @Override
+    public <T> T intercept(RedisCommandContext context, RedisCommandInvocation<T> invocation) throws Exception {
+        hotKeySampler.sample(context.getCommand(), context.getKey());
+
+        return invocation.proceed();
+    }
+}
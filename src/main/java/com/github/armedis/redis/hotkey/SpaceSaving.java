@@ -0,0 +1,115 @@
+package com.github.armedis.redis.hotkey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * SpaceSaving top-k of keys with counts of {@link CountMinSketch}.<br/>
+ * When k keys are monitored, new key replaces the key of minimum count and the replaced count is kept as error.
+ * Monitored key and key below minimum count are handled without lock, only replacement is locked.
+ * @author krisjey
+ *
+ */
+final class SpaceSaving {
+    private final int capacity;
+
+    private final Map<ByteString, Counter> counters = new ConcurrentHashMap<>();
+
+    // lower bound of minimum count, only grows.
+    private volatile long minCount;
+
+    SpaceSaving(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * @param key
+     * @param estimate estimated count of key
+     */
+    void offer(ByteString key, long estimate) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.raise(estimate);
+            return;
+        }
+
+        if (counters.size() >= capacity && estimate <= minCount) {
+            return;
+        }
+
+        synchronized (this) {
+            counter = counters.get(key);
+            if (counter != null) {
+                counter.raise(estimate);
+                return;
+            }
+
+            long error = 0;
+            if (counters.size() >= capacity) {
+                Entry<ByteString, Counter> min = minEntry();
+                if (estimate <= min.getValue().count.get()) {
+                    minCount = min.getValue().count.get();
+                    return;
+                }
+
+                counters.remove(min.getKey());
+                error = min.getValue().count.get();
+            }
+
+            counters.put(key, new Counter(estimate, error));
+
+            if (counters.size() >= capacity) {
+                minCount = minEntry().getValue().count.get();
+            }
+        }
+    }
+
+    private Entry<ByteString, Counter> minEntry() {
+        Entry<ByteString, Counter> min = null;
+        for (Entry<ByteString, Counter> entry : counters.entrySet()) {
+            if (min == null || entry.getValue().count.get() < min.getValue().count.get()) {
+                min = entry;
+            }
+        }
+
+        return min;
+    }
+
+    /**
+     * @return monitored keys by descending count
+     */
+    List<Monitored> snapshot() {
+        List<Monitored> monitored = new ArrayList<>(counters.size());
+        for (Entry<ByteString, Counter> entry : counters.entrySet()) {
+            monitored.add(new Monitored(entry.getKey(), entry.getValue().count.get(), entry.getValue().error));
+        }
+
+        monitored.sort((left, right) -> Long.compare(right.count(), left.count()));
+
+        return monitored;
+    }
+
+    record Monitored(ByteString key, long count, long error) {
+    }
+
+    private static final class Counter {
+        private final AtomicLong count;
+
+        private final long error;
+
+        private Counter(long count, long error) {
+            this.count = new AtomicLong(count);
+            this.error = error;
+        }
+
+        private void raise(long estimate) {
+            count.accumulateAndGet(estimate, Math::max);
+        }
+    }
+}
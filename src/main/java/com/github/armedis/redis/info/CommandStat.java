@@ -0,0 +1,107 @@
+package com.github.armedis.redis.info;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One command row of commandstats section.
+ */
+public final class CommandStat extends StatsBaseVo {
+    @Override
+    public Map<String, String> initOperationKeyList() {
+        Map<String, String> keyList = new HashMap<>();
+
+        keyList.put("calls", SUM);
+        keyList.put("usec", SUM);
+        keyList.put("rejectedCalls", SUM);
+        keyList.put("failedCalls", SUM);
+
+        return keyList;
+    }
+
+    /**
+     * cmdstat_get:calls=10,usec=20,usec_per_call=2.00,rejected_calls=0,failed_calls=0
+     */
+    private long calls;
+    private long usec;
+    private double usecPerCall;
+    private long rejectedCalls;
+    private long failedCalls;
+
+    /**
+     * @return the calls
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * @param calls the calls to set
+     */
+    public void setCalls(long calls) {
+        this.calls = calls;
+    }
+
+    /**
+     * @return the usec
+     */
+    public long getUsec() {
+        return usec;
+    }
+
+    /**
+     * @param usec the usec to set
+     */
+    public void setUsec(long usec) {
+        this.usec = usec;
+    }
+
+    /**
+     * @return the usecPerCall
+     */
+    public double getUsecPerCall() {
+        return usecPerCall;
+    }
+
+    /**
+     * @param usecPerCall the usecPerCall to set
+     */
+    public void setUsecPerCall(double usecPerCall) {
+        this.usecPerCall = usecPerCall;
+    }
+
+    /**
+     * Recalculate usecPerCall from accumulated usec and calls.
+     */
+    public void updateUsecPerCall() {
+        this.usecPerCall = calls == 0 ? 0 : (double) usec / calls;
+    }
+
+    /**
+     * @return the rejectedCalls
+     */
+    public long getRejectedCalls() {
+        return rejectedCalls;
+    }
+
+    /**
+     * @param rejectedCalls the rejectedCalls to set
+     */
+    public void setRejectedCalls(long rejectedCalls) {
+        this.rejectedCalls = rejectedCalls;
+    }
+
+    /**
+     * @return the failedCalls
+     */
+    public long getFailedCalls() {
+        return failedCalls;
+    }
+
+    /**
+     * @param failedCalls the failedCalls to set
+     */
+    public void setFailedCalls(long failedCalls) {
+        this.failedCalls = failedCalls;
+    }
+}
@@ -2,9 +2,6 @@ package com.github.armedis.redis.info;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
-
-import com.google.common.base.CaseFormat;
 
 final class Keyspace extends StatsBaseVo {
     @Override
@@ -30,46 +27,7 @@ final class Keyspace extends StatsBaseVo {
      * @return
      */
     public static Map<Integer, Keyspace> fromString(String content, boolean addContentSection) {
-        Map<Integer, Keyspace> keyspaceMap = new TreeMap<>();
-        if (content == null) {
-            return keyspaceMap;
-        }
-
-        String[] lines = content.split("\r\n");
-
-        for (String line : lines) {
-            Keyspace keyspace = new Keyspace();
-
-            // set section content string for
-            if (addContentSection) {
-                keyspace.setSctionContent(content);
-            }
-
-            String[] dbNumber = line.split(":");
-
-            String dbNo = null;
-            // db0:keys=1121,exp....
-            if (dbNumber.length == 2) {
-                dbNo = dbNumber[0].substring(2);
-                keyspace.setNo(Integer.parseInt(dbNo));
-
-                String[] keyMember = dbNumber[1].split(",");
-
-                for (String kv : keyMember) {
-                    String[] kvArray = kv.split("=");
-
-                    String key = kvArray[0];
-                    String value = kvArray[1];
-
-                    key = CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, key);
-                    ReflectionManipulator.setFieldValue(keyspace, key, value);
-                }
-
-                keyspaceMap.put(keyspace.getNo(), keyspace);
-            }
-        }
-
-        return keyspaceMap;
+        return RedisInfoParser.decodeKeyspace(content, addContentSection);
     }
 
     /**
@@ -0,0 +1,69 @@
+package com.github.armedis.redis.info;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One command row of latencystats section(redis 7). Percentile of sum is the worst node.
+ */
+public final class LatencyStat extends StatsBaseVo {
+    @Override
+    public Map<String, String> initOperationKeyList() {
+        Map<String, String> keyList = new HashMap<>();
+
+        keyList.put("p50", MAX);
+        keyList.put("p99", MAX);
+        keyList.put("p999", MAX);
+
+        return keyList;
+    }
+
+    /**
+     * latency_percentiles_usec_get:p50=1.003,p99=2.007,p99.9=3.007
+     */
+    private double p50;
+    private double p99;
+    private double p999;
+
+    /**
+     * @return the p50 usec
+     */
+    public double getP50() {
+        return p50;
+    }
+
+    /**
+     * @param p50 the p50 to set
+     */
+    public void setP50(double p50) {
+        this.p50 = p50;
+    }
+
+    /**
+     * @return the p99 usec
+     */
+    public double getP99() {
+        return p99;
+    }
+
+    /**
+     * @param p99 the p99 to set
+     */
+    public void setP99(double p99) {
+        this.p99 = p99;
+    }
+
+    /**
+     * @return the p99.9 usec
+     */
+    public double getP999() {
+        return p999;
+    }
+
+    /**
+     * @param p999 the p999 to set
+     */
+    public void setP999(double p999) {
+        this.p999 = p999;
+    }
+}
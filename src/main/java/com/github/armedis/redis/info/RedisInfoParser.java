@@ -0,0 +1,570 @@
+package com.github.armedis.redis.info;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Single pass parser of INFO command result.<br/>
+ * {@link #parse(String, boolean)} only finds section boundaries, and each section is decoded when it is requested.
+ * Keys are matched to fields by normalized key table (lower case without underscore and dot), so
+ * <code>used_cpu_sys</code>, <code>errorstat_CLUSTERDOWN</code> and <code>p99.9</code> are matched to
+ * <code>usedCpuSys</code>, <code>errorstatClusterDown</code> and <code>p999</code> without key string conversion.
+ * @author krisjey
+ *
+ */
+public final class RedisInfoParser {
+    private static final Logger logger = LoggerFactory.getLogger(RedisInfoParser.class);
+
+    private static final ClassValue<SlotTable> SLOT_TABLES = new ClassValue<SlotTable>() {
+        @Override
+        protected SlotTable computeValue(Class<?> type) {
+            return new SlotTable(type);
+        }
+    };
+
+    private RedisInfoParser() {
+    }
+
+    /**
+     * Find sections of INFO result. Sections are decoded lazily by {@link RedisInfoVo}.
+     * @param info INFO command result
+     * @param addContentSection keep section content string to each section vo.
+     * @return RedisInfoVo
+     */
+    public static RedisInfoVo parse(String info, boolean addContentSection) {
+        return new RedisInfoVo(indexSections(info, addContentSection));
+    }
+
+    static Sections indexSections(String info, boolean addContentSection) {
+        Sections sections = new Sections(info == null ? "" : info, addContentSection);
+        String raw = sections.raw;
+        int length = raw.length();
+
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = lineEnd(raw, lineStart, length);
+
+            if (raw.charAt(lineStart) == '#') {
+                // close previous section
+                sections.close(lineStart);
+
+                int nameStart = lineStart + 1;
+                while (nameStart < lineEnd && raw.charAt(nameStart) == ' ') {
+                    nameStart++;
+                }
+
+                sections.open(raw.substring(nameStart, trimEnd(raw, nameStart, lineEnd)), nextLine(raw, lineEnd));
+            }
+
+            lineStart = nextLine(raw, lineEnd);
+        }
+
+        sections.close(length);
+
+        return sections;
+    }
+
+    /**
+     * Decode section content to section vo.
+     * @param type section vo type
+     * @param content section content without section header
+     * @param addContentSection
+     * @return section vo, fields of unknown keys are ignored.
+     */
+    public static <T extends StatsBaseVo> T decode(Class<T> type, String content, boolean addContentSection) {
+        if (content == null) {
+            content = "";
+        }
+
+        return decode(type, content, 0, content.length(), addContentSection);
+    }
+
+    static <T extends StatsBaseVo> T decode(Class<T> type, String raw, int start, int end,
+            boolean addContentSection) {
+        SlotTable slotTable = SLOT_TABLES.get(type);
+        T instance = type.cast(slotTable.newInstance());
+
+        int lineStart = start;
+        while (lineStart < end) {
+            int lineEnd = Math.min(lineEnd(raw, lineStart, end), end);
+            int colon = indexOf(raw, ':', lineStart, lineEnd);
+
+            if (colon > lineStart) {
+                Slot slot = slotTable.find(raw, lineStart, colon);
+                if (slot != null) {
+                    slot.set(instance, raw, colon + 1, trimEnd(raw, colon + 1, lineEnd));
+                }
+            }
+
+            lineStart = nextLine(raw, lineEnd);
+        }
+
+        if (addContentSection) {
+            instance.setSctionContent(raw.substring(start, trimEnd(raw, start, end)));
+        }
+
+        return instance;
+    }
+
+    /**
+     * Decode keyspace section. <code>db0:keys=1121,expires=4,avg_ttl=4143</code>
+     * @param content section content without section header
+     * @param addContentSection
+     * @return keyspace by db number
+     */
+    public static Map<Integer, Keyspace> decodeKeyspace(String content, boolean addContentSection) {
+        if (content == null) {
+            content = "";
+        }
+
+        return decodeKeyspace(content, 0, content.length(), addContentSection);
+    }
+
+    static Map<Integer, Keyspace> decodeKeyspace(String raw, int start, int end, boolean addContentSection) {
+        Map<Integer, Keyspace> keyspaceMap = new TreeMap<>();
+        SlotTable slotTable = SLOT_TABLES.get(Keyspace.class);
+        String content = addContentSection ? raw.substring(start, trimEnd(raw, start, end)) : null;
+
+        int lineStart = start;
+        while (lineStart < end) {
+            int lineEnd = Math.min(lineEnd(raw, lineStart, end), end);
+            int colon = indexOf(raw, ':', lineStart, lineEnd);
+
+            if (colon > lineStart + 2 && raw.startsWith("db", lineStart)) {
+                Keyspace keyspace = (Keyspace) slotTable.newInstance();
+                keyspace.setNo((int) parseLong(raw, lineStart + 2, colon, 0));
+
+                decodeRowFields(slotTable, keyspace, raw, colon + 1, lineEnd);
+
+                if (content != null) {
+                    keyspace.setSctionContent(content);
+                }
+
+                keyspaceMap.put(keyspace.getNo(), keyspace);
+            }
+
+            lineStart = nextLine(raw, lineEnd);
+        }
+
+        return keyspaceMap;
+    }
+
+    /**
+     * Decode section of named rows. <code>cmdstat_get:calls=10,usec=20,usec_per_call=2.00</code>
+     * @param type row vo type
+     * @param content section content without section header
+     * @param prefix row key prefix, row name is the rest of key. ex) cmdstat_
+     * @param addContentSection
+     * @return row vo by row name
+     */
+    public static <T extends StatsBaseVo> Map<String, T> decodeRows(Class<T> type, String content, String prefix,
+            boolean addContentSection) {
+        if (content == null) {
+            content = "";
+        }
+
+        return decodeRows(type, content, 0, content.length(), prefix, addContentSection);
+    }
+
+    static <T extends StatsBaseVo> Map<String, T> decodeRows(Class<T> type, String raw, int start, int end,
+            String prefix, boolean addContentSection) {
+        Map<String, T> rows = new TreeMap<>();
+        SlotTable slotTable = SLOT_TABLES.get(type);
+        String content = addContentSection ? raw.substring(start, trimEnd(raw, start, end)) : null;
+
+        int lineStart = start;
+        while (lineStart < end) {
+            int lineEnd = Math.min(lineEnd(raw, lineStart, end), end);
+            int colon = indexOf(raw, ':', lineStart, lineEnd);
+
+            if (colon > lineStart + prefix.length() && raw.startsWith(prefix, lineStart)) {
+                T row = type.cast(slotTable.newInstance());
+                decodeRowFields(slotTable, row, raw, colon + 1, lineEnd);
+
+                if (content != null) {
+                    row.setSctionContent(content);
+                }
+
+                rows.put(raw.substring(lineStart + prefix.length(), colon), row);
+            }
+
+            lineStart = nextLine(raw, lineEnd);
+        }
+
+        return rows;
+    }
+
+    // comma separated key=value fields of one row
+    private static void decodeRowFields(SlotTable slotTable, Object row, String raw, int start, int lineEnd) {
+        int fieldStart = start;
+        while (fieldStart < lineEnd) {
+            int fieldEnd = indexOf(raw, ',', fieldStart, lineEnd);
+            if (fieldEnd < 0) {
+                fieldEnd = lineEnd;
+            }
+
+            int equal = indexOf(raw, '=', fieldStart, fieldEnd);
+            if (equal > fieldStart) {
+                Slot slot = slotTable.find(raw, fieldStart, equal);
+                if (slot != null) {
+                    slot.set(row, raw, equal + 1, trimEnd(raw, equal + 1, fieldEnd));
+                }
+            }
+
+            fieldStart = fieldEnd + 1;
+        }
+    }
+
+    private static int lineEnd(String raw, int from, int end) {
+        int index = raw.indexOf('\n', from);
+        if (index < 0 || index > end) {
+            return end;
+        }
+
+        // exclude \r of \r\n
+        return index > from && raw.charAt(index - 1) == '\r' ? index - 1 : index;
+    }
+
+    private static int nextLine(String raw, int lineEnd) {
+        int index = lineEnd;
+        if (index < raw.length() && raw.charAt(index) == '\r') {
+            index++;
+        }
+
+        if (index < raw.length() && raw.charAt(index) == '\n') {
+            index++;
+        }
+
+        return index == lineEnd ? lineEnd + 1 : index;
+    }
+
+    private static int trimEnd(String raw, int start, int end) {
+        while (end > start && Character.isWhitespace(raw.charAt(end - 1))) {
+            end--;
+        }
+
+        return end;
+    }
+
+    private static int indexOf(String raw, char ch, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (raw.charAt(i) == ch) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Parse decimal number without creating string.
+     * @return parsed value or defaultValue when value is not a number. over range value is clamped.
+     */
+    static long parseLong(String raw, int start, int end, long defaultValue) {
+        if (start >= end) {
+            return defaultValue;
+        }
+
+        boolean negative = raw.charAt(start) == '-';
+        int index = negative || raw.charAt(start) == '+' ? start + 1 : start;
+        if (index >= end) {
+            return defaultValue;
+        }
+
+        long value = 0;
+        for (; index < end; index++) {
+            int digit = raw.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                return defaultValue;
+            }
+
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                return negative ? Long.MIN_VALUE : Long.MAX_VALUE;
+            }
+
+            value = value * 10 + digit;
+        }
+
+        return negative ? -value : value;
+    }
+
+    private static int normalizedHash(String raw, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            char ch = raw.charAt(i);
+            if (ch != '_' && ch != '.') {
+                hash = 31 * hash + Character.toLowerCase(ch);
+            }
+        }
+
+        return hash;
+    }
+
+    private static boolean normalizedEquals(String key, String raw, int start, int end) {
+        int keyIndex = 0;
+        for (int i = start; i < end; i++) {
+            char ch = raw.charAt(i);
+            if (ch == '_' || ch == '.') {
+                continue;
+            }
+
+            if (keyIndex >= key.length() || key.charAt(keyIndex++) != Character.toLowerCase(ch)) {
+                return false;
+            }
+        }
+
+        return keyIndex == key.length();
+    }
+
+    /**
+     * Section boundaries of one INFO result.
+     */
+    static final class Sections {
+        private final String raw;
+
+        private final boolean addContentSection;
+
+        private final List<String> names = new ArrayList<>();
+
+        private final List<int[]> ranges = new ArrayList<>();
+
+        private int openStart = -1;
+
+        private Sections(String raw, boolean addContentSection) {
+            this.raw = raw;
+            this.addContentSection = addContentSection;
+        }
+
+        private void open(String name, int start) {
+            names.add(name);
+            openStart = start;
+        }
+
+        private void close(int end) {
+            if (openStart >= 0) {
+                ranges.add(new int[] { openStart, Math.max(openStart, end) });
+                openStart = -1;
+            }
+        }
+
+        private int indexOf(String name) {
+            for (int i = 0; i < names.size(); i++) {
+                if (names.get(i).equalsIgnoreCase(name)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        boolean contains(String name) {
+            return indexOf(name) >= 0;
+        }
+
+        List<String> names() {
+            return names;
+        }
+
+        String content(String name) {
+            int index = indexOf(name);
+            if (index < 0) {
+                return null;
+            }
+
+            int[] range = ranges.get(index);
+            return raw.substring(range[0], trimEnd(raw, range[0], range[1]));
+        }
+
+        <T extends StatsBaseVo> T decode(String name, Class<T> type) {
+            int index = indexOf(name);
+            if (index < 0) {
+                return null;
+            }
+
+            int[] range = ranges.get(index);
+            return RedisInfoParser.decode(type, raw, range[0], range[1], addContentSection);
+        }
+
+        Map<Integer, Keyspace> decodeKeyspace(String name) {
+            int index = indexOf(name);
+            if (index < 0) {
+                return null;
+            }
+
+            int[] range = ranges.get(index);
+            return RedisInfoParser.decodeKeyspace(raw, range[0], range[1], addContentSection);
+        }
+
+        <T extends StatsBaseVo> Map<String, T> decodeRows(String name, Class<T> type, String prefix) {
+            int index = indexOf(name);
+            if (index < 0) {
+                return null;
+            }
+
+            int[] range = ranges.get(index);
+            return RedisInfoParser.decodeRows(type, raw, range[0], range[1], prefix, addContentSection);
+        }
+    }
+
+    /**
+     * Normalized key to field slot table of one section vo type. created once per type.
+     */
+    private static final class SlotTable {
+        private final MethodHandle constructor;
+
+        private final Slot[] slots;
+
+        private final int mask;
+
+        private SlotTable(Class<?> type) {
+            List<Slot> slotList = new ArrayList<>();
+
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+                this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                        continue;
+                    }
+
+                    SlotKind kind = SlotKind.of(field.getType());
+                    if (kind == null) {
+                        continue;
+                    }
+
+                    MethodHandle setter = lookup.unreflectSetter(field)
+                            .asType(MethodType.methodType(void.class, Object.class, kind.type));
+                    slotList.add(new Slot(field.getName().toLowerCase(), kind, setter));
+                }
+            }
+            catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Can not create info key table of " + type.getSimpleName(), e);
+            }
+
+            int capacity = Integer.highestOneBit(Math.max(2, slotList.size()) * 4);
+            this.slots = new Slot[capacity];
+            this.mask = capacity - 1;
+
+            for (Slot slot : slotList) {
+                int index = normalizedHash(slot.key, 0, slot.key.length()) & mask;
+                while (slots[index] != null) {
+                    if (slots[index].key.equals(slot.key)) {
+                        logger.warn("Duplicated info key " + slot.key + " of " + type.getSimpleName());
+                    }
+
+                    index = (index + 1) & mask;
+                }
+
+                slots[index] = slot;
+            }
+        }
+
+        private Object newInstance() {
+            try {
+                return constructor.invokeExact();
+            }
+            catch (Throwable e) {
+                throw new IllegalStateException("Can not create info section", e);
+            }
+        }
+
+        private Slot find(String raw, int start, int end) {
+            int index = normalizedHash(raw, start, end) & mask;
+
+            Slot slot = null;
+            while ((slot = slots[index]) != null) {
+                if (normalizedEquals(slot.key, raw, start, end)) {
+                    return slot;
+                }
+
+                index = (index + 1) & mask;
+            }
+
+            return null;
+        }
+    }
+
+    private enum SlotKind {
+        INT(int.class), LONG(long.class), FLOAT(float.class), DOUBLE(double.class), STRING(String.class);
+
+        private final Class<?> type;
+
+        SlotKind(Class<?> type) {
+            this.type = type;
+        }
+
+        static SlotKind of(Class<?> fieldType) {
+            for (SlotKind kind : values()) {
+                if (kind.type == fieldType) {
+                    return kind;
+                }
+            }
+
+            return null;
+        }
+    }
+
+    private static final class Slot {
+        private final String key;
+
+        private final SlotKind kind;
+
+        private final MethodHandle setter;
+
+        private Slot(String key, SlotKind kind, MethodHandle setter) {
+            this.key = key;
+            this.kind = kind;
+            this.setter = setter;
+        }
+
+        private void set(Object instance, String raw, int start, int end) {
+            // errorstat_ERR:count=3602
+            if (kind != SlotKind.STRING) {
+                int equal = RedisInfoParser.indexOf(raw, '=', start, end);
+                if (equal >= 0) {
+                    start = equal + 1;
+                }
+            }
+
+            try {
+                switch (kind) {
+                    case INT -> setter.invokeExact(instance,
+                            (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, parseLong(raw, start, end, 0))));
+                    case LONG -> setter.invokeExact(instance, parseLong(raw, start, end, 0));
+                    case FLOAT -> setter.invokeExact(instance, (float) parseDouble(raw, start, end));
+                    case DOUBLE -> setter.invokeExact(instance, parseDouble(raw, start, end));
+                    default -> setter.invokeExact(instance, raw.substring(start, end));
+                }
+            }
+            catch (Throwable e) {
+                logger.error("Can not set info value " + key + " " + raw.substring(start, end), e);
+            }
+        }
+
+        private static double parseDouble(String raw, int start, int end) {
+            long value = parseLong(raw, start, end, Long.MIN_VALUE);
+            if (value != Long.MIN_VALUE) {
+                return value;
+            }
+
+            try {
+                return Double.parseDouble(raw.substring(start, end));
+            }
+            catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+}
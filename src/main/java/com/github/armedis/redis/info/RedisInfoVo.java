@@ -2,10 +2,7 @@ package com.github.armedis.redis.info;
 
 import java.util.Map;
 
-import org.apache.commons.lang3.StringUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -44,162 +41,261 @@ public class RedisInfoVo {
     @JsonInclude
     private Map<Integer, Keyspace> keyspace;
 
+    // per command rows, not included in stats json of every tick.
+    @JsonIgnore
+    private Map<String, CommandStat> commandstats;
+
+    @JsonIgnore
+    private Map<String, LatencyStat> latencystats;
+
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    // sections of INFO result, each section is decoded at first get.
+    private RedisInfoParser.Sections sections;
+
+    public RedisInfoVo() {
+    }
+
+    RedisInfoVo(RedisInfoParser.Sections sections) {
+        this.sections = sections;
+    }
+
     /**
      * @return the server
      */
-    public Server getServer() {
+    public synchronized Server getServer() {
+        if (server == null && sections != null) {
+            server = sections.decode("Server", Server.class);
+        }
+
         return server;
     }
 
     /**
      * @param server the server to set
      */
-    public void setServer(Server server) {
+    public synchronized void setServer(Server server) {
         this.server = server;
     }
 
     /**
      * @return the clients
      */
-    public Clients getClients() {
+    public synchronized Clients getClients() {
+        if (clients == null && sections != null) {
+            clients = sections.decode("Clients", Clients.class);
+        }
+
         return clients;
     }
 
     /**
      * @param clients the clients to set
      */
-    public void setClients(Clients clients) {
+    public synchronized void setClients(Clients clients) {
         this.clients = clients;
     }
 
     /**
      * @return the memory
      */
-    public Memory getMemory() {
+    public synchronized Memory getMemory() {
+        if (memory == null && sections != null) {
+            memory = sections.decode("Memory", Memory.class);
+        }
+
         return memory;
     }
 
     /**
      * @param memory the memory to set
      */
-    public void setMemory(Memory memory) {
+    public synchronized void setMemory(Memory memory) {
         this.memory = memory;
     }
 
     /**
      * @return the persistence
      */
-    public Persistence getPersistence() {
+    public synchronized Persistence getPersistence() {
+        if (persistence == null && sections != null) {
+            persistence = sections.decode("Persistence", Persistence.class);
+        }
+
         return persistence;
     }
 
     /**
      * @param persistence the persistence to set
      */
-    public void setPersistence(Persistence persistence) {
+    public synchronized void setPersistence(Persistence persistence) {
         this.persistence = persistence;
     }
 
     /**
      * @return the stats
      */
-    public Stats getStats() {
+    public synchronized Stats getStats() {
+        if (stats == null && sections != null) {
+            stats = sections.decode("Stats", Stats.class);
+        }
+
         return stats;
     }
 
     /**
      * @param stats the stats to set
      */
-    public void setStats(Stats stats) {
+    public synchronized void setStats(Stats stats) {
         this.stats = stats;
     }
 
     /**
      * @return the replication
      */
-    public Replication getReplication() {
+    public synchronized Replication getReplication() {
+        if (replication == null && sections != null) {
+            replication = sections.decode("Replication", Replication.class);
+        }
+
         return replication;
     }
 
     /**
      * @param replication the replication to set
      */
-    public void setReplication(Replication replication) {
+    public synchronized void setReplication(Replication replication) {
         this.replication = replication;
     }
 
     /**
      * @return the cpu
      */
-    public CPU getCpu() {
+    public synchronized CPU getCpu() {
+        if (cpu == null && sections != null) {
+            cpu = sections.decode("CPU", CPU.class);
+        }
+
         return cpu;
     }
 
     /**
      * @param cpu the cpu to set
      */
-    public void setCpu(CPU cpu) {
+    public synchronized void setCpu(CPU cpu) {
         this.cpu = cpu;
     }
 
     /**
      * @return the modules
      */
-    public Modules getModules() {
+    public synchronized Modules getModules() {
+        if (modules == null && sections != null) {
+            modules = sections.decode("Modules", Modules.class);
+        }
+
         return modules;
     }
 
     /**
      * @param modules the modules to set
      */
-    public void setModules(Modules modules) {
+    public synchronized void setModules(Modules modules) {
         this.modules = modules;
     }
 
     /**
      * @return the errorstats
      */
-    public Errorstats getErrorstats() {
+    public synchronized Errorstats getErrorstats() {
+        if (errorstats == null && sections != null) {
+            errorstats = sections.decode("Errorstats", Errorstats.class);
+        }
+
         return errorstats;
     }
 
     /**
      * @param errorstats the errorstats to set
      */
-    public void setErrorstats(Errorstats errorstats) {
+    public synchronized void setErrorstats(Errorstats errorstats) {
         this.errorstats = errorstats;
     }
 
     /**
      * @return the cluster
      */
-    public Cluster getCluster() {
+    public synchronized Cluster getCluster() {
+        if (cluster == null && sections != null) {
+            cluster = sections.decode("Cluster", Cluster.class);
+        }
+
         return cluster;
     }
 
     /**
      * @param cluster the cluster to set
      */
-    public void setCluster(Cluster cluster) {
+    public synchronized void setCluster(Cluster cluster) {
         this.cluster = cluster;
     }
 
     /**
      * @return the keyspace
      */
-    public Map<Integer, Keyspace> getKeyspace() {
+    public synchronized Map<Integer, Keyspace> getKeyspace() {
+        if (keyspace == null && sections != null) {
+            keyspace = sections.decodeKeyspace("Keyspace");
+        }
+
         return keyspace;
     }
 
     /**
      * @param keyspace the keyspace to set
      */
-    public void setKeyspace(Map<Integer, Keyspace> keyspace) {
+    public synchronized void setKeyspace(Map<Integer, Keyspace> keyspace) {
         this.keyspace = keyspace;
     }
 
+    /**
+     * @return commandstats by command name, null if INFO has no Commandstats section.
+     */
+    @JsonIgnore
+    public synchronized Map<String, CommandStat> getCommandstats() {
+        if (commandstats == null && sections != null) {
+            commandstats = sections.decodeRows("Commandstats", CommandStat.class, "cmdstat_");
+        }
+
+        return commandstats;
+    }
+
+    /**
+     * @param commandstats the commandstats to set
+     */
+    public synchronized void setCommandstats(Map<String, CommandStat> commandstats) {
+        this.commandstats = commandstats;
+    }
+
+    /**
+     * @return latencystats by command name, null if INFO has no Latencystats section(before redis 7).
+     */
+    @JsonIgnore
+    public synchronized Map<String, LatencyStat> getLatencystats() {
+        if (latencystats == null && sections != null) {
+            latencystats = sections.decodeRows("Latencystats", LatencyStat.class, "latency_percentiles_usec_");
+        }
+
+        return latencystats;
+    }
+
+    /**
+     * @param latencystats the latencystats to set
+     */
+    public synchronized void setLatencystats(Map<String, LatencyStat> latencystats) {
+        this.latencystats = latencystats;
+    }
+
     public String toJsonString() {
         String json = null;
         try {
@@ -214,76 +310,55 @@ public class RedisInfoVo {
 
     // Static method to create an instance of RedisInfoVO from the INFO command
     public static RedisInfoVo from(String infoResult, boolean addContentSection) throws Throwable {
-        final Logger logger = LoggerFactory.getLogger(RedisInfoVo.class);
-
-        RedisInfoVo redisInfoVO = new RedisInfoVo();
-
-        String[] sections = infoResult.split("# ");
-
-        for (String section : sections) {
-            if (StringUtils.isEmpty(section)) {
-                continue;
-            }
-
-            String[] lines = section.split("\r\n");
-
-            if (lines.length > 0) {
-                String sectionName = lines[0].trim();
-                String contentSection = null;
-
-                contentSection = StringUtils.trimToEmpty(section.substring(section.indexOf("\r\n") + 2));
-
-                switch (sectionName) {
-                    case "Server":
-                        redisInfoVO.setServer(Server.fromString(Server.class, contentSection, addContentSection));
-                        break;
-
-                    case "Clients":
-                        redisInfoVO.setClients(Clients.fromString(Clients.class, contentSection, addContentSection));
-                        break;
-
-                    case "Memory":
-                        redisInfoVO.setMemory(Memory.fromString(Memory.class, contentSection, addContentSection));
-                        break;
-
-                    case "Persistence":
-                        redisInfoVO.setPersistence(Persistence.fromString(Persistence.class, contentSection, addContentSection));
-                        break;
-
-                    case "Stats":
-                        redisInfoVO.setStats(Stats.fromString(Stats.class, contentSection, addContentSection));
-                        break;
-
-                    case "Replication":
-                        redisInfoVO.setReplication(Replication.fromString(Replication.class, contentSection, addContentSection));
-                        break;
-
-                    case "CPU":
-                        redisInfoVO.setCpu(CPU.fromString(CPU.class, contentSection, addContentSection));
-                        break;
-
-                    case "Modules":
-                        redisInfoVO.setModules(Modules.fromString(Modules.class, contentSection, addContentSection));
-                        break;
-
-                    case "Errorstats":
-                        redisInfoVO.setErrorstats(Errorstats.fromString(Errorstats.class, contentSection, addContentSection));
-                        break;
-
-                    case "Cluster":
-                        redisInfoVO.setCluster(Cluster.fromString(Cluster.class, contentSection, addContentSection));
-                        break;
+        return RedisInfoParser.parse(infoResult, addContentSection);
+    }
 
-                    case "Keyspace":
-                        redisInfoVO.setKeyspace(Keyspace.fromString(contentSection, addContentSection));
-                        break;
+    /**
+     * @param sectionName section name, case insensitive. ex) stats, cpu
+     * @return section vo, null if section is unknown or absent. keyspace is not a single section vo.
+     */
+    public StatsBaseVo section(String sectionName) {
+        return switch (sectionName.toLowerCase()) {
+            case "server" -> getServer();
+            case "clients" -> getClients();
+            case "memory" -> getMemory();
+            case "persistence" -> getPersistence();
+            case "stats" -> getStats();
+            case "replication" -> getReplication();
+            case "cpu" -> getCpu();
+            case "modules" -> getModules();
+            case "errorstats" -> getErrorstats();
+            case "cluster" -> getCluster();
+            default -> null;
+        };
+    }
 
-                    default:
-                        logger.error("Can not convert " + sectionName + " " + contentSection);
-                }
-            }
-        }
+    /**
+     * @param sectionName section name, case insensitive.
+     * @return section vo type, null if section is unknown.
+     */
+    public static Class<? extends StatsBaseVo> sectionType(String sectionName) {
+        return switch (sectionName.toLowerCase()) {
+            case "server" -> Server.class;
+            case "clients" -> Clients.class;
+            case "memory" -> Memory.class;
+            case "persistence" -> Persistence.class;
+            case "stats" -> Stats.class;
+            case "replication" -> Replication.class;
+            case "cpu" -> CPU.class;
+            case "modules" -> Modules.class;
+            case "errorstats" -> Errorstats.class;
+            case "cluster" -> Cluster.class;
+            default -> null;
+        };
+    }
 
-        return redisInfoVO;
+    /**
+     * Raw content of section. ex) Commandstats, Latencystats
+     * @param sectionName
+     * @return content without section header, null if section is not exist.
+     */
+    public String sectionContent(String sectionName) {
+        return sections == null ? null : sections.content(sectionName);
     }
 }
\ No newline at end of file
@@ -13,7 +13,8 @@ public class Server extends StatsBaseVo {
         keyList.put("os", DIFF);
         keyList.put("archBits", DIFF);
         keyList.put("gccVersion", DIFF);
-        keyList.put("processId", CONCAT);
+        // process ids of nodes are not a value of sum.
+        keyList.put("processId", EMPTY);
         keyList.put("processSupervised", DIFF);
         keyList.put("host", DIFF);
         keyList.put("tcpPort", DIFF);
@@ -43,24 +43,24 @@ public final class Stats extends StatsBaseVo {
         return keyList;
     }
 
-    private int totalConnectionsReceived;
-    private int totalCommandsProcessed;
+    private long totalConnectionsReceived;
+    private long totalCommandsProcessed;
     private int instantaneousOpsPerSec;
     private long totalNetInputBytes;
     private long totalNetOutputBytes;
     private double instantaneousInputKbps;
     private double instantaneousOutputKbps;
-    private int rejectedConnections;
+    private long rejectedConnections;
     private int syncFull;
     private int syncPartialOk;
     private int syncPartialErr;
-    private int expiredKeys;
+    private long expiredKeys;
     private double expiredStalePerc;
     private int expiredTimeCapReachedCount;
     private int expireCycleCpuMilliseconds;
-    private int evictedKeys;
-    private int keyspaceHits;
-    private int keyspaceMisses;
+    private long evictedKeys;
+    private long keyspaceHits;
+    private long keyspaceMisses;
     private int pubsubChannels;
     private int pubsubPatterns;
     private long latestForkUsec;
@@ -75,38 +75,38 @@ public final class Stats extends StatsBaseVo {
     private int trackingTotalItems;
     private int trackingTotalPrefixes;
     private int unexpectedErrorReplies;
-    private int totalErrorReplies;
+    private long totalErrorReplies;
     private int dumpPayloadSanitizations;
-    private int totalReadsProcessed;
-    private int totalWritesProcessed;
+    private long totalReadsProcessed;
+    private long totalWritesProcessed;
     private int ioThreadedReadsProcessed;
     private int ioThreadedWritesProcessed;
 
     /**
      * @return the totalConnectionsReceived
      */
-    public int getTotalConnectionsReceived() {
+    public long getTotalConnectionsReceived() {
         return totalConnectionsReceived;
     }
 
     /**
      * @param totalConnectionsReceived the totalConnectionsReceived to set
      */
-    public void setTotalConnectionsReceived(int totalConnectionsReceived) {
+    public void setTotalConnectionsReceived(long totalConnectionsReceived) {
         this.totalConnectionsReceived = totalConnectionsReceived;
     }
 
     /**
      * @return the totalCommandsProcessed
      */
-    public int getTotalCommandsProcessed() {
+    public long getTotalCommandsProcessed() {
         return totalCommandsProcessed;
     }
 
     /**
      * @param totalCommandsProcessed the totalCommandsProcessed to set
      */
-    public void setTotalCommandsProcessed(int totalCommandsProcessed) {
+    public void setTotalCommandsProcessed(long totalCommandsProcessed) {
         this.totalCommandsProcessed = totalCommandsProcessed;
     }
 
@@ -183,14 +183,14 @@ public final class Stats extends StatsBaseVo {
     /**
      * @return the rejectedConnections
      */
-    public int getRejectedConnections() {
+    public long getRejectedConnections() {
         return rejectedConnections;
     }
 
     /**
      * @param rejectedConnections the rejectedConnections to set
      */
-    public void setRejectedConnections(int rejectedConnections) {
+    public void setRejectedConnections(long rejectedConnections) {
         this.rejectedConnections = rejectedConnections;
     }
 
@@ -239,14 +239,14 @@ public final class Stats extends StatsBaseVo {
     /**
      * @return the expiredKeys
      */
-    public int getExpiredKeys() {
+    public long getExpiredKeys() {
         return expiredKeys;
     }
 
     /**
      * @param expiredKeys the expiredKeys to set
      */
-    public void setExpiredKeys(int expiredKeys) {
+    public void setExpiredKeys(long expiredKeys) {
         this.expiredKeys = expiredKeys;
     }
 
@@ -295,42 +295,42 @@ public final class Stats extends StatsBaseVo {
     /**
      * @return the evictedKeys
      */
-    public int getEvictedKeys() {
+    public long getEvictedKeys() {
         return evictedKeys;
     }
 
     /**
      * @param evictedKeys the evictedKeys to set
      */
-    public void setEvictedKeys(int evictedKeys) {
+    public void setEvictedKeys(long evictedKeys) {
         this.evictedKeys = evictedKeys;
     }
 
     /**
      * @return the keyspaceHits
      */
-    public int getKeyspaceHits() {
+    public long getKeyspaceHits() {
         return keyspaceHits;
     }
 
     /**
      * @param keyspaceHits the keyspaceHits to set
      */
-    public void setKeyspaceHits(int keyspaceHits) {
+    public void setKeyspaceHits(long keyspaceHits) {
         this.keyspaceHits = keyspaceHits;
     }
 
     /**
      * @return the keyspaceMisses
      */
-    public int getKeyspaceMisses() {
+    public long getKeyspaceMisses() {
         return keyspaceMisses;
     }
 
     /**
      * @param keyspaceMisses the keyspaceMisses to set
      */
-    public void setKeyspaceMisses(int keyspaceMisses) {
+    public void setKeyspaceMisses(long keyspaceMisses) {
         this.keyspaceMisses = keyspaceMisses;
     }
 
@@ -533,14 +533,14 @@ public final class Stats extends StatsBaseVo {
     /**
      * @return the totalErrorReplies
      */
-    public int getTotalErrorReplies() {
+    public long getTotalErrorReplies() {
         return totalErrorReplies;
     }
 
     /**
      * @param totalErrorReplies the totalErrorReplies to set
      */
-    public void setTotalErrorReplies(int totalErrorReplies) {
+    public void setTotalErrorReplies(long totalErrorReplies) {
         this.totalErrorReplies = totalErrorReplies;
     }
 
@@ -561,28 +561,28 @@ public final class Stats extends StatsBaseVo {
     /**
      * @return the totalReadsProcessed
      */
-    public int getTotalReadsProcessed() {
+    public long getTotalReadsProcessed() {
         return totalReadsProcessed;
     }
 
     /**
      * @param totalReadsProcessed the totalReadsProcessed to set
      */
-    public void setTotalReadsProcessed(int totalReadsProcessed) {
+    public void setTotalReadsProcessed(long totalReadsProcessed) {
         this.totalReadsProcessed = totalReadsProcessed;
     }
 
     /**
      * @return the totalWritesProcessed
      */
-    public int getTotalWritesProcessed() {
+    public long getTotalWritesProcessed() {
         return totalWritesProcessed;
     }
 
     /**
      * @param totalWritesProcessed the totalWritesProcessed to set
      */
-    public void setTotalWritesProcessed(int totalWritesProcessed) {
+    public void setTotalWritesProcessed(long totalWritesProcessed) {
         this.totalWritesProcessed = totalWritesProcessed;
     }
 
@@ -0,0 +1,255 @@
+package com.github.armedis.redis.info;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Accumulate values of same {@link StatsBaseVo} type by operation of {@link StatsBaseVo#operationKeyList()}.<br/>
+ * Field accessors are created once per class with method handles, and numeric values are calculated as primitive
+ * without boxing or string conversion.
+ * @author krisjey
+ *
+ */
+public final class StatsAccumulator {
+    private static final Logger logger = LoggerFactory.getLogger(StatsAccumulator.class);
+
+    private static final ClassValue<StatsAccumulator> ACCUMULATORS = new ClassValue<StatsAccumulator>() {
+        @Override
+        protected StatsAccumulator computeValue(Class<?> type) {
+            return new StatsAccumulator(type);
+        }
+    };
+
+    private final FieldOperation[] operations;
+
+    /**
+     * @param type subclass of StatsBaseVo
+     * @return accumulator of the type, created at first call.
+     */
+    public static StatsAccumulator of(Class<? extends StatsBaseVo> type) {
+        return ACCUMULATORS.get(type);
+    }
+
+    /**
+     * Accumulate value of target to sum. Both must be same type.
+     * @param sumBaseVo
+     * @param baseVo
+     */
+    public static void accumulate(StatsBaseVo sumBaseVo, StatsBaseVo baseVo) {
+        if (sumBaseVo == null || baseVo == null) {
+            return;
+        }
+
+        of(sumBaseVo.getClass()).accumulateValues(sumBaseVo, baseVo);
+    }
+
+    /**
+     * Accumulate rows to rows of sum by row name. Row which is not in sum is accumulated to new row.
+     * @param sumRows
+     * @param rows
+     * @param rowFactory creates empty row
+     */
+    public static <T extends StatsBaseVo> void accumulateRows(Map<String, T> sumRows, Map<String, T> rows,
+            Supplier<T> rowFactory) {
+        if (sumRows == null || rows == null) {
+            return;
+        }
+
+        for (Entry<String, T> row : rows.entrySet()) {
+            accumulate(sumRows.computeIfAbsent(row.getKey(), key -> rowFactory.get()), row.getValue());
+        }
+    }
+
+    private StatsAccumulator(Class<?> type) {
+        List<FieldOperation> operationList = new ArrayList<>();
+
+        try {
+            StatsBaseVo prototype = (StatsBaseVo) type.getDeclaredConstructor().newInstance();
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+
+            for (Entry<String, String> item : prototype.operationKeyList().entrySet()) {
+                FieldOperation operation = createOperation(lookup, type, item.getKey(), item.getValue());
+                if (operation != null) {
+                    operationList.add(operation);
+                }
+            }
+        }
+        catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can not create stats accessor of " + type.getSimpleName(), e);
+        }
+
+        this.operations = operationList.toArray(new FieldOperation[0]);
+    }
+
+    private static FieldOperation createOperation(MethodHandles.Lookup lookup, Class<?> type, String fieldName,
+            String operation) throws IllegalAccessException {
+        Field field = null;
+        try {
+            field = type.getDeclaredField(fieldName);
+        }
+        catch (NoSuchFieldException e) {
+            logger.warn("Can not find declared field in " + type.getSimpleName() + " " + fieldName);
+            return null;
+        }
+
+        FieldKind kind = FieldKind.of(field.getType());
+        boolean numericOperation = StatsBaseVo.SUM.equals(operation) || StatsBaseVo.MAX.equals(operation)
+                || StatsBaseVo.MIN.equals(operation);
+
+        if (numericOperation && kind == FieldKind.OBJECT) {
+            logger.warn("Can not " + operation + " non numeric field " + type.getSimpleName() + "." + fieldName);
+            return null;
+        }
+
+        if (kind == FieldKind.OBJECT && field.getType() != String.class) {
+            logger.warn("Can not " + operation + " field " + type.getSimpleName() + "." + fieldName);
+            return null;
+        }
+
+        if (StatsBaseVo.CONCAT.equals(operation) && kind != FieldKind.OBJECT) {
+            logger.warn("Can not concat numeric field " + type.getSimpleName() + "." + fieldName);
+            return null;
+        }
+
+        MethodHandle getter = lookup.unreflectGetter(field);
+        MethodHandle setter = lookup.unreflectSetter(field);
+
+        return new FieldOperation(fieldName, operation, kind,
+                getter.asType(MethodType.methodType(kind.type, Object.class)),
+                setter.asType(MethodType.methodType(void.class, Object.class, kind.type)));
+    }
+
+    private void accumulateValues(StatsBaseVo sumBaseVo, StatsBaseVo baseVo) {
+        for (FieldOperation operation : operations) {
+            try {
+                operation.apply(sumBaseVo, baseVo);
+            }
+            catch (Throwable e) {
+                logger.error("Can not " + operation.operation + " field " + operation.fieldName, e);
+            }
+        }
+    }
+
+    /**
+     * @return operation target field names.
+     */
+    public List<String> fieldNames() {
+        List<String> fieldNames = new ArrayList<>(operations.length);
+        for (FieldOperation operation : operations) {
+            fieldNames.add(operation.fieldName);
+        }
+
+        return fieldNames;
+    }
+
+    private enum FieldKind {
+        INT(int.class), LONG(long.class), FLOAT(float.class), DOUBLE(double.class), OBJECT(Object.class);
+
+        private final Class<?> type;
+
+        FieldKind(Class<?> type) {
+            this.type = type;
+        }
+
+        static FieldKind of(Class<?> fieldType) {
+            for (FieldKind kind : values()) {
+                if (kind.type == fieldType) {
+                    return kind;
+                }
+            }
+
+            return OBJECT;
+        }
+    }
+
+    private static final class FieldOperation {
+        private final String fieldName;
+
+        private final String operation;
+
+        private final FieldKind kind;
+
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        FieldOperation(String fieldName, String operation, FieldKind kind, MethodHandle getter,
+                MethodHandle setter) {
+            this.fieldName = fieldName;
+            this.operation = operation;
+            this.kind = kind;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        void apply(Object sum, Object target) throws Throwable {
+            switch (kind) {
+                case INT -> setter.invokeExact(sum, applyInt((int) getter.invokeExact(sum),
+                        (int) getter.invokeExact(target)));
+                case LONG -> setter.invokeExact(sum, applyLong((long) getter.invokeExact(sum),
+                        (long) getter.invokeExact(target)));
+                case FLOAT -> setter.invokeExact(sum, (float) applyDouble((float) getter.invokeExact(sum),
+                        (float) getter.invokeExact(target)));
+                case DOUBLE -> setter.invokeExact(sum, applyDouble((double) getter.invokeExact(sum),
+                        (double) getter.invokeExact(target)));
+                default -> setter.invokeExact(sum, applyObject(getter.invokeExact(sum), getter.invokeExact(target)));
+            }
+        }
+
+        private int applyInt(int sumValue, int targetValue) {
+            return switch (operation) {
+                case StatsBaseVo.SUM -> sumValue + targetValue;
+                case StatsBaseVo.MAX -> Math.max(sumValue, targetValue);
+                case StatsBaseVo.MIN -> Math.min(sumValue, targetValue);
+                // different value is marked as negative number.
+                case StatsBaseVo.DIFF -> sumValue == targetValue ? targetValue : -targetValue;
+                case StatsBaseVo.EMPTY -> 0;
+                default -> sumValue;
+            };
+        }
+
+        private long applyLong(long sumValue, long targetValue) {
+            return switch (operation) {
+                case StatsBaseVo.SUM -> sumValue + targetValue;
+                case StatsBaseVo.MAX -> Math.max(sumValue, targetValue);
+                case StatsBaseVo.MIN -> Math.min(sumValue, targetValue);
+                case StatsBaseVo.DIFF -> sumValue == targetValue ? targetValue : -targetValue;
+                case StatsBaseVo.EMPTY -> 0;
+                default -> sumValue;
+            };
+        }
+
+        private double applyDouble(double sumValue, double targetValue) {
+            return switch (operation) {
+                case StatsBaseVo.SUM -> sumValue + targetValue;
+                case StatsBaseVo.MAX -> Math.max(sumValue, targetValue);
+                case StatsBaseVo.MIN -> Math.min(sumValue, targetValue);
+                case StatsBaseVo.DIFF -> sumValue == targetValue ? targetValue : -targetValue;
+                case StatsBaseVo.EMPTY -> 0;
+                default -> sumValue;
+            };
+        }
+
+        private Object applyObject(Object sumValue, Object targetValue) {
+            return switch (operation) {
+                case StatsBaseVo.CONCAT -> sumValue + "," + targetValue;
+                // different value is marked with (*)
+                case StatsBaseVo.DIFF -> String.valueOf(sumValue).equals(String.valueOf(targetValue))
+                        ? targetValue
+                        : targetValue + "(*)";
+                case StatsBaseVo.EMPTY -> "-";
+                default -> sumValue;
+            };
+        }
+    }
+}
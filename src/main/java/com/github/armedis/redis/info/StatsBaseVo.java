@@ -9,8 +9,6 @@ import java.util.Map;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
-import com.google.common.base.CaseFormat;
-
 /**
  * 
  */
@@ -104,31 +102,7 @@ public abstract class StatsBaseVo {
     public static <T> T fromString(Class<T> clazz, String content, boolean addContentSection)
             throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException,
             NoSuchMethodException, SecurityException {
-        T instance = clazz.getDeclaredConstructor().newInstance();
-
-        if (content == null) {
-            return instance;
-        }
-
-        String[] lines = content.split("\r\n");
-
-        for (String line : lines) {
-            String[] parts = line.split(":");
-            if (parts.length == 2) {
-                String key = parts[0].trim();
-                String value = parts[1].trim();
-
-                key = CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, key);
-
-                ReflectionManipulator.setFieldValue(instance, key, value);
-            }
-        }
-
-        if (addContentSection) {
-            ReflectionManipulator.setFieldValue(instance, "sctionContent", content);
-        }
-
-        return instance;
+        return clazz.cast(RedisInfoParser.decode(clazz.asSubclass(StatsBaseVo.class), content, addContentSection));
     }
 
     /**
@@ -0,0 +1,86 @@
+package com.github.armedis.redis.info;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Numeric field reader of {@link StatsBaseVo} type.<br/>
+ * Getters are created once per class with method handles, every numeric value is read as double.
+ * @author krisjey
+ *
+ */
+public final class StatsFields {
+    private static final ClassValue<StatsFields> FIELDS = new ClassValue<StatsFields>() {
+        @Override
+        protected StatsFields computeValue(Class<?> type) {
+            return new StatsFields(type);
+        }
+    };
+
+    private final Map<String, MethodHandle> getters = new LinkedHashMap<>();
+
+    /**
+     * @param type subclass of StatsBaseVo
+     * @return numeric fields of the type
+     */
+    public static StatsFields of(Class<? extends StatsBaseVo> type) {
+        return FIELDS.get(type);
+    }
+
+    private StatsFields(Class<?> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+
+            for (Field field : type.getDeclaredFields()) {
+                Class<?> fieldType = field.getType();
+                if (Modifier.isStatic(field.getModifiers()) || !fieldType.isPrimitive() || fieldType == boolean.class
+                        || fieldType == char.class) {
+                    continue;
+                }
+
+                getters.put(field.getName(),
+                        lookup.unreflectGetter(field).asType(MethodType.methodType(double.class, Object.class)));
+            }
+        }
+        catch (IllegalAccessException e) {
+            throw new IllegalStateException("Can not create stats field reader of " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * @return numeric field names by declared order.
+     */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(getters.keySet());
+    }
+
+    public boolean contains(String fieldName) {
+        return getters.containsKey(fieldName);
+    }
+
+    /**
+     * @param baseVo
+     * @param fieldName
+     * @return value of field, NaN when vo is null or field is not numeric field.
+     */
+    public double get(StatsBaseVo baseVo, String fieldName) {
+        MethodHandle getter = getters.get(fieldName);
+        if (baseVo == null || getter == null) {
+            return Double.NaN;
+        }
+
+        try {
+            return (double) getter.invokeExact((Object) baseVo);
+        }
+        catch (Throwable e) {
+            throw new IllegalStateException("Can not read " + fieldName, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.armedis.redis.latency;
+
+/**
+ * One latency spike of redis latency monitor.
+ * @param node host:port
+ * @param event latency event. ex) fork, expire-cycle, eviction-cycle, aof-fsync-always
+ * @param epochSecond time of spike
+ * @param latencyMillis latency of spike
+ * @param armedisLatencyMillis mean latency of armedis commands in the collection interval of spike, -1 if no
+ *        command is executed.
+ * @author krisjey
+ *
+ */
+public record LatencyEvent(String node, String event, long epochSecond, long latencyMillis,
+        double armedisLatencyMillis) {
+}
@@ -0,0 +1,306 @@
+package com.github.armedis.redis.latency;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.http.service.stats.series.MetricSeriesStore;
+import com.github.armedis.redis.RedisNode;
+import com.github.armedis.redis.connection.RedisNodeConnectionRegistry;
+import com.github.armedis.redis.topology.RedisTopologyService;
+
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.NestedMultiOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Collect latency monitor of every node in parallel.<br/>
+ * LATENCY HISTORY of event is read only when LATENCY LATEST of the event is changed, and first collection of node
+ * only remembers latest spike of each event, so history before armedis start is not recorded. Each spike is
+ * recorded to series of node as <code>latency.event</code>, and mean latency of armedis commands is recorded as
+ * <code>latency.armedis</code> of node <code>armedis</code>, so spikes are shown with armedis latency in same
+ * time axis.
+ * @author krisjey
+ *
+ */
+@Component
+public class LatencyMonitorCollector {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    public static final String ARMEDIS_NODE = "armedis";
+
+    public static final String ARMEDIS_METRIC = MetricSeriesStore.LATENCY_PREFIX + "armedis";
+
+    private static final String THRESHOLD_CONFIG = "latency-monitor-threshold";
+
+    private static final int RECENT_EVENTS = 1000;
+
+    private final ArmedisConfiguration armedisConfiguration;
+
+    private final RedisNodeConnectionRegistry connectionRegistry;
+
+    private final RedisTopologyService redisTopologyService;
+
+    private final MetricSeriesStore metricSeriesStore;
+
+    private final MeterRegistry meterRegistry;
+
+    // node -> event -> epoch second of last collected spike
+    private final Map<String, Map<String, Long>> lastSeen = new ConcurrentHashMap<>();
+
+    // nodes of which latency-monitor-threshold is checked.
+    private final Set<String> checkedNodes = ConcurrentHashMap.newKeySet();
+
+    // guarded by this.
+    private final Deque<LatencyEvent> recentEvents = new ArrayDeque<>(RECENT_EVENTS);
+
+    private long lastCommandCount;
+
+    private double lastCommandMillis;
+
+    @Autowired
+    public LatencyMonitorCollector(ArmedisConfiguration armedisConfiguration,
+            RedisNodeConnectionRegistry connectionRegistry, RedisTopologyService redisTopologyService,
+            MetricSeriesStore metricSeriesStore, MeterRegistry meterRegistry) {
+        this.armedisConfiguration = armedisConfiguration;
+        this.connectionRegistry = connectionRegistry;
+        this.redisTopologyService = redisTopologyService;
+        this.metricSeriesStore = metricSeriesStore;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${server.config.latency.intervalMillis:10000}")
+    public void collect() {
+        if (!armedisConfiguration.isLatencyEnabled()) {
+            return;
+        }
+
+        long epochSecond = Instant.now().getEpochSecond();
+        double armedisLatencyMillis = armedisLatencyMillis();
+        if (armedisLatencyMillis >= 0) {
+            metricSeriesStore.recordEvent(ARMEDIS_NODE, ARMEDIS_METRIC, epochSecond, armedisLatencyMillis);
+        }
+
+        long timeoutMillis = armedisConfiguration.getStatPollTimeoutMillis();
+
+        Map<String, CompletableFuture<List<LatencyEvent>>> eventFutures = new LinkedHashMap<>();
+        for (RedisNode redisNode : redisTopologyService.getSnapshot().getAllRedisNodes()) {
+            String node = redisNode.getHost() + ":" + redisNode.getPort();
+            eventFutures.put(node, connectionRegistry.getConnectionAsync(redisNode)
+                    .thenCompose(connection -> collectNode(node, connection.async(), armedisLatencyMillis))
+                    .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS));
+        }
+
+        CompletableFuture.allOf(eventFutures.values().toArray(new CompletableFuture<?>[0]))
+                .handle((result, e) -> null)
+                .join();
+
+        for (Entry<String, CompletableFuture<List<LatencyEvent>>> eventFuture : eventFutures.entrySet()) {
+            try {
+                for (LatencyEvent event : eventFuture.getValue().join()) {
+                    metricSeriesStore.recordEvent(event.node(), MetricSeriesStore.LATENCY_PREFIX + event.event(),
+                            event.epochSecond(), event.latencyMillis());
+                    addRecent(event);
+                }
+            }
+            catch (Exception e) {
+                logger.warn("Can not get latency of " + eventFuture.getKey() + ". " + e.getMessage());
+            }
+        }
+
+        // removed nodes
+        lastSeen.keySet().retainAll(eventFutures.keySet());
+        checkedNodes.retainAll(eventFutures.keySet());
+    }
+
+    private CompletableFuture<List<LatencyEvent>> collectNode(String node, RedisAsyncCommands<String, String> async,
+            double armedisLatencyMillis) {
+        return enableMonitor(node, async)
+                .thenCompose(ignore -> latency(async, "LATEST"))
+                .thenCompose(latest -> {
+                    Map<String, Long> latestEvents = parseLatest(latest);
+                    Map<String, Long> seen = lastSeen.get(node);
+                    if (seen == null) {
+                        // first collection of node only seeds last spike, spikes before it are not correlated
+                        // with current armedis latency.
+                        lastSeen.put(node, new ConcurrentHashMap<>(latestEvents));
+                        return CompletableFuture.completedFuture(Collections.<LatencyEvent>emptyList());
+                    }
+
+                    Map<String, CompletableFuture<List<Object>>> histories = new LinkedHashMap<>();
+                    latestEvents.forEach((event, timestamp) -> {
+                        if (timestamp > seen.getOrDefault(event, 0L)) {
+                            histories.put(event, latency(async, "HISTORY", event));
+                        }
+                    });
+
+                    return CompletableFuture.allOf(histories.values().toArray(new CompletableFuture<?>[0]))
+                            .thenApply(ignore -> {
+                                List<LatencyEvent> events = new ArrayList<>();
+                                histories.forEach((event, history) -> {
+                                    long last = seen.getOrDefault(event, 0L);
+                                    for (long[] spike : parseHistory(history.join())) {
+                                        if (spike[0] > last) {
+                                            events.add(new LatencyEvent(node, event, spike[0], spike[1],
+                                                    armedisLatencyMillis));
+                                            seen.merge(event, spike[0], Math::max);
+                                        }
+                                    }
+                                });
+
+                                return events;
+                            });
+                });
+    }
+
+    /**
+     * Set latency-monitor-threshold once per node when monitor of node is disabled.
+     */
+    private CompletableFuture<Void> enableMonitor(String node, RedisAsyncCommands<String, String> async) {
+        int threshold = armedisConfiguration.getLatencyMonitorThresholdMillis();
+        if (threshold <= 0 || checkedNodes.contains(node)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return async.configGet(THRESHOLD_CONFIG).toCompletableFuture()
+                .thenCompose(config -> {
+                    if (!"0".equals(config.get(THRESHOLD_CONFIG))) {
+                        return CompletableFuture.completedFuture((Void) null);
+                    }
+
+                    return async.configSet(THRESHOLD_CONFIG, String.valueOf(threshold)).toCompletableFuture()
+                            .thenAccept(result -> logger.info("Latency monitor of " + node + " is enabled, "
+                                    + THRESHOLD_CONFIG + " " + threshold));
+                })
+                .handle((result, e) -> {
+                    // CONFIG may be renamed or not allowed, check once.
+                    if (e != null) {
+                        logger.warn("Can not enable latency monitor of " + node + ". " + e.getMessage());
+                    }
+
+                    checkedNodes.add(node);
+                    return null;
+                });
+    }
+
+    private static CompletableFuture<List<Object>> latency(RedisAsyncCommands<String, String> async,
+            String... arguments) {
+        return async.dispatch(LatencyKeyword.LATENCY, new NestedMultiOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addValues(arguments)).toCompletableFuture();
+    }
+
+    /**
+     * @param reply reply of LATENCY LATEST, row is event, timestamp, latest and max latency.
+     * @return epoch second of latest spike of each event. malformed row is skipped.
+     */
+    static Map<String, Long> parseLatest(List<Object> reply) {
+        Map<String, Long> latest = new LinkedHashMap<>();
+        if (reply == null) {
+            return latest;
+        }
+
+        for (Object item : reply) {
+            if (item instanceof List<?> row && row.size() >= 3 && row.get(0) instanceof String event
+                    && row.get(1) instanceof Long timestamp) {
+                latest.put(event, timestamp);
+            }
+        }
+
+        return latest;
+    }
+
+    /**
+     * @param reply reply of LATENCY HISTORY, row is timestamp and latency.
+     * @return epoch second and latency millis of each spike. malformed row is skipped.
+     */
+    static List<long[]> parseHistory(List<Object> reply) {
+        if (reply == null) {
+            return Collections.emptyList();
+        }
+
+        List<long[]> spikes = new ArrayList<>(reply.size());
+        for (Object item : reply) {
+            if (item instanceof List<?> row && row.size() >= 2 && row.get(0) instanceof Long timestamp
+                    && row.get(1) instanceof Long latency) {
+                spikes.add(new long[] { timestamp, latency });
+            }
+        }
+
+        return spikes;
+    }
+
+    /**
+     * @return mean latency of armedis commands since last collection, -1 if no command is executed.
+     */
+    private synchronized double armedisLatencyMillis() {
+        long count = 0;
+        double totalMillis = 0;
+        for (Timer timer : meterRegistry.find("armedis.redis.command").timers()) {
+            count += timer.count();
+            totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+        }
+
+        long commands = count - lastCommandCount;
+        double millis = totalMillis - lastCommandMillis;
+        lastCommandCount = count;
+        lastCommandMillis = totalMillis;
+
+        return commands > 0 ? millis / commands : -1;
+    }
+
+    private synchronized void addRecent(LatencyEvent event) {
+        if (recentEvents.size() == RECENT_EVENTS) {
+            recentEvents.pollFirst();
+        }
+
+        recentEvents.addLast(event);
+    }
+
+    /**
+     * @param since epoch second
+     * @return collected spikes after since by collected order
+     */
+    public synchronized List<LatencyEvent> events(long since) {
+        List<LatencyEvent> events = new ArrayList<>();
+        for (LatencyEvent event : recentEvents) {
+            if (event.epochSecond() > since) {
+                events.add(event);
+            }
+        }
+
+        return events;
+    }
+
+    private enum LatencyKeyword implements ProtocolKeyword {
+        LATENCY;
+
+        private final byte[] bytes = name().getBytes(StandardCharsets.US_ASCII);
+
+        @Override
+        public byte[] getBytes() {
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.armedis.redis.namespace;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimated keys, memory and ttl coverage of one namespace.<br/>
+ * Every error is half width of 95% confidence interval. ex) keys 1200 +- 35
+ * @param namespace
+ * @param samples sampled keys of namespace
+ * @param keys estimated key count
+ * @param keysError
+ * @param memoryBytes estimated memory, -1 when MEMORY USAGE is not available.
+ * @param memoryError
+ * @param ttlRatio ratio of keys which has ttl
+ * @param ttlRatioError
+ * @param types ratio of each type. ex) string 0.8, hash 0.2
+ * @author krisjey
+ *
+ */
+public record NamespaceEstimate(String namespace, long samples, double keys, double keysError, double memoryBytes,
+        double memoryError, double ttlRatio, double ttlRatioError, Map<String, Double> types) {
+
+    /**
+     * Sum estimates of nodes. Samples of nodes are independent, so errors are added in square.
+     * @param namespace
+     * @param estimates estimates of same namespace of each node
+     * @return estimate of cluster
+     */
+    public static NamespaceEstimate sum(String namespace, List<NamespaceEstimate> estimates) {
+        long samples = 0;
+        double keys = 0;
+        double keysVariance = 0;
+        double memoryBytes = 0;
+        double memoryVariance = 0;
+        boolean memoryAvailable = true;
+        for (NamespaceEstimate estimate : estimates) {
+            samples += estimate.samples();
+            keys += estimate.keys();
+            keysVariance += estimate.keysError() * estimate.keysError();
+            if (estimate.memoryBytes() < 0) {
+                memoryAvailable = false;
+            }
+
+            memoryBytes += estimate.memoryBytes();
+            memoryVariance += estimate.memoryError() * estimate.memoryError();
+        }
+
+        // ratio of cluster is weighted by keys of each node.
+        double ttlRatio = 0;
+        double ttlRatioVariance = 0;
+        Map<String, Double> types = new HashMap<>();
+        for (NamespaceEstimate estimate : estimates) {
+            double weight = keys > 0 ? estimate.keys() / keys : 0;
+            ttlRatio += weight * estimate.ttlRatio();
+            ttlRatioVariance += weight * weight * estimate.ttlRatioError() * estimate.ttlRatioError();
+            estimate.types().forEach((type, ratio) -> types.merge(type, weight * ratio, Double::sum));
+        }
+
+        return new NamespaceEstimate(namespace, samples, keys, Math.sqrt(keysVariance),
+                memoryAvailable ? memoryBytes : -1, memoryAvailable ? Math.sqrt(memoryVariance) : 0, ttlRatio,
+                Math.sqrt(ttlRatioVariance), types);
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.armedis.redis.namespace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.armedis.redis.key.KeyMaker;
+
+/**
+ * Key samples of one node grouped by namespace.<br/>
+ * Key count and memory of namespace are estimated from ratio of samples and size of database.
+ * @author krisjey
+ *
+ */
+public class NamespaceReport {
+    // 95% confidence
+    private static final double Z = 1.96;
+
+    // descending memory, keys when memory is not available.
+    static final Comparator<NamespaceEstimate> BY_SIZE = Comparator
+            .comparingDouble((NamespaceEstimate estimate) -> estimate.memoryBytes() < 0 ? estimate.keys()
+                    : estimate.memoryBytes())
+            .reversed();
+
+    private final String node;
+
+    private final long startedAt;
+
+    private volatile long finishedAt;
+
+    private volatile long dbSize;
+
+    private volatile boolean memoryAvailable = true;
+
+    private volatile String status = "running";
+
+    // guarded by this.
+    private long samples;
+
+    private final Map<String, Accumulator> namespaces = new HashMap<>();
+
+    NamespaceReport(String node, long startedAt) {
+        this.node = node;
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * @param key sampled key
+     * @param type type of key
+     * @param bytes memory usage of key, ignored after memory is not available.
+     * @param ttl true if key has ttl
+     */
+    synchronized void add(String key, String type, long bytes, boolean ttl) {
+        samples++;
+
+        Accumulator accumulator = namespaces.computeIfAbsent(namespaceOf(key), namespace -> new Accumulator());
+        accumulator.count++;
+        accumulator.bytes += bytes;
+        accumulator.bytesSquare += (double) bytes * bytes;
+        if (ttl) {
+            accumulator.ttl++;
+        }
+
+        accumulator.types.merge(type, 1L, Long::sum);
+    }
+
+    /**
+     * @param key
+     * @return prefix before first <code>::</code>, empty when key has no namespace.
+     */
+    static String namespaceOf(String key) {
+        int index = key.indexOf(KeyMaker.DELIMITER);
+
+        return index < 0 ? "" : key.substring(0, index);
+    }
+
+    void setDbSize(long dbSize) {
+        this.dbSize = dbSize;
+    }
+
+    void memoryNotAvailable() {
+        this.memoryAvailable = false;
+    }
+
+    void finish(String status, long finishedAt) {
+        this.status = status;
+        this.finishedAt = finishedAt;
+    }
+
+    /**
+     * @return estimate of each namespace by descending memory(keys when memory is not available)
+     */
+    public synchronized List<NamespaceEstimate> estimates() {
+        List<NamespaceEstimate> estimates = new ArrayList<>(namespaces.size());
+        if (samples == 0) {
+            return estimates;
+        }
+
+        double n = samples;
+        for (Map.Entry<String, Accumulator> entry : namespaces.entrySet()) {
+            Accumulator accumulator = entry.getValue();
+
+            // ratio of namespace, binomial.
+            double p = accumulator.count / n;
+            double keys = dbSize * p;
+            double keysError = Z * dbSize * Math.sqrt(p * (1 - p) / n);
+
+            // mean bytes per key of database where bytes of other namespace is 0.
+            double memoryBytes = -1;
+            double memoryError = 0;
+            if (memoryAvailable) {
+                double mean = accumulator.bytes / n;
+                double variance = samples > 1 ? Math.max(0, (accumulator.bytesSquare - n * mean * mean) / (n - 1)) : 0;
+                memoryBytes = dbSize * mean;
+                memoryError = Z * dbSize * Math.sqrt(variance / n);
+            }
+
+            double ttlRatio = (double) accumulator.ttl / accumulator.count;
+            double ttlRatioError = Z * Math.sqrt(ttlRatio * (1 - ttlRatio) / accumulator.count);
+
+            Map<String, Double> types = new HashMap<>();
+            accumulator.types.forEach((type, count) -> types.put(type, (double) count / accumulator.count));
+
+            estimates.add(new NamespaceEstimate(entry.getKey(), accumulator.count, keys, keysError, memoryBytes,
+                    memoryError, ttlRatio, ttlRatioError, types));
+        }
+
+        estimates.sort(BY_SIZE);
+
+        return estimates;
+    }
+
+    public String getNode() {
+        return node;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * @return epoch milli, 0 while running.
+     */
+    public long getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * @return key count of database at start of sampling
+     */
+    public long getDbSize() {
+        return dbSize;
+    }
+
+    public synchronized long getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return running, finished, stopped or error message
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    private static final class Accumulator {
+        private long count;
+
+        private long bytes;
+
+        private double bytesSquare;
+
+        private long ttl;
+
+        private final Map<String, Long> types = new HashMap<>();
+    }
+}
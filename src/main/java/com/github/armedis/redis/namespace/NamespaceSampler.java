@@ -0,0 +1,222 @@
+package com.github.armedis.redis.namespace;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.redis.RedisNode;
+import com.github.armedis.redis.connection.RedisNodeConnectionRegistry;
+import com.github.armedis.redis.connection.codec.ByteStringCodec;
+import com.github.armedis.redis.topology.RedisTopologyService;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.protobuf.ByteString;
+
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.api.sync.RedisCommands;
+
+/**
+ * Background memory analysis of key namespace of every master node.<br/>
+ * Keys are sampled by RANDOMKEY, and TYPE, PTTL and MEMORY USAGE of each sample are grouped by namespace of
+ * <code>namespace::key</code>. Key count and memory of namespace are estimated from DBSIZE, so full SCAN of
+ * database is not needed. Commands of each node are limited by ops per second budget.
+ * @author krisjey
+ *
+ */
+@Component
+public class NamespaceSampler implements DisposableBean {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    // RANDOMKEY, TYPE, PTTL, MEMORY USAGE
+    private static final int COMMANDS_PER_SAMPLE = 4;
+
+    private final ArmedisConfiguration armedisConfiguration;
+
+    private final RedisNodeConnectionRegistry connectionRegistry;
+
+    private final RedisTopologyService redisTopologyService;
+
+    private final ExecutorService executor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile boolean stopped;
+
+    // last or running sampling report of each node.
+    private final Map<String, NamespaceReport> reports = new ConcurrentHashMap<>();
+
+    @Autowired
+    public NamespaceSampler(ArmedisConfiguration armedisConfiguration,
+            RedisNodeConnectionRegistry connectionRegistry, RedisTopologyService redisTopologyService) {
+        this.armedisConfiguration = armedisConfiguration;
+        this.connectionRegistry = connectionRegistry;
+        this.redisTopologyService = redisTopologyService;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, armedisConfiguration.getNamespaceParallelism()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "namespace-sampler-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Scheduled(initialDelay = 60000, fixedDelayString = "${server.config.namespace.intervalMillis:3600000}")
+    public void scheduledSample() {
+        if (armedisConfiguration.isNamespaceEnabled()) {
+            sample();
+        }
+    }
+
+    /**
+     * Start sampling of every master node when previous sampling is finished.
+     * @return true if sampling is started
+     */
+    public boolean sample() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Namespace sampling is already running.");
+            return false;
+        }
+
+        List<String> nodes = new ArrayList<>();
+        List<CompletableFuture<Void>> samplings = new ArrayList<>();
+        for (RedisNode redisNode : redisTopologyService.getSnapshot().getMasterRedisNodes()) {
+            String node = redisNode.getHost() + ":" + redisNode.getPort();
+            NamespaceReport report = new NamespaceReport(node, System.currentTimeMillis());
+            reports.put(node, report);
+            nodes.add(node);
+
+            samplings.add(CompletableFuture.runAsync(() -> sampleNode(redisNode, report), executor));
+        }
+
+        // removed masters(failover, resharding)
+        reports.keySet().retainAll(nodes);
+
+        CompletableFuture.allOf(samplings.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((result, e) -> running.set(false));
+
+        logger.info("Namespace sampling started, nodes " + samplings.size());
+
+        return true;
+    }
+
+    private void sampleNode(RedisNode redisNode, NamespaceReport report) {
+        RateLimiter budget = RateLimiter.create(Math.max(1, armedisConfiguration.getNamespaceOpsPerSecond()));
+        int samples = Math.max(1, armedisConfiguration.getNamespaceSamples());
+
+        try {
+            // binary keys are sampled as bytes, so TYPE, PTTL and MEMORY USAGE are sent to the same key.
+            RedisCommands<ByteString, ByteString> commands = connectionRegistry.getBinaryConnectionAsync(redisNode)
+                    .get(armedisConfiguration.getStatPollTimeoutMillis(), TimeUnit.MILLISECONDS)
+                    .sync();
+
+            budget.acquire();
+            report.setDbSize(commands.dbsize());
+
+            boolean memoryUsage = true;
+            for (int i = 0; i < samples; i++) {
+                if (stopped) {
+                    report.finish("stopped", System.currentTimeMillis());
+                    return;
+                }
+
+                budget.acquire(COMMANDS_PER_SAMPLE);
+                ByteString key = commands.randomkey();
+                if (key == null) {
+                    // empty database
+                    break;
+                }
+
+                String type = commands.type(key);
+                Long pttl = commands.pttl(key);
+                if ("none".equals(type) || pttl == null || pttl == -2) {
+                    // expired or removed after RANDOMKEY
+                    continue;
+                }
+
+                long bytes = 0;
+                if (memoryUsage) {
+                    try {
+                        Long memory = commands.memoryUsage(key);
+                        bytes = memory == null ? 0 : memory;
+                    }
+                    catch (RedisCommandExecutionException e) {
+                        logger.warn("MEMORY USAGE is not available on " + report.getNode()
+                                + ", estimate key count only. " + e.getMessage());
+                        memoryUsage = false;
+                        report.memoryNotAvailable();
+                    }
+                }
+
+                report.add(ByteStringCodec.display(key), type, bytes, pttl >= 0);
+            }
+
+            report.finish("finished", System.currentTimeMillis());
+            logger.info("Namespace sampling of " + report.getNode() + " finished, samples " + report.getSamples());
+        }
+        catch (Exception e) {
+            logger.error("Namespace sampling of " + report.getNode() + " is failed.", e);
+            report.finish("error " + e.getMessage(), System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * @param node host:port, sum of every node if empty.
+     * @param limit count of namespaces
+     * @return estimate of namespaces by descending memory
+     */
+    public List<NamespaceEstimate> estimates(String node, int limit) {
+        List<NamespaceEstimate> estimates;
+        if (node == null || node.isEmpty()) {
+            Map<String, List<NamespaceEstimate>> byNamespace = new LinkedHashMap<>();
+            for (NamespaceReport report : reports.values()) {
+                for (NamespaceEstimate estimate : report.estimates()) {
+                    byNamespace.computeIfAbsent(estimate.namespace(), key -> new ArrayList<>()).add(estimate);
+                }
+            }
+
+            estimates = new ArrayList<>(byNamespace.size());
+            byNamespace.forEach((namespace, nodeEstimates) -> estimates
+                    .add(NamespaceEstimate.sum(namespace, nodeEstimates)));
+            estimates.sort(NamespaceReport.BY_SIZE);
+        }
+        else {
+            NamespaceReport report = reports.get(node);
+            estimates = report == null ? new ArrayList<>() : report.estimates();
+        }
+
+        return new ArrayList<>(estimates.subList(0, Math.min(Math.max(limit, 0), estimates.size())));
+    }
+
+    /**
+     * @return sampling reports of each node
+     */
+    public List<NamespaceReport> getReports() {
+        return new ArrayList<>(reports.values());
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        stopped = true;
+        executor.shutdownNow();
+    }
+}
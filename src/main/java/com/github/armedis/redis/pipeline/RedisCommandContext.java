@@ -0,0 +1,64 @@
+package com.github.armedis.redis.pipeline;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Transport neutral information of one redis command execution.<br/>
+ * Interceptors see this object only, so metrics, sampling and limiting work for every front end.
+ * @author krisjey
+ *
+ */
+public final class RedisCommandContext {
+    private final RedisCommandTransport transport;
+
+    private final String command;
+
+    private final ByteString key;
+
+    private final long startNanos;
+
+    private RedisCommandContext(RedisCommandTransport transport, String command, ByteString key) {
+        this.transport = requireNonNull(transport, "transport");
+        this.command = requireNonNull(command, "command").toLowerCase();
+        this.key = key == null ? ByteString.EMPTY : key;
+        this.startNanos = System.nanoTime();
+    }
+
+    public static RedisCommandContext of(RedisCommandTransport transport, String command, ByteString key) {
+        return new RedisCommandContext(transport, command, key);
+    }
+
+    public static RedisCommandContext of(RedisCommandTransport transport, String command, String key) {
+        return new RedisCommandContext(transport, command, key == null ? null : ByteString.copyFromUtf8(key));
+    }
+
+    public RedisCommandTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * @return lower case redis command name. ex) get, hmget
+     */
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * @return key of command, empty when command has no key.
+     */
+    public ByteString getKey() {
+        return key;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "RedisCommandContext [transport=" + transport + ", command=" + command + ", key="
+                + key.toStringUtf8() + "]";
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.armedis.redis.pipeline;
+
+/**
+ * Intercept every redis command execution of every front end.<br/>
+ * Register as spring bean, order is decided by {@link org.springframework.core.annotation.Order}.
+ * @author krisjey
+ *
+ */
+public interface RedisCommandInterceptor {
+    /**
+     * Call {@link RedisCommandInvocation#proceed()} to continue, or return/throw without calling it to stop.
+     * @param <T>
+     * @param context
+     * @param invocation
+     * @return result of invocation
+     * @throws Exception
+     */
+    <T> T intercept(RedisCommandContext context, RedisCommandInvocation<T> invocation) throws Exception;
+}
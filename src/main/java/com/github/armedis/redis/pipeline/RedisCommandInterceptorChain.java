@@ -0,0 +1,43 @@
+package com.github.armedis.redis.pipeline;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ordered interceptors shared by string pipeline and binary executor.
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisCommandInterceptorChain {
+    private final List<RedisCommandInterceptor> interceptors;
+
+    @Autowired
+    public RedisCommandInterceptorChain(ObjectProvider<RedisCommandInterceptor> interceptors) {
+        this(interceptors.orderedStream().toList());
+    }
+
+    public RedisCommandInterceptorChain(List<RedisCommandInterceptor> interceptors) {
+        this.interceptors = List.copyOf(interceptors);
+    }
+
+    public <T> T invoke(RedisCommandContext context, RedisCommandInvocation<T> invocation) throws Exception {
+        if (interceptors.isEmpty()) {
+            return invocation.proceed();
+        }
+
+        return proceed(0, context, invocation);
+    }
+
+    private <T> T proceed(int index, RedisCommandContext context, RedisCommandInvocation<T> invocation)
+            throws Exception {
+        if (index == interceptors.size()) {
+            return invocation.proceed();
+        }
+
+        return interceptors.get(index).intercept(context, () -> proceed(index + 1, context, invocation));
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.armedis.redis.pipeline;
+
+/**
+ * Rest of interceptor chain and actual command execution.
+ * @author krisjey
+ *
+ * @param <T> result type
+ */
+@FunctionalInterface
+public interface RedisCommandInvocation<T> {
+    T proceed() throws Exception;
+}
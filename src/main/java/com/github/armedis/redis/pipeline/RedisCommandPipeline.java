@@ -0,0 +1,76 @@
+package com.github.armedis.redis.pipeline;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.redis.command.RedisCommandExecuteResult;
+import com.github.armedis.redis.command.RedisCommandExecutor;
+import com.github.armedis.redis.command.RedisRequest;
+
+/**
+ * Transport neutral command pipeline.
+ * <pre>
+ * decode -> validate -> (interceptors) -> route and execute -> encode
+ * </pre>
+ * HTTP, gRPC and other front ends only provide decoder and encoder of their own protocol.
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisCommandPipeline {
+    private final RedisCommandExecutor executor;
+
+    private final RedisCommandInterceptorChain interceptorChain;
+
+    private final RedisRequestValidator validator;
+
+    @Autowired
+    public RedisCommandPipeline(RedisCommandExecutor executor, RedisCommandInterceptorChain interceptorChain,
+            RedisRequestValidator validator) {
+        this.executor = executor;
+        this.interceptorChain = interceptorChain;
+        this.validator = validator;
+    }
+
+    /**
+     * Decode, execute and encode. Every error is encoded by {@link RedisResponseEncoder#encodeError}.
+     * @param <I>
+     * @param <O>
+     * @param transport
+     * @param request transport request
+     * @param decoder
+     * @param encoder
+     * @return transport response
+     */
+    public <I, O> O execute(RedisCommandTransport transport, I request, RedisRequestDecoder<I> decoder,
+            RedisResponseEncoder<O> encoder) {
+        RedisRequest redisRequest = null;
+        try {
+            redisRequest = decoder.decode(request);
+
+            RedisCommandExecuteResult result = execute(transport, redisRequest);
+
+            return encoder.encode(redisRequest, result);
+        }
+        catch (Exception e) {
+            return encoder.encodeError(redisRequest, e);
+        }
+    }
+
+    /**
+     * Execute already decoded request.
+     * @param transport
+     * @param redisRequest
+     * @return execute result
+     * @throws Exception
+     */
+    public RedisCommandExecuteResult execute(RedisCommandTransport transport, RedisRequest redisRequest)
+            throws Exception {
+        validator.validate(redisRequest);
+
+        RedisCommandContext context = RedisCommandContext.of(transport, redisRequest.getCommand(),
+                redisRequest.getKey());
+
+        return interceptorChain.invoke(context, () -> executor.execute(redisRequest));
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.armedis.redis.pipeline;
+
+/**
+ * Front end protocol which request is received by.
+ * @author krisjey
+ *
+ */
+public enum RedisCommandTransport {
+    HTTP,
+    GRPC,
+    THRIFT;
+}
@@ -0,0 +1,14 @@
+package com.github.armedis.redis.pipeline;
+
+import com.github.armedis.redis.command.RedisRequest;
+
+/**
+ * Convert transport specific request to {@link RedisRequest}.
+ * @author krisjey
+ *
+ * @param <I> transport request type
+ */
+@FunctionalInterface
+public interface RedisRequestDecoder<I> {
+    RedisRequest decode(I request) throws Exception;
+}
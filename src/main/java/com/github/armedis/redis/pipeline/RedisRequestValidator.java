@@ -0,0 +1,32 @@
+package com.github.armedis.redis.pipeline;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.redis.command.RedisRequest;
+
+/**
+ * Validate decoded request before command runner lookup.
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisRequestValidator {
+    /**
+     * @param redisRequest
+     * @throws IllegalArgumentException when command or key is empty.
+     */
+    public void validate(RedisRequest redisRequest) {
+        if (redisRequest == null) {
+            throw new IllegalArgumentException("Redis request is null");
+        }
+
+        if (StringUtils.isBlank(redisRequest.getCommand())) {
+            throw new IllegalArgumentException("Redis command is empty " + redisRequest);
+        }
+
+        if (!redisRequest.hasKey()) {
+            throw new IllegalArgumentException("Redis key is empty " + redisRequest);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.armedis.redis.pipeline;
+
+import com.github.armedis.redis.command.RedisCommandExecuteResult;
+import com.github.armedis.redis.command.RedisRequest;
+
+/**
+ * Convert command execute result to transport specific response.
+ * @author krisjey
+ *
+ * @param <O> transport response type
+ */
+public interface RedisResponseEncoder<O> {
+    O encode(RedisRequest redisRequest, RedisCommandExecuteResult result);
+
+    /**
+     * @param redisRequest null when request can not be decoded.
+     * @param cause
+     * @return error response
+     */
+    O encodeError(RedisRequest redisRequest, Throwable cause);
+}
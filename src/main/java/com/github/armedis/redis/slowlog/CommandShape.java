@@ -0,0 +1,152 @@
+package com.github.armedis.redis.slowlog;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Normalize arguments of slow command to command shape, so same access pattern is aggregated as one shape.<br/>
+ * <pre>
+ *  HGET user:1234 field        --> HGET user:* field
+ *  SET session:8f3a9c 1 EX 60  --> SET session:* ? EX ?
+ *  MGET a:1 a:2 a:3            --> MGET a:* ...
+ * </pre>
+ * Number is replaced by <code>?</code>, number or id segment of key by <code>*</code>, and long or binary value
+ * by <code>?</code>. Consecutive same shaped arguments are collapsed.
+ * @author krisjey
+ *
+ */
+public final class CommandShape {
+    private static final int MAX_ARGUMENTS = 8;
+
+    private static final int MAX_TOKEN_LENGTH = 48;
+
+    // commands of which second argument is sub command.
+    private static final Set<String> CONTAINER_COMMANDS = Set.of("ACL", "CLIENT", "CLUSTER", "COMMAND", "CONFIG",
+            "DEBUG", "FUNCTION", "LATENCY", "MEMORY", "MODULE", "OBJECT", "PUBSUB", "SCRIPT", "SLOWLOG", "XGROUP",
+            "XINFO");
+
+    private CommandShape() {
+    }
+
+    /**
+     * @param arguments arguments of slowlog entry, first is command.
+     * @return command shape
+     */
+    public static String of(List<?> arguments) {
+        if (arguments == null || arguments.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder(64);
+        String command = String.valueOf(arguments.get(0)).toUpperCase(Locale.ROOT);
+        builder.append(command);
+
+        int index = 1;
+        if (CONTAINER_COMMANDS.contains(command) && arguments.size() > 1) {
+            builder.append(' ').append(String.valueOf(arguments.get(1)).toUpperCase(Locale.ROOT));
+            index = 2;
+        }
+
+        String previous = null;
+        boolean collapsed = false;
+        int written = 0;
+        for (; index < arguments.size(); index++) {
+            String token = token(String.valueOf(arguments.get(index)));
+            if (token.equals(previous)) {
+                // mark collapsed run once.
+                if (!collapsed) {
+                    builder.append(" ...");
+                    collapsed = true;
+                }
+
+                continue;
+            }
+
+            if (written == MAX_ARGUMENTS || token.equals("...")) {
+                builder.append(" ...");
+                break;
+            }
+
+            builder.append(' ').append(token);
+            previous = token;
+            collapsed = false;
+            written++;
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * @param argument
+     * @return shape of one argument
+     */
+    static String token(String argument) {
+        // redis truncates slowlog arguments. "... (2 more arguments)", "value... (100 more bytes)"
+        if (argument.startsWith("... (") && argument.endsWith("more arguments)")) {
+            return "...";
+        }
+
+        if (argument.isEmpty() || argument.endsWith("more bytes)") || argument.length() > MAX_TOKEN_LENGTH
+                || isNumber(argument)) {
+            return "?";
+        }
+
+        StringBuilder builder = new StringBuilder(argument.length());
+        int segmentStart = 0;
+        for (int i = 0; i <= argument.length(); i++) {
+            char ch = i < argument.length() ? argument.charAt(i) : ':';
+            if (ch < 0x20 || ch > 0x7e || ch == ' ') {
+                return "?";
+            }
+
+            if (isDelimiter(ch)) {
+                String segment = argument.substring(segmentStart, i);
+                builder.append(isIdentifier(segment) ? "*" : segment);
+                if (i < argument.length()) {
+                    builder.append(ch);
+                }
+
+                segmentStart = i + 1;
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static boolean isDelimiter(char ch) {
+        return ch == ':' || ch == '.' || ch == '/' || ch == '|' || ch == '#' || ch == '{' || ch == '}' || ch == '='
+                || ch == ',';
+    }
+
+    private static boolean isNumber(String value) {
+        int start = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+        if (start == value.length()) {
+            return false;
+        }
+
+        boolean dot = false;
+        for (int i = start; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '.' && !dot) {
+                dot = true;
+            }
+            else if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // segment which has digit is id. ex) 1234, 8f3a9c, 550e8400-e29b-41d4-a716-446655440000
+    private static boolean isIdentifier(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            if (Character.isDigit(segment.charAt(i))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.armedis.redis.slowlog;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Bounded aggregate of slowlog entries by command shape.<br/>
+ * Entries are de-duplicated by node and slowlog id. When shape count reaches max, shape of least count is evicted.
+ * @author krisjey
+ *
+ */
+public class SlowlogAggregator {
+    private final int maxShapes;
+
+    private final Map<String, SlowlogShapeStats> shapes = new HashMap<>();
+
+    // last harvested slowlog id of each node.
+    private final Map<String, Long> lastIds = new HashMap<>();
+
+    public SlowlogAggregator(int maxShapes) {
+        this.maxShapes = Math.max(1, maxShapes);
+    }
+
+    /**
+     * Add new entries of node. Entries of id which is already added are skipped. When max id is less than last id,
+     * slowlog of node is reset(restart or SLOWLOG RESET) and every entry is new.
+     * @param node
+     * @param entries entries of SLOWLOG GET
+     * @return count of added entries
+     */
+    public synchronized int add(String node, List<SlowlogEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        long maxId = Long.MIN_VALUE;
+        for (SlowlogEntry entry : entries) {
+            maxId = Math.max(maxId, entry.id());
+        }
+
+        Long lastId = lastIds.get(node);
+        long fromId = lastId == null || maxId < lastId ? Long.MIN_VALUE : lastId;
+
+        int added = 0;
+        for (SlowlogEntry entry : entries) {
+            if (entry.id() > fromId) {
+                shapeStats(CommandShape.of(entry.arguments())).add(node, entry.timestamp(), entry.durationMicros());
+                added++;
+            }
+        }
+
+        lastIds.put(node, maxId);
+
+        return added;
+    }
+
+    private SlowlogShapeStats shapeStats(String shape) {
+        SlowlogShapeStats stats = shapes.get(shape);
+        if (stats != null) {
+            return stats;
+        }
+
+        if (shapes.size() >= maxShapes) {
+            evictLeastCount();
+        }
+
+        stats = new SlowlogShapeStats(shape);
+        shapes.put(shape, stats);
+
+        return stats;
+    }
+
+    private void evictLeastCount() {
+        String leastShape = null;
+        long leastCount = Long.MAX_VALUE;
+        for (Entry<String, SlowlogShapeStats> item : shapes.entrySet()) {
+            if (item.getValue().getCount() < leastCount) {
+                leastCount = item.getValue().getCount();
+                leastShape = item.getKey();
+            }
+        }
+
+        shapes.remove(leastShape);
+    }
+
+    /**
+     * Forget last id of nodes which are not in given nodes.
+     * @param nodes
+     */
+    public synchronized void retainNodes(Iterable<String> nodes) {
+        Map<String, Long> retained = new HashMap<>();
+        for (String node : nodes) {
+            Long lastId = lastIds.get(node);
+            if (lastId != null) {
+                retained.put(node, lastId);
+            }
+        }
+
+        lastIds.clear();
+        lastIds.putAll(retained);
+    }
+
+    /**
+     * @param sort count, total, max or p99
+     * @param limit
+     * @return shapes by descending order of sort
+     */
+    public synchronized List<SlowlogShapeStats> top(String sort, int limit) {
+        Comparator<SlowlogShapeStats> comparator = switch (sort) {
+            case "count" -> Comparator.comparingLong(SlowlogShapeStats::getCount);
+            case "total" -> Comparator.comparingLong(SlowlogShapeStats::getTotalMicros);
+            case "max" -> Comparator.comparingLong(SlowlogShapeStats::getMaxMicros);
+            case "p99" -> Comparator.comparingLong(SlowlogShapeStats::getP99Micros);
+            default -> throw new IllegalArgumentException("Unknown sort " + sort);
+        };
+
+        List<SlowlogShapeStats> sorted = new ArrayList<>(shapes.values());
+        sorted.sort(comparator.reversed());
+
+        return new ArrayList<>(sorted.subList(0, Math.min(Math.max(limit, 0), sorted.size())));
+    }
+
+    /**
+     * @return count of shapes
+     */
+    public synchronized int size() {
+        return shapes.size();
+    }
+
+    /**
+     * One entry of SLOWLOG GET.
+     */
+    public record SlowlogEntry(long id, long timestamp, long durationMicros, List<?> arguments) {
+        /**
+         * @param raw [id, timestamp, duration, [arguments], client address, client name]
+         * @return entry, null if raw is not slowlog entry.
+         */
+        static SlowlogEntry from(Object raw) {
+            if (!(raw instanceof List<?> fields) || fields.size() < 4 || !(fields.get(0) instanceof Long id)
+                    || !(fields.get(1) instanceof Long timestamp) || !(fields.get(2) instanceof Long duration)
+                    || !(fields.get(3) instanceof List<?> arguments)) {
+                return null;
+            }
+
+            return new SlowlogEntry(id, timestamp, duration, arguments);
+        }
+    }
+}
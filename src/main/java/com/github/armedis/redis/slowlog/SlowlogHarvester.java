@@ -0,0 +1,106 @@
+package com.github.armedis.redis.slowlog;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.redis.RedisNode;
+import com.github.armedis.redis.connection.RedisNodeConnectionRegistry;
+import com.github.armedis.redis.slowlog.SlowlogAggregator.SlowlogEntry;
+import com.github.armedis.redis.topology.RedisTopologyService;
+
+/**
+ * Harvest SLOWLOG of every detected node in parallel, and aggregate entries by command shape.
+ * @author krisjey
+ *
+ */
+@Component
+public class SlowlogHarvester {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    // default slowlog-max-len
+    private static final int FETCH_COUNT = 128;
+
+    private final ArmedisConfiguration armedisConfiguration;
+
+    private final RedisNodeConnectionRegistry connectionRegistry;
+
+    private final RedisTopologyService redisTopologyService;
+
+    private final SlowlogAggregator aggregator;
+
+    @Autowired
+    public SlowlogHarvester(ArmedisConfiguration armedisConfiguration,
+            RedisNodeConnectionRegistry connectionRegistry, RedisTopologyService redisTopologyService) {
+        this.armedisConfiguration = armedisConfiguration;
+        this.connectionRegistry = connectionRegistry;
+        this.redisTopologyService = redisTopologyService;
+        this.aggregator = new SlowlogAggregator(armedisConfiguration.getSlowlogMaxShapes());
+    }
+
+    @Scheduled(fixedDelayString = "${server.config.slowlog.intervalMillis:10000}")
+    public void harvest() {
+        if (!armedisConfiguration.isSlowlogEnabled()) {
+            return;
+        }
+
+        long timeoutMillis = armedisConfiguration.getStatPollTimeoutMillis();
+
+        Map<String, CompletableFuture<List<Object>>> slowlogFutures = new LinkedHashMap<>();
+        for (RedisNode redisNode : redisTopologyService.getSnapshot().getAllRedisNodes()) {
+            slowlogFutures.put(redisNode.getHost() + ":" + redisNode.getPort(), connectionRegistry
+                    .getConnectionAsync(redisNode)
+                    .thenCompose(connection -> connection.async().slowlogGet(FETCH_COUNT))
+                    .toCompletableFuture()
+                    .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS));
+        }
+
+        CompletableFuture.allOf(slowlogFutures.values().toArray(new CompletableFuture<?>[0]))
+                .handle((result, e) -> null)
+                .join();
+
+        int added = 0;
+        for (Entry<String, CompletableFuture<List<Object>>> slowlogFuture : slowlogFutures.entrySet()) {
+            try {
+                List<SlowlogEntry> entries = new ArrayList<>();
+                for (Object raw : slowlogFuture.getValue().join()) {
+                    SlowlogEntry entry = SlowlogEntry.from(raw);
+                    if (entry != null) {
+                        entries.add(entry);
+                    }
+                }
+
+                added += aggregator.add(slowlogFuture.getKey(), entries);
+            }
+            catch (Exception e) {
+                logger.warn("Can not get slowlog of " + slowlogFuture.getKey() + ". " + e.getMessage());
+            }
+        }
+
+        aggregator.retainNodes(slowlogFutures.keySet());
+
+        if (added > 0) {
+            logger.debug("Harvested slowlog entries " + added + ", shapes " + aggregator.size());
+        }
+    }
+
+    /**
+     * @param sort count, total, max or p99
+     * @param limit
+     * @return command shapes by descending order of sort
+     */
+    public List<SlowlogShapeStats> top(String sort, int limit) {
+        return aggregator.top(sort, limit);
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.armedis.redis.slowlog;
+
+import java.util.Arrays;
+
+/**
+ * Aggregate of slow commands of one command shape.<br/>
+ * p99 is calculated from recent {@value #RECENT_SIZE} durations, count and max are of every harvested entry.
+ * @author krisjey
+ *
+ */
+public class SlowlogShapeStats {
+    static final int RECENT_SIZE = 128;
+
+    private final String shape;
+
+    private long count;
+
+    private long totalMicros;
+
+    private long maxMicros;
+
+    private String lastNode;
+
+    private long lastTimestamp;
+
+    private final long[] recentMicros = new long[RECENT_SIZE];
+
+    SlowlogShapeStats(String shape) {
+        this.shape = shape;
+    }
+
+    synchronized void add(String node, long timestamp, long durationMicros) {
+        recentMicros[(int) (count % RECENT_SIZE)] = durationMicros;
+        count++;
+        totalMicros += durationMicros;
+        maxMicros = Math.max(maxMicros, durationMicros);
+
+        if (timestamp >= lastTimestamp) {
+            lastTimestamp = timestamp;
+            lastNode = node;
+        }
+    }
+
+    public String getShape() {
+        return shape;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getTotalMicros() {
+        return totalMicros;
+    }
+
+    public synchronized long getMaxMicros() {
+        return maxMicros;
+    }
+
+    /**
+     * @return p99 of recent durations
+     */
+    public synchronized long getP99Micros() {
+        int size = (int) Math.min(count, RECENT_SIZE);
+        if (size == 0) {
+            return 0;
+        }
+
+        long[] sorted = Arrays.copyOf(recentMicros, size);
+        Arrays.sort(sorted);
+
+        return sorted[(int) Math.ceil(size * 0.99) - 1];
+    }
+
+    /**
+     * @return node of latest entry
+     */
+    public synchronized String getLastNode() {
+        return lastNode;
+    }
+
+    /**
+     * @return unix time of latest entry
+     */
+    public synchronized long getLastTimestamp() {
+        return lastTimestamp;
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.armedis.redis.topology;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.github.armedis.redis.RedisNode;
+
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.event.ClusterTopologyChangedEvent;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.resource.ClientResources;
+import reactor.core.Disposable;
+
+/**
+ * Cluster nodes of lettuce partitions, refreshed by periodic and adaptive(MOVED, ASK, reconnect) refresh.
+ * @author krisjey
+ *
+ */
+class ClusterTopologySource implements TopologySource {
+    private final RedisClusterClient clusterClient;
+
+    private StatefulRedisClusterConnection<String, String> clusterConnection;
+
+    private Disposable topologyEvents;
+
+    ClusterTopologySource(ClientResources clientResources, Collection<RedisNode> seedNodes, long refreshMillis) {
+        List<RedisURI> seedUris = new ArrayList<>();
+        for (RedisNode seedNode : seedNodes) {
+            seedUris.add(RedisURI.create(seedNode.getHost(), seedNode.getPort()));
+        }
+
+        ClusterTopologyRefreshOptions topologyRefreshOptions = ClusterTopologyRefreshOptions.builder()
+                .enablePeriodicRefresh(Duration.ofMillis(Math.max(1000, refreshMillis)))
+                .enableAllAdaptiveRefreshTriggers()
+                .build();
+
+        clusterClient = RedisClusterClient.create(clientResources, seedUris);
+        clusterClient.setOptions(ClusterClientOptions.builder()
+                .topologyRefreshOptions(topologyRefreshOptions)
+                .autoReconnect(true)
+                .build());
+    }
+
+    @Override
+    public synchronized List<TopologyNode> discover() {
+        if (clusterConnection == null) {
+            // refresh is scheduled while connection is open.
+            clusterConnection = clusterClient.connect();
+        }
+
+        return nodesOf(clusterClient.getPartitions().getPartitions());
+    }
+
+    @Override
+    public void onChange(Consumer<List<TopologyNode>> listener) {
+        // event bus of shared resources also delivers events of data pool client, same cluster and same nodes.
+        topologyEvents = clusterClient.getResources()
+                .eventBus()
+                .get()
+                .ofType(ClusterTopologyChangedEvent.class)
+                .subscribe(event -> listener.accept(nodesOf(event.after())));
+    }
+
+    static List<TopologyNode> nodesOf(Collection<RedisClusterNode> clusterNodes) {
+        List<TopologyNode> nodes = new ArrayList<>(clusterNodes.size());
+        for (RedisClusterNode clusterNode : clusterNodes) {
+            TopologyNode node = TopologyNode.from(clusterNode);
+            if (node != null) {
+                nodes.add(node);
+            }
+        }
+
+        return nodes;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (topologyEvents != null) {
+            topologyEvents.dispose();
+        }
+
+        if (clusterConnection != null) {
+            clusterConnection.closeAsync();
+        }
+
+        clusterClient.shutdown();
+    }
+}
@@ -0,0 +1,161 @@
+package com.github.armedis.redis.topology;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.redis.RedisInstanceType;
+import com.github.armedis.redis.RedisNode;
+import com.github.armedis.redis.RedisServerInfoMaker;
+import com.github.armedis.redis.connection.RedisNodeConnectionRegistry;
+import com.github.armedis.redis.connection.RedisServerInfo;
+
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Versioned topology snapshot of redis nodes.<br/>
+ * Nodes are discovered by {@link TopologySource} of deployment type, cluster by lettuce periodic and adaptive
+ * refresh, standalone and master-replica by ROLE, sentinel by SENTINEL MASTERS. Snapshot is swapped when nodes are
+ * changed, and readers get the latest snapshot without lock. Node connections of removed nodes are closed at change.
+ * @author krisjey
+ *
+ */
+@Component
+public class RedisTopologyService implements DisposableBean {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final RedisInstanceType instanceType;
+
+    private final AtomicReference<TopologySnapshot> snapshot;
+
+    private final List<TopologyListener> listeners = new CopyOnWriteArrayList<>();
+
+    private TopologySource topologySource;
+
+    @Autowired
+    public RedisTopologyService(ArmedisConfiguration armedisConfiguration, RedisServerInfoMaker redisServerInfoMaker,
+            RedisNodeConnectionRegistry connectionRegistry, ClientResources clientResources) {
+        RedisServerInfo redisServerInfo = redisServerInfoMaker.getRedisServerInfo();
+
+        this.instanceType = redisServerInfo.getRedisInstanceType();
+        this.snapshot = new AtomicReference<>(new TopologySnapshot(1, System.currentTimeMillis(), instanceType,
+                redisNodesOf(redisServerInfo.getRedisNodes())));
+
+        this.topologySource = switch (instanceType) {
+            case CLUSTER -> new ClusterTopologySource(clientResources, redisServerInfo.getRedisNodes(),
+                    armedisConfiguration.getTopologyRefreshMillis());
+            case SENTINEL -> new SentinelTopologySource(clientResources,
+                    armedisConfiguration.getRedisSeedAddress(), armedisConfiguration.getStatPollTimeoutMillis());
+            default -> new ReplicationTopologySource(connectionRegistry, redisServerInfo.getRedisNodes(),
+                    this::getSnapshot, armedisConfiguration.getStatPollTimeoutMillis());
+        };
+
+        addListener((previous, current) -> connectionRegistry.retain(current.getAllRedisNodes()));
+
+        topologySource.onChange(this::update);
+        refresh();
+
+        logger.info("Topology " + snapshot.get());
+    }
+
+    RedisTopologyService(RedisInstanceType instanceType, Collection<TopologyNode> nodes) {
+        this.instanceType = instanceType;
+        this.snapshot = new AtomicReference<>(new TopologySnapshot(1, System.currentTimeMillis(), instanceType,
+                nodes));
+    }
+
+    private static List<TopologyNode> redisNodesOf(Collection<RedisNode> redisNodes) {
+        List<TopologyNode> nodes = new ArrayList<>(redisNodes.size());
+        for (RedisNode redisNode : redisNodes) {
+            nodes.add(TopologyNode.from(redisNode));
+        }
+
+        return nodes;
+    }
+
+    /**
+     * Discover nodes by topology source. Cluster source returns partitions refreshed by lettuce.
+     */
+    @Scheduled(initialDelayString = "${server.config.topology.refreshMillis:5000}",
+            fixedDelayString = "${server.config.topology.refreshMillis:5000}")
+    public void refresh() {
+        if (topologySource == null) {
+            return;
+        }
+
+        try {
+            update(topologySource.discover());
+        }
+        catch (Exception e) {
+            logger.warn("Can not refresh topology, last snapshot is used. " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return latest snapshot
+     */
+    public TopologySnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    public void addListener(TopologyListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(TopologyListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Swap snapshot when nodes are changed, and notify listeners.<br/>
+     * Lettuce event bus and scheduled refresh update concurrently, swap and notification are made under same lock,
+     * so listeners receive snapshots in version order and never apply older snapshot after newer one.
+     * @param nodes
+     * @return true if snapshot is changed
+     */
+    synchronized boolean update(Collection<TopologyNode> nodes) {
+        if (nodes.isEmpty()) {
+            logger.warn("Empty topology is ignored.");
+            return false;
+        }
+
+        TopologySnapshot previous = snapshot.get();
+        if (previous.hasSameNodes(nodes)) {
+            return false;
+        }
+
+        TopologySnapshot current = new TopologySnapshot(previous.getVersion() + 1, System.currentTimeMillis(),
+                instanceType, nodes);
+        snapshot.set(current);
+
+        logger.info("Topology changed " + current);
+
+        for (TopologyListener listener : listeners) {
+            try {
+                listener.topologyChanged(previous, current);
+            }
+            catch (Exception e) {
+                logger.error("Topology listener failed.", e);
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (topologySource != null) {
+            topologySource.close();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.armedis.redis.topology;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.armedis.redis.RedisNode;
+import com.github.armedis.redis.connection.RedisNodeConnectionRegistry;
+
+/**
+ * Master and replicas of standalone or master-replica deployment by ROLE command.<br/>
+ * Known master is asked first, and replica is followed to its master. So promoted replica is found at next refresh.
+ * @author krisjey
+ *
+ */
+class ReplicationTopologySource implements TopologySource {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final RedisNodeConnectionRegistry connectionRegistry;
+
+    private final Collection<RedisNode> seedNodes;
+
+    private final Supplier<TopologySnapshot> lastSnapshot;
+
+    private final long timeoutMillis;
+
+    /**
+     * @param connectionRegistry
+     * @param seedNodes nodes detected at startup
+     * @param lastSnapshot nodes of last snapshot are asked before seed nodes.
+     * @param timeoutMillis timeout of ROLE
+     */
+    ReplicationTopologySource(RedisNodeConnectionRegistry connectionRegistry, Collection<RedisNode> seedNodes,
+            Supplier<TopologySnapshot> lastSnapshot, long timeoutMillis) {
+        this.connectionRegistry = connectionRegistry;
+        this.seedNodes = List.copyOf(seedNodes);
+        this.lastSnapshot = lastSnapshot;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public List<TopologyNode> discover() {
+        Deque<RedisNode> candidates = new ArrayDeque<>();
+        TopologySnapshot snapshot = lastSnapshot.get();
+        if (snapshot != null) {
+            snapshot.getMasters().forEach(node -> candidates.add(new RedisNode(node.host(), node.port())));
+            snapshot.getReplicas().forEach(node -> candidates.add(new RedisNode(node.host(), node.port())));
+        }
+
+        seedNodes.forEach(node -> candidates.add(new RedisNode(node.getHost(), node.getPort())));
+
+        Set<RedisNode> visited = new HashSet<>();
+        while (!candidates.isEmpty()) {
+            RedisNode candidate = candidates.poll();
+            if (!visited.add(candidate)) {
+                continue;
+            }
+
+            try {
+                List<Object> role = connectionRegistry.getConnectionAsync(candidate)
+                        .thenCompose(connection -> connection.async().role())
+                        .toCompletableFuture()
+                        .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                        .join();
+
+                String roleName = String.valueOf(role.get(0));
+                if ("master".equals(roleName)) {
+                    return nodesOfMaster(candidate.getHost(), candidate.getPort(), role);
+                }
+
+                if ("slave".equals(roleName)) {
+                    // ask master of replica next.
+                    candidates.addFirst(new RedisNode(String.valueOf(role.get(1)), toInt(role.get(2))));
+                }
+            }
+            catch (Exception e) {
+                logger.warn("Can not get role of " + candidate + " " + e.getMessage());
+            }
+        }
+
+        return List.of();
+    }
+
+    /**
+     * @param host
+     * @param port
+     * @param role ROLE result of master. ["master", offset, [[ip, port, offset], ...]]
+     * @return master and replicas
+     */
+    static List<TopologyNode> nodesOfMaster(String host, int port, List<Object> role) {
+        String masterId = host + ":" + port;
+
+        List<TopologyNode> nodes = new ArrayList<>();
+        nodes.add(new TopologyNode(masterId, host, port, true, null, false, 0));
+
+        if (role.size() > 2 && role.get(2) instanceof List<?> replicas) {
+            for (Object replica : replicas) {
+                List<?> replicaInfo = (List<?>) replica;
+                String replicaHost = String.valueOf(replicaInfo.get(0));
+                int replicaPort = toInt(replicaInfo.get(1));
+
+                nodes.add(new TopologyNode(replicaHost + ":" + replicaPort, replicaHost, replicaPort, false,
+                        masterId, false, 0));
+            }
+        }
+
+        return nodes;
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number number ? number.intValue() : Integer.parseInt(String.valueOf(value));
+    }
+}
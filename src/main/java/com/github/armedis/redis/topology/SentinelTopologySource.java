@@ -0,0 +1,141 @@
+package com.github.armedis.redis.topology;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.sentinel.api.StatefulRedisSentinelConnection;
+import io.lettuce.core.sentinel.api.sync.RedisSentinelCommands;
+
+/**
+ * Masters monitored by sentinel and their replicas by SENTINEL MASTERS and SENTINEL REPLICAS.
+ * Failover of sentinel is reflected at next refresh.
+ * @author krisjey
+ *
+ */
+public class SentinelTopologySource implements TopologySource {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final long LOOKUP_TIMEOUT_MILLIS = 2000;
+
+    private final RedisClient client;
+
+    private final List<RedisURI> sentinelUris;
+
+    private final Duration timeout;
+
+    private StatefulRedisSentinelConnection<String, String> connection;
+
+    /**
+     * @param clientResources shared resources, own resources of client when null.
+     * @param sentinelAddresses host:port,host:port of sentinels
+     * @param timeoutMillis
+     */
+    SentinelTopologySource(ClientResources clientResources, String sentinelAddresses, long timeoutMillis) {
+        this.client = clientResources == null ? RedisClient.create() : RedisClient.create(clientResources);
+        this.sentinelUris = sentinelUris(sentinelAddresses);
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    /**
+     * One time lookup of nodes at startup.
+     * @param clientResources shared resources
+     * @param sentinelAddresses host:port,host:port of sentinels
+     * @return masters and replicas, empty if every sentinel is not reachable.
+     */
+    public static List<TopologyNode> lookup(ClientResources clientResources, String sentinelAddresses) {
+        SentinelTopologySource source = new SentinelTopologySource(clientResources, sentinelAddresses,
+                LOOKUP_TIMEOUT_MILLIS);
+        try {
+            return source.discover();
+        }
+        finally {
+            source.close();
+        }
+    }
+
+    static List<RedisURI> sentinelUris(String sentinelAddresses) {
+        List<RedisURI> uris = new ArrayList<>();
+        for (String address : sentinelAddresses.split("[,]")) {
+            if (address.contains(":")) {
+                String[] hostAndPort = address.trim().split("[:]");
+                uris.add(RedisURI.create(hostAndPort[0], Integer.parseInt(hostAndPort[1])));
+            }
+        }
+
+        return uris;
+    }
+
+    @Override
+    public synchronized List<TopologyNode> discover() {
+        for (int i = 0; i < sentinelUris.size(); i++) {
+            try {
+                if (connection == null) {
+                    connection = client.connectSentinel(sentinelUris.get(i));
+                    connection.setTimeout(timeout);
+                }
+
+                return discover(connection.sync());
+            }
+            catch (Exception e) {
+                logger.warn("Can not get masters from sentinel " + sentinelUris.get(i) + " " + e.getMessage());
+                close(connection);
+                connection = null;
+            }
+        }
+
+        return List.of();
+    }
+
+    /**
+     * @param commands sentinel commands
+     * @return masters and replicas of every monitored master
+     */
+    static List<TopologyNode> discover(RedisSentinelCommands<String, String> commands) {
+        List<TopologyNode> nodes = new ArrayList<>();
+        for (Map<String, String> master : commands.masters()) {
+            TopologyNode masterNode = nodeOf(master, true, null);
+            nodes.add(masterNode);
+
+            for (Map<String, String> replica : commands.replicas(master.get("name"))) {
+                nodes.add(nodeOf(replica, false, masterNode.id()));
+            }
+        }
+
+        return nodes;
+    }
+
+    /**
+     * @param fields fields of SENTINEL MASTERS or SENTINEL REPLICAS. ip, port, flags
+     * @param master
+     * @param masterId
+     * @return node
+     */
+    static TopologyNode nodeOf(Map<String, String> fields, boolean master, String masterId) {
+        String host = fields.get("ip");
+        int port = Integer.parseInt(fields.get("port"));
+        String flags = fields.getOrDefault("flags", "");
+        boolean failed = flags.contains("s_down") || flags.contains("o_down") || flags.contains("disconnected");
+
+        return new TopologyNode(host + ":" + port, host, port, master, masterId, failed, 0);
+    }
+
+    private void close(StatefulRedisSentinelConnection<String, String> sentinelConnection) {
+        if (sentinelConnection != null) {
+            sentinelConnection.closeAsync();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        close(connection);
+        client.shutdown();
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.armedis.redis.topology;
+
+/**
+ * Listener of topology change. Called by thread which refreshed topology, so listener should not block.
+ * @author krisjey
+ *
+ */
+@FunctionalInterface
+public interface TopologyListener {
+    /**
+     * @param previous snapshot before change
+     * @param current new snapshot
+     */
+    void topologyChanged(TopologySnapshot previous, TopologySnapshot current);
+}
@@ -0,0 +1,80 @@
+package com.github.armedis.redis.topology;
+
+import java.util.Set;
+
+import com.github.armedis.redis.RedisInstanceType;
+import com.github.armedis.redis.RedisNode;
+import com.github.armedis.redis.RedisNodeType;
+
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode.NodeFlag;
+
+/**
+ * One node of topology snapshot.<br/>
+ * Id is cluster node id, or host:port when redis is not cluster.
+ * @author krisjey
+ *
+ * @param id
+ * @param host
+ * @param port
+ * @param master
+ * @param masterId master node id of replica, null if master or unknown.
+ * @param failed node is flagged fail or pfail(fail?)
+ * @param slotCount count of served slots, 0 if replica or not cluster.
+ */
+public record TopologyNode(String id, String host, int port, boolean master, String masterId, boolean failed,
+        int slotCount) {
+
+    /**
+     * @return host:port
+     */
+    public String name() {
+        return host + ":" + port;
+    }
+
+    /**
+     * @return master node id of replica or node id of master
+     */
+    public String shard() {
+        if (master || masterId == null || masterId.isEmpty()) {
+            return id;
+        }
+
+        return masterId;
+    }
+
+    public RedisNode toRedisNode(RedisInstanceType instanceType) {
+        return new RedisNode(host, port, instanceType, master ? RedisNodeType.MASTER : RedisNodeType.REPLICA);
+    }
+
+    /**
+     * @param clusterNode node of lettuce partitions
+     * @return topology node, null if node has no address yet. ex) handshake, noaddr
+     */
+    @SuppressWarnings("deprecation")
+    static TopologyNode from(RedisClusterNode clusterNode) {
+        Set<NodeFlag> flags = clusterNode.getFlags();
+        if (clusterNode.getUri() == null || flags.contains(NodeFlag.NOADDR) || flags.contains(NodeFlag.HANDSHAKE)) {
+            return null;
+        }
+
+        boolean master = flags.contains(NodeFlag.UPSTREAM) || flags.contains(NodeFlag.MASTER);
+        boolean failed = flags.contains(NodeFlag.FAIL) || flags.contains(NodeFlag.EVENTUAL_FAIL);
+
+        return new TopologyNode(clusterNode.getNodeId(), clusterNode.getUri().getHost(),
+                clusterNode.getUri().getPort(), master, master ? null : clusterNode.getSlaveOf(), failed,
+                clusterNode.getSlots().size());
+    }
+
+    /**
+     * @param redisNode detected node of standalone or master-replica
+     * @return topology node
+     */
+    static TopologyNode from(RedisNode redisNode) {
+        RedisNodeType nodeType = redisNode.getRedisNodeType();
+        boolean master = nodeType != RedisNodeType.REPLICA && nodeType != RedisNodeType.SLAVE;
+
+        return new TopologyNode(redisNode.getHost() + ":" + redisNode.getPort(), redisNode.getHost(),
+                redisNode.getPort(), master, null, false, 0);
+    }
+}
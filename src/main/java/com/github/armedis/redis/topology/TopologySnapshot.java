@@ -0,0 +1,110 @@
+package com.github.armedis.redis.topology;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.github.armedis.redis.RedisInstanceType;
+import com.github.armedis.redis.RedisNode;
+
+/**
+ * Immutable topology of redis nodes. Version is increased when nodes, roles or slots are changed.
+ * @author krisjey
+ *
+ */
+public final class TopologySnapshot {
+    private static final Comparator<TopologyNode> BY_NAME = Comparator.comparing(TopologyNode::host)
+            .thenComparingInt(TopologyNode::port);
+
+    private final long version;
+
+    private final long createdAt;
+
+    private final RedisInstanceType instanceType;
+
+    private final List<TopologyNode> nodes;
+
+    private final List<TopologyNode> masters;
+
+    private final List<TopologyNode> replicas;
+
+    TopologySnapshot(long version, long createdAt, RedisInstanceType instanceType, Collection<TopologyNode> nodes) {
+        this.version = version;
+        this.createdAt = createdAt;
+        this.instanceType = instanceType;
+
+        List<TopologyNode> sortedNodes = new ArrayList<>(nodes);
+        sortedNodes.sort(BY_NAME);
+        this.nodes = Collections.unmodifiableList(sortedNodes);
+        this.masters = sortedNodes.stream().filter(TopologyNode::master).toList();
+        this.replicas = sortedNodes.stream().filter(node -> !node.master()).toList();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return epoch milli
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public RedisInstanceType getInstanceType() {
+        return instanceType;
+    }
+
+    /**
+     * @return every node sorted by host and port
+     */
+    public List<TopologyNode> getNodes() {
+        return nodes;
+    }
+
+    public List<TopologyNode> getMasters() {
+        return masters;
+    }
+
+    public List<TopologyNode> getReplicas() {
+        return replicas;
+    }
+
+    public Set<RedisNode> getAllRedisNodes() {
+        return toRedisNodes(nodes);
+    }
+
+    public Set<RedisNode> getMasterRedisNodes() {
+        return toRedisNodes(masters);
+    }
+
+    public Set<RedisNode> getReplicaRedisNodes() {
+        return toRedisNodes(replicas);
+    }
+
+    private Set<RedisNode> toRedisNodes(List<TopologyNode> topologyNodes) {
+        Set<RedisNode> redisNodes = new LinkedHashSet<>();
+        for (TopologyNode topologyNode : topologyNodes) {
+            redisNodes.add(topologyNode.toRedisNode(instanceType));
+        }
+
+        return Collections.unmodifiableSet(redisNodes);
+    }
+
+    /**
+     * @param otherNodes
+     * @return true if nodes are same as this snapshot regardless of order.
+     */
+    boolean hasSameNodes(Collection<TopologyNode> otherNodes) {
+        return nodes.size() == otherNodes.size() && nodes.containsAll(otherNodes);
+    }
+
+    @Override
+    public String toString() {
+        return "TopologySnapshot [version=" + version + ", instanceType=" + instanceType + ", nodes=" + nodes + "]";
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.armedis.redis.topology;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Source of redis nodes of one deployment type. ex) cluster, master-replica, sentinel
+ * @author krisjey
+ *
+ */
+public interface TopologySource extends AutoCloseable {
+    /**
+     * Discover current nodes. Called periodically by {@link RedisTopologyService}.
+     * @return nodes, empty if nodes are not reachable.
+     * @throws Exception
+     */
+    List<TopologyNode> discover() throws Exception;
+
+    /**
+     * Register listener of sources which detect change by themselves. ex) lettuce cluster refresh
+     * @param listener
+     */
+    default void onChange(Consumer<List<TopologyNode>> listener) {
+    }
+
+    @Override
+    default void close() {
+    }
+}
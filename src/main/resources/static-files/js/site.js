@@ -229,3 +229,63 @@ var updatePlot = function() {
     plot3 = $.jqplot('chart3', [[[0, 'MEM'], [0, 'RSS']]], chart_options.chart3)
   }
 }
+
+var updateHotKeys = function() {
+  $.getJSON("/v1/redis/stats/hotkeys", { top: 20 }, function(hotKeys) {
+    var tbody = $("#hotkey_table tbody")
+    tbody.empty()
+    $.each(hotKeys, function(_, hotKey) {
+      var tr = $("<tr>")
+      tr.append($("<td>").text(hotKey.command))
+      tr.append($("<td>").text(hotKey.key))
+      tr.append($("<td>").text(hotKey.count))
+      tr.append($("<td>").text(hotKey.error))
+      tbody.append(tr)
+    })
+  })
+}
+
+// Latency spikes of redis nodes over mean latency of armedis commands, x is minutes before now.
+var plot4;
+var updateLatency = function() {
+  $.getJSON("/v1/redis/stats/series", { metric: "latency.armedis", node: "armedis" }, function(seriesList) {
+    $.getJSON("/v1/redis/stats/latency", { since: 0 }, function(events) {
+      var now = Date.now() / 1000
+      var armedis = []
+      $.each(seriesList, function(_, series) {
+        $.each(series.values, function(idx, value) {
+          if (value != null) armedis.push([(series.from + idx * series.step - now) / 60, value])
+        })
+      })
+
+      var spikes = events.map(function(e) { return [(e.epochSecond - now) / 60, e.latencyMillis] })
+
+      var tbody = $("#latency_table tbody")
+      tbody.empty()
+      $.each(events.slice(-20).reverse(), function(_, e) {
+        var tr = $("<tr>")
+        tr.append($("<td>").text(new Date(e.epochSecond * 1000).toLocaleString()))
+        tr.append($("<td>").text(e.node))
+        tr.append($("<td>").text(e.event))
+        tr.append($("<td>").text(e.latencyMillis))
+        tr.append($("<td>").text(e.armedisLatencyMillis < 0 ? "-" : e.armedisLatencyMillis.toFixed(2)))
+        tbody.append(tr)
+      })
+
+      if (plot4 != undefined) plot4.destroy();
+      plot4 = $.jqplot('chart4', [armedis.length > 0 ? armedis : [[0, 0]], spikes.length > 0 ? spikes : [[0, 0]]], {
+        seriesDefaults: { shadow: false },
+        series: [
+          { label: 'armedis ms', showMarker: false },
+          { label: 'redis spike ms', showLine: false, markerOptions: { style: 'filledCircle', size: 8 } }
+        ],
+        legend: { show: true, location: 'nw' },
+        axes: {
+          xaxis: { max: 0, label: 'minutes' },
+          yaxis: { label: 'Latency(ms)', min: 0 }
+        },
+        grid: { borderWidth: 1.0, borderColor: '#ddd', background: '#ffffff', shadow: false }
+      })
+    })
+  })
+}
@@ -0,0 +1,161 @@
+package com.github.armedis.grpc.service.hash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.armedis.redis.command.RedisBinaryCommandExecutor;
+import com.google.protobuf.ByteString;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.lettuce.core.MapScanCursor;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+
+class HashScanStreamerTest {
+    private static final ByteString KEY = ByteString.copyFromUtf8("hash");
+
+    /**
+     * HSCAN of prepared pages, cursor of page is index of next page and "0" after last page.
+     */
+    private static class FakeHash {
+        private final List<Map<ByteString, ByteString>> pages = new ArrayList<>();
+
+        private final List<String> cursors = new ArrayList<>();
+
+        FakeHash page(String... fields) {
+            Map<ByteString, ByteString> page = new LinkedHashMap<>();
+            for (String field : fields) {
+                page.put(ByteString.copyFromUtf8(field), ByteString.copyFromUtf8(field + "-value"));
+            }
+
+            pages.add(page);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        RedisBinaryCommandExecutor executor() throws Exception {
+            RedisClusterCommands<ByteString, ByteString> commands = mock(RedisClusterCommands.class);
+            when(commands.hscan(any(), any(ScanCursor.class), any(ScanArgs.class)))
+                    .thenAnswer(invocation -> hscan(invocation.getArgument(1)));
+
+            RedisBinaryCommandExecutor executor = mock(RedisBinaryCommandExecutor.class);
+            when(executor.execute(anyString(), any(), any())).thenAnswer(invocation -> invocation
+                    .<Function<RedisClusterCommands<ByteString, ByteString>, Object>>getArgument(2)
+                    .apply(commands));
+
+            return executor;
+        }
+
+        private MapScanCursor<ByteString, ByteString> hscan(ScanCursor cursor) {
+            cursors.add(cursor.getCursor());
+
+            int index = Integer.parseInt(cursor.getCursor());
+            int next = index + 1;
+
+            MapScanCursor<ByteString, ByteString> page = new MapScanCursor<>();
+            if (index < pages.size()) {
+                page.getMap().putAll(pages.get(index));
+            }
+
+            page.setCursor(next < pages.size() ? String.valueOf(next) : "0");
+            page.setFinished(next >= pages.size());
+
+            return page;
+        }
+    }
+
+    /**
+     * Response observer which is always ready, and received fields.
+     */
+    private static class Receiver {
+        private final List<String> fields = new ArrayList<>();
+
+        private int pageCount = 0;
+
+        @SuppressWarnings("unchecked")
+        private final ServerCallStreamObserver<HGetAllResponse> observer = mock(ServerCallStreamObserver.class);
+
+        Receiver() {
+            when(observer.isReady()).thenReturn(true);
+            doAnswer(invocation -> {
+                HGetAllResponse response = invocation.getArgument(0);
+                pageCount++;
+                for (HashField field : response.getFieldsList()) {
+                    assertThat(field.getValue().toStringUtf8()).isEqualTo(field.getField().toStringUtf8() + "-value");
+                    fields.add(field.getField().toStringUtf8());
+                }
+
+                return null;
+            }).when(observer).onNext(any());
+        }
+
+        void verifyCompleted() {
+            verify(observer, times(1)).onCompleted();
+            verify(observer, never()).onError(any());
+        }
+    }
+
+    private static Receiver hgetall(FakeHash hash) throws Exception {
+        Receiver receiver = new Receiver();
+        new RedisHashGrpcService(hash.executor()).hGetAll(HGetAllRequest.newBuilder()
+                .setKey(KEY)
+                .setPageSize(2)
+                .build(), receiver.observer);
+
+        return receiver;
+    }
+
+    @Test
+    void cursorContinuesAcrossPages() throws Exception {
+        FakeHash hash = new FakeHash().page("a", "b").page("c", "d").page("e");
+
+        Receiver receiver = hgetall(hash);
+
+        assertThat(receiver.fields).containsExactly("a", "b", "c", "d", "e");
+        assertThat(receiver.pageCount).isEqualTo(3);
+        // cursor of previous page is sent to next HSCAN.
+        assertThat(hash.cursors).containsExactly("0", "1", "2");
+        receiver.verifyCompleted();
+    }
+
+    @Test
+    void emptyPageInMiddleIsSkipped() throws Exception {
+        // HSCAN may return empty page with non zero cursor.
+        FakeHash hash = new FakeHash().page("a").page().page("b", "c");
+
+        Receiver receiver = hgetall(hash);
+
+        assertThat(receiver.fields).containsExactly("a", "b", "c");
+        assertThat(receiver.pageCount).isEqualTo(2);
+        assertThat(hash.cursors).containsExactly("0", "1", "2");
+        receiver.verifyCompleted();
+    }
+
+    @Test
+    void emptyHash() throws Exception {
+        FakeHash hash = new FakeHash();
+
+        Receiver receiver = hgetall(hash);
+
+        assertThat(receiver.fields).isEmpty();
+        assertThat(receiver.pageCount).isZero();
+        assertThat(hash.cursors).containsExactly("0");
+        receiver.verifyCompleted();
+    }
+}
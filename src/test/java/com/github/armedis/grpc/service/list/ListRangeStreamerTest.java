@@ -0,0 +1,216 @@
+package com.github.armedis.grpc.service.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.armedis.redis.command.RedisBinaryCommandExecutor;
+import com.google.protobuf.ByteString;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+
+class ListRangeStreamerTest {
+    private static final ByteString KEY = ByteString.copyFromUtf8("list");
+
+    /**
+     * In memory list of LLEN and LRANGE, and every range of LRANGE requests.
+     */
+    private static class FakeList {
+        private final List<ByteString> values = new ArrayList<>();
+
+        private final List<String> ranges = new ArrayList<>();
+
+        // applied to list after each LRANGE, ex) pop while streaming.
+        private Runnable afterRange = () -> {
+        };
+
+        FakeList(int size) {
+            for (int i = 0; i < size; i++) {
+                values.add(value(i));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        RedisBinaryCommandExecutor executor() throws Exception {
+            RedisClusterCommands<ByteString, ByteString> commands = mock(RedisClusterCommands.class);
+            when(commands.llen(any())).thenAnswer(invocation -> (long) values.size());
+            when(commands.lrange(any(), anyLong(), anyLong()))
+                    .thenAnswer(invocation -> lrange(invocation.getArgument(1), invocation.getArgument(2)));
+
+            RedisBinaryCommandExecutor executor = mock(RedisBinaryCommandExecutor.class);
+            when(executor.execute(anyString(), any(), any())).thenAnswer(invocation -> invocation
+                    .<Function<RedisClusterCommands<ByteString, ByteString>, Object>>getArgument(2)
+                    .apply(commands));
+
+            return executor;
+        }
+
+        private List<ByteString> lrange(long start, long stop) {
+            ranges.add(start + "-" + stop);
+
+            int from = (int) Math.min(values.size(), start);
+            int to = (int) Math.min(values.size(), stop + 1);
+            List<ByteString> range = from < to ? new ArrayList<>(values.subList(from, to)) : new ArrayList<>();
+
+            afterRange.run();
+
+            return range;
+        }
+    }
+
+    /**
+     * Response observer which is always ready, and received values.
+     */
+    private static class Receiver {
+        private final List<Integer> pageSizes = new ArrayList<>();
+
+        private final List<String> values = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        private final ServerCallStreamObserver<LRangeResponse> observer = mock(ServerCallStreamObserver.class);
+
+        Receiver() {
+            when(observer.isReady()).thenReturn(true);
+            doAnswer(invocation -> {
+                LRangeResponse response = invocation.getArgument(0);
+                pageSizes.add(response.getValuesCount());
+                for (ByteString value : response.getValuesList()) {
+                    values.add(value.toStringUtf8());
+                }
+
+                return null;
+            }).when(observer).onNext(any());
+        }
+
+        void verifyCompleted() {
+            verify(observer, times(1)).onCompleted();
+            verify(observer, never()).onError(any());
+        }
+    }
+
+    private static ByteString value(int index) {
+        return ByteString.copyFromUtf8("v" + index);
+    }
+
+    private static List<String> values(int from, int to) {
+        List<String> values = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            values.add("v" + i);
+        }
+
+        return values;
+    }
+
+    private static Receiver lrange(FakeList list, long start, long stop, int pageSize) throws Exception {
+        Receiver receiver = new Receiver();
+        new RedisListGrpcService(list.executor()).lRange(LRangeRequest.newBuilder()
+                .setKey(KEY)
+                .setStart(start)
+                .setStop(stop)
+                .setPageSize(pageSize)
+                .build(), receiver.observer);
+
+        return receiver;
+    }
+
+    @Test
+    void pagesOfWholeList() throws Exception {
+        FakeList list = new FakeList(10);
+
+        Receiver receiver = lrange(list, 0, -1, 4);
+
+        assertThat(receiver.values).isEqualTo(values(0, 10));
+        assertThat(receiver.pageSizes).containsExactly(4, 4, 2);
+        assertThat(list.ranges).containsExactly("0-3", "4-7", "8-9");
+        receiver.verifyCompleted();
+    }
+
+    @Test
+    void lastPageOnChunkBoundary() throws Exception {
+        FakeList list = new FakeList(8);
+
+        Receiver receiver = lrange(list, -6, -1, 3);
+
+        assertThat(receiver.values).isEqualTo(values(2, 8));
+        assertThat(receiver.pageSizes).containsExactly(3, 3);
+        // no empty page after last index.
+        assertThat(list.ranges).containsExactly("2-4", "5-7");
+        receiver.verifyCompleted();
+    }
+
+    @Test
+    void shortPageIsEndOfList() throws Exception {
+        FakeList list = new FakeList(6);
+
+        // stop beyond end of list is not resolved by LLEN.
+        Receiver receiver = lrange(list, 0, 100, 4);
+
+        assertThat(receiver.values).isEqualTo(values(0, 6));
+        assertThat(list.ranges).containsExactly("0-3", "4-7");
+        receiver.verifyCompleted();
+    }
+
+    @Test
+    void emptyList() throws Exception {
+        FakeList list = new FakeList(0);
+
+        Receiver receiver = lrange(list, 0, -1, 4);
+
+        assertThat(receiver.values).isEmpty();
+        assertThat(list.ranges).isEmpty();
+        receiver.verifyCompleted();
+    }
+
+    @Test
+    void listPoppedWhileStreaming() throws Exception {
+        FakeList list = new FakeList(10);
+        list.afterRange = () -> {
+            // 5 values are popped after first page.
+            if (list.ranges.size() == 1) {
+                list.values.subList(0, 5).clear();
+            }
+        };
+
+        Receiver receiver = lrange(list, 0, -1, 4);
+
+        // indexes are not shifted, popped values and values moved before next index are skipped.
+        List<String> expected = values(0, 4);
+        expected.add("v9");
+        assertThat(receiver.values).isEqualTo(expected);
+        assertThat(list.ranges).containsExactly("0-3", "4-7");
+        receiver.verifyCompleted();
+    }
+
+    @Test
+    void listPushedWhileStreaming() throws Exception {
+        FakeList list = new FakeList(6);
+        list.afterRange = () -> {
+            if (list.ranges.size() == 1) {
+                list.values.add(0, ByteString.copyFromUtf8("pushed"));
+            }
+        };
+
+        Receiver receiver = lrange(list, 0, -1, 3);
+
+        // range is resolved at start, pushed value shifts list and last value of first page is sent again.
+        List<String> expected = values(0, 3);
+        expected.addAll(values(2, 5));
+        assertThat(receiver.values).isEqualTo(expected);
+        assertThat(list.ranges).containsExactly("0-2", "3-5");
+        receiver.verifyCompleted();
+    }
+}
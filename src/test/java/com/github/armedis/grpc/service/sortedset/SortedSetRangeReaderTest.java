@@ -0,0 +1,253 @@
+package com.github.armedis.grpc.service.sortedset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.armedis.redis.command.RedisBinaryCommandExecutor;
+import com.google.protobuf.ByteString;
+
+import io.lettuce.core.Limit;
+import io.lettuce.core.Range;
+import io.lettuce.core.Range.Boundary;
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+
+class SortedSetRangeReaderTest {
+    private static final ByteString KEY = ByteString.copyFromUtf8("zset");
+
+    private static final Comparator<ScoredValue<ByteString>> ORDER = Comparator
+            .comparingDouble((ScoredValue<ByteString> value) -> value.getScore())
+            .thenComparing(value -> value.getValue().toStringUtf8());
+
+    /**
+     * In memory sorted set of ZRANGEBYSCORE and ZRANGEBYLEX, and every LIMIT of requests.
+     */
+    private static class FakeSortedSet {
+        private final List<ScoredValue<ByteString>> members = new ArrayList<>();
+
+        private final List<Limit> limits = new ArrayList<>();
+
+        void add(String member, double score) {
+            members.add(ScoredValue.just(score, ByteString.copyFromUtf8(member)));
+            members.sort(ORDER);
+        }
+
+        @SuppressWarnings("unchecked")
+        RedisBinaryCommandExecutor executor() throws Exception {
+            RedisClusterCommands<ByteString, ByteString> commands = mock(RedisClusterCommands.class);
+            when(commands.zrangebyscoreWithScores(any(), any(Range.class), any(Limit.class)))
+                    .thenAnswer(invocation -> byScore(invocation.getArgument(1), invocation.getArgument(2), false));
+            when(commands.zrevrangebyscoreWithScores(any(), any(Range.class), any(Limit.class)))
+                    .thenAnswer(invocation -> byScore(invocation.getArgument(1), invocation.getArgument(2), true));
+            when(commands.zrangebylex(any(), any(Range.class), any(Limit.class)))
+                    .thenAnswer(invocation -> byLex(invocation.getArgument(1), invocation.getArgument(2)));
+
+            RedisBinaryCommandExecutor executor = mock(RedisBinaryCommandExecutor.class);
+            when(executor.execute(anyString(), any(), any())).thenAnswer(invocation -> invocation
+                    .<Function<RedisClusterCommands<ByteString, ByteString>, Object>>getArgument(2)
+                    .apply(commands));
+
+            return executor;
+        }
+
+        private List<ScoredValue<ByteString>> byScore(Range<Double> range, Limit limit, boolean reverse) {
+            List<ScoredValue<ByteString>> ordered = new ArrayList<>(members);
+            if (reverse) {
+                ordered.sort(ORDER.reversed());
+            }
+
+            List<ScoredValue<ByteString>> matched = new ArrayList<>();
+            for (ScoredValue<ByteString> member : ordered) {
+                if (contains(range.getLower(), range.getUpper(), member.getScore())) {
+                    matched.add(member);
+                }
+            }
+
+            return page(matched, limit);
+        }
+
+        private List<ByteString> byLex(Range<ByteString> range, Limit limit) {
+            List<ByteString> matched = new ArrayList<>();
+            for (ScoredValue<ByteString> member : members) {
+                if (contains(range.getLower(), range.getUpper(), member.getValue().toStringUtf8())) {
+                    matched.add(member.getValue());
+                }
+            }
+
+            return page(matched, limit);
+        }
+
+        private <T> List<T> page(List<T> matched, Limit limit) {
+            limits.add(limit);
+
+            int from = (int) Math.min(matched.size(), limit.getOffset());
+            int to = (int) Math.min(matched.size(), from + limit.getCount());
+            return new ArrayList<>(matched.subList(from, to));
+        }
+
+        private static <T extends Comparable<T>> boolean contains(Boundary<?> lower, Boundary<?> upper, T value) {
+            return inBound(lower, value, 1) && inBound(upper, value, -1);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T extends Comparable<T>> boolean inBound(Boundary<?> boundary, T value, int sign) {
+            if (boundary.isUnbounded()) {
+                return true;
+            }
+
+            Object bound = boundary.getValue();
+            T comparable = (T) (bound instanceof ByteString ? ((ByteString) bound).toStringUtf8() : bound);
+            int compared = value.compareTo(comparable) * sign;
+            return boundary.isIncluding() ? compared >= 0 : compared > 0;
+        }
+    }
+
+    private static List<String> readAll(SortedSetRangeReader reader) throws Exception {
+        List<String> members = new ArrayList<>();
+        while (!reader.isFinished()) {
+            ZRangeResponse response = reader.nextPage();
+            if (response != null) {
+                for (ByteString member : response.getMembersList()) {
+                    members.add(member.toStringUtf8());
+                }
+            }
+        }
+
+        return members;
+    }
+
+    private static List<String> expected(FakeSortedSet zset, boolean reverse, int offset) {
+        List<ScoredValue<ByteString>> ordered = new ArrayList<>(zset.members);
+        if (reverse) {
+            ordered.sort(ORDER.reversed());
+        }
+
+        List<String> members = new ArrayList<>();
+        for (ScoredValue<ByteString> member : ordered.subList(offset, ordered.size())) {
+            members.add(member.getValue().toStringUtf8());
+        }
+
+        return members;
+    }
+
+    private static FakeSortedSet duplicatedScores() {
+        // runs of 1, 2, 3 .. 7 members of same score.
+        FakeSortedSet zset = new FakeSortedSet();
+        for (int score = 1; score <= 7; score++) {
+            for (int i = 0; i < score; i++) {
+                zset.add("m" + score + "-" + i, score);
+            }
+        }
+
+        return zset;
+    }
+
+    @Test
+    void scorePagesAcrossDuplicatedScores() throws Exception {
+        FakeSortedSet zset = duplicatedScores();
+        SortedSetRangeReader reader = new SortedSetRangeReader(zset.executor(), KEY, ZRangeRequest.newBuilder()
+                .setBy(RangeBy.SCORE)
+                .setPageSize(4)
+                .build());
+
+        assertThat(readAll(reader)).isEqualTo(expected(zset, false, 0));
+        assertThat(zset.limits).hasSizeGreaterThan(5);
+        // every page skips only members of last score(longest run is 7), never every member of previous pages.
+        for (Limit limit : zset.limits) {
+            assertThat(limit.getOffset()).isLessThanOrEqualTo(7);
+        }
+    }
+
+    @Test
+    void reverseScorePagesWithOffset() throws Exception {
+        FakeSortedSet zset = duplicatedScores();
+        SortedSetRangeReader reader = new SortedSetRangeReader(zset.executor(), KEY, ZRangeRequest.newBuilder()
+                .setBy(RangeBy.SCORE)
+                .setReverse(true)
+                .setOffset(3)
+                .setPageSize(5)
+                .build());
+
+        assertThat(readAll(reader)).isEqualTo(expected(zset, true, 3));
+    }
+
+    @Test
+    void scorePagesOfSingleScore() throws Exception {
+        FakeSortedSet zset = new FakeSortedSet();
+        for (int i = 0; i < 12; i++) {
+            zset.add("m" + (char) ('a' + i), 1.0);
+        }
+
+        SortedSetRangeReader reader = new SortedSetRangeReader(zset.executor(), KEY, ZRangeRequest.newBuilder()
+                .setBy(RangeBy.SCORE)
+                .setWithScores(true)
+                .setScoreMin(ScoreBound.newBuilder().setValue(1.0))
+                .setCount(10)
+                .setPageSize(4)
+                .build());
+
+        assertThat(readAll(reader)).isEqualTo(expected(zset, false, 0).subList(0, 10));
+    }
+
+    @Test
+    void lexPagesAfterLastMember() throws Exception {
+        FakeSortedSet zset = new FakeSortedSet();
+        for (int i = 0; i < 26; i++) {
+            zset.add(String.valueOf((char) ('a' + i)), 0);
+        }
+
+        SortedSetRangeReader reader = new SortedSetRangeReader(zset.executor(), KEY, ZRangeRequest.newBuilder()
+                .setBy(RangeBy.LEX)
+                .setOffset(2)
+                .setLexMax(LexBound.newBuilder().setValue(ByteString.copyFromUtf8("x")).setExclusive(true))
+                .setPageSize(5)
+                .build());
+
+        assertThat(String.join("", readAll(reader))).isEqualTo("cdefghijklmnopqrstuvw");
+        assertThat(zset.limits.get(0).getOffset()).isEqualTo(2);
+        for (Limit limit : zset.limits.subList(1, zset.limits.size())) {
+            assertThat(limit.getOffset()).isZero();
+        }
+    }
+
+    @Test
+    void unsetScoreBoundIsUnbounded() {
+        Range<Double> range = SortedSetRangeReader.toScoreRange(ZRangeRequest.newBuilder()
+                .setScoreMin(ScoreBound.newBuilder().setValue(1.5).setExclusive(true))
+                .build());
+
+        assertThat(range.getLower().isIncluding()).isFalse();
+        assertThat(range.getLower().getValue()).isEqualTo(1.5);
+        assertThat(range.getUpper().isUnbounded()).isTrue();
+    }
+
+    @Test
+    void lexBound() {
+        Range<ByteString> range = SortedSetRangeReader.toLexRange(ZRangeRequest.newBuilder()
+                .setLexMin(LexBound.newBuilder().setValue(ByteString.copyFromUtf8("a")))
+                .setLexMax(LexBound.newBuilder().setValue(ByteString.copyFromUtf8("c")).setExclusive(true))
+                .build());
+
+        assertThat(range.getLower().isIncluding()).isTrue();
+        assertThat(range.getLower().getValue().toStringUtf8()).isEqualTo("a");
+        assertThat(range.getUpper().isIncluding()).isFalse();
+        assertThat(range.getUpper().getValue().toStringUtf8()).isEqualTo("c");
+    }
+
+    @Test
+    void pageSize() {
+        assertThat(SortedSetRangeReader.pageSize(0)).isEqualTo(SortedSetRangeReader.DEFAULT_PAGE_SIZE);
+        assertThat(SortedSetRangeReader.pageSize(10)).isEqualTo(10);
+        assertThat(SortedSetRangeReader.pageSize(100000)).isEqualTo(SortedSetRangeReader.MAX_PAGE_SIZE);
+    }
+}
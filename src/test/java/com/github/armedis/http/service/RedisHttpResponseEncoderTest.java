@@ -0,0 +1,78 @@
+/**
+ *
+ */
+package com.github.armedis.http.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.armedis.redis.admission.AdmissionRejectedException;
+import com.github.armedis.redis.admission.CommandClass;
+import com.github.armedis.redis.command.RedisCommandExecuteResult;
+import com.github.armedis.redis.command.RedisCommandExecuteResultFactory;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+
+/**
+ *
+ */
+class RedisHttpResponseEncoderTest {
+	private final List<ResponseCode> codes = new ArrayList<>();
+
+	private final RedisHttpResponseEncoder encoder = new RedisHttpResponseEncoder(codes::add);
+
+	@Test
+	void testEncode() {
+		AggregatedHttpResponse response = encoder
+				.encode(null, RedisCommandExecuteResultFactory.buildRedisCommandExecuteResult("value"))
+				.aggregate()
+				.join();
+
+		assertThat(response.status()).isEqualTo(HttpStatus.OK);
+		assertThat(response.contentUtf8()).contains("value");
+		assertThat(codes).containsExactly(ResponseCode.SUCCESS);
+	}
+
+	@Test
+	void testEncodeError() {
+		AggregatedHttpResponse rejected = encoder
+				.encodeError(null, new AdmissionRejectedException(CommandClass.READ, "rejected"))
+				.aggregate()
+				.join();
+		AggregatedHttpResponse invalid = encoder.encodeError(null, new IllegalArgumentException("invalid"))
+				.aggregate()
+				.join();
+
+		assertThat(rejected.status()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(invalid.status()).isEqualTo(HttpStatus.OK);
+		assertThat(codes).containsExactly(ResponseCode.SERVICE_UNAVAILABLE, ResponseCode.REQUEST_FIELD_ERROR);
+	}
+
+	@Test
+	void testSerializationFailure() {
+		RedisCommandExecuteResult unserializable = new RedisCommandExecuteResult() {
+			@Override
+			public String toResponseString() {
+				return "";
+			}
+
+			@Override
+			public ObjectNode toObjectNode() {
+				// object without property can not be serialized by default mapper.
+				return new ObjectMapper().createObjectNode().putPOJO("value", new Object());
+			}
+		};
+
+		AggregatedHttpResponse response = encoder.encode(null, unserializable).aggregate().join();
+
+		assertThat(response.status()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+		assertThat(response.contentUtf8()).isEqualTo("{}");
+		assertThat(codes).containsExactly(ResponseCode.RESPONSE_ENCODE_ERROR);
+	}
+}
@@ -12,7 +12,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.armedis.http.service.request.string.RedisGetRequestBuilder;
 import com.github.armedis.http.service.request.string.RedisSetRequestBuilder;
-import com.github.armedis.redis.command.RedisGetRequest;
+import com.github.armedis.redis.command.RedisGetRequest;
+import com.github.armedis.redis.command.RedisRequest;
 import com.github.armedis.redis.command.RedisSetRequest;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpMethod;
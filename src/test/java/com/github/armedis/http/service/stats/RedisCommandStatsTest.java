@@ -0,0 +1,47 @@
+/**
+ *
+ */
+package com.github.armedis.http.service.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.armedis.http.service.stats.RedisCommandStats.CommandRank;
+import com.github.armedis.redis.info.RedisInfoVo;
+
+/**
+ *
+ */
+class RedisCommandStatsTest {
+	private static final String INFO = "# Commandstats\r\n"
+			+ "cmdstat_get:calls=1000,usec=2000,usec_per_call=2.00,rejected_calls=0,failed_calls=0\r\n"
+			+ "cmdstat_keys:calls=2,usec=90000,usec_per_call=45000.00,rejected_calls=0,failed_calls=1\r\n"
+			+ "cmdstat_set:calls=500,usec=1500,usec_per_call=3.00,rejected_calls=0,failed_calls=0\r\n" + "\r\n"
+			+ "# Latencystats\r\n" + "latency_percentiles_usec_keys:p50=40000,p99=60000,p99.9=60000\r\n";
+
+	@Test
+	void testTop() throws Throwable {
+		RedisStatsInfo redisStatsInfo = new RedisStatsInfo(ZonedDateTime.now());
+		redisStatsInfo.put("sum", RedisInfoVo.from(INFO, false));
+
+		RedisCommandStats commandStats = new RedisCommandStats();
+		assertThat(commandStats.top("sum", "usec", 10)).isEmpty();
+
+		commandStats.update(redisStatsInfo);
+
+		List<CommandRank> byTime = commandStats.top("sum", "usec", 2);
+		assertThat(byTime).extracting(CommandRank::command).containsExactly("keys", "get");
+		assertThat(byTime.get(0).p99()).isEqualTo(60000.0);
+		assertThat(byTime.get(1).p99()).isNull();
+
+		assertThat(commandStats.top("sum", "calls", 10)).extracting(CommandRank::command)
+				.containsExactly("get", "set", "keys");
+		assertThat(commandStats.top("unknown", "calls", 10)).isEmpty();
+		assertThatThrownBy(() -> commandStats.top("sum", "name", 10)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
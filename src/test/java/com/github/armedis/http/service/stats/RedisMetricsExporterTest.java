@@ -0,0 +1,66 @@
+/**
+ *
+ */
+package com.github.armedis.http.service.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.armedis.redis.info.RedisInfoVo;
+
+/**
+ *
+ */
+class RedisMetricsExporterTest {
+	private static final String INFO = "# Server\r\n" + "redis_version:6.2.14\r\n" + "tcp_port:7001\r\n"
+			+ "uptime_in_seconds:21048\r\n" + "\r\n" + "# Stats\r\n" + "total_net_input_bytes:3000000000\r\n"
+			+ "instantaneous_input_kbps:1.25\r\n" + "\r\n" + "# Replication\r\n" + "role:master\r\n"
+			+ "connected_slaves:1\r\n" + "\r\n" + "# Keyspace\r\n" + "db0:keys=1121,expires=4,avg_ttl=4143\r\n";
+
+	private static RedisStatsInfo statsInfo() throws Throwable {
+		RedisStatsInfo statsInfo = new RedisStatsInfo(
+				ZonedDateTime.ofInstant(Instant.ofEpochSecond(1000), ZoneId.of("UTC")));
+
+		statsInfo.put("10.0.0.1:7001", RedisInfoVo.from(INFO, false));
+		statsInfo.putShard("10.0.0.1:7001", "abc");
+		statsInfo.put("10.0.0.2:7001", RedisInfoVo.from(INFO, false));
+		statsInfo.addStaleNode("10.0.0.2:7001");
+		statsInfo.put("sum", RedisInfoVo.from(INFO, false));
+
+		return statsInfo;
+	}
+
+	@Test
+	void testRender() throws Throwable {
+		RedisMetricsExporter exporter = new RedisMetricsExporter();
+		assertThat(exporter.getRendered()).isEmpty();
+
+		exporter.render(statsInfo(), 250_000_000L);
+		String rendered = exporter.getRendered();
+
+		String labels = "{node=\"10.0.0.1:7001\",role=\"master\",shard=\"abc\"}";
+		assertThat(rendered).contains("# TYPE redis_stats_total_net_input_bytes untyped\n")
+				.contains("redis_stats_total_net_input_bytes" + labels + " 3000000000\n")
+				.contains("redis_stats_instantaneous_input_kbps" + labels + " 1.25\n")
+				.contains("redis_server_uptime_in_seconds" + labels + " 21048\n")
+				.contains("redis_keyspace_keys{node=\"10.0.0.1:7001\",role=\"master\",shard=\"abc\",db=\"0\"} 1121\n")
+				.contains("armedis_stats_poll_duration_seconds 0.25\n")
+				.contains("armedis_stats_poll_timestamp_seconds 1000\n")
+				.contains("armedis_stats_node_stale{node=\"10.0.0.1:7001\"} 0\n")
+				.contains("armedis_stats_node_stale{node=\"10.0.0.2:7001\"} 1\n");
+
+		// sum and stale node are not exported as node metric.
+		assertThat(rendered).doesNotContain("node=\"sum\"").doesNotContain("node=\"10.0.0.2:7001\",role");
+	}
+
+	@Test
+	void testEscape() {
+		assertThat(RedisMetricsExporter.escape("plain")).isEqualTo("plain");
+		assertThat(RedisMetricsExporter.escape("a\"b\\c\n")).isEqualTo("a\\\"b\\\\c\\n");
+	}
+}
@@ -0,0 +1,100 @@
+/**
+ *
+ */
+package com.github.armedis.http.service.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.armedis.redis.info.RedisInfoVo;
+
+/**
+ *
+ */
+class RedisRateDeriverTest {
+	private static RedisInfoVo info(String runId, long uptime, long timeUsec, long commands, long hits, long misses,
+			double cpuSys) throws Throwable {
+		String info = "# Server\r\n" + "run_id:" + runId + "\r\n" + "server_time_usec:" + timeUsec + "\r\n"
+				+ "uptime_in_seconds:" + uptime + "\r\n" + "\r\n" + "# Stats\r\n" + "total_commands_processed:"
+				+ commands + "\r\n" + "keyspace_hits:" + hits + "\r\n" + "keyspace_misses:" + misses + "\r\n"
+				+ "\r\n" + "# CPU\r\n" + "used_cpu_sys:" + cpuSys + "\r\n" + "used_cpu_user:0\r\n";
+
+		return RedisInfoVo.from(info, false);
+	}
+
+	private static RedisStatsInfo statsAt(long epochSecond) {
+		return new RedisStatsInfo(ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.of("UTC")));
+	}
+
+	@Test
+	void testRates() throws Throwable {
+		RedisRateDeriver deriver = new RedisRateDeriver();
+
+		RedisStatsInfo first = statsAt(100);
+		first.put("a", info("r1", 1000, 100_000_000L, 5_000_000_000L, 100, 100, 10.0));
+		first.put("b", info("r2", 1000, 100_000_000L, 1000, 0, 0, 1.0));
+		deriver.derive(first);
+		assertThat(first.getRateList()).isEmpty();
+
+		RedisStatsInfo second = statsAt(102);
+		second.put("a", info("r1", 1002, 102_000_000L, 5_000_002_000L, 400, 200, 11.0));
+		second.put("b", info("r2", 1002, 102_000_000L, 3000, 100, 0, 1.5));
+		deriver.derive(second);
+
+		RedisRates nodeRates = second.getRateList().get("a");
+		assertThat(nodeRates.isReset()).isFalse();
+		assertThat(nodeRates.getIntervalSeconds()).isEqualTo(2.0);
+		assertThat(nodeRates.getCommandsPerSec()).isEqualTo(1000.0);
+		assertThat(nodeRates.getKeyspaceHitsPerSec()).isEqualTo(150.0);
+		assertThat(nodeRates.getHitRatio()).isEqualTo(0.75);
+		assertThat(nodeRates.getCpuUtilization()).isCloseTo(0.5, within(1e-9));
+
+		RedisRates clusterRates = second.getRateList().get("sum");
+		assertThat(clusterRates.getCommandsPerSec()).isEqualTo(2000.0);
+		assertThat(clusterRates.getHitRatio()).isCloseTo(0.8, within(1e-9));
+		assertThat(clusterRates.getCpuUtilization()).isCloseTo(0.75, within(1e-9));
+	}
+
+	@Test
+	void testReset() throws Throwable {
+		RedisRateDeriver deriver = new RedisRateDeriver();
+
+		RedisStatsInfo first = statsAt(100);
+		first.put("a", info("r1", 1000, 100_000_000L, 100000, 0, 0, 10.0));
+		deriver.derive(first);
+
+		// restarted 2 seconds ago
+		RedisStatsInfo second = statsAt(110);
+		second.put("a", info("r9", 2, 110_000_000L, 400, 0, 0, 0.5));
+		deriver.derive(second);
+
+		RedisRates nodeRates = second.getRateList().get("a");
+		assertThat(nodeRates.isReset()).isTrue();
+		assertThat(nodeRates.getIntervalSeconds()).isEqualTo(2.0);
+		assertThat(nodeRates.getCommandsPerSec()).isEqualTo(200.0);
+		assertThat(nodeRates.getHitRatio()).isNull();
+		assertThat(nodeRates.getCpuUtilization()).isEqualTo(0.25);
+	}
+
+	@Test
+	void testStaleNode() throws Throwable {
+		RedisRateDeriver deriver = new RedisRateDeriver();
+
+		RedisStatsInfo first = statsAt(100);
+		first.put("a", info("r1", 1000, 100_000_000L, 100, 0, 0, 1.0));
+		deriver.derive(first);
+
+		RedisStatsInfo second = statsAt(101);
+		second.put("a", info("r1", 1000, 100_000_000L, 100, 0, 0, 1.0));
+		second.addStaleNode("a");
+		deriver.derive(second);
+
+		assertThat(second.getRateList()).isEmpty();
+	}
+}
@@ -0,0 +1,113 @@
+/**
+ *
+ */
+package com.github.armedis.http.service.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.http.service.stats.series.MetricSeriesStore;
+import com.github.armedis.http.service.stats.series.SeriesPoints;
+import com.github.armedis.http.service.stats.series.SeriesResolution;
+import com.github.armedis.redis.info.RedisInfoVo;
+
+/**
+ *
+ */
+class RedisStatsHistoryTest {
+	private static ArmedisConfiguration configuration(Path directory) {
+		ArmedisConfiguration configuration = new ArmedisConfiguration();
+		configuration.setStatSeriesMetrics("stats.instantaneousOpsPerSec");
+		configuration.setStatSeriesDirectory("");
+		configuration.setStatHistoryDirectory(directory.toString());
+		configuration.setStatHistorySegmentBytes(1 << 20);
+		configuration.setStatHistoryRestoreSeconds(3600);
+		configuration.setStatHistoryRetentionSeconds(86400);
+		configuration.setStatHistoryCompactStepSeconds(60);
+
+		return configuration;
+	}
+
+	private static RedisStatsInfo tick(long epochSecond, long commands, int ops) throws Throwable {
+		String info = "# Server\r\nrun_id:r1\r\nuptime_in_seconds:" + epochSecond + "\r\nserver_time_usec:"
+				+ epochSecond * 1_000_000L + "\r\n\r\n# Stats\r\ntotal_commands_processed:" + commands
+				+ "\r\ninstantaneous_ops_per_sec:" + ops + "\r\n";
+
+		RedisStatsInfo redisStatsInfo = new RedisStatsInfo(
+				ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.of("UTC")));
+		redisStatsInfo.put("10.0.0.1:6379", RedisInfoVo.from(info, false));
+
+		return redisStatsInfo;
+	}
+
+	@Test
+	void testRestore(@TempDir Path directory) throws Throwable {
+		long now = System.currentTimeMillis() / 1000;
+		ArmedisConfiguration configuration = configuration(directory);
+
+		RedisStatsHistory history = new RedisStatsHistory(configuration, new MetricSeriesStore(configuration),
+				new RedisRateDeriver());
+		history.append(tick(now - 2, 1000, 10));
+		history.append(tick(now - 1, 2000, 20));
+		history.destroy();
+
+		// restarted
+		MetricSeriesStore metricSeriesStore = new MetricSeriesStore(configuration);
+		RedisRateDeriver redisRateDeriver = new RedisRateDeriver();
+		new RedisStatsHistory(configuration, metricSeriesStore, redisRateDeriver);
+
+		SeriesPoints points = metricSeriesStore
+				.read("stats.instantaneousOpsPerSec", "10.0.0.1:6379", now - 2, now - 1, SeriesResolution.SECOND)
+				.get(0);
+		assertThat(points.getValues()).containsExactly(10.0, 20.0);
+
+		// rates of first tick after restart are continued from restored counters.
+		RedisStatsInfo redisStatsInfo = tick(now + 1, 4000, 30);
+		redisRateDeriver.derive(redisStatsInfo);
+		assertThat(redisStatsInfo.getRateList().get("10.0.0.1:6379").getCommandsPerSec()).isEqualTo(1000.0);
+	}
+
+	@Test
+	void testRestoreMappedSeries(@TempDir Path directory) throws Throwable {
+		long now = System.currentTimeMillis() / 1000;
+		// three ticks in one 10s bucket, ended before now.
+		long base = now / 10 * 10 - 10;
+
+		ArmedisConfiguration configuration = configuration(directory.resolve("history"));
+		configuration.setStatSeriesDirectory(directory.resolve("series").toString());
+
+		MetricSeriesStore metricSeriesStore = new MetricSeriesStore(configuration);
+		RedisStatsHistory history = new RedisStatsHistory(configuration, metricSeriesStore, new RedisRateDeriver());
+		for (int i = 1; i <= 3; i++) {
+			RedisStatsInfo redisStatsInfo = tick(base + i, 1000 * i, 10 * i);
+			metricSeriesStore.record(redisStatsInfo);
+			history.append(redisStatsInfo);
+		}
+		history.destroy();
+		metricSeriesStore.destroy();
+
+		// restarted, restore window starts from second tick.
+		configuration.setStatHistoryRestoreSeconds((int) (System.currentTimeMillis() / 1000 - (base + 2)));
+		metricSeriesStore = new MetricSeriesStore(configuration);
+		new RedisStatsHistory(configuration, metricSeriesStore, new RedisRateDeriver());
+
+		Double[] seconds = metricSeriesStore.read("stats.instantaneousOpsPerSec", "10.0.0.1:6379", base, base + 4,
+				SeriesResolution.SECOND).get(0).getValues();
+		assertThat(Arrays.stream(seconds).filter(Objects::nonNull).count()).isEqualTo(3);
+		assertThat(seconds).containsExactly(null, 10.0, 20.0, 30.0, null);
+
+		// average of every tick, not of replayed ticks.
+		assertThat(metricSeriesStore.read("stats.instantaneousOpsPerSec", "10.0.0.1:6379", base, base + 9,
+				SeriesResolution.TEN_SECONDS).get(0).getValues()).containsExactly(20.0);
+	}
+}
@@ -0,0 +1,202 @@
+/**
+ *
+ */
+package com.github.armedis.http.service.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpObject;
+import com.linecorp.armeria.common.HttpResponse;
+
+/**
+ *
+ */
+class RedisStatsStreamTest {
+	private static RedisStatsInfo statsAt(long epochSecond) {
+		return new RedisStatsInfo(ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.of("UTC")));
+	}
+
+	private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+	/**
+	 * Subscribe response and add event id of every received data.
+	 */
+	private static void readIds(HttpResponse response, List<Long> ids) {
+		response.subscribe(new Subscriber<HttpObject>() {
+			@Override
+			public void onSubscribe(Subscription subscription) {
+				subscription.request(Long.MAX_VALUE);
+			}
+
+			@Override
+			public void onNext(HttpObject object) {
+				if (object instanceof HttpData) {
+					Matcher matcher = EVENT_ID.matcher(((HttpData) object).toStringUtf8());
+					while (matcher.find()) {
+						ids.add(Long.parseLong(matcher.group(1)));
+					}
+				}
+			}
+
+			@Override
+			public void onError(Throwable cause) {
+			}
+
+			@Override
+			public void onComplete() {
+			}
+		});
+	}
+
+	/**
+	 * Subscribe response and request given number of objects, each received data releases a permit.
+	 */
+	private static void read(HttpResponse response, long request, Semaphore received) {
+		response.subscribe(new Subscriber<HttpObject>() {
+			@Override
+			public void onSubscribe(Subscription subscription) {
+				subscription.request(request);
+			}
+
+			@Override
+			public void onNext(HttpObject object) {
+				if (object instanceof HttpData) {
+					received.release();
+				}
+			}
+
+			@Override
+			public void onError(Throwable cause) {
+			}
+
+			@Override
+			public void onComplete() {
+			}
+		});
+	}
+
+	@Test
+	void testSince() {
+		RedisStatsStream stream = new RedisStatsStream();
+		assertThat(stream.getStats(0)).isEqualTo("[]");
+
+		stream.publish(statsAt(100));
+		stream.publish(statsAt(101));
+		stream.publish(statsAt(102));
+
+		assertThat(stream.getStats(0)).startsWith("[{\"epochTime\":100").contains("\"epochTime\":102");
+		assertThat(stream.getStats(101)).startsWith("[{\"epochTime\":102").doesNotContain("\"epochTime\":101");
+		assertThat(stream.getStats(102)).isEqualTo("[]");
+	}
+
+	@Test
+	void testRecentSize() {
+		RedisStatsStream stream = new RedisStatsStream();
+		for (int i = 0; i < 15; i++) {
+			stream.publish(statsAt(200 + i));
+		}
+
+		assertThat(stream.getStats(0)).doesNotContain("\"epochTime\":204").contains("\"epochTime\":205")
+				.contains("\"epochTime\":214");
+	}
+
+	@Test
+	void testSubscriber() {
+		RedisStatsStream stream = new RedisStatsStream();
+		stream.publish(statsAt(300));
+
+		stream.subscribe(0);
+		assertThat(stream.getSubscriberCount()).isEqualTo(1);
+
+		stream.publish(statsAt(301));
+		assertThat(stream.getSubscriberCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testSlowSubscriberClosed() {
+		RedisStatsStream stream = new RedisStatsStream();
+
+		// headers only, client does not read any event.
+		read(stream.subscribe(0), 1, new Semaphore(0));
+		assertThat(stream.getSubscriberCount()).isEqualTo(1);
+
+		for (int i = 0; i < RedisStatsStream.MAX_PENDING_EVENTS; i++) {
+			stream.publish(statsAt(400 + i));
+		}
+		assertThat(stream.getSubscriberCount()).isEqualTo(1);
+
+		// response may prefetch a few events of writer, pending passes limit within next events.
+		for (int i = 0; i < RedisStatsStream.MAX_PENDING_EVENTS; i++) {
+			stream.publish(statsAt(500 + i));
+		}
+		assertThat(stream.getSubscriberCount()).isZero();
+	}
+
+	@Test
+	void testFastSubscriberKept() throws InterruptedException {
+		RedisStatsStream stream = new RedisStatsStream();
+
+		Semaphore received = new Semaphore(0);
+		read(stream.subscribe(0), Long.MAX_VALUE, received);
+
+		for (int i = 0; i < RedisStatsStream.MAX_PENDING_EVENTS * 3; i++) {
+			stream.publish(statsAt(600 + i));
+			assertThat(received.tryAcquire(10, TimeUnit.SECONDS)).isTrue();
+		}
+
+		assertThat(stream.getSubscriberCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testSubscribeWhilePublishing() throws InterruptedException {
+		RedisStatsStream stream = new RedisStatsStream();
+		stream.publish(statsAt(1000));
+
+		Thread publisher = new Thread(() -> {
+			for (int i = 1; i < 300; i++) {
+				stream.publish(statsAt(1000 + i));
+				try {
+					Thread.sleep(1);
+				}
+				catch (InterruptedException e) {
+					return;
+				}
+			}
+		});
+		publisher.start();
+
+		List<List<Long>> received = new ArrayList<>();
+		while (publisher.isAlive()) {
+			List<Long> ids = Collections.synchronizedList(new ArrayList<>());
+			readIds(stream.subscribe(0), ids);
+			received.add(ids);
+			Thread.sleep(3);
+		}
+		publisher.join();
+
+		// no tick is lost or received twice between replay and registration of subscriber.
+		for (List<Long> ids : received) {
+			synchronized (ids) {
+				for (int i = 1; i < ids.size(); i++) {
+					assertThat(ids.get(i)).isEqualTo(ids.get(i - 1) + 1);
+				}
+			}
+		}
+	}
+}
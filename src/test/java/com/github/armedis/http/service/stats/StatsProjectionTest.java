@@ -0,0 +1,75 @@
+/**
+ *
+ */
+package com.github.armedis.http.service.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.armedis.redis.info.Memory;
+import com.github.armedis.redis.info.RedisInfoVo;
+import com.github.armedis.redis.info.Stats;
+import com.linecorp.armeria.common.MediaType;
+
+/**
+ *
+ */
+class StatsProjectionTest {
+
+	@Test
+	void testProjectedCborStats() throws Exception {
+		RedisStatsStream stream = new RedisStatsStream();
+		stream.publish(statsOf(ZonedDateTime.now()));
+
+		byte[] encoded = stream.getStats(0, StatsEncoding.CBOR,
+				StatsProjection.parse("stats.instantaneousOpsPerSec,memory"));
+		JsonNode stats = StatsEncoding.CBOR.getMapper().readTree(encoded);
+
+		JsonNode node = stats.get(0).get("redisInfoList").get("node1");
+		assertThat(node.get("stats").size()).isEqualTo(1);
+		assertThat(node.get("stats").get("instantaneousOpsPerSec").asInt()).isEqualTo(1234);
+		assertThat(node.get("memory").get("usedMemory").asLong()).isEqualTo(4096);
+		assertThat(node.has("server")).isFalse();
+		assertThat(stats.get(0).get("epochTime").asLong()).isPositive();
+
+		// full stats of json is not changed.
+		assertThat(stream.getStats(0)).contains("\"server\":null");
+	}
+
+	@Test
+	void testUnknownSection() {
+		assertThatThrownBy(() -> StatsProjection.parse("unknown.field")).isInstanceOf(IllegalArgumentException.class);
+		assertThat(StatsProjection.parse(" ").isAll()).isTrue();
+	}
+
+	@Test
+	void testNegotiate() {
+		assertThat(StatsEncoding.negotiate(List.of(MediaType.parse("application/cbor")))).isEqualTo(StatsEncoding.CBOR);
+		assertThat(StatsEncoding.negotiate(List.of(MediaType.parse("application/x-jackson-smile"), MediaType.ANY_TYPE)))
+				.isEqualTo(StatsEncoding.SMILE);
+		assertThat(StatsEncoding.negotiate(List.of(MediaType.ANY_TYPE))).isEqualTo(StatsEncoding.JSON);
+		assertThat(StatsEncoding.negotiate(List.of())).isEqualTo(StatsEncoding.JSON);
+	}
+
+	private static RedisStatsInfo statsOf(ZonedDateTime time) {
+		Stats stats = new Stats();
+		stats.setInstantaneousOpsPerSec(1234);
+		Memory memory = new Memory();
+		memory.setUsedMemory(4096);
+
+		RedisInfoVo redisInfo = new RedisInfoVo();
+		redisInfo.setStats(stats);
+		redisInfo.setMemory(memory);
+
+		RedisStatsInfo redisStatsInfo = new RedisStatsInfo(time);
+		redisStatsInfo.put("node1", redisInfo);
+
+		return redisStatsInfo;
+	}
+}
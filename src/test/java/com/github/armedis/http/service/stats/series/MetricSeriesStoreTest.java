@@ -0,0 +1,91 @@
+/**
+ *
+ */
+package com.github.armedis.http.service.stats.series;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.redis.topology.RedisTopologyService;
+import com.github.armedis.redis.topology.TopologyNode;
+import com.github.armedis.redis.topology.TopologySnapshot;
+
+/**
+ *
+ */
+class MetricSeriesStoreTest {
+	private static final long BASE = 1_700_000_000L;
+
+	@Test
+	void testRemove(@TempDir Path directory) throws Exception {
+		ArmedisConfiguration configuration = new ArmedisConfiguration();
+		configuration.setStatSeriesMetrics("stats.instantaneousOpsPerSec");
+		configuration.setStatSeriesDirectory(directory.toString());
+
+		MetricSeriesStore store = new MetricSeriesStore(configuration);
+		store.record("10.0.0.1:6379", BASE, new double[] { 10 });
+		store.record("10.0.0.2:6379", BASE, new double[] { 20 });
+		store.recordEvent("10.0.0.2:6379", "latency.fork", BASE, 5);
+		assertThat(store.getNodes()).containsExactly("10.0.0.1:6379", "10.0.0.2:6379");
+
+		store.remove("10.0.0.2:6379");
+
+		assertThat(store.getNodes()).containsExactly("10.0.0.1:6379");
+		assertThat(store.read("stats.instantaneousOpsPerSec", "", BASE, BASE, SeriesResolution.SECOND))
+				.extracting(SeriesPoints::getNode)
+				.containsExactly("10.0.0.1:6379");
+		try (Stream<Path> files = Files.list(directory)) {
+			assertThat(files.map(file -> file.getFileName().toString()))
+					.containsExactly("10.0.0.1%3A6379@stats.instantaneousOpsPerSec.series");
+		}
+
+		// unknown node is ignored.
+		store.remove("10.0.0.3:6379");
+		assertThat(store.getNodes()).containsExactly("10.0.0.1:6379");
+	}
+
+	@Test
+	void testLoad(@TempDir Path directory) throws Exception {
+		ArmedisConfiguration configuration = new ArmedisConfiguration();
+		configuration.setStatSeriesMetrics("stats.instantaneousOpsPerSec");
+		configuration.setStatSeriesDirectory(directory.toString());
+
+		MetricSeriesStore store = new MetricSeriesStore(configuration);
+		store.record("10.0.0.1:6379", BASE, new double[] { 10 });
+		store.record("10.0.0.2:6379", BASE, new double[] { 20 });
+		store.record("sum", BASE, new double[] { 30 });
+		store.recordEvent("10.0.0.2:6379", "latency.fork", BASE, 5);
+		store.destroy();
+
+		MetricSeriesStore loaded = new MetricSeriesStore(configuration);
+		assertThat(loaded.getNodes()).containsExactly("10.0.0.1:6379", "10.0.0.2:6379", "sum");
+		assertThat(loaded.getLastEpochSecond("10.0.0.2:6379")).isEqualTo(BASE);
+		assertThat(loaded.read("latency.fork", "10.0.0.2:6379", BASE, BASE, SeriesResolution.SECOND))
+				.extracting(points -> points.getValues()[0])
+				.containsExactly(5.0);
+		loaded.destroy();
+
+		// series of node which is not in topology any more are dropped.
+		TopologySnapshot snapshot = mock(TopologySnapshot.class);
+		when(snapshot.getNodes()).thenReturn(
+				List.of(new TopologyNode("10.0.0.1:6379", "10.0.0.1", 6379, true, null, false, 0)));
+		RedisTopologyService topologyService = mock(RedisTopologyService.class);
+		when(topologyService.getSnapshot()).thenReturn(snapshot);
+
+		MetricSeriesStore retained = new MetricSeriesStore(configuration, topologyService);
+		assertThat(retained.getNodes()).containsExactly("10.0.0.1:6379", "sum");
+		assertThat(retained.read("stats.instantaneousOpsPerSec", "", BASE, BASE, SeriesResolution.SECOND))
+				.extracting(points -> points.getValues()[0])
+				.containsExactly(10.0, 30.0);
+	}
+}
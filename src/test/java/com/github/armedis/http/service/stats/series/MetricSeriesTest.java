@@ -0,0 +1,67 @@
+/**
+ *
+ */
+package com.github.armedis.http.service.stats.series;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ *
+ */
+class MetricSeriesTest {
+	private static final long BASE = 1_700_000_000L;
+
+	@Test
+	void testRollup() {
+		MetricSeries series = MetricSeries.onHeap();
+		for (int i = 0; i < 20; i++) {
+			series.record(BASE + i, i);
+		}
+
+		long secondBucket = BASE;
+		assertThat(series.read(SeriesResolution.SECOND, secondBucket, secondBucket + 2)).containsExactly(0, 1, 2);
+
+		// 1_700_000_000 is multiple of 10, average of 0..9 and 10..19
+		long tenSecondsBucket = BASE / 10;
+		assertThat(series.read(SeriesResolution.TEN_SECONDS, tenSecondsBucket, tenSecondsBucket + 1))
+				.containsExactly(4.5, 14.5);
+	}
+
+	@Test
+	void testGapAndRetention() {
+		MetricSeries series = MetricSeries.onHeap();
+		series.record(BASE, 1);
+		series.record(BASE + 3, 4);
+
+		double[] values = series.read(SeriesResolution.SECOND, BASE, BASE + 4);
+		assertThat(values[0]).isEqualTo(1);
+		assertThat(values[1]).isNaN();
+		assertThat(values[2]).isNaN();
+		assertThat(values[3]).isEqualTo(4);
+		// not recorded yet.
+		assertThat(values[4]).isNaN();
+
+		// overwrite whole ring of 1s resolution.
+		series.record(BASE + 3 + SeriesResolution.SECOND.getCapacity(), 5);
+		assertThat(series.read(SeriesResolution.SECOND, BASE + 3, BASE + 3)[0]).isNaN();
+		assertThat(series.read(SeriesResolution.MINUTE, BASE / 60, BASE / 60)[0]).isEqualTo(2.5);
+	}
+
+	@Test
+	void testMappedSeriesKeepsHistory(@TempDir Path directory) throws Exception {
+		Path file = directory.resolve("node-stats.instantaneousOpsPerSec.series");
+
+		MetricSeries series = MetricSeries.mapped(file);
+		series.record(BASE, 10);
+		series.record(BASE + 1, 20);
+		series.force();
+
+		MetricSeries reopened = MetricSeries.mapped(file);
+		assertThat(reopened.read(SeriesResolution.SECOND, BASE, BASE + 1)).containsExactly(10, 20);
+	}
+}
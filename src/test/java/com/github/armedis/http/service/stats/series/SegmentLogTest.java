@@ -0,0 +1,109 @@
+/**
+ *
+ */
+package com.github.armedis.http.service.stats.series;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.armedis.http.service.stats.series.SegmentLog.LogRecord;
+
+/**
+ *
+ */
+class SegmentLogTest {
+	private static final long BASE = 1_700_000_000L;
+
+	private static byte[] payload(int value) {
+		return new byte[] { (byte) value, (byte) (value >> 8) };
+	}
+
+	private static int value(LogRecord record) {
+		return (record.payload().get(0) & 0xff) | (record.payload().get(1) & 0xff) << 8;
+	}
+
+	@Test
+	void testReopen(@TempDir Path directory) throws Exception {
+		SegmentLog segmentLog = new SegmentLog(directory, 1024);
+		for (int i = 0; i < 100; i++) {
+			segmentLog.append(BASE + i, payload(i));
+		}
+
+		// 14 bytes per record
+		assertThat(segmentLog.getSegmentCount()).isEqualTo(2);
+		segmentLog.close();
+
+		SegmentLog reopened = new SegmentLog(directory, 1024);
+		List<LogRecord> records = reopened.read(BASE + 90);
+		assertThat(records).hasSize(10);
+		assertThat(records.get(0).epochSecond()).isEqualTo(BASE + 90);
+		assertThat(value(records.get(9))).isEqualTo(99);
+
+		// appended after last record of reopened segment.
+		reopened.append(BASE + 100, payload(100));
+		assertThat(reopened.read(BASE + 99)).extracting(SegmentLogTest::value).containsExactly(99, 100);
+	}
+
+	@Test
+	void testCompact(@TempDir Path directory) throws Exception {
+		SegmentLog segmentLog = new SegmentLog(directory, 1024);
+		for (int i = 0; i < 200; i++) {
+			segmentLog.append(BASE + i, payload(i));
+		}
+
+		assertThat(segmentLog.getSegmentCount()).isEqualTo(3);
+
+		// first segment(0..71) is deleted, second(72..143) is downsampled to 10 seconds.
+		assertThat(segmentLog.compact(BASE + 150, 10, BASE + 100)).isEqualTo(2);
+		assertThat(segmentLog.getSegmentCount()).isEqualTo(2);
+
+		List<LogRecord> records = segmentLog.read(0);
+		assertThat(records).extracting(SegmentLogTest::value).startsWith(72, 80, 90, 100, 110, 120, 130, 140, 144,
+				145);
+		assertThat(records).hasSize(8 + 56);
+
+		try (var files = Files.list(directory)) {
+			assertThat(files.filter(file -> file.toString().endsWith(".tmp"))).isEmpty();
+		}
+
+		// compacted segment is kept after reopen.
+		segmentLog.close();
+		assertThat(new SegmentLog(directory, 1024).read(0)).hasSize(64);
+	}
+
+	@Test
+	void testRecordIsKeptAfterCompact(@TempDir Path directory) throws Exception {
+		SegmentLog segmentLog = new SegmentLog(directory, 1024);
+		for (int i = 0; i < 200; i++) {
+			segmentLog.append(BASE + i, payload(i));
+		}
+
+		List<LogRecord> records = segmentLog.read(0);
+		assertThat(segmentLog.compact(BASE + 150, 10, BASE + 100)).isEqualTo(2);
+
+		// mapping of deleted and replaced segments are released, records read before are copies.
+		assertThat(records).hasSize(200);
+		assertThat(records).extracting(SegmentLogTest::value).startsWith(0, 1, 2).endsWith(198, 199);
+
+		segmentLog.close();
+		assertThatThrownBy(() -> segmentLog.append(BASE + 200, payload(200)))
+				.isInstanceOf(IllegalStateException.class);
+		assertThat(new SegmentLog(directory, 1024).read(0)).hasSize(64);
+	}
+
+	@Test
+	void testBrokenSegmentIsDeleted(@TempDir Path directory) throws Exception {
+		Files.write(directory.resolve("stats-000000000001.seg"), new byte[64]);
+
+		SegmentLog segmentLog = new SegmentLog(directory, 1024);
+		assertThat(segmentLog.getSegmentCount()).isZero();
+		assertThat(directory.resolve("stats-000000000001.seg")).doesNotExist();
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ *
+ */
+package com.github.armedis.http.service.string;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.metrics.ConnectionPoolMetrics;
+import com.github.armedis.redis.admission.AdmissionControlInterceptor;
+import com.github.armedis.redis.command.RedisCommandExecuteResultFactory;
+import com.github.armedis.redis.command.RedisCommandExecutor;
+import com.github.armedis.redis.pipeline.RedisCommandInterceptorChain;
+import com.github.armedis.redis.pipeline.RedisCommandPipeline;
+import com.github.armedis.redis.pipeline.RedisRequestValidator;
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.server.Server;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Http front end of admission control, rejected request is answered with 503.
+ */
+class RedisGetServiceAdmissionTest {
+	private final CountDownLatch executing = new CountDownLatch(1);
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private Server server;
+
+	private WebClient client;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		ArmedisConfiguration configuration = new ArmedisConfiguration();
+		configuration.setAdmissionEnabled(true);
+		configuration.setAdmissionInitialLimit(1);
+		configuration.setAdmissionMinLimit(1);
+		configuration.setAdmissionMaxLimit(1);
+		configuration.setAdmissionLatencyThresholdMillis(10000);
+		configuration.setAdmissionPoolUtilizationThreshold(0.9);
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(configuration,
+				new ConnectionPoolMetrics(registry), registry);
+
+		// first command holds the only permit until released.
+		RedisCommandExecutor executor = mock(RedisCommandExecutor.class);
+		when(executor.execute(any())).thenAnswer(invocation -> {
+			executing.countDown();
+			release.await(10, TimeUnit.SECONDS);
+			return RedisCommandExecuteResultFactory.buildRedisCommandExecuteResult("value");
+		});
+
+		RedisGetService service = new RedisGetService();
+		ReflectionTestUtils.setField(service, "pipeline", new RedisCommandPipeline(executor,
+				new RedisCommandInterceptorChain(List.of(interceptor)), new RedisRequestValidator()));
+
+		server = Server.builder()
+				.http(0)
+				.annotatedService()
+				.useBlockingTaskExecutor(true)
+				.build(service)
+				.build();
+		server.start().join();
+
+		client = WebClient.of("http://127.0.0.1:" + server.activeLocalPort());
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		server.stop().join();
+	}
+
+	private CompletableFuture<AggregatedHttpResponse> get(String key) {
+		return client.execute(RequestHeaders.of(HttpMethod.GET, "/v1/get/" + key, "content-type",
+				MediaType.JSON_UTF_8.toString()))
+				.aggregate();
+	}
+
+	@Test
+	void testRejectedWith503() throws Exception {
+		CompletableFuture<AggregatedHttpResponse> first = get("first");
+		assertThat(executing.await(10, TimeUnit.SECONDS)).isTrue();
+
+		AggregatedHttpResponse rejected = get("second").join();
+		assertThat(rejected.status()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+		release.countDown();
+		assertThat(first.join().status()).isEqualTo(HttpStatus.OK);
+		assertThat(first.join().contentUtf8()).contains("value");
+	}
+}
@@ -0,0 +1,42 @@
+/**
+ *
+ */
+package com.github.armedis.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.armedis.redis.pipeline.RedisCommandContext;
+import com.github.armedis.redis.pipeline.RedisCommandTransport;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ *
+ */
+class CommandMetricsInterceptorTest {
+
+	@Test
+	void testCountByCommandAndOutcome() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		CommandMetricsInterceptor interceptor = new CommandMetricsInterceptor(registry);
+
+		RedisCommandContext context = RedisCommandContext.of(RedisCommandTransport.HTTP, "GET", "key");
+		interceptor.intercept(context, () -> {
+			assertThat(interceptor.getInflight()).isEqualTo(1);
+			return "value";
+		});
+		interceptor.intercept(context, () -> "value");
+		assertThatThrownBy(() -> interceptor.intercept(context, () -> {
+			throw new IllegalStateException("fail");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(registry.get("armedis.redis.command").tag("command", "get").tag("outcome", "success").timer()
+				.count()).isEqualTo(2);
+		assertThat(registry.get("armedis.redis.command").tag("transport", "http").tag("outcome", "error").timer()
+				.count()).isEqualTo(1);
+		assertThat(registry.get("armedis.redis.command.inflight").gauge().value()).isZero();
+	}
+}
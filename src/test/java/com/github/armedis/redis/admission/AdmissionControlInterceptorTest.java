@@ -0,0 +1,199 @@
+/**
+ *
+ */
+package com.github.armedis.redis.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.armedis.config.ArmedisConfiguration;
+import com.github.armedis.metrics.ConnectionPoolMetrics;
+import com.github.armedis.redis.pipeline.RedisCommandContext;
+import com.github.armedis.redis.pipeline.RedisCommandTransport;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ *
+ */
+class AdmissionControlInterceptorTest {
+
+	@Test
+	void testLimiterDecreaseAndIncrease() {
+		AimdLimiter limiter = new AimdLimiter(10, 2, 20, TimeUnit.MILLISECONDS.toNanos(50));
+		Deque<Long> admitted = new ArrayDeque<>();
+		for (int i = 0; i < 10; i++) {
+			admitted.add(limiter.tryAcquire());
+		}
+		assertThat(admitted).containsOnly(0L);
+		assertThat(limiter.tryAcquire()).isEqualTo(AimdLimiter.REJECTED);
+
+		// slow response
+		limiter.release(admitted.poll(), TimeUnit.MILLISECONDS.toNanos(100), false);
+		assertThat(limiter.getLimit()).isEqualTo(9);
+		assertThat(limiter.getInflight()).isEqualTo(9);
+
+		// fast responses while limit is used
+		for (int i = 0; i < 30; i++) {
+			limiter.release(admitted.poll(), TimeUnit.MILLISECONDS.toNanos(1), false);
+			admitted.add(limiter.tryAcquire());
+		}
+		assertThat(admitted).doesNotContain(AimdLimiter.REJECTED);
+		assertThat(limiter.getLimit()).isGreaterThan(9);
+
+		while (!admitted.isEmpty()) {
+			limiter.release(admitted.poll(), TimeUnit.MILLISECONDS.toNanos(1), false);
+		}
+
+		// never below min limit, every failure is admitted after last decrease.
+		for (int i = 0; i < 100; i++) {
+			limiter.release(limiter.tryAcquire(), 0, true);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(2);
+		assertThat(limiter.getInflight()).isZero();
+	}
+
+	@Test
+	void testBurstOfSlowReleasesDecreaseOnce() throws Exception {
+		AimdLimiter limiter = new AimdLimiter(20, 2, 40, TimeUnit.MILLISECONDS.toNanos(50));
+
+		assertThat(releaseSlowBurst(limiter, 20)).isEqualTo(18);
+		assertThat(limiter.getInflight()).isZero();
+
+		// requests admitted after the decrease are next round trip.
+		assertThat(releaseSlowBurst(limiter, 18)).isEqualTo(16);
+		assertThat(limiter.getInflight()).isZero();
+	}
+
+	private static int releaseSlowBurst(AimdLimiter limiter, int count) throws Exception {
+		List<Long> epochs = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			epochs.add(limiter.tryAcquire());
+		}
+		assertThat(epochs).doesNotContain(AimdLimiter.REJECTED);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<?>> releases = new ArrayList<>();
+			for (long epoch : epochs) {
+				releases.add(executor.submit(() -> {
+					start.await();
+					limiter.release(epoch, TimeUnit.MILLISECONDS.toNanos(100), false);
+					return null;
+				}));
+			}
+
+			start.countDown();
+			for (Future<?> release : releases) {
+				release.get(10, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		return limiter.getLimit();
+	}
+
+	@Test
+	void testSaturatedPoolDecreaseOncePerEpoch() throws Exception {
+		ArmedisConfiguration configuration = new ArmedisConfiguration();
+		configuration.setAdmissionEnabled(true);
+		configuration.setAdmissionInitialLimit(10);
+		configuration.setAdmissionMinLimit(1);
+		configuration.setAdmissionMaxLimit(20);
+		configuration.setAdmissionLatencyThresholdMillis(1000);
+		configuration.setAdmissionPoolUtilizationThreshold(0.9);
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		ConnectionPoolMetrics connectionPoolMetrics = new ConnectionPoolMetrics(registry);
+		AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(configuration,
+				connectionPoolMetrics, registry);
+
+		GenericObjectPoolConfig<Object> poolConfig = new GenericObjectPoolConfig<>();
+		poolConfig.setMaxTotal(1);
+		try (GenericObjectPool<Object> pool = new GenericObjectPool<>(new BasePooledObjectFactory<Object>() {
+			@Override
+			public Object create() {
+				return new Object();
+			}
+
+			@Override
+			public PooledObject<Object> wrap(Object object) {
+				return new DefaultPooledObject<>(object);
+			}
+		}, poolConfig)) {
+			connectionPoolMetrics.bind(pool, "test").borrow();
+
+			RedisCommandContext get = RedisCommandContext.of(RedisCommandTransport.HTTP, "get", "key");
+			assertThat(nested(interceptor, get, 5)).isEqualTo("done");
+		}
+
+		// 5 concurrent requests of saturated pool are one signal.
+		assertThat(interceptor.getLimit(CommandClass.READ)).isEqualTo(9);
+	}
+
+	private static String nested(AdmissionControlInterceptor interceptor, RedisCommandContext context, int depth)
+			throws Exception {
+		if (depth == 0) {
+			return "done";
+		}
+
+		return interceptor.intercept(context, () -> nested(interceptor, context, depth - 1));
+	}
+
+	@Test
+	void testRejectOverLimit() throws Exception {
+		ArmedisConfiguration configuration = new ArmedisConfiguration();
+		configuration.setAdmissionEnabled(true);
+		configuration.setAdmissionInitialLimit(1);
+		configuration.setAdmissionMinLimit(1);
+		configuration.setAdmissionMaxLimit(1);
+		configuration.setAdmissionLatencyThresholdMillis(1000);
+		configuration.setAdmissionPoolUtilizationThreshold(0.9);
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(configuration,
+				new ConnectionPoolMetrics(registry), registry);
+
+		RedisCommandContext get = RedisCommandContext.of(RedisCommandTransport.HTTP, "get", "key");
+		RedisCommandContext set = RedisCommandContext.of(RedisCommandTransport.HTTP, "set", "key");
+
+		String result = interceptor.intercept(get, () -> {
+			// read limit is used, other class is admitted.
+			assertThatThrownBy(() -> interceptor.intercept(get, () -> "nested"))
+					.isInstanceOf(AdmissionRejectedException.class);
+			return interceptor.intercept(set, () -> "write");
+		});
+
+		assertThat(result).isEqualTo("write");
+		assertThat(interceptor.intercept(get, () -> "read")).isEqualTo("read");
+		assertThat(registry.get("armedis.admission.rejected").tag("class", "read").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void testCommandClass() {
+		assertThat(CommandClass.of("get")).isEqualTo(CommandClass.READ);
+		assertThat(CommandClass.of("set")).isEqualTo(CommandClass.WRITE);
+		assertThat(CommandClass.of("hgetall").getPriority()).isEqualTo(CommandClass.Priority.LOW);
+	}
+}
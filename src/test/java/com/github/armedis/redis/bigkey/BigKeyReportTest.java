@@ -0,0 +1,46 @@
+/**
+ *
+ */
+package com.github.armedis.redis.bigkey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ */
+class BigKeyReportTest {
+	@Test
+	void testTopPerType() {
+		BigKeyReport report = new BigKeyReport("10.0.0.1:6379", 2, 1000);
+		for (int i = 1; i <= 5; i++) {
+			report.offer(new BigKey("10.0.0.1:6379", "hash", "h" + i, i * 100, "bytes"));
+			report.offer(new BigKey("10.0.0.1:6379", "string", "s" + i, i * 10, "bytes"));
+		}
+
+		assertThat(report.getScannedKeys()).isEqualTo(10);
+		assertThat(report.getStatus()).isEqualTo("running");
+
+		List<BigKey> hashes = report.top("hash");
+		assertThat(hashes).extracting(BigKey::key).containsExactly("h5", "h4");
+
+		List<BigKey> all = report.top("");
+		assertThat(all).extracting(BigKey::key).containsExactly("h5", "h4", "s5", "s4");
+
+		report.finish("finished", 2000);
+		assertThat(report.getStatus()).isEqualTo("finished");
+		assertThat(report.getFinishedAt()).isEqualTo(2000);
+	}
+
+	@Test
+	void testSmallerKeyIsNotKept() {
+		BigKeyReport report = new BigKeyReport("n", 1, 0);
+		report.offer(new BigKey("n", "list", "big", 1000, "elements"));
+		report.offer(new BigKey("n", "list", "small", 10, "elements"));
+
+		assertThat(report.top("LIST")).extracting(BigKey::key).containsExactly("big");
+	}
+}
@@ -1,5 +1,5 @@
 
-package com.github.armedis.http.service.request;
+package com.github.armedis.redis.command;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -0,0 +1,48 @@
+package com.github.armedis.redis.connection.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+
+class ByteStringCodecTest {
+
+    @Test
+    void encodeAndDecodeBinary() {
+        byte[] binary = new byte[] { 0, (byte) 0xff, (byte) 0xc3, 0x28, 10 };
+        ByteString value = ByteString.copyFrom(binary);
+
+        ByteBuffer encoded = ByteStringCodec.INSTANCE.encodeValue(value);
+        assertThat(encoded.remaining()).isEqualTo(binary.length);
+
+        ByteString decoded = ByteStringCodec.INSTANCE.decodeValue(encoded);
+        assertThat(decoded).isEqualTo(value);
+    }
+
+    @Test
+    void decodeCopiesBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap("field".getBytes());
+
+        ByteString decoded = ByteStringCodec.INSTANCE.decodeKey(buffer);
+        buffer.clear();
+        buffer.put((byte) 'x');
+
+        assertThat(decoded.toStringUtf8()).isEqualTo("field");
+    }
+
+    @Test
+    void encodeNull() {
+        assertThat(ByteStringCodec.INSTANCE.encodeKey(null).remaining()).isZero();
+    }
+
+    @Test
+    void display() {
+        assertThat(ByteStringCodec.display(ByteString.copyFromUtf8("user:1"))).isEqualTo("user:1");
+        assertThat(ByteStringCodec.display(ByteString.copyFromUtf8("사용자:1"))).isEqualTo("사용자:1");
+        assertThat(ByteStringCodec.display(ByteString.copyFrom(new byte[] { 'b', ':', (byte) 0xff, 0, '"' })))
+                .isEqualTo("b:\\xff\\x00\\\"");
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ *
+ */
+package com.github.armedis.redis.hotkey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+
+/**
+ *
+ */
+class HotKeySamplerTest {
+
+	@Test
+	void testCountMinNeverUnderEstimate() {
+		CountMinSketch sketch = new CountMinSketch(4, 64);
+		for (int i = 0; i < 1000; i++) {
+			sketch.add(("key" + (i % 100)).hashCode());
+		}
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(sketch.estimate(("key" + i).hashCode())).isGreaterThanOrEqualTo(10);
+		}
+	}
+
+	@Test
+	void testSpaceSavingKeepsHeavyKeys() {
+		SpaceSaving topKeys = new SpaceSaving(3);
+		CountMinSketch sketch = new CountMinSketch(4, 1024);
+
+		for (int i = 0; i < 10000; i++) {
+			ByteString key = ByteString.copyFromUtf8(i % 10 < 5 ? "hot" : i % 10 < 8 ? "warm" : "cold:" + i);
+			topKeys.offer(key, sketch.add(key.hashCode()));
+		}
+
+		List<SpaceSaving.Monitored> monitored = topKeys.snapshot();
+		assertThat(monitored).hasSize(3);
+		assertThat(monitored.get(0).key().toStringUtf8()).isEqualTo("hot");
+		assertThat(monitored.get(0).count()).isGreaterThanOrEqualTo(5000);
+		assertThat(monitored.get(1).key().toStringUtf8()).isEqualTo("warm");
+	}
+
+	@Test
+	void testTopByCommand() {
+		HotKeySampler sampler = new HotKeySampler(true, 1.0, 3600, 8, 2);
+		for (int i = 0; i < 100; i++) {
+			sampler.sample("get", ByteString.copyFromUtf8("user:1"));
+			sampler.sample("hget", ByteString.copyFromUtf8("i:" + (i % 4)));
+		}
+		sampler.sample("get", ByteString.copyFrom(new byte[] { (byte) 0xff, 0x01 }));
+		sampler.sample("get", ByteString.EMPTY);
+
+		List<HotKey> hotKeys = sampler.top("", false, 10);
+		assertThat(hotKeys.get(0)).isEqualTo(new HotKey("get", "user:1", 100, 0));
+		assertThat(hotKeys).extracting(HotKey::key).contains("base64:/wE=");
+
+		assertThat(sampler.top("hget", false, 10)).hasSize(4).allMatch(hotKey -> hotKey.count() == 25);
+		assertThat(sampler.top("", true, 10)).isEmpty();
+	}
+
+	@Test
+	void testDisabled() {
+		HotKeySampler sampler = new HotKeySampler(false, 1.0, 10, 8, 2);
+		sampler.sample("get", ByteString.copyFromUtf8("user:1"));
+
+		assertThat(sampler.top("", false, 10)).isEmpty();
+	}
+
+	@Test
+	void testLastCompletedWindow() {
+		HotKeySampler sampler = new HotKeySampler(true, 1.0, 10, 8, 2);
+		for (int i = 0; i < 10; i++) {
+			sampler.sample("get", ByteString.copyFromUtf8("user:1"), 1_000 + i);
+		}
+
+		assertThat(sampler.top("", true, 10, 5_000)).isEmpty();
+		assertThat(sampler.top("", true, 10, 12_000)).containsExactly(new HotKey("get", "user:1", 10, 0));
+
+		// quiet for windows, hot keys of old window are not reported as last window.
+		assertThat(sampler.top("", true, 10, 35_000)).isEmpty();
+	}
+
+	@Test
+	void testLastCompletedWindowAfterQuietPeriod() {
+		HotKeySampler sampler = new HotKeySampler(true, 1.0, 10, 8, 2);
+		sampler.sample("get", ByteString.copyFromUtf8("user:1"), 1_000);
+
+		// window of sample is rolled at first read after hours.
+		assertThat(sampler.top("", true, 10, 7_200_000)).isEmpty();
+		assertThat(sampler.top("", false, 10, 7_200_000)).isEmpty();
+	}
+}
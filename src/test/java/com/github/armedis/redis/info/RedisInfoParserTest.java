@@ -0,0 +1,93 @@
+/**
+ *
+ */
+package com.github.armedis.redis.info;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ */
+class RedisInfoParserTest {
+	private static final String INFO = "# Server\r\n" + "redis_version:6.2.14\r\n" + "redis_mode:cluster\r\n"
+			+ "process_id:11876\r\n" + "tcp_port:17001\r\n" + "uptime_in_seconds:21048\r\n" + "\r\n"
+			+ "# Clients\r\n" + "connected_clients:12\r\n" + "maxclients:4064\r\n" + "\r\n" + "# Stats\r\n"
+			+ "total_net_input_bytes:3000000000\r\n" + "instantaneous_input_kbps:1.25\r\n"
+			+ "expired_stale_perc:0.00\r\n" + "\r\n" + "# CPU\r\n" + "used_cpu_sys:12.345678\r\n" + "\r\n"
+			+ "# Errorstats\r\n" + "errorstat_CLUSTERDOWN:count=8\r\n" + "errorstat_ERR:count=3602\r\n"
+			+ "errorstat_WRONGTYPE:count=30\r\n" + "\r\n" + "# Commandstats\r\n"
+			+ "cmdstat_get:calls=10,usec=20,usec_per_call=2.00,rejected_calls=0,failed_calls=0\r\n" + "\r\n"
+			+ "# Keyspace\r\n" + "db0:keys=1121,expires=4,avg_ttl=4143\r\n" + "db1:keys=32,expires=345,avg_ttl=45\r\n";
+
+	@Test
+	void testParseSections() {
+		RedisInfoVo redisInfo = RedisInfoParser.parse(INFO, false);
+
+		assertThat(redisInfo.getServer().getRedisVersion()).isEqualTo("6.2.14");
+		assertThat(redisInfo.getServer().getRedisMode()).isEqualTo("cluster");
+		assertThat(redisInfo.getServer().getTcpPort()).isEqualTo(17001);
+		assertThat(redisInfo.getClients().getConnectedClients()).isEqualTo(12);
+		assertThat(redisInfo.getStats().getTotalNetInputBytes()).isEqualTo(3000000000L);
+		assertThat(redisInfo.getStats().getInstantaneousInputKbps()).isEqualTo(1.25);
+		assertThat(redisInfo.getCpu().getUsedCpuSys()).isEqualTo(12.345678);
+		assertThat(redisInfo.getMemory()).isNull();
+	}
+
+	@Test
+	void testErrorstatsCount() {
+		Errorstats errorstats = RedisInfoParser.parse(INFO, false).getErrorstats();
+
+		assertThat(errorstats.getErrorstatClusterDown()).isEqualTo(8);
+		assertThat(errorstats.getErrorstatErr()).isEqualTo(3602);
+		assertThat(errorstats.getErrorstatWrongType()).isEqualTo(30);
+		assertThat(errorstats.getErrorstatMoved()).isZero();
+	}
+
+	@Test
+	void testKeyspace() {
+		Map<Integer, Keyspace> keyspace = RedisInfoParser.parse(INFO, false).getKeyspace();
+
+		assertThat(keyspace).containsOnlyKeys(0, 1);
+		assertThat(keyspace.get(0).getKeys()).isEqualTo(1121);
+		assertThat(keyspace.get(1).getAvgTtl()).isEqualTo(45);
+	}
+
+	@Test
+	void testSectionContent() {
+		RedisInfoVo redisInfo = RedisInfoParser.parse(INFO, true);
+
+		assertThat(redisInfo.sectionContent("Commandstats"))
+				.isEqualTo("cmdstat_get:calls=10,usec=20,usec_per_call=2.00,rejected_calls=0,failed_calls=0");
+		assertThat(redisInfo.getClients().getSctionContent()).isEqualTo("connected_clients:12\r\nmaxclients:4064");
+		assertThat(redisInfo.sectionContent("Latencystats")).isNull();
+	}
+
+	@Test
+	void testCommandRows() {
+		RedisInfoVo redisInfo = RedisInfoParser.parse(INFO + "\r\n" + "# Latencystats\r\n"
+				+ "latency_percentiles_usec_get:p50=1.003,p99=2.007,p99.9=3.007\r\n", false);
+
+		Map<String, CommandStat> commandstats = redisInfo.getCommandstats();
+		assertThat(commandstats).containsOnlyKeys("get");
+		assertThat(commandstats.get("get").getCalls()).isEqualTo(10);
+		assertThat(commandstats.get("get").getUsec()).isEqualTo(20);
+		assertThat(commandstats.get("get").getUsecPerCall()).isEqualTo(2.0);
+
+		LatencyStat latency = redisInfo.getLatencystats().get("get");
+		assertThat(latency.getP50()).isEqualTo(1.003);
+		assertThat(latency.getP999()).isEqualTo(3.007);
+
+		assertThat(RedisInfoParser.parse(INFO, false).getLatencystats()).isNull();
+	}
+
+	@Test
+	void testParseNumber() {
+		assertThat(RedisInfoParser.parseLong("a:-42", 2, 5, 0)).isEqualTo(-42);
+		assertThat(RedisInfoParser.parseLong("1.5", 0, 3, 0)).isZero();
+		assertThat(RedisInfoParser.parseLong("99999999999999999999", 0, 20, 0)).isEqualTo(Long.MAX_VALUE);
+	}
+}
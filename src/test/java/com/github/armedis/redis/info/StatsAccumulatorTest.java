@@ -0,0 +1,92 @@
+/**
+ *
+ */
+package com.github.armedis.redis.info;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ */
+class StatsAccumulatorTest {
+
+	@Test
+	void testSumAsPrimitive() throws Exception {
+		Clients sum = StatsBaseVo.fromString(Clients.class, "# Clients\r\nconnected_clients:3\r\n", false);
+		Clients target = StatsBaseVo.fromString(Clients.class, "# Clients\r\nconnected_clients:4\r\n", false);
+
+		StatsAccumulator.accumulate(sum, target);
+		assertThat(sum.getConnectedClients()).isEqualTo(7);
+
+		CPU sumCpu = StatsBaseVo.fromString(CPU.class, "# CPU\r\nused_cpu_sys:1.5\r\n", false);
+		CPU targetCpu = StatsBaseVo.fromString(CPU.class, "# CPU\r\nused_cpu_sys:2.25\r\n", false);
+
+		StatsAccumulator.accumulate(sumCpu, targetCpu);
+		assertThat(sumCpu.getUsedCpuSys()).isEqualTo(3.75);
+	}
+
+	@Test
+	void testMaxMinKeepIntegerValue() throws Exception {
+		Stats sum = StatsBaseVo.fromString(Stats.class, "# Stats\r\nsync_full:2\r\n", false);
+		Stats target = StatsBaseVo.fromString(Stats.class, "# Stats\r\nsync_full:5\r\n", false);
+
+		StatsAccumulator.accumulate(sum, target);
+		assertThat(sum.getSyncFull()).isEqualTo(5);
+
+		Server sumServer = StatsBaseVo.fromString(Server.class, "# Server\r\nuptime_in_seconds:100\r\n", false);
+		Server targetServer = StatsBaseVo.fromString(Server.class, "# Server\r\nuptime_in_seconds:40\r\n", false);
+
+		StatsAccumulator.accumulate(sumServer, targetServer);
+		assertThat(sumServer.getUptimeInSeconds()).isEqualTo(40);
+	}
+
+	@Test
+	void testDiff() throws Exception {
+		Server sum = StatsBaseVo.fromString(Server.class, "# Server\r\nredis_version:7.0.1\r\ntcp_port:6379\r\n",
+				false);
+		Server same = StatsBaseVo.fromString(Server.class, "# Server\r\nredis_version:7.0.1\r\ntcp_port:6379\r\n",
+				false);
+
+		StatsAccumulator.accumulate(sum, same);
+		assertThat(sum.getRedisVersion()).isEqualTo("7.0.1");
+		assertThat(sum.getTcpPort()).isEqualTo(6379);
+
+		Server different = StatsBaseVo.fromString(Server.class, "# Server\r\nredis_version:7.2.0\r\ntcp_port:6380\r\n",
+				false);
+
+		StatsAccumulator.accumulate(sum, different);
+		assertThat(sum.getRedisVersion()).isEqualTo("7.2.0(*)");
+		assertThat(sum.getTcpPort()).isEqualTo(-6380);
+	}
+
+	@Test
+	void testProcessIdIsEmptied() throws Exception {
+		Server sum = StatsBaseVo.fromString(Server.class, "# Server\r\nprocess_id:100\r\n", false);
+		Server target = StatsBaseVo.fromString(Server.class, "# Server\r\nprocess_id:200\r\n", false);
+
+		StatsAccumulator.accumulate(sum, target);
+		assertThat(sum.getProcessId()).isZero();
+		assertThat(StatsAccumulator.of(Server.class).fieldNames()).contains("processId", "redisVersion",
+				"uptimeInSeconds");
+	}
+
+	@Test
+	void testAccumulateRows() {
+		Map<String, CommandStat> sum = RedisInfoParser.decodeRows(CommandStat.class,
+				"cmdstat_get:calls=10,usec=20,usec_per_call=2.00\r\n", "cmdstat_", false);
+		Map<String, CommandStat> target = RedisInfoParser.decodeRows(CommandStat.class,
+				"cmdstat_get:calls=30,usec=100,usec_per_call=3.33\r\ncmdstat_set:calls=5,usec=50\r\n", "cmdstat_",
+				false);
+
+		StatsAccumulator.accumulateRows(sum, target, CommandStat::new);
+		sum.values().forEach(CommandStat::updateUsecPerCall);
+
+		assertThat(sum.get("get").getCalls()).isEqualTo(40);
+		assertThat(sum.get("get").getUsecPerCall()).isEqualTo(3.0);
+		assertThat(sum.get("set").getUsec()).isEqualTo(50);
+	}
+}
@@ -0,0 +1,36 @@
+/**
+ *
+ */
+package com.github.armedis.redis.latency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ */
+class LatencyMonitorCollectorTest {
+
+	@Test
+	void testParseLatest() {
+		List<Object> reply = List.of(List.of("fork", 1700000010L, 120L, 300L),
+				List.of("eviction-cycle", 1700000020L, 15L, 15L), List.of("malformed"));
+
+		Map<String, Long> latest = LatencyMonitorCollector.parseLatest(reply);
+		assertThat(latest).containsExactly(Map.entry("fork", 1700000010L), Map.entry("eviction-cycle", 1700000020L));
+		assertThat(LatencyMonitorCollector.parseLatest(null)).isEmpty();
+	}
+
+	@Test
+	void testParseHistory() {
+		List<Object> reply = List.of(List.of(1700000000L, 300L), List.of(1700000010L, 120L), List.of("bad", 1L));
+
+		List<long[]> spikes = LatencyMonitorCollector.parseHistory(reply);
+		assertThat(spikes).hasSize(2);
+		assertThat(spikes.get(1)).containsExactly(1700000010L, 120L);
+	}
+}
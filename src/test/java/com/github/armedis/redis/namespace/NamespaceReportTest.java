@@ -0,0 +1,68 @@
+/**
+ *
+ */
+package com.github.armedis.redis.namespace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ */
+class NamespaceReportTest {
+
+	@Test
+	void testEstimateByNamespace() {
+		NamespaceReport report = new NamespaceReport("node1", 0);
+		report.setDbSize(100000);
+		for (int i = 0; i < 1000; i++) {
+			if (i % 10 < 3) {
+				report.add("cache::user:" + i, "string", 100, true);
+			}
+			else {
+				report.add("storage::item:" + i, i % 2 == 0 ? "hash" : "string", 1000, false);
+			}
+		}
+
+		List<NamespaceEstimate> estimates = report.estimates();
+		assertThat(estimates).extracting(NamespaceEstimate::namespace).containsExactly("storage", "cache");
+
+		NamespaceEstimate cache = estimates.get(1);
+		assertThat(cache.samples()).isEqualTo(300);
+		assertThat(cache.keys()).isCloseTo(30000, within(0.001));
+		// 1.96 * 100000 * sqrt(0.3 * 0.7 / 1000)
+		assertThat(cache.keysError()).isCloseTo(2840.3, within(0.1));
+		assertThat(cache.memoryBytes()).isCloseTo(3000000, within(0.001));
+		assertThat(cache.ttlRatio()).isEqualTo(1.0);
+		assertThat(cache.types()).containsEntry("string", 1.0);
+
+		NamespaceEstimate storage = estimates.get(0);
+		assertThat(storage.memoryBytes()).isCloseTo(70000000, within(0.001));
+		assertThat(storage.ttlRatio()).isZero();
+		assertThat(storage.types().get("hash")).isCloseTo(3.0 / 7, within(0.001));
+	}
+
+	@Test
+	void testSumOfNodes() {
+		NamespaceEstimate left = new NamespaceEstimate("cache", 100, 1000, 30, 5000, 400, 1.0, 0, Map.of("string", 1.0));
+		NamespaceEstimate right = new NamespaceEstimate("cache", 100, 3000, 40, -1, 0, 0.0, 0, Map.of("hash", 1.0));
+
+		NamespaceEstimate sum = NamespaceEstimate.sum("cache", List.of(left, right));
+		assertThat(sum.keys()).isEqualTo(4000);
+		assertThat(sum.keysError()).isCloseTo(50, within(0.001));
+		assertThat(sum.memoryBytes()).isEqualTo(-1);
+		assertThat(sum.ttlRatio()).isCloseTo(0.25, within(0.001));
+		assertThat(sum.types().get("hash")).isCloseTo(0.75, within(0.001));
+	}
+
+	@Test
+	void testNamespaceOf() {
+		assertThat(NamespaceReport.namespaceOf("storage::search::hello")).isEqualTo("storage");
+		assertThat(NamespaceReport.namespaceOf("plain")).isEmpty();
+	}
+}
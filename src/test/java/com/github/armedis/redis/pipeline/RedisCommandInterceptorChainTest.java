@@ -0,0 +1,59 @@
+package com.github.armedis.redis.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class RedisCommandInterceptorChainTest {
+
+    @Test
+    void interceptorsAreCalledInOrder() throws Exception {
+        List<String> calls = new ArrayList<>();
+
+        RedisCommandInterceptorChain chain = new RedisCommandInterceptorChain(List.of(
+                recording("first", calls),
+                recording("second", calls)));
+
+        RedisCommandContext context = RedisCommandContext.of(RedisCommandTransport.GRPC, "HGET", "user:1");
+        String result = chain.invoke(context, () -> {
+            calls.add("execute");
+            return "value";
+        });
+
+        assertThat(result).isEqualTo("value");
+        assertThat(calls).containsExactly("first", "second", "execute");
+        assertThat(context.getCommand()).isEqualTo("hget");
+    }
+
+    @Test
+    void interceptorCanStopExecution() throws Exception {
+        RedisCommandInterceptor reject = new RedisCommandInterceptor() {
+            @Override
+            public <T> T intercept(RedisCommandContext context, RedisCommandInvocation<T> invocation) {
+                return null;
+            }
+        };
+
+        RedisCommandInterceptorChain chain = new RedisCommandInterceptorChain(List.of(reject));
+
+        String result = chain.invoke(RedisCommandContext.of(RedisCommandTransport.HTTP, "get", "key"), () -> {
+            throw new IllegalStateException("should not be executed");
+        });
+
+        assertThat(result).isNull();
+    }
+
+    private RedisCommandInterceptor recording(String name, List<String> calls) {
+        return new RedisCommandInterceptor() {
+            @Override
+            public <T> T intercept(RedisCommandContext context, RedisCommandInvocation<T> invocation)
+                    throws Exception {
+                calls.add(name);
+                return invocation.proceed();
+            }
+        };
+    }
+}
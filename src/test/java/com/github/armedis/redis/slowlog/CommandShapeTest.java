@@ -0,0 +1,41 @@
+/**
+ *
+ */
+package com.github.armedis.redis.slowlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ */
+class CommandShapeTest {
+
+	@Test
+	void testKeyAndValue() {
+		assertThat(CommandShape.of(List.of("hget", "user:1234", "field"))).isEqualTo("HGET user:* field");
+		assertThat(CommandShape.of(List.of("SET", "session:8f3a9c", "1", "EX", "60")))
+				.isEqualTo("SET session:* ? EX ?");
+		assertThat(CommandShape.of(List.of("GET", "{order}:550e8400-e29b-41d4-a716-446655440000")))
+				.isEqualTo("GET {order}:*");
+	}
+
+	@Test
+	void testCollapse() {
+		assertThat(CommandShape.of(List.of("MGET", "a:1", "a:2", "a:3"))).isEqualTo("MGET a:* ...");
+		assertThat(CommandShape.of(List.of("DEL", "a:1", "a:2", "b:1"))).isEqualTo("DEL a:* ... b:*");
+		assertThat(CommandShape.of(List.of("MSET", "k1", "v", "k2", "v", "k3", "v", "k4", "v", "k5", "v")))
+				.isEqualTo("MSET * v * v * v * v ...");
+	}
+
+	@Test
+	void testTruncatedArguments() {
+		assertThat(CommandShape.of(List.of("SET", "key", "aaaa... (1000 more bytes)"))).isEqualTo("SET key ?");
+		assertThat(CommandShape.of(List.of("SADD", "set", "x", "... (40 more arguments)")))
+				.isEqualTo("SADD set x ...");
+		assertThat(CommandShape.of(List.of("config", "get", "maxmemory"))).isEqualTo("CONFIG GET maxmemory");
+	}
+}
@@ -0,0 +1,60 @@
+/**
+ *
+ */
+package com.github.armedis.redis.slowlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.armedis.redis.slowlog.SlowlogAggregator.SlowlogEntry;
+
+/**
+ *
+ */
+class SlowlogAggregatorTest {
+	private static SlowlogEntry entry(long id, long duration, String... arguments) {
+		return new SlowlogEntry(id, 1000 + id, duration, List.of(arguments));
+	}
+
+	@Test
+	void testDedupeByNodeAndId() {
+		SlowlogAggregator aggregator = new SlowlogAggregator(10);
+
+		assertThat(aggregator.add("a", List.of(entry(2, 300, "GET", "k:2"), entry(1, 100, "GET", "k:1")))).isEqualTo(2);
+		// same entries are harvested again with one new entry.
+		assertThat(aggregator.add("a", List.of(entry(3, 200, "GET", "k:3"), entry(2, 300, "GET", "k:2")))).isEqualTo(1);
+		// same id of other node is another entry.
+		assertThat(aggregator.add("b", List.of(entry(1, 5000, "GET", "k:9")))).isEqualTo(1);
+
+		SlowlogShapeStats stats = aggregator.top("count", 10).get(0);
+		assertThat(stats.getShape()).isEqualTo("GET k:*");
+		assertThat(stats.getCount()).isEqualTo(4);
+		assertThat(stats.getTotalMicros()).isEqualTo(5600);
+		assertThat(stats.getMaxMicros()).isEqualTo(5000);
+		assertThat(stats.getP99Micros()).isEqualTo(5000);
+		assertThat(stats.getLastNode()).isEqualTo("a");
+	}
+
+	@Test
+	void testResetSlowlog() {
+		SlowlogAggregator aggregator = new SlowlogAggregator(10);
+		aggregator.add("a", List.of(entry(100, 10, "GET", "k")));
+
+		// restarted node starts id from 0
+		assertThat(aggregator.add("a", List.of(entry(0, 10, "GET", "k")))).isEqualTo(1);
+	}
+
+	@Test
+	void testBoundedShapes() {
+		SlowlogAggregator aggregator = new SlowlogAggregator(2);
+		aggregator.add("a", List.of(entry(3, 10, "GET", "a"), entry(2, 10, "GET", "a"), entry(1, 10, "HGET", "b")));
+		aggregator.add("a", List.of(entry(4, 10, "KEYS", "*")));
+
+		assertThat(aggregator.size()).isEqualTo(2);
+		assertThat(aggregator.top("total", 10)).extracting(SlowlogShapeStats::getShape)
+				.containsExactly("GET a", "KEYS *");
+	}
+}
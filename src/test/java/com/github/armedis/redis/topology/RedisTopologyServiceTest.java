@@ -0,0 +1,137 @@
+/**
+ *
+ */
+package com.github.armedis.redis.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.armedis.redis.RedisInstanceType;
+
+import io.lettuce.core.cluster.models.partitions.ClusterPartitionParser;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+
+/**
+ *
+ */
+class RedisTopologyServiceTest {
+	private static final String NODES = """
+			705e3b8567283cb7b7ea04307fdee75c59753d1c 192.168.56.105:17003@27003 master - 0 1702912058000 3 connected 10923-16383
+			a61d555424b8b0783f8baabccded129824fb1ad1 192.168.56.105:17006@27006 slave 5b71f03fc10fb0966dedc865b824249b1c2d3b3a 0 1702912058240 2 connected
+			5b71f03fc10fb0966dedc865b824249b1c2d3b3a 192.168.56.105:17002@27002 master - 0 1702912057000 2 connected 0-10922
+			""";
+
+	// replica 17006 is promoted, old master 17002 is failed.
+	private static final String FAILOVER_NODES = """
+			705e3b8567283cb7b7ea04307fdee75c59753d1c 192.168.56.105:17003@27003 master - 0 1702912058000 3 connected 10923-16383
+			a61d555424b8b0783f8baabccded129824fb1ad1 192.168.56.105:17006@27006 master - 0 1702912058240 4 connected 0-10922
+			5b71f03fc10fb0966dedc865b824249b1c2d3b3a 192.168.56.105:17002@27002 master,fail - 0 1702912057000 2 disconnected
+			""";
+
+	private static List<TopologyNode> parse(String clusterNodes) {
+		Partitions partitions = ClusterPartitionParser.parse(clusterNodes);
+
+		List<TopologyNode> nodes = new ArrayList<>();
+		for (RedisClusterNode clusterNode : partitions) {
+			nodes.add(TopologyNode.from(clusterNode));
+		}
+
+		return nodes;
+	}
+
+	@Test
+	void testSnapshot() {
+		RedisTopologyService service = new RedisTopologyService(RedisInstanceType.CLUSTER, parse(NODES));
+
+		TopologySnapshot snapshot = service.getSnapshot();
+		assertThat(snapshot.getVersion()).isEqualTo(1);
+		assertThat(snapshot.getNodes()).extracting(TopologyNode::name).containsExactly("192.168.56.105:17002",
+				"192.168.56.105:17003", "192.168.56.105:17006");
+		assertThat(snapshot.getMasters()).hasSize(2);
+		assertThat(snapshot.getReplicas()).singleElement().satisfies(replica -> {
+			assertThat(replica.shard()).isEqualTo("5b71f03fc10fb0966dedc865b824249b1c2d3b3a");
+			assertThat(replica.slotCount()).isZero();
+		});
+		assertThat(snapshot.getMasterRedisNodes()).hasSize(2);
+	}
+
+	@Test
+	void testUpdate() {
+		RedisTopologyService service = new RedisTopologyService(RedisInstanceType.CLUSTER, parse(NODES));
+
+		List<TopologySnapshot> changes = new ArrayList<>();
+		service.addListener((previous, current) -> changes.add(current));
+
+		// same topology is not a new version.
+		assertThat(service.update(parse(NODES))).isFalse();
+		assertThat(service.getSnapshot().getVersion()).isEqualTo(1);
+
+		assertThat(service.update(parse(FAILOVER_NODES))).isTrue();
+
+		TopologySnapshot snapshot = service.getSnapshot();
+		assertThat(snapshot.getVersion()).isEqualTo(2);
+		assertThat(changes).containsExactly(snapshot);
+		assertThat(snapshot.getReplicas()).isEmpty();
+		assertThat(snapshot.getMasters()).filteredOn(TopologyNode::failed)
+				.extracting(TopologyNode::name)
+				.containsExactly("192.168.56.105:17002");
+	}
+
+	@Test
+	void testEmptyTopologyIsIgnored() {
+		RedisTopologyService service = new RedisTopologyService(RedisInstanceType.CLUSTER, parse(NODES));
+
+		assertThat(service.update(List.of())).isFalse();
+		assertThat(service.getSnapshot().getNodes()).hasSize(3);
+	}
+
+	@Test
+	void testListenersInVersionOrder() throws Exception {
+		RedisTopologyService service = new RedisTopologyService(RedisInstanceType.CLUSTER, parse(NODES));
+
+		List<long[]> changes = new CopyOnWriteArrayList<>();
+		service.addListener((previous, current) -> {
+			// slow listener widens window between swap and notification.
+			Thread.yield();
+			changes.add(new long[] { previous.getVersion(), current.getVersion() });
+		});
+
+		// event bus and scheduled refresh flip topology concurrently.
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (String nodes : List.of(NODES, FAILOVER_NODES)) {
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+					for (int i = 0; i < 500; i++) {
+						service.update(parse(nodes));
+					}
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(changes).isNotEmpty();
+		for (int i = 0; i < changes.size(); i++) {
+			assertThat(changes.get(i)[0]).isEqualTo(i + 1);
+			assertThat(changes.get(i)[1]).isEqualTo(i + 2);
+		}
+		assertThat(changes.get(changes.size() - 1)[1]).isEqualTo(service.getSnapshot().getVersion());
+	}
+}
@@ -0,0 +1,55 @@
+/**
+ *
+ */
+package com.github.armedis.redis.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ */
+class TopologySourceTest {
+	@Test
+	void testReplicationRole() {
+		List<Object> role = List.of("master", 3129659L,
+				List.of(List.of("10.0.0.2", "6379", "3129242"), List.of("10.0.0.3", "6380", "3129543")));
+
+		List<TopologyNode> nodes = ReplicationTopologySource.nodesOfMaster("10.0.0.1", 6379, role);
+
+		assertThat(nodes).extracting(TopologyNode::name).containsExactly("10.0.0.1:6379", "10.0.0.2:6379",
+				"10.0.0.3:6380");
+		assertThat(nodes.get(0).master()).isTrue();
+		assertThat(nodes.get(2).master()).isFalse();
+		assertThat(nodes.get(2).shard()).isEqualTo("10.0.0.1:6379");
+	}
+
+	@Test
+	void testReplicationRoleWithoutReplica() {
+		List<TopologyNode> nodes = ReplicationTopologySource.nodesOfMaster("10.0.0.1", 6379,
+				List.of("master", 0L, List.of()));
+
+		assertThat(nodes).singleElement().satisfies(node -> assertThat(node.shard()).isEqualTo("10.0.0.1:6379"));
+	}
+
+	@Test
+	void testSentinelNode() {
+		TopologyNode master = SentinelTopologySource.nodeOf(Map.of("name", "mymaster", "ip", "10.0.0.1", "port",
+				"6379", "flags", "master"), true, null);
+		TopologyNode replica = SentinelTopologySource.nodeOf(Map.of("ip", "10.0.0.2", "port", "6379", "flags",
+				"slave,s_down"), false, master.id());
+
+		assertThat(master.failed()).isFalse();
+		assertThat(replica.failed()).isTrue();
+		assertThat(replica.shard()).isEqualTo("10.0.0.1:6379");
+	}
+
+	@Test
+	void testSentinelUris() {
+		assertThat(SentinelTopologySource.sentinelUris("10.0.0.1:26379, 10.0.0.2:26379")).hasSize(2);
+	}
+}